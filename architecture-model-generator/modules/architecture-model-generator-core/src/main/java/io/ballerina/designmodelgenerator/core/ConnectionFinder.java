@@ -39,6 +39,7 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Find connections for the given symbol.
@@ -51,6 +52,7 @@ public class ConnectionFinder {
     private final Map<String, ModulePartNode> documentMap;
     private final Path rootPath;
     private final IntermediateModel intermediateModel;
+    private final Map<String, List<Location>> referencesMap;
 
 
     public ConnectionFinder(SemanticModel semanticModel, Path rootPath,
@@ -60,6 +62,37 @@ public class ConnectionFinder {
         this.documentMap = documentMap;
         this.rootPath = rootPath;
         this.intermediateModel = intermediateModel;
+        this.referencesMap = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Looks up the references of the given symbol ahead of resolving its connection, so that the lookups of the
+     * documents can be done in parallel before the documents are analyzed. The connection map is only read, as it is
+     * not modified until the analysis starts. The references are cached as they are, and hence the connections
+     * resolved from them are the same as without the prefetch.
+     *
+     * @param symbol the symbol of the connection
+     */
+    public void prefetchReferences(Symbol symbol) {
+        if (symbol.getLocation().isEmpty()) {
+            return;
+        }
+        if (symbol instanceof ClassFieldSymbol classFieldSymbol && !classFieldSymbol.hasDefaultValue()) {
+            getReferences(classFieldSymbol);
+        } else if (symbol instanceof VariableSymbol variableSymbol && !this.intermediateModel.connectionMap
+                .containsKey(String.valueOf(symbol.getLocation().get().hashCode()))) {
+            getReferences(variableSymbol);
+        }
+    }
+
+    private List<Location> getReferences(Symbol symbol) {
+        String hashKey = String.valueOf(symbol.getLocation().get().hashCode());
+        List<Location> references = referencesMap.get(hashKey);
+        if (references == null) {
+            references = this.semanticModel.references(symbol);
+            referencesMap.putIfAbsent(hashKey, references);
+        }
+        return references;
     }
 
     public void findConnection(Symbol symbol, List<String> referenceLocations) {
@@ -94,7 +127,7 @@ public class ConnectionFinder {
                     }
                 }
             } else {
-                List<Location> references = this.semanticModel.references(classFieldSymbol);
+                List<Location> references = getReferences(classFieldSymbol);
                 for (Location location : references) {
                     ModulePartNode modulePartNode = documentMap.get(location.lineRange().fileName());
                     NonTerminalNode node = modulePartNode.findNode(location.textRange()).parent();
@@ -124,7 +157,7 @@ public class ConnectionFinder {
                     intermediateModel.connectionMap.put(refLocation, connection);
                 }
             } else {
-                List<Location> references = this.semanticModel.references(variableSymbol);
+                List<Location> references = getReferences(variableSymbol);
                 for (Location location : references) {
                     ModulePartNode modulePartNode = documentMap.get(location.lineRange().fileName());
                     NonTerminalNode node = modulePartNode.findNode(location.textRange()).parent();
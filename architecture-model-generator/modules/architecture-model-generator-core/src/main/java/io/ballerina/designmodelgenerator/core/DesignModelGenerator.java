@@ -40,12 +40,18 @@ import io.ballerina.projects.Package;
 import io.ballerina.tools.text.LineRange;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Generate the design model for the default package.
@@ -61,8 +67,44 @@ public class DesignModelGenerator {
     private static final String AUTOMATION = "automation";
     private static final String SERVICE = "Service";
     private final Map<String, ModulePartNode> documentMap;
+    private final ExecutorService prefetchExecutor;
+
+    // The references are prefetched on threads of their own, so that the lookups do not occupy the common fork-join
+    // pool that the language server requests also run on
+    private static final int PREFETCH_POOL_SIZE =
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    private static final ExecutorService PREFETCH_EXECUTOR =
+            Executors.newFixedThreadPool(PREFETCH_POOL_SIZE, runnable -> {
+                Thread thread = new Thread(runnable, "design-model-reference-prefetch");
+                thread.setDaemon(true);
+                return thread;
+            });
 
     public DesignModelGenerator(Package ballerinaPackage) {
+        this(ballerinaPackage, true);
+    }
+
+    /**
+     * Creates a generator for the default module of the given package.
+     *
+     * @param ballerinaPackage   the package to generate the design model for
+     * @param prefetchReferences whether to prefetch the references of the connections ahead of the analysis, which
+     *                           yields the same design model as the analysis without it
+     */
+    public DesignModelGenerator(Package ballerinaPackage, boolean prefetchReferences) {
+        this(ballerinaPackage, prefetchReferences ? PREFETCH_EXECUTOR : null);
+    }
+
+    /**
+     * Creates a generator for the default module of the given package, which prefetches the references of the
+     * connections on the given executor.
+     *
+     * @param ballerinaPackage the package to generate the design model for
+     * @param prefetchExecutor the executor to prefetch the references on, or null to look up the references during
+     *                         the analysis
+     */
+    public DesignModelGenerator(Package ballerinaPackage, ExecutorService prefetchExecutor) {
+        this.prefetchExecutor = prefetchExecutor;
         this.defaultModule = ballerinaPackage.getDefaultModule();
         this.semanticModel = this.defaultModule.getCompilation().getSemanticModel();
         this.rootPath = ballerinaPackage.project().sourceRoot();
@@ -78,17 +120,20 @@ public class DesignModelGenerator {
         this.populateModuleLevelConnections(intermediateModel);
         ConnectionFinder connectionFinder = new ConnectionFinder(semanticModel, rootPath, documentMap,
                 intermediateModel);
+        if (prefetchExecutor != null) {
+            prefetchReferences(connectionFinder);
+        }
         this.defaultModule.documentIds().forEach(d -> {
             ModulePartNode rootNode =  this.defaultModule.document(d).syntaxTree().rootNode();
             CodeAnalyzer codeAnalyzer = new CodeAnalyzer(semanticModel, intermediateModel, rootPath, connectionFinder);
             codeAnalyzer.visit(rootNode);
         });
 
+        buildConnectionGraph(intermediateModel);
         DesignModel.DesignModelBuilder builder = new DesignModel.DesignModelBuilder();
 
         if (intermediateModel.functionModelMap.containsKey(MAIN_FUNCTION_NAME)) {
             IntermediateModel.FunctionModel main = intermediateModel.functionModelMap.get(MAIN_FUNCTION_NAME);
-            buildConnectionGraph(intermediateModel, main);
             builder.setAutomation(new Automation(AUTOMATION, main.displayName, "Z", main.location,
                     main.allDependentConnections.stream().toList()));
         }
@@ -99,7 +144,7 @@ public class DesignModelGenerator {
             Set<String> connections = new HashSet<>();
             List<Function> functions = new ArrayList<>();
             serviceModel.otherFunctions.forEach(otherFunction -> {
-                buildConnectionGraph(intermediateModel, otherFunction);
+                addDependentConnections(intermediateModel, otherFunction);
                 functions.add(new Function(otherFunction.name, otherFunction.location,
                         otherFunction.allDependentConnections));
                 connections.addAll(otherFunction.allDependentConnections);
@@ -107,7 +152,7 @@ public class DesignModelGenerator {
 
             List<Function> remoteFunctions = new ArrayList<>();
             serviceModel.remoteFunctions.forEach(remoteFunction -> {
-                buildConnectionGraph(intermediateModel, remoteFunction);
+                addDependentConnections(intermediateModel, remoteFunction);
                 remoteFunctions.add(new Function(remoteFunction.name, remoteFunction.location,
                         remoteFunction.allDependentConnections));
                 connections.addAll(remoteFunction.allDependentConnections);
@@ -115,7 +160,7 @@ public class DesignModelGenerator {
 
             List<ResourceFunction> resourceFunctions = new ArrayList<>();
             serviceModel.resourceFunctions.forEach(resourceFunction -> {
-                buildConnectionGraph(intermediateModel, resourceFunction);
+                addDependentConnections(intermediateModel, resourceFunction);
                 resourceFunctions.add(new ResourceFunction(resourceFunction.name, resourceFunction.path,
                         resourceFunction.location, resourceFunction.allDependentConnections));
                 connections.addAll(resourceFunction.allDependentConnections);
@@ -166,24 +211,127 @@ public class DesignModelGenerator {
         }
     }
 
-    private void buildConnectionGraph(IntermediateModel intermediateModel,
-                                      IntermediateModel.FunctionModel functionModel) {
-        Set<String> connections = new HashSet<>();
-        if (!functionModel.visited && !functionModel.analyzed) {
-            functionModel.visited = true;
-            functionModel.dependentFuncs.forEach(dependentFunc -> {
-                IntermediateModel.FunctionModel dependentFunctionModel = intermediateModel.functionModelMap
-                        .get(dependentFunc);
-                if (!dependentFunctionModel.analyzed) {
-                    buildConnectionGraph(intermediateModel, dependentFunctionModel);
-                }
-                connections.addAll(dependentFunctionModel.allDependentConnections);
+    /**
+     * Prefetches the references of the connections of each document, as the reference lookups dominate the analysis.
+     * Only the lookups are done in parallel. The analysis remains sequential, as the connections of a document are
+     * resolved from the connections resolved before them, and it looks up any reference that was not prefetched.
+     */
+    private void prefetchReferences(ConnectionFinder connectionFinder) {
+        List<Callable<Void>> prefetchTasks = new ArrayList<>();
+        for (ModulePartNode rootNode : documentMap.values()) {
+            prefetchTasks.add(() -> {
+                rootNode.accept(new ReferencePrefetcher(semanticModel, connectionFinder));
+                return null;
             });
         }
-        functionModel.visited = true;
+        try {
+            prefetchExecutor.invokeAll(prefetchTasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Propagates the connections of the module-level functions to the functions calling them. The call graph is
+     * condensed to its strongly connected components with Tarjan's algorithm, which completes a component only after
+     * the components it calls, so that every function of a component gets the connections of the whole component and
+     * of the components reachable from it.
+     */
+    private void buildConnectionGraph(IntermediateModel intermediateModel) {
+        Map<IntermediateModel.FunctionModel, Integer> indices = new HashMap<>();
+        Map<IntermediateModel.FunctionModel, Integer> lowLinks = new HashMap<>();
+        Deque<IntermediateModel.FunctionModel> componentStack = new ArrayDeque<>();
+        Set<IntermediateModel.FunctionModel> onComponentStack = new HashSet<>();
+        Deque<CallFrame> callStack = new ArrayDeque<>();
+
+        for (IntermediateModel.FunctionModel root : intermediateModel.functionModelMap.values()) {
+            if (indices.containsKey(root)) {
+                continue;
+            }
+            callStack.push(openCallFrame(intermediateModel, root, indices, lowLinks, componentStack,
+                    onComponentStack));
+            while (!callStack.isEmpty()) {
+                CallFrame frame = callStack.peek();
+                if (frame.callees().hasNext()) {
+                    IntermediateModel.FunctionModel callee = frame.callees().next();
+                    if (!indices.containsKey(callee)) {
+                        callStack.push(openCallFrame(intermediateModel, callee, indices, lowLinks, componentStack,
+                                onComponentStack));
+                    } else if (onComponentStack.contains(callee)) {
+                        lowLinks.merge(frame.functionModel(), indices.get(callee), Math::min);
+                    }
+                    continue;
+                }
+
+                callStack.pop();
+                IntermediateModel.FunctionModel functionModel = frame.functionModel();
+                if (!callStack.isEmpty()) {
+                    lowLinks.merge(callStack.peek().functionModel(), lowLinks.get(functionModel), Math::min);
+                }
+                if (lowLinks.get(functionModel).equals(indices.get(functionModel))) {
+                    closeComponent(intermediateModel, functionModel, componentStack, onComponentStack);
+                }
+            }
+        }
+    }
+
+    private CallFrame openCallFrame(IntermediateModel intermediateModel, IntermediateModel.FunctionModel functionModel,
+                                    Map<IntermediateModel.FunctionModel, Integer> indices,
+                                    Map<IntermediateModel.FunctionModel, Integer> lowLinks,
+                                    Deque<IntermediateModel.FunctionModel> componentStack,
+                                    Set<IntermediateModel.FunctionModel> onComponentStack) {
+        int index = indices.size();
+        indices.put(functionModel, index);
+        lowLinks.put(functionModel, index);
+        componentStack.push(functionModel);
+        onComponentStack.add(functionModel);
+        return new CallFrame(functionModel, getCallees(intermediateModel, functionModel).iterator());
+    }
+
+    private void closeComponent(IntermediateModel intermediateModel, IntermediateModel.FunctionModel root,
+                                Deque<IntermediateModel.FunctionModel> componentStack,
+                                Set<IntermediateModel.FunctionModel> onComponentStack) {
+        List<IntermediateModel.FunctionModel> component = new ArrayList<>();
+        IntermediateModel.FunctionModel member;
+        do {
+            member = componentStack.pop();
+            onComponentStack.remove(member);
+            component.add(member);
+        } while (member != root);
+
+        // The callees outside the component belong to the components closed before, and hence are complete
+        Set<String> connections = new HashSet<>();
+        for (IntermediateModel.FunctionModel functionModel : component) {
+            connections.addAll(functionModel.connections);
+            for (IntermediateModel.FunctionModel callee : getCallees(intermediateModel, functionModel)) {
+                connections.addAll(callee.allDependentConnections);
+            }
+        }
+        component.forEach(functionModel -> functionModel.allDependentConnections.addAll(connections));
+    }
+
+    /**
+     * Adds the connections of a function of a service, along with the connections of the module-level functions it
+     * calls.
+     */
+    private void addDependentConnections(IntermediateModel intermediateModel,
+                                         IntermediateModel.FunctionModel functionModel) {
         functionModel.allDependentConnections.addAll(functionModel.connections);
-        functionModel.allDependentConnections.addAll(connections);
-        functionModel.analyzed = true;
+        for (IntermediateModel.FunctionModel callee : getCallees(intermediateModel, functionModel)) {
+            functionModel.allDependentConnections.addAll(callee.allDependentConnections);
+        }
+    }
+
+    private List<IntermediateModel.FunctionModel> getCallees(IntermediateModel intermediateModel,
+                                                             IntermediateModel.FunctionModel functionModel) {
+        List<IntermediateModel.FunctionModel> callees = new ArrayList<>();
+        for (String dependentFunc : functionModel.dependentFuncs) {
+            IntermediateModel.FunctionModel callee = intermediateModel.functionModelMap.get(dependentFunc);
+            if (callee != null) {
+                callees.add(callee);
+            }
+        }
+        return callees;
     }
 
     public Location getLocation(LineRange lineRange) {
@@ -196,4 +344,8 @@ public class DesignModelGenerator {
         return listenerType.split(SyntaxKind.COLON_TOKEN.stringValue())[0]
                 + SyntaxKind.COLON_TOKEN.stringValue() + SERVICE;
     }
+
+    private record CallFrame(IntermediateModel.FunctionModel functionModel,
+                             Iterator<IntermediateModel.FunctionModel> callees) {
+    }
 }
@@ -73,8 +73,6 @@ public class IntermediateModel {
     public static class FunctionModel {
         protected final String name;
         protected final Set<String> dependentFuncs;
-        protected boolean analyzed;
-        protected boolean visited;
         protected final Set<String> allDependentConnections;
         protected Location location;
         protected String path;
@@ -84,8 +82,6 @@ public class IntermediateModel {
         public FunctionModel(String name) {
             this.name = name;
             this.dependentFuncs = new HashSet<>();
-            this.analyzed = false;
-            this.visited = false;
             this.allDependentConnections = new HashSet<>();
         }
     }
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.designmodelgenerator.core;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.syntax.tree.ClientResourceAccessActionNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FieldAccessExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.RemoteMethodCallActionNode;
+
+import java.util.Optional;
+
+/**
+ * Prefetches the references of the connections used by the functions of a document ahead of the analysis. The
+ * prefetcher only caches the references, and does not analyze the document. The documents are prefetched in parallel,
+ * after which the {@link CodeAnalyzer} analyzes them one at a time, resolving the connections from the cached
+ * references.
+ *
+ * @since 2.0.0
+ */
+class ReferencePrefetcher extends NodeVisitor {
+
+    private final SemanticModel semanticModel;
+    private final ConnectionFinder connectionFinder;
+    private int functionDepth;
+
+    ReferencePrefetcher(SemanticModel semanticModel, ConnectionFinder connectionFinder) {
+        this.semanticModel = semanticModel;
+        this.connectionFinder = connectionFinder;
+    }
+
+    @Override
+    public void visit(FunctionDefinitionNode functionDefinitionNode) {
+        functionDepth++;
+        visitSyntaxNode(functionDefinitionNode);
+        functionDepth--;
+    }
+
+    @Override
+    public void visit(RemoteMethodCallActionNode remoteMethodCallActionNode) {
+        prefetch(remoteMethodCallActionNode.expression());
+        visitSyntaxNode(remoteMethodCallActionNode);
+    }
+
+    @Override
+    public void visit(ClientResourceAccessActionNode clientResourceAccessActionNode) {
+        prefetch(clientResourceAccessActionNode.expression());
+        visitSyntaxNode(clientResourceAccessActionNode);
+    }
+
+    private void prefetch(ExpressionNode expressionNode) {
+        // Only the connections used within the functions are resolved by the analyzer
+        if (functionDepth == 0) {
+            return;
+        }
+        Optional<Symbol> symbol = expressionNode instanceof FieldAccessExpressionNode fieldAccessExpressionNode ?
+                semanticModel.symbol(fieldAccessExpressionNode.fieldName()) : semanticModel.symbol(expressionNode);
+        symbol.ifPresent(connectionFinder::prefetchReferences);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.designmodelgenerator.core;
+
+import io.ballerina.architecturemodelgenerator.core.TestUtils;
+import io.ballerina.designmodelgenerator.core.model.Connection;
+import io.ballerina.designmodelgenerator.core.model.DesignModel;
+import io.ballerina.designmodelgenerator.core.model.ResourceFunction;
+import io.ballerina.designmodelgenerator.core.model.Service;
+import io.ballerina.projects.Project;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Test the propagation of the connections of the module-level functions to their callers.
+ *
+ * @since 2.0.0
+ */
+public class ConnectionGraphTests {
+
+    private static final Path RES_DIR = Paths.get("src", "test", "resources").toAbsolutePath();
+    private static final String BALLERINA = "ballerina";
+
+    @Test(description = "connections of the functions calling into a recursive call cycle")
+    public void testCallCycleConnections() {
+        Project project = TestUtils.loadBuildProject(RES_DIR.resolve(BALLERINA).resolve("call_cycle_sample"), false);
+        DesignModel designModel = new DesignModelGenerator(project.currentPackage()).generate();
+        Map<String, String> connectionSymbols = designModel.connections().stream()
+                .collect(Collectors.toMap(Connection::getUuid, Connection::getSymbol, (first, second) -> first));
+
+        Service service = designModel.services().getFirst();
+        Map<String, Set<String>> resourceConnections = new HashMap<>();
+        for (ResourceFunction resourceFunction : service.getResourceFunctions()) {
+            resourceConnections.put(resourceFunction.path(), resourceFunction.connections().stream()
+                    .map(connectionSymbols::get)
+                    .collect(Collectors.toSet()));
+        }
+
+        // callA -> callB -> callC -> callA, where each function uses its own client
+        Assert.assertEquals(resourceConnections.get("first"), Set.of("clientA", "clientB", "clientC"));
+        // Every function of the cycle has the connections of the whole cycle, regardless of where it is entered
+        Assert.assertEquals(resourceConnections.get("second"), Set.of("clientA", "clientB", "clientC"));
+    }
+}
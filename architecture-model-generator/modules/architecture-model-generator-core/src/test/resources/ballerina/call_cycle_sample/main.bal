@@ -0,0 +1,36 @@
+import ballerina/http;
+
+final http:Client clientA = check new ("http://localhost:9091");
+final http:Client clientB = check new ("http://localhost:9092");
+final http:Client clientC = check new ("http://localhost:9093");
+
+service /cycle on new http:Listener(9090) {
+    resource function get first() returns error? {
+        check callA(1);
+    }
+
+    resource function get second() returns error? {
+        check callC(1);
+    }
+}
+
+function callA(int depth) returns error? {
+    http:Response _ = check clientA->/a;
+    if depth > 0 {
+        check callB(depth - 1);
+    }
+}
+
+function callB(int depth) returns error? {
+    http:Response _ = check clientB->/b;
+    if depth > 0 {
+        check callC(depth - 1);
+    }
+}
+
+function callC(int depth) returns error? {
+    http:Response _ = check clientC->/c;
+    if depth > 0 {
+        check callA(depth - 1);
+    }
+}
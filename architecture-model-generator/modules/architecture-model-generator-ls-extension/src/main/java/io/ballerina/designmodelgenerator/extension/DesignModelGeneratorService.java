@@ -22,6 +22,7 @@ import io.ballerina.designmodelgenerator.core.DesignModelGenerator;
 import io.ballerina.designmodelgenerator.core.model.DesignModel;
 import io.ballerina.designmodelgenerator.extension.request.GetDesignModelRequest;
 import io.ballerina.designmodelgenerator.extension.response.GetDesignModelResponse;
+import io.ballerina.lsextension.metrics.RequestMetrics;
 import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
@@ -38,10 +39,11 @@ import java.util.concurrent.CompletableFuture;
 public class DesignModelGeneratorService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private final RequestMetrics requestMetrics = RequestMetrics.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
-        this.workspaceManager = workspaceManager;
+        this.workspaceManager = requestMetrics.instrument(WorkspaceManager.class, workspaceManager);
     }
 
     @Override
@@ -51,7 +53,7 @@ public class DesignModelGeneratorService implements ExtendedLanguageServerServic
 
     @JsonRequest
     public CompletableFuture<GetDesignModelResponse> getDesignModel(GetDesignModelRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("designModelService/getDesignModel", () -> {
             GetDesignModelResponse response = new GetDesignModelResponse();
             try {
                 Path projectPath = Path.of(request.projectPath());
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.designmodelgenerator.extension;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import io.ballerina.designmodelgenerator.core.DesignModelGenerator;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.directory.BuildProject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Tests that the design model of each test project is the same when generated without the prefetch, and when the
+ * references of the connections are prefetched on executors of 1 and 8 threads.
+ *
+ * @since 2.0.0
+ */
+public class DesignModelParallelismTest extends AbstractLSTest {
+
+    private static final int[] PARALLELISMS = {1, 8};
+    private static final String UUID_KEY = "uuid";
+    private static final String[] NAME_KEYS = {"symbol", "displayName", "name"};
+
+    @Override
+    @Test(dataProvider = "data-provider")
+    public void test(Path config) throws IOException {
+        Path configJsonPath = configDir.resolve(config);
+        DesignModelGeneratorTest.TestConfig testConfig =
+                gson.fromJson(Files.newBufferedReader(configJsonPath), DesignModelGeneratorTest.TestConfig.class);
+        Package ballerinaPackage =
+                BuildProject.load(sourceDir.resolve(testConfig.projectPath()).toAbsolutePath()).currentPackage();
+
+        JsonElement expected = normalize(gson.toJsonTree(new DesignModelGenerator(ballerinaPackage, false)
+                .generate()));
+        for (int parallelism : PARALLELISMS) {
+            ExecutorService prefetchExecutor = Executors.newFixedThreadPool(parallelism);
+            try {
+                JsonElement actual = normalize(gson.toJsonTree(new DesignModelGenerator(ballerinaPackage,
+                        prefetchExecutor).generate()));
+                Assert.assertEquals(actual, expected, String.format("Design model with a parallelism of %d differs " +
+                        "from the sequential design model: '%s' (%s)", parallelism, testConfig.description(),
+                        configJsonPath));
+            } finally {
+                prefetchExecutor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Replaces the random UUIDs of the design model with the names and sort texts of the nodes they identify, and
+     * sorts the arrays, as the connections of the functions are collected into hash sets of the UUIDs.
+     */
+    private static JsonElement normalize(JsonElement designModel) {
+        Map<String, String> names = new HashMap<>();
+        collectNames(designModel, names);
+        return normalize(designModel, names);
+    }
+
+    private static void collectNames(JsonElement element, Map<String, String> names) {
+        if (element.isJsonArray()) {
+            element.getAsJsonArray().forEach(item -> collectNames(item, names));
+            return;
+        }
+        if (!element.isJsonObject()) {
+            return;
+        }
+        JsonObject object = element.getAsJsonObject();
+        if (object.has(UUID_KEY)) {
+            StringBuilder name = new StringBuilder();
+            for (String key : NAME_KEYS) {
+                if (object.has(key) && object.get(key).isJsonPrimitive()) {
+                    name.append(object.get(key).getAsString()).append('@');
+                }
+            }
+            if (object.has("sortText")) {
+                name.append(object.get("sortText").getAsString());
+            }
+            names.put(object.get(UUID_KEY).getAsString(), name.toString());
+        }
+        object.entrySet().forEach(entry -> collectNames(entry.getValue(), names));
+    }
+
+    private static JsonElement normalize(JsonElement element, Map<String, String> names) {
+        if (element.isJsonArray()) {
+            List<JsonElement> items = new ArrayList<>();
+            element.getAsJsonArray().forEach(item -> items.add(normalize(item, names)));
+            items.sort(Comparator.comparing(JsonElement::toString));
+            JsonArray array = new JsonArray();
+            items.forEach(array::add);
+            return array;
+        }
+        if (element.isJsonObject()) {
+            JsonObject object = new JsonObject();
+            element.getAsJsonObject().entrySet()
+                    .forEach(entry -> object.add(entry.getKey(), normalize(entry.getValue(), names)));
+            return object;
+        }
+        if (element.isJsonPrimitive() && element.getAsJsonPrimitive().isString()) {
+            String name = names.get(element.getAsString());
+            return name == null ? element : new JsonPrimitive(name);
+        }
+        return element;
+    }
+
+    @Override
+    protected String getResourceDir() {
+        return "get_design_model";
+    }
+
+    @Override
+    protected Class<? extends AbstractLSTest> clazz() {
+        return DesignModelParallelismTest.class;
+    }
+
+    @Override
+    protected String getApiName() {
+        return "getDesignModel";
+    }
+}
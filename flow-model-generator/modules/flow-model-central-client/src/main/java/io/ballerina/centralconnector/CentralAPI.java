@@ -26,6 +26,7 @@ import io.ballerina.centralconnector.response.PackageResponse;
 import io.ballerina.centralconnector.response.SymbolResponse;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The central interface to obtain library information from the Ballerina central.
@@ -47,4 +48,16 @@ public interface CentralAPI {
     ConnectorResponse connector(String id);
 
     ConnectorResponse connector(String organization, String name, String version, String clientName);
+
+    CompletableFuture<PackageResponse> searchPackagesAsync(Map<String, String> queryMap);
+
+    CompletableFuture<SymbolResponse> searchSymbolsAsync(Map<String, String> queryMap);
+
+    CompletableFuture<FunctionsResponse> functionsAsync(String organization, String name, String version);
+
+    CompletableFuture<FunctionResponse> functionAsync(String organization, String name, String version,
+                                                      String functionName);
+
+    CompletableFuture<ConnectorResponse> connectorAsync(String organization, String name, String version,
+                                                        String clientName);
 }
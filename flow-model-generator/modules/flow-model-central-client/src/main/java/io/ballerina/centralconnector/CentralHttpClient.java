@@ -0,0 +1,343 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.centralconnector;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * HTTP client shared by the clients of the Ballerina central. The requests are sent over a single
+ * {@link HttpClient}, which negotiates HTTP/2 and keeps the connections alive across the requests.
+ *
+ * <p>
+ * The responses are cached in memory and on disk, keyed by the request. A cached response is served as it is until its
+ * time-to-live expires, after which it is revalidated with its ETag. Concurrent identical requests share a single
+ * in-flight request. The disk cache is shared by the language servers, and is pruned of the entries which were not
+ * written for a week, and of the oldest entries beyond its capacity, when a client is created and periodically as
+ * the responses are written.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class CentralHttpClient {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    private static final int MAX_MEMORY_CACHE_ENTRIES = 512;
+    private static final int MAX_DISK_CACHE_ENTRIES = 2048;
+    private static final Duration MAX_DISK_CACHE_AGE = Duration.ofDays(7);
+    private static final int WRITES_PER_PRUNE = 256;
+    private static final String CACHE_DIR_NAME = "central-client";
+    private static final String CACHE_FILE_EXTENSION = ".json";
+    private static final String CHECKSUM_ALGORITHM = "SHA-256";
+    private static final String ETAG_KEY = "etag";
+    private static final String FETCHED_AT_KEY = "fetchedAt";
+    private static final String BODY_KEY = "body";
+
+    private final HttpClient httpClient;
+    private final Path cacheDir;
+    private final Map<String, CachedResponse> memoryCache;
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlightRequests;
+    private final Clock clock;
+    private final AtomicInteger writesSincePrune;
+
+    /**
+     * Creates a client which caches the responses in the given directory.
+     *
+     * @param cacheDir the directory to cache the responses, or null to only cache the responses in memory
+     */
+    CentralHttpClient(Path cacheDir) {
+        this(cacheDir, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a client which caches the responses in the given directory, and measures their age with the given clock.
+     *
+     * @param cacheDir the directory to cache the responses, or null to only cache the responses in memory
+     * @param clock    the clock to measure the age of the cached responses
+     */
+    CentralHttpClient(Path cacheDir, Clock clock) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.cacheDir = cacheDir;
+        this.memoryCache = Collections.synchronizedMap(
+                new LinkedHashMap<>(MAX_MEMORY_CACHE_ENTRIES, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                        return size() > MAX_MEMORY_CACHE_ENTRIES;
+                    }
+                });
+        this.inFlightRequests = new ConcurrentHashMap<>();
+        this.clock = clock;
+        this.writesSincePrune = new AtomicInteger();
+        pruneDiskCache();
+    }
+
+    /**
+     * Returns the default directory to cache the responses, which is located in the Ballerina home repository.
+     *
+     * @return the cache directory, or null if a writable directory is not available
+     */
+    static Path getDefaultCacheDir() {
+        try {
+            Path cacheDir = RepoUtils.createAndGetHomeReposPath().resolve("caches").resolve(CACHE_DIR_NAME);
+            Files.createDirectories(cacheDir);
+            return Files.isWritable(cacheDir) ? cacheDir : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Sends a GET request to the given URL.
+     *
+     * @param url        the URL of the request
+     * @param timeToLive the duration for which the response is served without revalidation
+     * @return the future of the response body
+     */
+    CompletableFuture<String> get(String url, Duration timeToLive) {
+        return send(url, null, timeToLive, response -> true);
+    }
+
+    /**
+     * Sends a POST request with a JSON body to the given URL.
+     *
+     * @param url        the URL of the request
+     * @param body       the JSON body of the request
+     * @param timeToLive the duration for which the response is served without revalidation
+     * @param cacheable  whether a successful response can be cached
+     * @return the future of the response body
+     */
+    CompletableFuture<String> post(String url, String body, Duration timeToLive, Predicate<String> cacheable) {
+        return send(url, body, timeToLive, cacheable);
+    }
+
+    private CompletableFuture<String> send(String url, String body, Duration timeToLive,
+                                           Predicate<String> cacheable) {
+        String key = getCacheKey(url, body);
+        CachedResponse cachedResponse = getCachedResponse(key);
+        if (cachedResponse != null && cachedResponse.isFresh(timeToLive, clock.millis())) {
+            return CompletableFuture.completedFuture(cachedResponse.body());
+        }
+
+        // Join the in-flight request if an identical request is already being sent
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<String> inFlightRequest = inFlightRequests.putIfAbsent(key, future);
+        if (inFlightRequest != null) {
+            return inFlightRequest.copy();
+        }
+        sendAsync(url, body, cachedResponse).whenComplete((response, error) -> {
+            inFlightRequests.remove(key, future);
+            if (error != null) {
+                future.completeExceptionally(error);
+                return;
+            }
+            boolean revalidated = cachedResponse != null && response.body() == cachedResponse.body();
+            if (revalidated || cacheable.test(response.body())) {
+                putCachedResponse(key, response);
+            }
+            future.complete(response.body());
+        });
+        return future.copy();
+    }
+
+    private CompletableFuture<CachedResponse> sendAsync(String url, String body, CachedResponse cachedResponse) {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT);
+        if (body == null) {
+            requestBuilder.GET();
+        } else {
+            requestBuilder.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+        }
+        if (cachedResponse != null && cachedResponse.etag() != null) {
+            requestBuilder.header("If-None-Match", cachedResponse.etag());
+        }
+
+        return httpClient.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .thenApply(response -> {
+                    int statusCode = response.statusCode();
+                    if (statusCode == 304 && cachedResponse != null) {
+                        return new CachedResponse(cachedResponse.etag(), clock.millis(), cachedResponse.body());
+                    }
+                    if (statusCode != 200) {
+                        throw new RuntimeException(
+                                String.format("Request to '%s' failed with the status code %d", url, statusCode));
+                    }
+                    return new CachedResponse(response.headers().firstValue("ETag").orElse(null),
+                            clock.millis(), response.body());
+                });
+    }
+
+    private CachedResponse getCachedResponse(String key) {
+        CachedResponse cachedResponse = memoryCache.get(key);
+        if (cachedResponse != null || cacheDir == null) {
+            return cachedResponse;
+        }
+        Path cacheFile = cacheDir.resolve(key + CACHE_FILE_EXTENSION);
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+        try {
+            JsonObject jsonObject = JsonParser.parseString(Files.readString(cacheFile, StandardCharsets.UTF_8))
+                    .getAsJsonObject();
+            JsonElement etag = jsonObject.get(ETAG_KEY);
+            cachedResponse = new CachedResponse(etag == null || etag.isJsonNull() ? null : etag.getAsString(),
+                    jsonObject.get(FETCHED_AT_KEY).getAsLong(), jsonObject.get(BODY_KEY).getAsString());
+        } catch (IOException | RuntimeException e) {
+            // A corrupted cache entry is treated as a cache miss, and replaced by the next response
+            return null;
+        }
+        memoryCache.put(key, cachedResponse);
+        return cachedResponse;
+    }
+
+    private void putCachedResponse(String key, CachedResponse cachedResponse) {
+        memoryCache.put(key, cachedResponse);
+        if (cacheDir == null) {
+            return;
+        }
+
+        // Write to a temporary file first, so that concurrent language servers never read a partial entry
+        Path cacheFile = cacheDir.resolve(key + CACHE_FILE_EXTENSION);
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(cacheDir, key, ".tmp");
+            JsonObject jsonObject = new JsonObject();
+            jsonObject.addProperty(ETAG_KEY, cachedResponse.etag());
+            jsonObject.addProperty(FETCHED_AT_KEY, cachedResponse.fetchedAt());
+            jsonObject.addProperty(BODY_KEY, cachedResponse.body());
+            Files.writeString(tempFile, jsonObject.toString(), StandardCharsets.UTF_8);
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The response remains cached in memory
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                    // The temporary file is removed by the next pruning once it expires
+                }
+            }
+        }
+        if (writesSincePrune.incrementAndGet() >= WRITES_PER_PRUNE) {
+            pruneDiskCache();
+        }
+    }
+
+    /**
+     * Removes the entries of the disk cache which were not written within the maximum age, followed by the oldest
+     * entries beyond the capacity. This includes the temporary files left behind by the language servers which exited
+     * while writing an entry.
+     */
+    private void pruneDiskCache() {
+        writesSincePrune.set(0);
+        if (cacheDir == null) {
+            return;
+        }
+        List<CacheFile> cacheFiles = new ArrayList<>();
+        try (Stream<Path> stream = Files.list(cacheDir)) {
+            stream.forEach(path -> {
+                try {
+                    cacheFiles.add(new CacheFile(path, Files.getLastModifiedTime(path).toMillis()));
+                } catch (IOException e) {
+                    // The file was removed by another language server
+                }
+            });
+        } catch (IOException e) {
+            return;
+        }
+
+        long expiredBefore = clock.millis() - MAX_DISK_CACHE_AGE.toMillis();
+        cacheFiles.sort(Comparator.comparingLong(CacheFile::lastModified).reversed());
+        for (int i = 0; i < cacheFiles.size(); i++) {
+            CacheFile cacheFile = cacheFiles.get(i);
+            if (i < MAX_DISK_CACHE_ENTRIES && cacheFile.lastModified() >= expiredBefore) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(cacheFile.path());
+            } catch (IOException e) {
+                // The entry is retried by the next pruning
+            }
+        }
+    }
+
+    private static String getCacheKey(String url, String body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+            digest.update(url.getBytes(StandardCharsets.UTF_8));
+            if (body != null) {
+                digest.update((byte) 0);
+                digest.update(body.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Checksum algorithm not available: " + CHECKSUM_ALGORITHM, e);
+        }
+    }
+
+    /**
+     * Represents a cached response.
+     *
+     * @param etag      the ETag of the response if provided by the server
+     * @param fetchedAt the time in milliseconds when the response was last fetched or revalidated
+     * @param body      the body of the response
+     */
+    private record CachedResponse(String etag, long fetchedAt, String body) {
+
+        boolean isFresh(Duration timeToLive, long now) {
+            return now - fetchedAt < timeToLive.toMillis();
+        }
+    }
+
+    private record CacheFile(Path path, long lastModified) {
+
+    }
+}
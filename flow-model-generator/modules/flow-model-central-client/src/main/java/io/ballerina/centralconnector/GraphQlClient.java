@@ -25,6 +25,7 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
 import io.ballerina.centralconnector.response.ConnectorApiResponse;
 import io.ballerina.centralconnector.response.Function;
@@ -36,13 +37,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.lang.reflect.Type;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -54,6 +55,14 @@ class GraphQlClient {
 
     private final Map<String, String> queryMap;
     private final Gson gson;
+    private final String graphQlApi;
+    private final CentralHttpClient httpClient;
+
+    // Gson instance without the module deserializers, used to deserialize the modules themselves
+    private static final Gson MODULE_GSON = new Gson();
+
+    // The functions of a given package version do not change, and hence are cached longer
+    private static final Duration TIME_TO_LIVE = Duration.ofHours(24);
 
     private static final String GRAPHQL_API = "https://api.central.ballerina.io/2.0/graphql";
     private static final String QUERY_DIRECTORY = "graphql_queries";
@@ -61,8 +70,14 @@ class GraphQlClient {
     private static final String GET_FUNCTION_QUERY = "GetFunction.graphql";
     private static final String GET_CONNECTION_QUERY = "GetConnector.graphql";
 
-    public GraphQlClient() {
-        queryMap = new HashMap<>();
+    public GraphQlClient(CentralHttpClient httpClient) {
+        this(GRAPHQL_API, httpClient);
+    }
+
+    GraphQlClient(String graphQlApi, CentralHttpClient httpClient) {
+        this.graphQlApi = graphQlApi;
+        this.httpClient = httpClient;
+        queryMap = new ConcurrentHashMap<>();
 
         gson = new GsonBuilder()
                 .registerTypeAdapter(FunctionsResponse.Module.class, new FunctionsModuleDeserializer())
@@ -71,71 +86,47 @@ class GraphQlClient {
                 .create();
     }
 
-    public FunctionsResponse getFunctions(String org, String module, String version) {
+    public CompletableFuture<FunctionsResponse> getFunctionsAsync(String org, String module, String version) {
         String queryTemplate = getQueryTemplate(GET_FUNCTIONS_QUERY);
         String queryBody = String.format(queryTemplate, org, module, version);
-        String response = query(queryBody);
-        return gson.fromJson(response, FunctionsResponse.class);
+        return query(queryBody).thenApply(response -> gson.fromJson(response, FunctionsResponse.class));
     }
 
-    public FunctionResponse getFunction(String organization, String name, String version, String functionName) {
+    public CompletableFuture<FunctionResponse> getFunctionAsync(String organization, String name, String version,
+                                                                String functionName) {
         String queryTemplate = getQueryTemplate(GET_FUNCTION_QUERY);
         String queryBody = String.format(queryTemplate, organization, name, version, functionName);
-        String response = query(queryBody);
-        return gson.fromJson(response, FunctionResponse.class);
+        return query(queryBody).thenApply(response -> gson.fromJson(response, FunctionResponse.class));
     }
 
     @Deprecated
     public ConnectorApiResponse getConnector(String organization, String name, String version, String clientName) {
         String queryTemplate = getQueryTemplate(GET_CONNECTION_QUERY);
         String queryBody = String.format(queryTemplate, organization, name, version, clientName);
-        String response = query(queryBody);
+        String response = query(queryBody).join();
         return gson.fromJson(response, ConnectorApiResponse.class);
     }
 
-    private String query(String queryBody) {
+    private CompletableFuture<String> query(String queryBody) {
         String query = String.format("{\"query\": \"%s\"}", queryBody);
-        HttpURLConnection conn = null;
-        try {
-            URL url = new URL(GRAPHQL_API);
-            conn = (HttpURLConnection) url.openConnection();
-
-            conn.setRequestMethod("POST");
-            conn.setRequestProperty("Content-Type", "application/json");
-            conn.setDoOutput(true);
-
-            // Write the request body
-            try (var os = conn.getOutputStream()) {
-                byte[] input = query.getBytes(StandardCharsets.UTF_8);
-                os.write(input, 0, input.length);
-            }
+        return httpClient.post(graphQlApi, query, TIME_TO_LIVE, GraphQlClient::hasNoErrors);
+    }
 
-            // Read the response
-            try (BufferedReader br = new BufferedReader(
-                    new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
-                StringBuilder response = new StringBuilder();
-                String responseLine;
-                while ((responseLine = br.readLine()) != null) {
-                    response.append(responseLine.trim());
-                }
-                return response.toString();
-            }
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        } finally {
-            if (conn != null) {
-                conn.disconnect();
-            }
+    /**
+     * Checks whether the GraphQL response is free of errors, so that failed queries are not cached.
+     */
+    private static boolean hasNoErrors(String response) {
+        try {
+            JsonElement jsonElement = JsonParser.parseString(response);
+            return jsonElement.isJsonObject() && !jsonElement.getAsJsonObject().has("errors");
+        } catch (JsonParseException e) {
+            return false;
         }
     }
 
     private String getQueryTemplate(String queryName) {
-        String queryTemplate = queryMap.get(queryName);
-        if (queryTemplate == null) {
-            queryTemplate = readResourceFile(Path.of(QUERY_DIRECTORY, queryName).toString());
-            queryMap.put(queryName, queryTemplate);
-        }
-        return queryTemplate;
+        return queryMap.computeIfAbsent(queryName,
+                name -> readResourceFile(Path.of(QUERY_DIRECTORY, name).toString()));
     }
 
     private String readResourceFile(String resourcePath) {
@@ -167,10 +158,10 @@ class GraphQlClient {
 
             if (isJsonString(modulesElement)) {
                 String modulesString = modulesElement.getAsString();
-                List<Function> functions = new Gson().fromJson(modulesString, new FunctionListTypeToken().getType());
+                List<Function> functions = MODULE_GSON.fromJson(modulesString, new FunctionListTypeToken().getType());
                 return new FunctionsResponse.Module(functions);
             }
-            return new Gson().fromJson(jsonObject, FunctionsResponse.Module.class);
+            return MODULE_GSON.fromJson(jsonObject, FunctionsResponse.Module.class);
         }
     }
 
@@ -185,10 +176,10 @@ class GraphQlClient {
 
             if (isJsonString(modulesElement)) {
                 String modulesString = modulesElement.getAsString();
-                Function function = new Gson().fromJson(modulesString, Function.class);
+                Function function = MODULE_GSON.fromJson(modulesString, Function.class);
                 return new FunctionResponse.Module(function);
             }
-            return new Gson().fromJson(jsonObject, FunctionResponse.Module.class);
+            return MODULE_GSON.fromJson(jsonObject, FunctionResponse.Module.class);
         }
     }
 
@@ -205,9 +196,9 @@ class GraphQlClient {
 
             if (isJsonString(modulesElement)) {
                 String modulesString = modulesElement.getAsString();
-                return new Gson().fromJson(modulesString, ConnectorApiResponse.Module.class);
+                return MODULE_GSON.fromJson(modulesString, ConnectorApiResponse.Module.class);
             }
-            return new Gson().fromJson(jsonObject, ConnectorApiResponse.Module.class);
+            return MODULE_GSON.fromJson(jsonObject, ConnectorApiResponse.Module.class);
         }
     }
 }
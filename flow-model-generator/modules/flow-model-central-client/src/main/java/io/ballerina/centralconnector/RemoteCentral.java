@@ -25,11 +25,15 @@ import io.ballerina.centralconnector.response.FunctionsResponse;
 import io.ballerina.centralconnector.response.PackageResponse;
 import io.ballerina.centralconnector.response.SymbolResponse;
 
+import java.time.Clock;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * An implementation {@code CentralAPI} to interact with the Ballerina central to obtain information about the Ballerina
- * libraries. This class provides a facade for interacting with REST and GraphQL clients.
+ * libraries. This class provides a facade for interacting with REST and GraphQL clients, which share a single HTTP
+ * client and its response cache.
  *
  * @since 2.0.0
  */
@@ -48,28 +52,54 @@ public class RemoteCentral implements CentralAPI {
     }
 
     private RemoteCentral() {
-        this.restClient = new RestClient();
-        this.graphQlClient = new GraphQlClient();
+        CentralHttpClient httpClient = new CentralHttpClient(CentralHttpClient.getDefaultCacheDir());
+        this.restClient = new RestClient(httpClient);
+        this.graphQlClient = new GraphQlClient(httpClient);
+    }
+
+    /**
+     * Creates a client for the given endpoints, which caches the responses only in memory. This is intended to test
+     * the client against a local server.
+     *
+     * @param restApi    base URL of the REST API
+     * @param graphQlApi URL of the GraphQL API
+     */
+    RemoteCentral(String restApi, String graphQlApi) {
+        this(restApi, graphQlApi, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a client for the given endpoints, which caches the responses only in memory and measures their age with
+     * the given clock.
+     *
+     * @param restApi    base URL of the REST API
+     * @param graphQlApi URL of the GraphQL API
+     * @param clock      the clock to measure the age of the cached responses
+     */
+    RemoteCentral(String restApi, String graphQlApi, Clock clock) {
+        CentralHttpClient httpClient = new CentralHttpClient(null, clock);
+        this.restClient = new RestClient(restApi, httpClient);
+        this.graphQlClient = new GraphQlClient(graphQlApi, httpClient);
     }
 
     @Override
     public PackageResponse searchPackages(Map<String, String> queryMap) {
-        return restClient.searchPackages(queryMap);
+        return join(searchPackagesAsync(queryMap));
     }
 
     @Override
     public SymbolResponse searchSymbols(Map<String, String> queryMap) {
-        return restClient.searchSymbols(queryMap);
+        return join(searchSymbolsAsync(queryMap));
     }
 
     @Override
     public FunctionsResponse functions(String organization, String name, String version) {
-        return graphQlClient.getFunctions(organization, name, version);
+        return join(functionsAsync(organization, name, version));
     }
 
     @Override
     public FunctionResponse function(String organization, String name, String version, String functionName) {
-        return graphQlClient.getFunction(organization, name, version, functionName);
+        return join(functionAsync(organization, name, version, functionName));
     }
 
     @Override
@@ -84,6 +114,47 @@ public class RemoteCentral implements CentralAPI {
 
     @Override
     public ConnectorResponse connector(String organization, String name, String version, String clientName) {
-        return restClient.connector(organization, name, version, clientName);
+        return join(connectorAsync(organization, name, version, clientName));
+    }
+
+    @Override
+    public CompletableFuture<PackageResponse> searchPackagesAsync(Map<String, String> queryMap) {
+        return restClient.searchPackagesAsync(queryMap);
+    }
+
+    @Override
+    public CompletableFuture<SymbolResponse> searchSymbolsAsync(Map<String, String> queryMap) {
+        return restClient.searchSymbolsAsync(queryMap);
+    }
+
+    @Override
+    public CompletableFuture<FunctionsResponse> functionsAsync(String organization, String name, String version) {
+        return graphQlClient.getFunctionsAsync(organization, name, version);
+    }
+
+    @Override
+    public CompletableFuture<FunctionResponse> functionAsync(String organization, String name, String version,
+                                                             String functionName) {
+        return graphQlClient.getFunctionAsync(organization, name, version, functionName);
+    }
+
+    @Override
+    public CompletableFuture<ConnectorResponse> connectorAsync(String organization, String name, String version,
+                                                               String clientName) {
+        return restClient.connectorAsync(organization, name, version, clientName);
+    }
+
+    /**
+     * Waits for the given future, rethrowing the cause of a failure as it was thrown by the synchronous clients.
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        }
     }
 }
@@ -32,13 +32,11 @@ import org.ballerinalang.central.client.CentralAPIClient;
 import org.ballerinalang.central.client.exceptions.CentralClientException;
 import org.wso2.ballerinalang.util.RepoUtils;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static io.ballerina.projects.util.ProjectUtils.getAccessTokenOfCLI;
 import static io.ballerina.projects.util.ProjectUtils.initializeProxy;
@@ -54,11 +52,24 @@ class RestClient {
     private static final String SEARCH_SYMBOLS = "search-symbols";
     private static final String SEARCH_PACKAGES = "search-packages";
     private static final String CONNECTOR = "connector";
+
+    // The connector of a given package version does not change, while the search results may change at any time
+    private static final Duration CONNECTOR_TIME_TO_LIVE = Duration.ofHours(24);
+    private static final Duration SEARCH_TIME_TO_LIVE = Duration.ofMinutes(10);
+
     private final Gson gson;
     private final CentralAPIClient centralClient;
+    private final String baseUrl;
+    private final CentralHttpClient httpClient;
+
+    public RestClient(CentralHttpClient httpClient) {
+        this(BASE_URL, httpClient);
+    }
 
-    public RestClient() {
+    RestClient(String baseUrl, CentralHttpClient httpClient) {
         gson = new Gson();
+        this.baseUrl = baseUrl;
+        this.httpClient = httpClient;
 
         Settings settings;
         settings = RepoUtils.readSettings();
@@ -89,22 +100,23 @@ class RestClient {
         return gson.fromJson(connectorSearchResult, ConnectorResponse.class);
     }
 
-    public ConnectorResponse connector(String org, String module, String version, String connector) {
-        String path = String.format("%s/connectors/%s/%s/%s/%s/%s", BASE_URL, org, module, version, module, connector);
-        String response = query(path);
-        return gson.fromJson(response, ConnectorResponse.class);
+    public CompletableFuture<ConnectorResponse> connectorAsync(String org, String module, String version,
+                                                               String connector) {
+        String path = String.format("%s/connectors/%s/%s/%s/%s/%s", baseUrl, org, module, version, module, connector);
+        return httpClient.get(path, CONNECTOR_TIME_TO_LIVE)
+                .thenApply(response -> gson.fromJson(response, ConnectorResponse.class));
     }
 
-    public PackageResponse searchPackages(Map<String, String> queryMap) {
+    public CompletableFuture<PackageResponse> searchPackagesAsync(Map<String, String> queryMap) {
         String queryMapString = getQueryMapString(queryMap);
-        String response = query(SEARCH_PACKAGES, queryMapString);
-        return gson.fromJson(response, PackageResponse.class);
+        return query(SEARCH_PACKAGES, queryMapString)
+                .thenApply(response -> gson.fromJson(response, PackageResponse.class));
     }
 
-    public SymbolResponse searchSymbols(Map<String, String> queryMap) {
+    public CompletableFuture<SymbolResponse> searchSymbolsAsync(Map<String, String> queryMap) {
         String queryMapString = getQueryMapString(queryMap);
-        String response = query(SEARCH_SYMBOLS, queryMapString);
-        return gson.fromJson(response, SymbolResponse.class);
+        return query(SEARCH_SYMBOLS, queryMapString)
+                .thenApply(response -> gson.fromJson(response, SymbolResponse.class));
     }
 
     private String getQueryMapString(Map<String, String> queryMap) {
@@ -120,39 +132,8 @@ class RestClient {
         return queryParams.toString();
     }
 
-    private String query(String api) {
-        HttpURLConnection conn = null;
-        try {
-            URL url = new URL(api);
-            conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("GET");
-
-            int responseCode = conn.getResponseCode();
-            if (responseCode == HttpURLConnection.HTTP_OK) { // success
-                try (BufferedReader in = new BufferedReader(
-                        new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
-                    String inputLine;
-                    StringBuilder response = new StringBuilder();
-
-                    while ((inputLine = in.readLine()) != null) {
-                        response.append(inputLine);
-                    }
-                    return response.toString();
-                }
-            }
-            throw new RuntimeException("GET request not worked");
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        } finally {
-            if (conn != null) {
-                conn.disconnect();
-            }
-        }
-
-    }
-
-    private String query(String api, String queryMap) {
-        String fullUrl = String.format("%s/%s?%s", BASE_URL, api, queryMap);
-        return query(fullUrl);
+    private CompletableFuture<String> query(String api, String queryMap) {
+        String fullUrl = String.format("%s/%s?%s", baseUrl, api, queryMap);
+        return httpClient.get(fullUrl, SEARCH_TIME_TO_LIVE);
     }
 }
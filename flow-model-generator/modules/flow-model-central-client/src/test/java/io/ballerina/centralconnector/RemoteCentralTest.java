@@ -0,0 +1,199 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.centralconnector;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.ballerina.centralconnector.response.PackageResponse;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for the response cache of the central client, which run against a local server standing in for the
+ * Ballerina central.
+ *
+ * @since 2.0.0
+ */
+public class RemoteCentralTest {
+
+    private static final String SEARCH_PACKAGES_PATH = "/search-packages";
+    private static final String ETAG = "\"v1\"";
+    private static final String SEARCH_RESPONSE = "{\"packages\":[{\"organization\":\"ballerina\",\"name\":\"http\"," +
+            "\"version\":\"2.12.0\"}],\"count\":1,\"offset\":0,\"limit\":10}";
+    private static final Map<String, String> QUERY = Map.of("q", "http");
+
+    // The search responses are served from the cache for ten minutes
+    private static final Duration WITHIN_TIME_TO_LIVE = Duration.ofMinutes(5);
+    private static final Duration BEYOND_TIME_TO_LIVE = Duration.ofMinutes(11);
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger notModifiedCount = new AtomicInteger();
+    private volatile CountDownLatch responseLatch;
+    private HttpServer server;
+    private ExecutorService executor;
+    private TestClock clock;
+    private RemoteCentral remoteCentral;
+
+    @BeforeMethod
+    public void startServer() throws IOException {
+        requestCount.set(0);
+        notModifiedCount.set(0);
+        responseLatch = null;
+
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(SEARCH_PACKAGES_PATH, this::handleSearch);
+        server.setExecutor(executor);
+        server.start();
+
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+        clock = new TestClock();
+        remoteCentral = new RemoteCentral(baseUrl, baseUrl + "/graphql", clock);
+    }
+
+    @AfterMethod
+    public void stopServer() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test(description = "Serves a response from the cache until its time-to-live expires")
+    public void testTimeToLive() {
+        PackageResponse response = remoteCentral.searchPackages(QUERY);
+        assertPackage(response);
+
+        clock.advance(WITHIN_TIME_TO_LIVE);
+        Assert.assertEquals(remoteCentral.searchPackages(QUERY), response);
+        Assert.assertEquals(requestCount.get(), 1);
+
+        remoteCentral.searchPackages(Map.of("q", "io"));
+        Assert.assertEquals(requestCount.get(), 2, "Expected a request for a different query");
+    }
+
+    @Test(description = "Revalidates an expired response with its ETag and renews its time-to-live")
+    public void testRevalidation() {
+        PackageResponse response = remoteCentral.searchPackages(QUERY);
+
+        clock.advance(BEYOND_TIME_TO_LIVE);
+        Assert.assertEquals(remoteCentral.searchPackages(QUERY), response);
+        Assert.assertEquals(requestCount.get(), 2);
+        Assert.assertEquals(notModifiedCount.get(), 1, "Expected the server to confirm the cached response");
+
+        clock.advance(WITHIN_TIME_TO_LIVE);
+        Assert.assertEquals(remoteCentral.searchPackages(QUERY), response);
+        Assert.assertEquals(requestCount.get(), 2, "Expected the revalidated response to be served from the cache");
+    }
+
+    @Test(description = "Shares a single in-flight request among the concurrent identical requests")
+    public void testInFlightRequests() throws InterruptedException {
+        responseLatch = new CountDownLatch(1);
+        CompletableFuture<PackageResponse> first = remoteCentral.searchPackagesAsync(QUERY);
+        CompletableFuture<PackageResponse> second = remoteCentral.searchPackagesAsync(QUERY);
+        Assert.assertFalse(first.isDone() || second.isDone());
+
+        // Hold the response until the server has received the request, so that both requests are in flight
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (requestCount.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        responseLatch.countDown();
+
+        assertPackage(first.join());
+        Assert.assertEquals(second.join(), first.join());
+        Assert.assertEquals(requestCount.get(), 1);
+    }
+
+    private void handleSearch(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        CountDownLatch latch = responseLatch;
+        if (latch != null) {
+            try {
+                latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        exchange.getResponseHeaders().set("ETag", ETAG);
+        if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModifiedCount.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        byte[] body = SEARCH_RESPONSE.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static void assertPackage(PackageResponse response) {
+        Assert.assertEquals(response.count(), 1);
+        Assert.assertEquals(response.packages().getFirst().name(), "http");
+    }
+
+    /**
+     * Represents a clock which only moves when advanced by the test.
+     */
+    private static final class TestClock extends Clock {
+
+        private volatile Instant instant = Instant.now();
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.benchmarks;
+
+import com.google.gson.Gson;
+import org.ballerinalang.langserver.BallerinaLanguageServer;
+import org.ballerinalang.langserver.util.TestUtil;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * A language server with the flow model extensions loaded, along with the test resources of an API of the LS
+ * extension. The benchmarks send the requests of the test configs to the language server, so that they measure the
+ * same path as the clients do, including the JSON-RPC serialization.
+ *
+ * @since 2.0.0
+ */
+public class BenchmarkEnvironment implements AutoCloseable {
+
+    private static final String RESOURCES_PROPERTY = "benchmark.resources";
+    private static final Path DEFAULT_RESOURCES =
+            Path.of("flow-model-generator", "modules", "flow-model-generator-ls-extension", "src", "test", "resources");
+
+    private final Gson gson;
+    private final Path resourceDir;
+    private final Endpoint endpoint;
+
+    /**
+     * Starts a language server for the test resources of the given API.
+     *
+     * @param resourceDir the directory of the test resources, e.g. {@code diagram_generator}
+     */
+    public BenchmarkEnvironment(String resourceDir) {
+        String resources = System.getProperty(RESOURCES_PROPERTY);
+        Path resourcesRoot = resources == null ? DEFAULT_RESOURCES : Path.of(resources);
+        this.resourceDir = resourcesRoot.resolve(resourceDir).toAbsolutePath();
+        this.gson = new Gson();
+        this.endpoint = TestUtil.newLanguageServer().withLanguageServer(new BallerinaLanguageServer()).build();
+    }
+
+    /**
+     * Returns the absolute path of the given source of the test resources.
+     *
+     * @param source the path of the source relative to the source directory
+     * @return the absolute path of the source
+     */
+    public String sourcePath(String source) {
+        return resourceDir.resolve("source").resolve(source).toString();
+    }
+
+    /**
+     * Reads the test configs of the API, in the order of their paths.
+     *
+     * @param configType the type of the test config
+     * @param <T>        the type of the test config
+     * @return the test configs
+     */
+    public <T> List<T> loadConfigs(Class<T> configType) {
+        List<T> configs = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(resourceDir.resolve("config"))) {
+            for (Path path : paths.filter(path -> path.toString().endsWith(".json")).sorted().toList()) {
+                try (Reader reader = Files.newBufferedReader(path)) {
+                    configs.add(gson.fromJson(reader, configType));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the configs of " + resourceDir, e);
+        }
+        return configs;
+    }
+
+    /**
+     * Opens the given source in the language server with the given content, after which the language server serves
+     * the source from the content sent by the client instead of the file.
+     *
+     * @param sourcePath the absolute path of the source
+     * @param text       the content of the source
+     */
+    public void openDocument(String sourcePath, String text) {
+        TextDocumentItem textDocumentItem = new TextDocumentItem();
+        textDocumentItem.setUri(Path.of(sourcePath).toUri().toString());
+        textDocumentItem.setText(text);
+        textDocumentItem.setLanguageId("ballerina");
+        textDocumentItem.setVersion(1);
+        endpoint.notify("textDocument/didOpen", new DidOpenTextDocumentParams(textDocumentItem));
+    }
+
+    /**
+     * Replaces the content of an opened source, as done by the clients on each edit of the user.
+     *
+     * @param sourcePath the absolute path of the source
+     * @param version    the version of the document after the change, which must increase with each change
+     * @param text       the new content of the source
+     */
+    public void changeDocument(String sourcePath, int version, String text) {
+        VersionedTextDocumentIdentifier identifier =
+                new VersionedTextDocumentIdentifier(Path.of(sourcePath).toUri().toString(), version);
+        endpoint.notify("textDocument/didChange",
+                new DidChangeTextDocumentParams(identifier, List.of(new TextDocumentContentChangeEvent(text))));
+    }
+
+    /**
+     * Sends a request to the language server and waits for the serialized response.
+     *
+     * @param method the JSON-RPC method, e.g. {@code flowDesignService/getFlowModel}
+     * @param params the parameters of the request
+     * @return the serialized response
+     */
+    public String request(String method, Object params) {
+        return TestUtil.getResponseString(endpoint.request(method, params));
+    }
+
+    @Override
+    public void close() {
+        TestUtil.shutdownLanguageServer(endpoint);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.benchmarks;
+
+import com.google.gson.JsonElement;
+import io.ballerina.flowmodelgenerator.extension.request.DataMapperModelRequest;
+import io.ballerina.tools.text.LinePosition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the generation of the mappings of the data_mapper_model test corpus, where an operation generates the
+ * mappings of all the test configs.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DataMapperBenchmark {
+
+    private BenchmarkEnvironment environment;
+    private List<DataMapperModelRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        environment = new BenchmarkEnvironment("data_mapper_model");
+        requests = environment.loadConfigs(Config.class).stream()
+                .map(config -> new DataMapperModelRequest(environment.sourcePath(config.source()), config.diagram(),
+                        config.position(), config.propertyKey(), config.targetField()))
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        environment.close();
+    }
+
+    @Benchmark
+    public void getMappings(Blackhole blackhole) {
+        for (DataMapperModelRequest request : requests) {
+            blackhole.consume(environment.request("dataMapper/mappings", request));
+        }
+    }
+
+    private record Config(String source, JsonElement diagram, String propertyKey, LinePosition position,
+                          String targetField) {
+
+    }
+}
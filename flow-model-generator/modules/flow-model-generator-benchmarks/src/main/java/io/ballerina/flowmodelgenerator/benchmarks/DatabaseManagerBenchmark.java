@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.benchmarks;
+
+import io.ballerina.flowmodelgenerator.core.db.DatabaseManager;
+import io.ballerina.flowmodelgenerator.core.db.model.FunctionResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the lookups of the central index, over a fixed sample of the indexed functions.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DatabaseManagerBenchmark {
+
+    private static final String SAMPLE_SIZE = "100";
+    private static final List<String> SEARCH_QUERIES = List.of("get", "http client", "json", "log", "sql query");
+
+    private DatabaseManager dbManager;
+    private List<FunctionResult> functions;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        dbManager = DatabaseManager.getInstance();
+        functions = dbManager.getAllFunctions(DatabaseManager.FunctionKind.FUNCTION,
+                Map.of("limit", SAMPLE_SIZE, "offset", "0"));
+    }
+
+    @Benchmark
+    public void getFunction(Blackhole blackhole) {
+        for (FunctionResult function : functions) {
+            blackhole.consume(dbManager.getFunction(function.org(), function.packageName(), function.name(),
+                    DatabaseManager.FunctionKind.FUNCTION));
+        }
+    }
+
+    @Benchmark
+    public void getFunctionParameters(Blackhole blackhole) {
+        for (FunctionResult function : functions) {
+            blackhole.consume(dbManager.getFunctionParameters(function.functionId()));
+        }
+    }
+
+    @Benchmark
+    public void searchFunctions(Blackhole blackhole) {
+        for (String query : SEARCH_QUERIES) {
+            blackhole.consume(dbManager.searchFunctions(Map.of("q", query, "limit", "20", "offset", "0"),
+                    DatabaseManager.FunctionKind.FUNCTION));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.benchmarks;
+
+import io.ballerina.designmodelgenerator.core.DesignModelGenerator;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.directory.BuildProject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks the generation of the design models of the design model test projects, where an operation generates the
+ * design models of all the projects. The references of the connections are prefetched on an executor of the given
+ * number of threads, so that the speedup can be compared across the number of cores.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DesignModelBenchmark {
+
+    private static final String RESOURCES_PROPERTY = "benchmark.designResources";
+    private static final Path DEFAULT_RESOURCES = Path.of("architecture-model-generator", "modules",
+            "architecture-model-generator-ls-extension", "src", "test", "resources");
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private List<Package> packages;
+    private ExecutorService prefetchExecutor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        String resources = System.getProperty(RESOURCES_PROPERTY);
+        Path sourceDir = (resources == null ? DEFAULT_RESOURCES : Path.of(resources))
+                .resolve("get_design_model").resolve("source").toAbsolutePath();
+        packages = new ArrayList<>();
+        try (Stream<Path> projectPaths = Files.list(sourceDir)) {
+            for (Path projectPath : projectPaths.filter(Files::isDirectory).sorted().toList()) {
+                Package ballerinaPackage = BuildProject.load(projectPath).currentPackage();
+                // Compile the package ahead, so that only the generation of the design model is measured
+                ballerinaPackage.getCompilation();
+                packages.add(ballerinaPackage);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the projects of " + sourceDir, e);
+        }
+        prefetchExecutor = Executors.newFixedThreadPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        prefetchExecutor.shutdown();
+    }
+
+    @Benchmark
+    public void generate(Blackhole blackhole) {
+        for (Package ballerinaPackage : packages) {
+            blackhole.consume(new DesignModelGenerator(ballerinaPackage, prefetchExecutor).generate());
+        }
+    }
+}
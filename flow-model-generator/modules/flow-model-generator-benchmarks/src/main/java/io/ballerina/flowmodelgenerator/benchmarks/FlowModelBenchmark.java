@@ -0,0 +1,292 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.benchmarks;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.ballerina.flowmodelgenerator.extension.request.FlowModelGeneratorRequest;
+import io.ballerina.tools.text.LinePosition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the generation of the flow models of the diagram generator test corpus, where an operation generates the
+ * flow models of all the test configs. The flow models are generated in three states of the language server:
+ * <ul>
+ *     <li>warm: the sources are unchanged between the operations, hence the requests are served by the caches</li>
+ *     <li>edited: each source is edited before each operation, as done by a user between two renders of the
+ *     diagram</li>
+ *     <li>cold: a new language server is started before each operation, hence no cache of the language server or
+ *     the project is populated</li>
+ * </ul>
+ * The flow models are generated with and without the shared templates of the parameter properties, which is run in a
+ * separate fork for each.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FlowModelBenchmark {
+
+    private static final String GET_FLOW_MODEL = "flowDesignService/getFlowModel";
+    private static final String RESOURCE_DIR = "diagram_generator";
+    private static final String CLIENT_ID = "benchmark";
+    private static final String DISABLE_TEMPLATES_PROPERTY = "ballerina.flowmodel.disableParameterTemplates";
+
+    /**
+     * Generates the entire flow models of the unchanged sources, as done by the clients without a version.
+     */
+    @Benchmark
+    public void getFlowModelWarm(WarmWorkspace workspace, Blackhole blackhole) {
+        for (Config config : workspace.configs) {
+            blackhole.consume(workspace.getFlowModel(config, null, null));
+        }
+    }
+
+    /**
+     * Generates the entire flow models after an edit of each source.
+     */
+    @Benchmark
+    public void getFlowModelEdited(EditedWorkspace workspace, Blackhole blackhole) {
+        for (Config config : workspace.editedConfigs) {
+            blackhole.consume(workspace.getFlowModel(config, null, null));
+        }
+    }
+
+    /**
+     * Generates the flow models after an edit of each source as a diff from the version returned by the previous
+     * operation, which differs from the current one by the edit.
+     */
+    @Benchmark
+    public void getFlowModelDeltaEdited(EditedWorkspace workspace, Blackhole blackhole) {
+        List<Config> configs = workspace.editedConfigs;
+        for (int i = 0; i < configs.size(); i++) {
+            String response = workspace.getFlowModel(configs.get(i), CLIENT_ID, workspace.versions[i]);
+            JsonObject result = JsonParser.parseString(response).getAsJsonObject().getAsJsonObject("result");
+            workspace.versions[i] = result.has("version") ? result.get("version").getAsString() : null;
+            blackhole.consume(response);
+        }
+    }
+
+    /**
+     * Generates the entire flow models of the unchanged sources in a new language server.
+     */
+    @Benchmark
+    public void getFlowModelCold(ColdWorkspace workspace, Blackhole blackhole) {
+        for (Config config : workspace.configs) {
+            blackhole.consume(workspace.getFlowModel(config, null, null));
+        }
+    }
+
+    /**
+     * The language server and the test configs shared by the benchmarks of a state.
+     */
+    @State(Scope.Benchmark)
+    public abstract static class Workspace {
+
+        @Param({"true", "false"})
+        public boolean parameterTemplates;
+
+        BenchmarkEnvironment environment;
+        List<Config> configs;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            // Set before the flow model classes are loaded by the language server in this fork
+            System.setProperty(DISABLE_TEMPLATES_PROPERTY, String.valueOf(!parameterTemplates));
+            environment = new BenchmarkEnvironment(RESOURCE_DIR);
+            configs = environment.loadConfigs(Config.class);
+            prepare();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDownTrial() {
+            environment.close();
+        }
+
+        void prepare() {
+        }
+
+        String getFlowModel(Config config, String clientId, String version) {
+            FlowModelGeneratorRequest request =
+                    new FlowModelGeneratorRequest(environment.sourcePath(config.source()), config.start(),
+                            config.end(), clientId, version);
+            return environment.request(GET_FLOW_MODEL, request);
+        }
+    }
+
+    /**
+     * Serves the sources from the files, which are not changed between the operations.
+     */
+    @State(Scope.Benchmark)
+    public static class WarmWorkspace extends Workspace {
+
+    }
+
+    /**
+     * Restarts the language server before each operation.
+     */
+    @State(Scope.Benchmark)
+    public static class ColdWorkspace extends Workspace {
+
+        @Setup(Level.Invocation)
+        public void restart() {
+            environment.close();
+            environment = new BenchmarkEnvironment(RESOURCE_DIR);
+        }
+    }
+
+    /**
+     * Opens each source in the language server and adds a comment to the body of each of its canvases before each
+     * operation. The text of the comments changes with each edit, so that every flow model differs from the one of
+     * the previous operation by its comment nodes, while the number of the added lines, and hence the line ranges of
+     * the canvases, stay the same.
+     */
+    @State(Scope.Benchmark)
+    public static class EditedWorkspace extends Workspace {
+
+        private final Map<String, SourceEdit> edits = new LinkedHashMap<>();
+        List<Config> editedConfigs;
+        String[] versions;
+        private int edit;
+
+        @Override
+        void prepare() {
+            Map<String, TreeSet<Integer>> insertionLines = new LinkedHashMap<>();
+            Map<String, String> sources = new LinkedHashMap<>();
+            for (Config config : configs) {
+                String sourcePath = environment.sourcePath(config.source());
+                String text = sources.computeIfAbsent(sourcePath, EditedWorkspace::readSource);
+                TreeSet<Integer> lines = insertionLines.computeIfAbsent(sourcePath, path -> new TreeSet<>());
+                int braceLine = findBodyLine(text, config.start());
+                if (braceLine >= 0) {
+                    lines.add(braceLine);
+                }
+            }
+
+            editedConfigs = new ArrayList<>(configs.size());
+            for (Config config : configs) {
+                TreeSet<Integer> lines = insertionLines.get(environment.sourcePath(config.source()));
+                editedConfigs.add(new Config(config.source(), shift(config.start(), lines),
+                        shift(config.end(), lines)));
+            }
+            versions = new String[editedConfigs.size()];
+
+            for (Map.Entry<String, String> source : sources.entrySet()) {
+                String[] lines = source.getValue().split("\n", -1);
+                edits.put(source.getKey(), new SourceEdit(lines, insertionLines.get(source.getKey())));
+                environment.openDocument(source.getKey(), source.getValue());
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void edit() {
+            edit++;
+            for (Map.Entry<String, SourceEdit> sourceEdit : edits.entrySet()) {
+                // The documents are opened with the version 1
+                environment.changeDocument(sourceEdit.getKey(), edit + 1, sourceEdit.getValue().apply(edit));
+            }
+        }
+
+        private static String readSource(String sourcePath) {
+            try {
+                return Files.readString(Path.of(sourcePath));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read the source " + sourcePath, e);
+            }
+        }
+
+        /**
+         * Returns the line of the first opening brace from the start of the canvas, which opens its body, or -1 if
+         * there is none.
+         */
+        private static int findBodyLine(String text, LinePosition start) {
+            int index = 0;
+            for (int line = 0; line < start.line(); line++) {
+                index = text.indexOf('\n', index) + 1;
+                if (index == 0) {
+                    return -1;
+                }
+            }
+            int braceIndex = text.indexOf('{', index + start.offset());
+            if (braceIndex < 0) {
+                return -1;
+            }
+            return start.line() + (int) text.substring(index, braceIndex).chars().filter(c -> c == '\n').count();
+        }
+
+        /**
+         * Moves the position by the number of the comment lines inserted before it.
+         */
+        private static LinePosition shift(LinePosition position, TreeSet<Integer> insertionLines) {
+            return LinePosition.from(position.line() + insertionLines.headSet(position.line()).size(),
+                    position.offset());
+        }
+    }
+
+    /**
+     * The lines of a source and the lines after which a comment is inserted by an edit.
+     */
+    private record SourceEdit(String[] lines, TreeSet<Integer> insertionLines) {
+
+        String apply(int edit) {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < lines.length; i++) {
+                if (i > 0) {
+                    builder.append('\n');
+                }
+                builder.append(lines[i]);
+                if (insertionLines.contains(i)) {
+                    builder.append("\n// edit ").append(edit);
+                }
+            }
+            return builder.toString();
+        }
+    }
+
+    private record Config(String source, LinePosition start, LinePosition end) {
+
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.benchmarks;
+
+import com.google.gson.JsonElement;
+import io.ballerina.flowmodelgenerator.extension.request.FlowModelSourceGeneratorRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the generation of the source code of the flow nodes of the to_source test corpus, where an operation
+ * generates the source code of all the test configs.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SourceGeneratorBenchmark {
+
+    private BenchmarkEnvironment environment;
+    private List<FlowModelSourceGeneratorRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        environment = new BenchmarkEnvironment("to_source");
+        requests = environment.loadConfigs(Config.class).stream()
+                .map(config -> new FlowModelSourceGeneratorRequest(environment.sourcePath(config.source()),
+                        config.diagram()))
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        environment.close();
+    }
+
+    @Benchmark
+    public void toSourceCode(Blackhole blackhole) {
+        for (FlowModelSourceGeneratorRequest request : requests) {
+            blackhole.consume(environment.request("flowDesignService/getSourceCode", request));
+        }
+    }
+
+    private record Config(String source, JsonElement diagram) {
+
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.benchmarks;
+
+import io.ballerina.flowmodelgenerator.extension.request.XMLToRecordRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversion of the XML samples of the xml_converter test corpus to record types, where an operation
+ * converts all the samples of the test configs.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class XMLToRecordBenchmark {
+
+    private BenchmarkEnvironment environment;
+    private List<XMLToRecordRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        environment = new BenchmarkEnvironment("xml_converter");
+        requests = environment.loadConfigs(Config.class).stream()
+                .map(config -> new XMLToRecordRequest(config.xmlString(), config.isRecordTypeDesc(),
+                        config.isClosed(), true, "text", false, false, false,
+                        environment.sourcePath(config.filePath()), config.prefix()))
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        environment.close();
+    }
+
+    @Benchmark
+    public void convert(Blackhole blackhole) {
+        for (XMLToRecordRequest request : requests) {
+            blackhole.consume(environment.request("xmlToRecord/convert", request));
+        }
+    }
+
+    private record Config(String filePath, String xmlString, String prefix, boolean isClosed,
+                          boolean isRecordTypeDesc) {
+
+    }
+}
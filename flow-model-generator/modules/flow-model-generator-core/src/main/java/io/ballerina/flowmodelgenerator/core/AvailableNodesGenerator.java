@@ -87,10 +87,10 @@ public class AvailableNodesGenerator {
                 .forEach(connectionItems::add);
         this.rootBuilder.stepIn(Category.Name.CONNECTIONS).items(connectionItems).stepOut();
 
-        List<Item> items = new ArrayList<>();
-        items.addAll(getAvailableFlowNodes(position));
-        items.addAll(LocalIndexCentral.getInstance().getFunctions());
-        return gson.toJsonTree(items).getAsJsonArray();
+        JsonArray availableNodes = gson.toJsonTree(getAvailableFlowNodes(position)).getAsJsonArray();
+        // Reuse the JSON of the bundled functions instead of serializing them for every request
+        LocalIndexCentral.getInstance().getFunctionsJson().forEach(availableNodes::add);
+        return availableNodes;
     }
 
     private List<Item> getAvailableFlowNodes(LinePosition cursorPosition) {
@@ -112,6 +112,7 @@ import io.ballerina.flowmodelgenerator.core.model.FormBuilder;
 import io.ballerina.flowmodelgenerator.core.model.ModuleInfo;
 import io.ballerina.flowmodelgenerator.core.model.NodeBuilder;
 import io.ballerina.flowmodelgenerator.core.model.NodeKind;
+import io.ballerina.flowmodelgenerator.core.model.ParameterTemplate;
 import io.ballerina.flowmodelgenerator.core.model.Property;
 import io.ballerina.flowmodelgenerator.core.model.node.AssignBuilder;
 import io.ballerina.flowmodelgenerator.core.model.node.BinaryBuilder;
@@ -425,15 +426,7 @@ class CodeAnalyzer extends NodeVisitor {
             String unescapedParamName = ParamUtils.removeLeadingSingleQuote(paramResult.name());
             Property.Builder<FormBuilder<NodeBuilder>> customPropBuilder = nodeBuilder.properties().custom();
             customPropBuilder
-                    .metadata()
-                        .label(unescapedParamName)
-                        .description(paramResult.description())
-                        .stepOut()
-                    .codedata()
-                        .kind(paramResult.kind().name())
-                        .originalName(paramResult.name())
-                        .importStatements(paramResult.importStatements())
-                        .stepOut()
+                    .parameter(ParameterTemplate.of(paramResult))
                     .placeholder(paramResult.defaultValue())
                     .typeConstraint(paramResult.type())
                     .editable()
@@ -511,15 +504,7 @@ class CodeAnalyzer extends NodeVisitor {
                 String unescapedParamName = ParamUtils.removeLeadingSingleQuote(paramResult.name());
                 Property.Builder<FormBuilder<NodeBuilder>> customPropBuilder = nodeBuilder.properties().custom();
                 customPropBuilder
-                        .metadata()
-                            .label(unescapedParamName)
-                            .description(paramResult.description())
-                            .stepOut()
-                        .codedata()
-                            .kind(paramKind.name())
-                            .originalName(paramResult.name())
-                            .importStatements(paramResult.importStatements())
-                            .stepOut()
+                        .parameter(ParameterTemplate.of(paramResult))
                         .placeholder(paramResult.defaultValue())
                         .typeConstraint(paramResult.type())
                         .editable()
@@ -575,21 +560,13 @@ class CodeAnalyzer extends NodeVisitor {
                     String value = paramValue != null ? paramValue.toSourceCode() : null;
                     String unescapedParamName = ParamUtils.removeLeadingSingleQuote(paramResult.name());
                     customPropBuilder
-                            .metadata()
-                                .label(unescapedParamName)
-                                .description(paramResult.description())
-                                .stepOut()
+                            .parameter(ParameterTemplate.of(paramResult))
                             .type(getPropertyTypeFromParamKind(paramResult.kind()))
                             .typeConstraint(paramResult.type())
                             .value(value)
                             .placeholder(paramResult.defaultValue())
                             .editable()
                             .defaultable(paramResult.optional())
-                            .codedata()
-                                .kind(paramResult.kind().name())
-                                .originalName(paramResult.name())
-                                .importStatements(paramResult.importStatements())
-                                .stepOut()
                             .stepOut()
                             .addProperty(unescapedParamName);
                 }
@@ -604,21 +581,13 @@ class CodeAnalyzer extends NodeVisitor {
                 funcParamMap.remove(restParamSymbol.getName().get());
                 String unescapedParamName = ParamUtils.removeLeadingSingleQuote(restParamResult.name());
                 customPropBuilder
-                        .metadata()
-                            .label(unescapedParamName)
-                            .description(restParamResult.description())
-                            .stepOut()
+                        .parameter(ParameterTemplate.of(restParamResult))
                         .type(getPropertyTypeFromParamKind(restParamResult.kind()))
                         .typeConstraint(restParamResult.type())
                         .value(restArgs)
                         .placeholder(restParamResult.defaultValue())
                         .editable()
                         .defaultable(!hasOnlyRestParams)
-                        .codedata()
-                            .kind(restParamResult.kind().name())
-                            .originalName(restParamResult.name())
-                            .importStatements(restParamResult.importStatements())
-                            .stepOut()
                         .stepOut()
                         .addProperty(unescapedParamName);
             }
@@ -661,21 +630,13 @@ class CodeAnalyzer extends NodeVisitor {
                             String value = paramValue != null ? paramValue.toSourceCode() : null;
                             String unescapedParamName = ParamUtils.removeLeadingSingleQuote(paramResult.name());
                             customPropBuilder
-                                    .metadata()
-                                        .label(unescapedParamName)
-                                        .description(paramResult.description())
-                                        .stepOut()
+                                    .parameter(ParameterTemplate.of(paramResult))
                                     .type(getPropertyTypeFromParamKind(paramResult.kind()))
                                     .typeConstraint(paramResult.type())
                                     .value(value)
                                     .placeholder(paramResult.defaultValue())
                                     .editable()
                                     .defaultable(paramResult.optional())
-                                    .codedata()
-                                        .kind(paramResult.kind().name())
-                                        .originalName(paramResult.name())
-                                        .importStatements(paramResult.importStatements())
-                                        .stepOut()
                                     .stepOut()
                                     .addProperty(unescapedParamName, paramValue);
                         } else {
@@ -691,21 +652,13 @@ class CodeAnalyzer extends NodeVisitor {
                                 String value = paramValue != null ? paramValue.toSourceCode() : null;
                                 String unescapedParamName = ParamUtils.removeLeadingSingleQuote(paramResult.name());
                                 customPropBuilder
-                                        .metadata()
-                                            .label(unescapedParamName)
-                                            .description(paramResult.description())
-                                            .stepOut()
+                                        .parameter(ParameterTemplate.of(paramResult))
                                         .type(getPropertyTypeFromParamKind(paramResult.kind()))
                                         .typeConstraint(paramResult.type())
                                         .value(value)
                                         .placeholder(paramResult.defaultValue())
                                         .editable()
                                         .defaultable(paramResult.optional())
-                                        .codedata()
-                                            .kind(paramResult.kind().name())
-                                            .originalName(paramResult.name())
-                                            .importStatements(paramResult.importStatements())
-                                            .stepOut()
                                         .stepOut()
                                         .addProperty(unescapedParamName, paramValue);
 
@@ -721,21 +674,13 @@ class CodeAnalyzer extends NodeVisitor {
                             funcParamMap.remove(escapedParamName);
                             String value = paramValue.toSourceCode();
                             customPropBuilder
-                                    .metadata()
-                                        .label(unescapedParamName)
-                                        .description(paramResult.description())
-                                        .stepOut()
+                                    .parameter(ParameterTemplate.of(paramResult))
                                     .type(getPropertyTypeFromParamKind(paramResult.kind()))
                                     .typeConstraint(paramResult.type())
                                     .value(value)
                                     .placeholder(paramResult.defaultValue())
                                     .editable()
                                     .defaultable(paramResult.optional())
-                                    .codedata()
-                                        .kind(paramResult.kind().name())
-                                        .originalName(paramResult.name())
-                                        .importStatements(paramResult.importStatements())
-                                        .stepOut()
                                     .stepOut()
                                     .addProperty(unescapedParamName, paramValue);
                             return;
@@ -753,21 +698,13 @@ class CodeAnalyzer extends NodeVisitor {
                 String value = paramValue != null ? paramValue.toSourceCode() : null;
                 String unescapedParamName = ParamUtils.removeLeadingSingleQuote(paramResult.name());
                 customPropBuilder
-                        .metadata()
-                            .label(unescapedParamName)
-                            .description(paramResult.description())
-                            .stepOut()
+                        .parameter(ParameterTemplate.of(paramResult))
                         .type(getPropertyTypeFromParamKind(paramResult.kind()))
                         .typeConstraint(paramResult.type())
                         .value(value)
                         .placeholder(paramResult.defaultValue())
                         .editable()
                         .defaultable(paramResult.optional())
-                        .codedata()
-                            .kind(paramResult.kind().name())
-                            .originalName(paramResult.name())
-                            .importStatements(paramResult.importStatements())
-                            .stepOut()
                         .stepOut()
                         .addProperty(unescapedParamName, paramValue);
             }
@@ -783,21 +720,13 @@ class CodeAnalyzer extends NodeVisitor {
                         nodeBuilder.properties().custom();
                 String unescapedParamName = ParamUtils.removeLeadingSingleQuote(includedRecordRest.name());
                 customPropBuilder
-                        .metadata()
-                            .label(unescapedParamName)
-                            .description(includedRecordRest.description())
-                            .stepOut()
+                        .parameter(ParameterTemplate.of(includedRecordRest))
                         .type(getPropertyTypeFromParamKind(includedRecordRest.kind()))
                         .typeConstraint(includedRecordRest.type())
                         .value(includedRecordRestArgs)
                         .placeholder(includedRecordRest.defaultValue())
                         .editable()
                         .defaultable(includedRecordRest.optional())
-                        .codedata()
-                            .kind(includedRecordRest.kind().name())
-                            .originalName(includedRecordRest.name())
-                            .importStatements(includedRecordRest.importStatements())
-                            .stepOut()
                         .stepOut()
                         .addProperty("additionalValues");
             }
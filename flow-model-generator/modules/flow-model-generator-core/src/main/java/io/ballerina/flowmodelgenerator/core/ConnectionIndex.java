@@ -0,0 +1,204 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.flowmodelgenerator.core.model.FlowNode;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LineRange;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Index of the connections declared in a module, either as module-level variables or as class fields. The connection
+ * built for a symbol is kept until a declaration which can affect the connections changes in any module of the
+ * package, or the manifest or the resolved dependencies of the package change, so that the connections of the
+ * diagram are not rebuilt for every request.
+ *
+ * @since 2.0.0
+ */
+class ConnectionIndex {
+
+    private static final int MAX_INDEXED_MODULES = 16;
+    private static final Map<ModuleId, ConnectionIndex> INDEXES = Collections.synchronizedMap(
+            new LinkedHashMap<>(MAX_INDEXED_MODULES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ModuleId, ConnectionIndex> eldest) {
+                    return size() > MAX_INDEXED_MODULES;
+                }
+            });
+
+    private Map<DocumentId, DocumentDeclarations> declarations;
+    private String packageSignature;
+    private volatile Map<LineRange, Optional<FlowNode>> connections;
+
+    private ConnectionIndex() {
+        this.declarations = Map.of();
+        this.packageSignature = "";
+        this.connections = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the connection index of the given module, invalidating the indexed connections if the declarations of
+     * the module have changed since the last request.
+     *
+     * @param module the module to obtain the index
+     * @return the connection index of the module
+     */
+    public static ConnectionIndex getInstance(Module module) {
+        ConnectionIndex connectionIndex = INDEXES.computeIfAbsent(module.moduleId(), id -> new ConnectionIndex());
+        connectionIndex.refresh(module);
+        return connectionIndex;
+    }
+
+    /**
+     * Returns the connection of the given symbol, building it with the given function if it is not indexed.
+     *
+     * @param symbol  the symbol of the connection
+     * @param builder the function to build the connection
+     * @return the connection if the symbol is a connection, otherwise empty
+     */
+    public Optional<FlowNode> get(Symbol symbol, Function<Symbol, Optional<FlowNode>> builder) {
+        Optional<LineRange> lineRange = symbol.getLocation().map(Location::lineRange);
+        if (lineRange.isEmpty()) {
+            return builder.apply(symbol);
+        }
+
+        // The connections are added to the map captured before building, which is discarded if the index is
+        // invalidated meanwhile
+        Map<LineRange, Optional<FlowNode>> currentConnections = this.connections;
+        Optional<FlowNode> connection = currentConnections.get(lineRange.get());
+        if (connection == null) {
+            connection = builder.apply(symbol);
+            currentConnections.putIfAbsent(lineRange.get(), connection);
+        }
+        return connection;
+    }
+
+    private synchronized void refresh(Module module) {
+        // The connections of the module may be typed by the declarations of the other modules of the package
+        Package currentPackage = module.packageInstance();
+        Map<DocumentId, DocumentDeclarations> newDeclarations = new HashMap<>();
+        boolean changed = false;
+        for (Module packageModule : currentPackage.modules()) {
+            for (DocumentId documentId : packageModule.documentIds()) {
+                SyntaxTree syntaxTree = packageModule.document(documentId).syntaxTree();
+                DocumentDeclarations oldDocumentDeclarations = declarations.get(documentId);
+
+                // Unchanged documents retain their syntax trees, and hence the declarations need not be computed
+                // again
+                if (oldDocumentDeclarations != null && oldDocumentDeclarations.syntaxTree() == syntaxTree) {
+                    newDeclarations.put(documentId, oldDocumentDeclarations);
+                    continue;
+                }
+                DocumentDeclarations documentDeclarations =
+                        new DocumentDeclarations(syntaxTree, getDeclarationsSignature(syntaxTree));
+                newDeclarations.put(documentId, documentDeclarations);
+                changed |= oldDocumentDeclarations == null ||
+                        !oldDocumentDeclarations.signature().equals(documentDeclarations.signature());
+            }
+        }
+        String newPackageSignature = getPackageSignature(currentPackage);
+        if (changed || newDeclarations.size() != declarations.size()
+                || !packageSignature.equals(newPackageSignature)) {
+            connections = new ConcurrentHashMap<>();
+        }
+        declarations = newDeclarations;
+        packageSignature = newPackageSignature;
+    }
+
+    /**
+     * Generates a signature of the package which can affect the connections of its modules. These are the
+     * Ballerina.toml and Dependencies.toml files, and the versions of the resolved dependencies, which define the
+     * clients of the connections.
+     */
+    private static String getPackageSignature(Package currentPackage) {
+        StringBuilder sb = new StringBuilder();
+        currentPackage.ballerinaToml()
+                .ifPresent(toml -> sb.append(toml.tomlDocument().textDocument().toString()).append('\n'));
+        currentPackage.dependenciesToml()
+                .ifPresent(toml -> sb.append(toml.tomlDocument().textDocument().toString()).append('\n'));
+        currentPackage.getResolution().allDependencies().stream()
+                .map(dependency -> dependency.packageInstance().descriptor())
+                .map(descriptor -> descriptor.org().value() + "/" + descriptor.name().value() + ":" +
+                        descriptor.version().value())
+                .sorted()
+                .forEach(dependency -> sb.append(dependency).append('\n'));
+        return sb.toString();
+    }
+
+    /**
+     * Generates a signature of the declarations which can affect the connections of a document. These are the
+     * module-level variables, the fields of services and classes, the qualifiers of classes, and the type
+     * definitions, which include the aliases of the client types.
+     */
+    private static String getDeclarationsSignature(SyntaxTree syntaxTree) {
+        StringBuilder sb = new StringBuilder();
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            switch (member.kind()) {
+                case MODULE_VAR_DECL, TYPE_DEFINITION -> appendDeclaration(sb, member);
+                case SERVICE_DECLARATION -> appendFields(sb, ((ServiceDeclarationNode) member).members());
+                case CLASS_DEFINITION -> {
+                    ClassDefinitionNode classDefinitionNode = (ClassDefinitionNode) member;
+                    sb.append(classDefinitionNode.classTypeQualifiers().toSourceCode())
+                            .append(classDefinitionNode.className().text())
+                            .append('\n');
+                    appendFields(sb, classDefinitionNode.members());
+                }
+                default -> {
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendFields(StringBuilder sb, NodeList<Node> members) {
+        for (Node member : members) {
+            if (member.kind() == SyntaxKind.OBJECT_FIELD) {
+                appendDeclaration(sb, member);
+            }
+        }
+    }
+
+    private static void appendDeclaration(StringBuilder sb, Node node) {
+        sb.append(node.lineRange()).append(node.toSourceCode()).append('\n');
+    }
+
+    private record DocumentDeclarations(SyntaxTree syntaxTree, String signature) {
+    }
+}
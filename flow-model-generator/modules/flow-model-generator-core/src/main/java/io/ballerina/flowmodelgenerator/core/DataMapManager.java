@@ -19,8 +19,10 @@
 package io.ballerina.flowmodelgenerator.core;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 import com.google.gson.reflect.TypeToken;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
@@ -73,7 +75,6 @@ import io.ballerina.flowmodelgenerator.core.model.SourceBuilder;
 import io.ballerina.flowmodelgenerator.core.utils.CommonUtils;
 import io.ballerina.flowmodelgenerator.core.utils.DefaultValueGeneratorUtil;
 import io.ballerina.projects.Document;
-import io.ballerina.projects.Project;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
@@ -81,10 +82,6 @@ import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocumentChange;
 import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.diagramutil.connector.models.connector.Type;
-import org.ballerinalang.diagramutil.connector.models.connector.TypeInfo;
-import org.ballerinalang.diagramutil.connector.models.connector.types.ArrayType;
-import org.ballerinalang.diagramutil.connector.models.connector.types.PrimitiveType;
-import org.ballerinalang.diagramutil.connector.models.connector.types.RecordType;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.Position;
@@ -92,13 +89,16 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextEdit;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Generates types of the data mapper model.
@@ -107,6 +107,7 @@ import java.util.Optional;
  */
 public class DataMapManager {
 
+    private static final Gson PORT_GSON = new Gson();
     private final WorkspaceManager workspaceManager;
     private final Document document;
     private final Gson gson;
@@ -158,16 +159,36 @@ public class DataMapManager {
     }
 
     public JsonElement getMappings(JsonElement node, LinePosition position, String propertyKey, Path filePath,
-                                   String targetField, Project project) {
+                                   String targetField) {
+        return getMappings(node, position, propertyKey, filePath, targetField, null);
+    }
+
+    /**
+     * Generates the mapping model of the given node, with the fields of the ports expanded to the given depth. The
+     * ports whose fields or members are beyond the depth carry a handle instead, which is expanded with
+     * {@link #expandPort(String, Integer)}.
+     *
+     * @param depth the number of levels of fields to expand, or null to expand all of them
+     * @return the mapping model
+     */
+    public JsonElement getMappings(JsonElement node, LinePosition position, String propertyKey, Path filePath,
+                                   String targetField, Integer depth) {
+        int portDepth = depth == null ? Integer.MAX_VALUE : depth;
         FlowNode flowNode = gson.fromJson(node, FlowNode.class);
-        SourceModification modification;
+        Function<SourceModification, JsonElement> action = modification ->
+                getMappings(flowNode, modification, position, propertyKey, targetField, portDepth);
         if (flowNode.codedata().node() == NodeKind.NEW_CONNECTION) {
-            modification = applyConnection(flowNode, project, filePath);
-        } else {
-            modification = applyNode(flowNode, project, filePath, position);
+            return applyConnection(flowNode, filePath, action);
         }
+        return applyNode(flowNode, filePath, position, action);
+    }
+
+    private JsonElement getMappings(FlowNode flowNode, SourceModification modification, LinePosition position,
+                                    String propertyKey, String targetField, int portDepth) {
         SemanticModel newSemanticModel = modification.semanticModel();
-        List<MappingPort> inputPorts = getInputPorts(newSemanticModel, modification.document(), position);
+        MappingPortCache portCache = MappingPortCache.getInstance(document.module().packageInstance());
+        List<MappingPort> inputPorts =
+                getInputPorts(newSemanticModel, modification.document(), position, portCache, portDepth);
         inputPorts.sort(Comparator.comparing(mt -> mt.id));
 
         TargetNode targetNode = getTargetNode(modification.stNode(), targetField, flowNode.codedata().node(),
@@ -176,16 +197,17 @@ public class DataMapManager {
             return null;
         }
 
-        Type type = Type.fromSemanticSymbol(targetNode.typeSymbol());
+        MappingPortCache.PortShape shape = portCache.getShape(targetNode.typeSymbol());
         String name = targetNode.name();
-        MappingPort outputPort = getMappingPort(name, name, type);
+        MappingPort outputPort = getMappingPort(name, name, shape, portDepth,
+                PortPath.root(MappingPortCache.getKey(targetNode.typeSymbol()), name, name));
         List<Mapping> mappings = new ArrayList<>();
         ExpressionNode expressionNode = targetNode.expressionNode();
         if (expressionNode != null) {
-            String typeKind = type.getTypeName();
-            if (typeKind.equals("record")) {
+            String typeKind = shape.kind();
+            if ("record".equals(typeKind)) {
                 generateRecordVariableDataMapping(expressionNode, mappings, name, newSemanticModel);
-            } else if (typeKind.equals("array")) {
+            } else if ("array".equals(typeKind)) {
                 generateArrayVariableDataMapping(expressionNode, mappings, name, newSemanticModel);
             }
         }
@@ -489,7 +511,8 @@ public class DataMapManager {
         return diagnosticMsgs;
     }
 
-    private List<MappingPort> getInputPorts(SemanticModel semanticModel, Document document, LinePosition position) {
+    private List<MappingPort> getInputPorts(SemanticModel semanticModel, Document document, LinePosition position,
+                                            MappingPortCache portCache, int depth) {
         List<MappingPort> mappingPorts = new ArrayList<>();
 
         List<Symbol> symbols = semanticModel.visibleSymbols(document, position);
@@ -500,8 +523,9 @@ public class DataMapManager {
                 if (optName.isEmpty()) {
                     continue;
                 }
-                Type type = Type.fromSemanticSymbol(symbol);
-                MappingPort mappingPort = getMappingPort(optName.get(), optName.get(), type);
+                MappingPort mappingPort = getMappingPort(optName.get(), optName.get(), portCache.getShape(symbol),
+                        depth, PortPath.root(MappingPortCache.getKey(symbol).orElse(null), optName.get(),
+                                optName.get()));
                 if (mappingPort == null) {
                     continue;
                 }
@@ -517,16 +541,18 @@ public class DataMapManager {
                 if (optName.isEmpty()) {
                     continue;
                 }
-                Type type = Type.fromSemanticSymbol(symbol);
-                MappingPort mappingPort = getMappingPort(optName.get(), optName.get(), type);
+                MappingPort mappingPort = getMappingPort(optName.get(), optName.get(), portCache.getShape(symbol),
+                        depth, PortPath.root(MappingPortCache.getKey(symbol).orElse(null), optName.get(),
+                                optName.get()));
                 if (mappingPort == null) {
                     continue;
                 }
                 mappingPort.category = "parameter";
                 mappingPorts.add(mappingPort);
             } else if (kind == SymbolKind.CONSTANT) {
-                Type type = Type.fromSemanticSymbol(symbol);
-                MappingPort mappingPort = getMappingPort(type.getTypeName(), type.getTypeName(), type);
+                MappingPortCache.PortShape shape = portCache.getShape(symbol);
+                MappingPort mappingPort = getMappingPort(shape.kind(), shape.kind(), shape, depth,
+                        PortPath.root(MappingPortCache.getKey(symbol).orElse(null), shape.kind(), shape.kind()));
                 if (mappingPort == null) {
                     continue;
                 }
@@ -537,27 +563,142 @@ public class DataMapManager {
         return mappingPorts;
     }
 
-    private MappingPort getMappingPort(String id, String name, Type type) {
-        if (type.getTypeName().equals("record")) {
-            RecordType recordType = (RecordType) type;
-            TypeInfo typeInfo = type.getTypeInfo();
-            MappingRecordPort recordPort = new MappingRecordPort(id, name, typeInfo != null ?
-                    typeInfo.name : type.getTypeName(), type.getTypeName());
-            for (Type field : recordType.fields) {
-                recordPort.fields.add(getMappingPort(id + "." + field.getName(), field.getName(), field));
+    private static MappingPort getMappingPort(String id, String name, MappingPortCache.PortShape shape, int depth,
+                                              PortPath path) {
+        if (!shape.isSupported()) {
+            return null;
+        }
+        String kind = shape.kind();
+        if (kind.equals("record")) {
+            MappingRecordPort recordPort = new MappingRecordPort(id, name, shape.typeName(), kind);
+            if (depth <= 0 && !shape.fields().isEmpty() && path != null) {
+                recordPort.fields = null;
+                recordPort.handle = path.handle();
+                return recordPort;
+            }
+            for (MappingPortCache.FieldShape field : shape.fields()) {
+                recordPort.fields.add(getMappingPort(id + "." + field.name(), field.name(), field.shape(),
+                        depth - 1, path == null ? null : path.field(field.name())));
             }
             return recordPort;
-        } else if (type instanceof PrimitiveType) {
-            return new MappingPort(id, type.getName(), type.getTypeName(), type.getTypeName());
-        } else if (type.getTypeName().equals("array")) {
-            ArrayType arrayType = (ArrayType) type;
-            MappingPort memberPort = getMappingPort(id, null, arrayType.memberType);
-            MappingArrayPort arrayPort = new MappingArrayPort(id, name, memberPort == null ? "record" :
-                    memberPort.typeName + "[]", type.getTypeName());
-            arrayPort.setMember(memberPort);
+        } else if (kind.equals("array")) {
+            MappingArrayPort arrayPort = new MappingArrayPort(id, name, shape.typeName(), kind);
+            if (depth <= 0 && shape.member().isSupported() && path != null) {
+                arrayPort.handle = path.handle();
+                return arrayPort;
+            }
+            arrayPort.setMember(getMappingPort(id, null, shape.member(), depth - 1,
+                    path == null ? null : path.member()));
             return arrayPort;
-        } else {
-            return null;
+        }
+        return new MappingPort(id, shape.name(), shape.typeName(), kind);
+    }
+
+    /**
+     * Expands a port collapsed by {@link #getMappings(JsonElement, LinePosition, String, Path, String, Integer)}. The
+     * port is resolved again from the shape of its input or output port, and hence the handle expires once the package
+     * is changed.
+     *
+     * @param handle the handle of the collapsed port
+     * @param depth  the number of levels of fields to expand, or null to expand all of them
+     * @return the expanded port
+     */
+    public JsonElement expandPort(String handle, Integer depth) {
+        TreeHandles.Handle decodedHandle = TreeHandles.decode(handle);
+        MappingPortCache.Key key;
+        try {
+            key = new MappingPortCache.Key(SymbolKind.valueOf(decodedHandle.getString(PortPath.KIND_KEY)),
+                    decodedHandle.rootKey().has(PortPath.NAME_KEY) ? decodedHandle.getString(PortPath.NAME_KEY) : null,
+                    decodedHandle.getString(PortPath.SIGNATURE_KEY));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid handle: " + handle, e);
+        }
+        MappingPortCache portCache = MappingPortCache.getInstance(document.module().packageInstance());
+        MappingPortCache.PortShape shape = portCache.getCachedShape(key)
+                .orElseThrow(() -> TreeHandles.expired(handle));
+
+        // Walk down the fields and members of the path to the collapsed port
+        PortPath path = new PortPath(decodedHandle.rootKey(), null, null);
+        String id = decodedHandle.getString(PortPath.PORT_ID_KEY);
+        String name = decodedHandle.getString(PortPath.PORT_NAME_KEY);
+        for (JsonElement segment : decodedHandle.path()) {
+            if (segment.getAsJsonPrimitive().isString()) {
+                String fieldName = segment.getAsString();
+                shape = shape.fields().stream()
+                        .filter(field -> field.name().equals(fieldName))
+                        .map(MappingPortCache.FieldShape::shape)
+                        .findFirst()
+                        .orElseThrow(() -> TreeHandles.expired(handle));
+                id = id + "." + fieldName;
+                name = fieldName;
+                path = path.field(fieldName);
+            } else {
+                shape = shape.member();
+                if (shape == null) {
+                    throw TreeHandles.expired(handle);
+                }
+                name = null;
+                path = path.member();
+            }
+        }
+        MappingPort port = getMappingPort(id, name, shape, depth == null ? Integer.MAX_VALUE : depth, path);
+        if (port == null) {
+            throw TreeHandles.expired(handle);
+        }
+        return PORT_GSON.toJsonTree(port);
+    }
+
+    /**
+     * The path of a port from the input or output port it belongs to, which is encoded in the handle of a collapsed
+     * port. The fields are identified by their names, and the member of an array by {@link #MEMBER_SEGMENT}.
+     *
+     * @param rootKey the key of the shape of the input or output port, along with its id and name
+     * @param parent  the path of the parent port, or null for the input or output port
+     * @param segment the segment of the port in its parent
+     */
+    private record PortPath(JsonObject rootKey, PortPath parent, JsonElement segment) {
+
+        static final String KIND_KEY = "kind";
+        static final String NAME_KEY = "name";
+        static final String SIGNATURE_KEY = "signature";
+        static final String PORT_ID_KEY = "id";
+        static final String PORT_NAME_KEY = "port";
+        static final JsonPrimitive MEMBER_SEGMENT = new JsonPrimitive(0);
+
+        /**
+         * Returns the path of an input or output port, or null if its shape is not cached under the given key.
+         */
+        static PortPath root(MappingPortCache.Key key, String id, String name) {
+            if (key == null) {
+                return null;
+            }
+            JsonObject rootKey = new JsonObject();
+            rootKey.addProperty(KIND_KEY, key.kind().name());
+            if (key.name() != null) {
+                rootKey.addProperty(NAME_KEY, key.name());
+            }
+            rootKey.addProperty(SIGNATURE_KEY, key.signature());
+            rootKey.addProperty(PORT_ID_KEY, id);
+            rootKey.addProperty(PORT_NAME_KEY, name);
+            return new PortPath(rootKey, null, null);
+        }
+
+        PortPath field(String fieldName) {
+            return new PortPath(rootKey, this, new JsonPrimitive(fieldName));
+        }
+
+        PortPath member() {
+            return new PortPath(rootKey, this, MEMBER_SEGMENT);
+        }
+
+        String handle() {
+            Deque<JsonElement> segments = new ArrayDeque<>();
+            for (PortPath path = this; path.parent != null; path = path.parent) {
+                segments.addFirst(path.segment);
+            }
+            JsonArray pathArray = new JsonArray();
+            segments.forEach(pathArray::add);
+            return TreeHandles.encode(rootKey, pathArray);
         }
     }
 
@@ -755,11 +896,13 @@ public class DataMapManager {
         }
     }
 
-    public String getQuery(JsonElement fNode, String targetField, Path filePath, LinePosition position,
-                           Project project) {
+    public String getQuery(JsonElement fNode, String targetField, Path filePath, LinePosition position) {
         FlowNode flowNode = gson.fromJson(fNode, FlowNode.class);
-        SourceModification modification = applyNode(flowNode, project, filePath, position);
+        return applyNode(flowNode, filePath, position,
+                modification -> getQuery(flowNode, modification, targetField));
+    }
 
+    private String getQuery(FlowNode flowNode, SourceModification modification, String targetField) {
         TargetNode targetNode = getTargetNode(modification.stNode(), targetField, flowNode.codedata().node(), null,
                 modification.semanticModel());
         if (targetNode == null) {
@@ -791,7 +934,8 @@ public class DataMapManager {
         return expr.replace(targetNode.expressionNode().toSourceCode(), query);
     }
 
-    private SourceModification applyNode(FlowNode flowNode, Project project, Path filePath, LinePosition position) {
+    private <R> R applyNode(FlowNode flowNode, Path filePath, LinePosition position,
+                            Function<SourceModification, R> action) {
         SourceBuilder sourceBuilder = new SourceBuilder(flowNode, this.workspaceManager, filePath);
         String source = NodeBuilder.getNodeFromKind(flowNode.codedata().node())
                 .toSource(sourceBuilder).entrySet().stream().iterator().next().getValue().get(0).getNewText();
@@ -801,24 +945,20 @@ public class DataMapManager {
                 io.ballerina.tools.text.TextEdit.from(TextRange.from(startTextPosition,
                         0), source);
         io.ballerina.tools.text.TextEdit[] textEdits = {textEdit};
-        TextDocument modifiedTextDoc = textDocument.apply(TextDocumentChange.from(textEdits));
-        Document modifiedDoc =
-                project.duplicate().currentPackage().module(document.module().moduleId())
-                        .document(document.documentId()).modify().withContent(String.join(System.lineSeparator(),
-                                modifiedTextDoc.textLines())).apply();
-
-        SemanticModel newSemanticModel = modifiedDoc.module().packageInstance().getCompilation()
-                .getSemanticModel(modifiedDoc.module().moduleId());
-        LinePosition startLine = modifiedTextDoc.linePositionFrom(startTextPosition);
-        LinePosition endLine = modifiedTextDoc.linePositionFrom(startTextPosition + source.length());
-        Range range = new Range(new Position(startLine.line(), startLine.offset()),
-                new Position(endLine.line(), endLine.offset()));
-        NonTerminalNode stNode = CommonUtil.findNode(range, modifiedDoc.syntaxTree());
-
-        return new SourceModification(source, modifiedDoc, newSemanticModel, stNode);
+        return SpeculativeEdits.getInstance().apply(document, TextDocumentChange.from(textEdits), modifiedDoc -> {
+            TextDocument modifiedTextDoc = modifiedDoc.textDocument();
+            SemanticModel newSemanticModel = modifiedDoc.module().packageInstance().getCompilation()
+                    .getSemanticModel(modifiedDoc.module().moduleId());
+            LinePosition startLine = modifiedTextDoc.linePositionFrom(startTextPosition);
+            LinePosition endLine = modifiedTextDoc.linePositionFrom(startTextPosition + source.length());
+            Range range = new Range(new Position(startLine.line(), startLine.offset()),
+                    new Position(endLine.line(), endLine.offset()));
+            NonTerminalNode stNode = CommonUtil.findNode(range, modifiedDoc.syntaxTree());
+            return action.apply(new SourceModification(source, modifiedDoc, newSemanticModel, stNode));
+        });
     }
 
-    private SourceModification applyConnection(FlowNode flowNode, Project project, Path filePath) {
+    private <R> R applyConnection(FlowNode flowNode, Path filePath, Function<SourceModification, R> action) {
         SourceBuilder sourceBuilder = new SourceBuilder(flowNode, this.workspaceManager, filePath);
         Path connectionPath = workspaceManager.projectRoot(filePath).resolve("connections.bal");
         List<TextEdit> connectionTextEdits =
@@ -838,20 +978,16 @@ public class DataMapManager {
                             endTextPosition - startTextPosition), connectionTextEdit.getNewText());
             textEdits[i] = textEdit;
         }
-        TextDocument modifiedTextDoc = textDocument.apply(TextDocumentChange.from(textEdits));
-        Document modifiedDoc =
-                project.duplicate().currentPackage().module(document.module().moduleId())
-                        .document(document.documentId()).modify().withContent(String.join(System.lineSeparator(),
-                                modifiedTextDoc.textLines())).apply();
-
         Optional<Property> optVariable = flowNode.getProperty("variable");
         if (optVariable.isEmpty()) {
             throw new IllegalStateException("Variable cannot be found for the connection");
         }
-        SemanticModel newSemanticModel = modifiedDoc.module().packageInstance().getCompilation()
-                .getSemanticModel(modifiedDoc.module().moduleId());
-        return new SourceModification("", modifiedDoc, newSemanticModel, connectionNode(modifiedDoc,
-                optVariable.get().toSourceCode()));
+        return SpeculativeEdits.getInstance().apply(document, TextDocumentChange.from(textEdits), modifiedDoc -> {
+            SemanticModel newSemanticModel = modifiedDoc.module().packageInstance().getCompilation()
+                    .getSemanticModel(modifiedDoc.module().moduleId());
+            return action.apply(new SourceModification("", modifiedDoc, newSemanticModel,
+                    connectionNode(modifiedDoc, optVariable.get().toSourceCode())));
+        });
     }
 
     private Node connectionNode(Document document, String connectionName) {
@@ -894,62 +1030,73 @@ public class DataMapManager {
         return sb.toString();
     }
 
-    public JsonElement getVisualizableProperties(JsonElement node, Project project, Path filePath,
-                                                 LinePosition position) {
+    public JsonElement getVisualizableProperties(JsonElement node, Path filePath, LinePosition position) {
         FlowNode flowNode = gson.fromJson(node, FlowNode.class);
-        List<String> visualizableProperties = new ArrayList<>();
+        List<String> visualizableProperties = List.of();
         NodeKind nodeKind = flowNode.codedata().node();
         if (nodeKind == NodeKind.VARIABLE) {
-            SourceModification sourceModification = applyNode(flowNode, project, filePath, position);
-            Node stNode = sourceModification.stNode();
-            if (stNode.kind() != SyntaxKind.LOCAL_VAR_DECL) {
-                throw new IllegalStateException("Node is not a variable declaration");
-            }
-            Optional<Symbol> optVarSymbol = sourceModification.semanticModel().symbol(stNode);
-            if (optVarSymbol.isEmpty()) {
-                throw new IllegalStateException("Symbol cannot be found for the variable declaration");
-            }
-            VariableSymbol variableSymbol = (VariableSymbol) optVarSymbol.get();
-            if (isEffectiveRecordType(variableSymbol.typeDescriptor())) {
-                visualizableProperties.add("expression");
-            }
+            visualizableProperties = applyNode(flowNode, filePath, position,
+                    this::getVisualizableVariableProperties);
         } else if (nodeKind == NodeKind.NEW_CONNECTION) {
-            SourceModification sourceModification = applyConnection(flowNode, project, filePath);
-            Optional<Property> optVariable = flowNode.getProperty("variable");
-            if (optVariable.isEmpty()) {
-                throw new IllegalStateException("Variable cannot be found for the connection");
-            }
-            List<Symbol> symbols = sourceModification.semanticModel().moduleSymbols();
-            String variableName = optVariable.get().toSourceCode();
-            Optional<Symbol> optVariableSymbol = symbols.parallelStream()
-                    .filter(symbol -> symbol.getName().isPresent() && symbol.getName().get().equals(variableName))
-                    .findAny();
-            if (optVariableSymbol.isEmpty()) {
-                throw new IllegalStateException("Symbol cannot be found for the connection variable");
-            }
+            visualizableProperties = applyConnection(flowNode, filePath,
+                    modification -> getVisualizableConnectionProperties(flowNode, modification));
+        }
+        return gson.toJsonTree(visualizableProperties);
+    }
 
-            VariableSymbol variableSymbol = (VariableSymbol) optVariableSymbol.get();
-            TypeSymbol typeSymbol = CommonUtils.getRawType(variableSymbol.typeDescriptor());
-            if (typeSymbol.kind() != SymbolKind.CLASS) {
-                throw new IllegalStateException("Connection symbol is not a class symbol");
-            }
-            ClassSymbol classSymbol = (ClassSymbol) typeSymbol;
-            Optional<MethodSymbol> optInitMethodSymbol = classSymbol.initMethod();
-            if (optInitMethodSymbol.isEmpty()) {
-                throw new IllegalStateException("Init method cannot be found for the connection class");
-            }
-            MethodSymbol initMethodSymbol = optInitMethodSymbol.get();
-            Optional<List<ParameterSymbol>> optParams = initMethodSymbol.typeDescriptor().params();
-            if (optParams.isPresent()) {
-                List<ParameterSymbol> params = optParams.get();
-                for (ParameterSymbol param : params) {
-                    if (isEffectiveRecordType(param.typeDescriptor())) {
-                        visualizableProperties.add(param.getName().get());
-                    }
+    private List<String> getVisualizableVariableProperties(SourceModification sourceModification) {
+        Node stNode = sourceModification.stNode();
+        if (stNode.kind() != SyntaxKind.LOCAL_VAR_DECL) {
+            throw new IllegalStateException("Node is not a variable declaration");
+        }
+        Optional<Symbol> optVarSymbol = sourceModification.semanticModel().symbol(stNode);
+        if (optVarSymbol.isEmpty()) {
+            throw new IllegalStateException("Symbol cannot be found for the variable declaration");
+        }
+        VariableSymbol variableSymbol = (VariableSymbol) optVarSymbol.get();
+        if (isEffectiveRecordType(variableSymbol.typeDescriptor())) {
+            return List.of("expression");
+        }
+        return List.of();
+    }
+
+    private List<String> getVisualizableConnectionProperties(FlowNode flowNode,
+                                                             SourceModification sourceModification) {
+        List<String> visualizableProperties = new ArrayList<>();
+        Optional<Property> optVariable = flowNode.getProperty("variable");
+        if (optVariable.isEmpty()) {
+            throw new IllegalStateException("Variable cannot be found for the connection");
+        }
+        List<Symbol> symbols = sourceModification.semanticModel().moduleSymbols();
+        String variableName = optVariable.get().toSourceCode();
+        Optional<Symbol> optVariableSymbol = symbols.parallelStream()
+                .filter(symbol -> symbol.getName().isPresent() && symbol.getName().get().equals(variableName))
+                .findAny();
+        if (optVariableSymbol.isEmpty()) {
+            throw new IllegalStateException("Symbol cannot be found for the connection variable");
+        }
+
+        VariableSymbol variableSymbol = (VariableSymbol) optVariableSymbol.get();
+        TypeSymbol typeSymbol = CommonUtils.getRawType(variableSymbol.typeDescriptor());
+        if (typeSymbol.kind() != SymbolKind.CLASS) {
+            throw new IllegalStateException("Connection symbol is not a class symbol");
+        }
+        ClassSymbol classSymbol = (ClassSymbol) typeSymbol;
+        Optional<MethodSymbol> optInitMethodSymbol = classSymbol.initMethod();
+        if (optInitMethodSymbol.isEmpty()) {
+            throw new IllegalStateException("Init method cannot be found for the connection class");
+        }
+        MethodSymbol initMethodSymbol = optInitMethodSymbol.get();
+        Optional<List<ParameterSymbol>> optParams = initMethodSymbol.typeDescriptor().params();
+        if (optParams.isPresent()) {
+            List<ParameterSymbol> params = optParams.get();
+            for (ParameterSymbol param : params) {
+                if (isEffectiveRecordType(param.typeDescriptor())) {
+                    visualizableProperties.add(param.getName().get());
                 }
             }
         }
-        return gson.toJsonTree(visualizableProperties);
+        return visualizableProperties;
     }
 
     private boolean isEffectiveRecordType(TypeSymbol typeSymbol) {
@@ -961,7 +1108,7 @@ public class DataMapManager {
         return kind == TypeDescKind.RECORD;
     }
 
-    public String addElement(JsonElement node, String propertyKey, Path filePath, String targetField, Project project,
+    public String addElement(JsonElement node, String propertyKey, Path filePath, String targetField,
                              LinePosition position) {
         FlowNode flowNode = gson.fromJson(node, FlowNode.class);
         if (flowNode.codedata().node() != NodeKind.VARIABLE) {
@@ -973,8 +1120,11 @@ public class DataMapManager {
         }
         Property property = optProperty.get();
         String source = property.toSourceCode();
+        return applyNode(flowNode, filePath, position,
+                sourceModification -> addElement(sourceModification, source, targetField));
+    }
 
-        SourceModification sourceModification = applyNode(flowNode, project, filePath, position);
+    private String addElement(SourceModification sourceModification, String source, String targetField) {
         Node stNode = sourceModification.stNode();
         if (stNode.kind() != SyntaxKind.LOCAL_VAR_DECL) {
             return "";
@@ -1008,8 +1158,8 @@ public class DataMapManager {
             defaultVal = ", " + defaultVal;
         }
         int pos = listCtrExpr.closeBracket().position() - initializer.position();
-        source = initializer.toSourceCode();
-        return source.substring(0, pos) + defaultVal + source.substring(pos);
+        String initializerSource = initializer.toSourceCode();
+        return initializerSource.substring(0, pos) + defaultVal + initializerSource.substring(pos);
     }
 
     private ExpressionNode getArrayExpr(String targetField, ExpressionNode expr) {
@@ -1095,6 +1245,7 @@ public class DataMapManager {
         String typeName;
         String kind;
         String category;
+        String handle;
 
         MappingPort(String id, String variableName, String typeName, String kind) {
             this.id = id;
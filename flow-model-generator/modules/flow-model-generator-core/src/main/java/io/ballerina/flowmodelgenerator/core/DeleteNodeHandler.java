@@ -33,7 +33,6 @@ import io.ballerina.flowmodelgenerator.core.model.FlowNode;
 import io.ballerina.flowmodelgenerator.core.utils.CommonUtils;
 import io.ballerina.projects.DiagnosticResult;
 import io.ballerina.projects.Document;
-import io.ballerina.projects.Project;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
@@ -69,30 +68,38 @@ public class DeleteNodeHandler {
     }
 
     @Deprecated
-    public JsonElement getTextEditsToDeletedNode(Document document, Project project) {
+    public JsonElement getTextEditsToDeletedNode(Document document) {
         LineRange lineRange = nodeToDelete.codedata().lineRange();
-        return getTextEditsToDeletedNode(lineRange, filePath, document, project);
+        return getTextEditsToDeletedNode(lineRange, filePath, document);
     }
 
-    public static JsonElement getTextEditsToDeletedNode(JsonElement node, Path filePath,
-                                                        Document document, Project project) {
-        return getTextEditsToDeletedNode(getNodeLineRange(node), filePath, document, project);
+    public static JsonElement getTextEditsToDeletedNode(JsonElement node, Path filePath, Document document) {
+        return getTextEditsToDeletedNode(getNodeLineRange(node), filePath, document);
     }
 
-    private static JsonElement getTextEditsToDeletedNode(LineRange lineRange, Path filePath,
-                                                         Document document, Project project) {
+    private static JsonElement getTextEditsToDeletedNode(LineRange lineRange, Path filePath, Document document) {
         TextDocument textDocument = document.textDocument();
         int startTextPosition = textDocument.textPositionFrom(lineRange.startLine());
         int endTextPosition = textDocument.textPositionFrom(lineRange.endLine());
 
         io.ballerina.tools.text.TextEdit te = io.ballerina.tools.text.TextEdit.from(TextRange.from(startTextPosition,
                 endTextPosition - startTextPosition), "");
-        TextDocument apply = textDocument
-                .apply(TextDocumentChange.from(List.of(te).toArray(new io.ballerina.tools.text.TextEdit[0])));
-        Document modifiedDoc =
-                project.duplicate().currentPackage().module(document.module().moduleId())
-                        .document(document.documentId()).modify().withContent(String.join(System.lineSeparator(),
-                                apply.textLines())).apply();
+        List<TextEdit> textEdits = SpeculativeEdits.getInstance().apply(document,
+                TextDocumentChange.from(List.of(te).toArray(new io.ballerina.tools.text.TextEdit[0])),
+                DeleteNodeHandler::getUnusedImportEdits);
+
+        LineRange nodeRangeToDelete = checkElseToDelete(document, startTextPosition, endTextPosition);
+        if (nodeRangeToDelete == null) {
+            nodeRangeToDelete = lineRange;
+        }
+        TextEdit textEdit = new TextEdit(CommonUtils.toRange(nodeRangeToDelete), "");
+        textEdits.add(textEdit);
+        Map<Path, List<TextEdit>> textEditsMap = new HashMap<>();
+        textEditsMap.put(filePath, textEdits);
+        return gson.toJsonTree(textEditsMap);
+    }
+
+    private static List<TextEdit> getUnusedImportEdits(Document modifiedDoc) {
         ModulePartNode modulePartNode = modifiedDoc.syntaxTree().rootNode();
         NodeList<ImportDeclarationNode> imports = modulePartNode.imports();
 
@@ -107,16 +114,7 @@ public class DeleteNodeHandler {
                 textEdits.add(deleteImportTextEdit);
             }
         }
-
-        LineRange nodeRangeToDelete = checkElseToDelete(document, startTextPosition, endTextPosition);
-        if (nodeRangeToDelete == null) {
-            nodeRangeToDelete = lineRange;
-        }
-        TextEdit textEdit = new TextEdit(CommonUtils.toRange(nodeRangeToDelete), "");
-        textEdits.add(textEdit);
-        Map<Path, List<TextEdit>> textEditsMap = new HashMap<>();
-        textEditsMap.put(filePath, textEdits);
-        return gson.toJsonTree(textEditsMap);
+        return textEdits;
     }
 
     private static LineRange getNodeLineRange(JsonElement node) {
@@ -0,0 +1,339 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the last flow model sent to each client for a given canvas, so that a client which still holds that version
+ * can be sent a structural diff of the flow model instead of the entire flow model. A canvas is identified by its file
+ * and start position, since the end of the canvas moves with every edit made within it.
+ *
+ * <p>
+ * The diff is a JSON array of operations in the spirit of JSON Patch, where the path segments of the nodes and
+ * branches are their keys and labels rather than their indices. The key of a node is its {@code codedata.node} kind
+ * followed by its ordinal among the nodes of the same kind in the list, e.g. {@code VARIABLE:2}. The ids of the nodes
+ * are not used, as they are derived from their positions, which change whenever a line is added above them. Each
+ * operation has an {@code op}, which is one of {@code add}, {@code remove} or {@code replace}, and a {@code path},
+ * e.g. {@code /nodes/<key>/properties/<name>} or {@code /nodes/<key>/branches/<label>/children/<key>}. The
+ * {@code add} and {@code replace} operations carry the new {@code value}, and the {@code add} operations of a node
+ * also carry the {@code index} of the node in the new list. The operations on the nodes of a list are ordered such
+ * that the removals come first in descending order of their positions, followed by the additions and the changes to
+ * the retained nodes in ascending order of their indices in the new list, and the nodes are never reordered. Hence,
+ * the key in each path resolves against the list as it stands after applying the preceding operations.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class FlowModelVersions {
+
+    private static final int MAX_VERSIONS = 32;
+    private static final String NODES_KEY = "nodes";
+    private static final String CONNECTIONS_KEY = "connections";
+    private static final String BRANCHES_KEY = "branches";
+    private static final String PROPERTIES_KEY = "properties";
+    private static final String CHILDREN_KEY = "children";
+    private static final String CODEDATA_KEY = "codedata";
+    private static final String NODE_KIND_KEY = "node";
+    private static final String LABEL_KEY = "label";
+
+    private final Map<Key, Version> versions;
+    private final AtomicLong versionCounter;
+
+    private static final class Holder {
+
+        private static final FlowModelVersions INSTANCE = new FlowModelVersions();
+    }
+
+    private FlowModelVersions() {
+        this.versions = Collections.synchronizedMap(new LinkedHashMap<>(MAX_VERSIONS, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Version> eldest) {
+                return size() > MAX_VERSIONS;
+            }
+        });
+        this.versionCounter = new AtomicLong();
+    }
+
+    public static FlowModelVersions getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Records the given flow model as the latest version sent to the client for the canvas, and computes the diff
+     * from the version held by the client.
+     *
+     * @param clientId      the id of the client
+     * @param lineRange     the line range of the canvas, including the file name
+     * @param flowModel     the flow model to send to the client
+     * @param clientVersion the version of the flow model held by the client, or null if it does not hold any
+     * @return the new version, with the diff if the version of the client is known, otherwise with the flow model
+     */
+    public Delta update(String clientId, LineRange lineRange, JsonObject flowModel, String clientVersion) {
+        Key key = new Key(clientId, lineRange.fileName(), lineRange.startLine());
+        Version previous = versions.get(key);
+        String version = Long.toString(versionCounter.incrementAndGet());
+        versions.put(key, new Version(version, flowModel));
+
+        if (previous == null || !previous.id().equals(clientVersion)) {
+            return new Delta(version, flowModel, null);
+        }
+        JsonArray patch = new JsonArray();
+        diffMember(previous.flowModel(), flowModel, "fileName", "", patch);
+        diffNodes(previous.flowModel().get(NODES_KEY), flowModel.get(NODES_KEY), "/" + NODES_KEY, patch);
+        diffNodes(previous.flowModel().get(CONNECTIONS_KEY), flowModel.get(CONNECTIONS_KEY), "/" + CONNECTIONS_KEY,
+                patch);
+        return new Delta(version, null, patch);
+    }
+
+    private static void diffNodes(JsonElement oldElement, JsonElement newElement, String path, JsonArray patch) {
+        if (Objects.equals(oldElement, newElement)) {
+            return;
+        }
+        Map<String, JsonObject> oldNodes = getNodesByKey(oldElement);
+        Map<String, JsonObject> newNodes = getNodesByKey(newElement);
+        if (oldNodes == null || newNodes == null || !isOrderRetained(oldNodes, newNodes)) {
+            addMemberChange(patch, path, newElement);
+            return;
+        }
+
+        List<String> oldKeys = new ArrayList<>(oldNodes.keySet());
+        for (int i = oldKeys.size() - 1; i >= 0; i--) {
+            if (!newNodes.containsKey(oldKeys.get(i))) {
+                addRemove(patch, path + "/" + escape(oldKeys.get(i)));
+            }
+        }
+        int index = 0;
+        for (Map.Entry<String, JsonObject> entry : newNodes.entrySet()) {
+            String nodePath = path + "/" + escape(entry.getKey());
+            JsonObject oldNode = oldNodes.get(entry.getKey());
+            if (oldNode == null) {
+                JsonObject operation = new JsonObject();
+                operation.addProperty("op", "add");
+                operation.addProperty("path", nodePath);
+                operation.addProperty("index", index);
+                operation.add("value", entry.getValue());
+                patch.add(operation);
+            } else {
+                diffNode(oldNode, entry.getValue(), nodePath, patch);
+            }
+            index++;
+        }
+    }
+
+    private static void diffNode(JsonObject oldNode, JsonObject newNode, String path, JsonArray patch) {
+        if (oldNode.equals(newNode)) {
+            return;
+        }
+        for (String member : getMemberNames(oldNode, newNode)) {
+            switch (member) {
+                case PROPERTIES_KEY -> diffProperties(oldNode.get(member), newNode.get(member), path, patch);
+                case BRANCHES_KEY -> diffBranches(oldNode.get(member), newNode.get(member), path, patch);
+                default -> diffMember(oldNode, newNode, member, path, patch);
+            }
+        }
+    }
+
+    private static void diffBranches(JsonElement oldElement, JsonElement newElement, String nodePath,
+                                     JsonArray patch) {
+        if (Objects.equals(oldElement, newElement)) {
+            return;
+        }
+        String path = nodePath + "/" + BRANCHES_KEY;
+        List<String> oldLabels = getBranchLabels(oldElement);
+        if (oldLabels == null || !oldLabels.equals(getBranchLabels(newElement))) {
+            addMemberChange(patch, path, newElement);
+            return;
+        }
+
+        JsonArray oldBranches = oldElement.getAsJsonArray();
+        JsonArray newBranches = newElement.getAsJsonArray();
+        for (int i = 0; i < oldBranches.size(); i++) {
+            JsonObject oldBranch = oldBranches.get(i).getAsJsonObject();
+            JsonObject newBranch = newBranches.get(i).getAsJsonObject();
+            if (oldBranch.equals(newBranch)) {
+                continue;
+            }
+            String branchPath = path + "/" + escape(oldLabels.get(i));
+            for (String member : getMemberNames(oldBranch, newBranch)) {
+                switch (member) {
+                    case PROPERTIES_KEY ->
+                            diffProperties(oldBranch.get(member), newBranch.get(member), branchPath, patch);
+                    case CHILDREN_KEY -> diffNodes(oldBranch.get(member), newBranch.get(member),
+                            branchPath + "/" + CHILDREN_KEY, patch);
+                    default -> diffMember(oldBranch, newBranch, member, branchPath, patch);
+                }
+            }
+        }
+    }
+
+    private static void diffProperties(JsonElement oldElement, JsonElement newElement, String parentPath,
+                                       JsonArray patch) {
+        if (Objects.equals(oldElement, newElement)) {
+            return;
+        }
+        String path = parentPath + "/" + PROPERTIES_KEY;
+        if (oldElement == null || newElement == null || !oldElement.isJsonObject() || !newElement.isJsonObject()) {
+            addMemberChange(patch, path, newElement);
+            return;
+        }
+        JsonObject oldProperties = oldElement.getAsJsonObject();
+        JsonObject newProperties = newElement.getAsJsonObject();
+        for (String key : getMemberNames(oldProperties, newProperties)) {
+            diffMember(oldProperties, newProperties, key, path, patch);
+        }
+    }
+
+    private static void diffMember(JsonObject oldObject, JsonObject newObject, String member, String parentPath,
+                                   JsonArray patch) {
+        JsonElement newValue = newObject.get(member);
+        if (!Objects.equals(oldObject.get(member), newValue)) {
+            addMemberChange(patch, parentPath + "/" + escape(member), newValue);
+        }
+    }
+
+    private static void addMemberChange(JsonArray patch, String path, JsonElement newValue) {
+        if (newValue == null) {
+            addRemove(patch, path);
+        } else {
+            addReplace(patch, path, newValue);
+        }
+    }
+
+    private static void addReplace(JsonArray patch, String path, JsonElement value) {
+        JsonObject operation = new JsonObject();
+        operation.addProperty("op", "replace");
+        operation.addProperty("path", path);
+        operation.add("value", value);
+        patch.add(operation);
+    }
+
+    private static void addRemove(JsonArray patch, String path) {
+        JsonObject operation = new JsonObject();
+        operation.addProperty("op", "remove");
+        operation.addProperty("path", path);
+        patch.add(operation);
+    }
+
+    /**
+     * Returns the nodes of the given list by their kinds and ordinals among the nodes of the same kind, or null if the
+     * kind of a node is not known.
+     */
+    private static Map<String, JsonObject> getNodesByKey(JsonElement element) {
+        if (element == null || !element.isJsonArray()) {
+            return null;
+        }
+        Map<String, JsonObject> nodes = new LinkedHashMap<>();
+        Map<String, Integer> ordinals = new HashMap<>();
+        for (JsonElement node : element.getAsJsonArray()) {
+            if (!node.isJsonObject()) {
+                return null;
+            }
+            JsonElement codedata = node.getAsJsonObject().get(CODEDATA_KEY);
+            if (codedata == null || !codedata.isJsonObject()) {
+                return null;
+            }
+            JsonElement kind = codedata.getAsJsonObject().get(NODE_KIND_KEY);
+            if (kind == null || !kind.isJsonPrimitive()) {
+                return null;
+            }
+            int ordinal = ordinals.merge(kind.getAsString(), 1, Integer::sum) - 1;
+            nodes.put(kind.getAsString() + ":" + ordinal, node.getAsJsonObject());
+        }
+        return nodes;
+    }
+
+    /**
+     * Returns the labels of the given branches, or null if a branch does not have a unique label.
+     */
+    private static List<String> getBranchLabels(JsonElement element) {
+        if (element == null || !element.isJsonArray()) {
+            return null;
+        }
+        List<String> labels = new ArrayList<>();
+        Set<String> uniqueLabels = new HashSet<>();
+        for (JsonElement branch : element.getAsJsonArray()) {
+            if (!branch.isJsonObject()) {
+                return null;
+            }
+            JsonElement label = branch.getAsJsonObject().get(LABEL_KEY);
+            if (label == null || !label.isJsonPrimitive() || !uniqueLabels.add(label.getAsString())) {
+                return null;
+            }
+            labels.add(label.getAsString());
+        }
+        return labels;
+    }
+
+    /**
+     * Checks whether the nodes which exist in both lists are in the same relative order, in which case the new list
+     * can be obtained by removals and additions alone.
+     */
+    private static boolean isOrderRetained(Map<String, JsonObject> oldNodes, Map<String, JsonObject> newNodes) {
+        List<String> retainedOldKeys = oldNodes.keySet().stream().filter(newNodes::containsKey).toList();
+        List<String> retainedNewKeys = newNodes.keySet().stream().filter(oldNodes::containsKey).toList();
+        return retainedOldKeys.equals(retainedNewKeys);
+    }
+
+    private static Set<String> getMemberNames(JsonObject oldObject, JsonObject newObject) {
+        Set<String> memberNames = new LinkedHashSet<>(oldObject.keySet());
+        memberNames.addAll(newObject.keySet());
+        return memberNames;
+    }
+
+    private static String escape(String segment) {
+        return segment.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * Represents the response to a versioned flow model request.
+     *
+     * @param version   the version of the flow model
+     * @param flowModel the entire flow model, if the version of the client is not known
+     * @param patch     the diff from the version of the client, if the version of the client is known
+     * @since 2.0.0
+     */
+    public record Delta(String version, JsonObject flowModel, JsonArray patch) {
+
+    }
+
+    private record Key(String clientId, String fileName, LinePosition canvasStart) {
+
+    }
+
+    private record Version(String id, JsonObject flowModel) {
+
+    }
+}
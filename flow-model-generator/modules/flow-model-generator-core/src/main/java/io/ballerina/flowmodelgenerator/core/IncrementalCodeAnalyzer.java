@@ -0,0 +1,472 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.CommentNode;
+import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.flowmodelgenerator.core.model.Branch;
+import io.ballerina.flowmodelgenerator.core.model.Codedata;
+import io.ballerina.flowmodelgenerator.core.model.FlowNode;
+import io.ballerina.flowmodelgenerator.core.model.ModuleInfo;
+import io.ballerina.flowmodelgenerator.core.model.Property;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Code analyzer which reuses the flow nodes generated for the statements of a canvas in a previous request. Only the
+ * statements touched by an edit, and the statements transitively referring to identifiers used in the edited
+ * statements, are analyzed again. The nodes of the remaining statements are reused as they are, or moved to their new
+ * line ranges when the edit has shifted them.
+ *
+ * <p>
+ * A snapshot of the previous analysis is kept per canvas, identified by its file and starting position. It is only
+ * considered when the source outside the canvas body, the other documents of the package, and the data mapping
+ * functions are unchanged. Otherwise, the canvas is analyzed from scratch, and the snapshot is replaced. The snapshots
+ * are held per project instance, which is only weakly referenced, so that the snapshots of a project are released
+ * once the project is closed or reloaded by the workspace. The syntax trees of the other documents are also only
+ * weakly referenced, as a collected syntax tree can no longer be the current one.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class IncrementalCodeAnalyzer extends CodeAnalyzer {
+
+    private static final int MAX_CACHED_CANVASES = 32;
+    private static final Map<Project, Map<SnapshotKey, Snapshot>> SNAPSHOTS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Path filePath;
+    private final Project project;
+    private final SemanticModel semanticModel;
+    private final Document document;
+    private final Map<String, LineRange> dataMappings;
+    private final NonTerminalNode canvasNode;
+
+    public IncrementalCodeAnalyzer(Path filePath, Project project, SemanticModel semanticModel,
+                                   String connectionScope, Map<String, LineRange> dataMappings, Document document,
+                                   NonTerminalNode canvasNode, boolean forceAssign) {
+        super(project, semanticModel, connectionScope, dataMappings, document.textDocument(),
+                ModuleInfo.from(document.module().descriptor()), forceAssign);
+        this.filePath = filePath;
+        this.project = project;
+        this.semanticModel = semanticModel;
+        this.document = document;
+        this.dataMappings = dataMappings;
+        this.canvasNode = canvasNode;
+    }
+
+    @Override
+    public void visit(FunctionBodyBlockNode functionBodyBlockNode) {
+        // Only the body of the canvas is analyzed incrementally. Anonymous functions and the functions with workers
+        // are analyzed as usual.
+        if (!(canvasNode instanceof FunctionDefinitionNode functionDefinitionNode) ||
+                functionDefinitionNode.functionBody() != functionBodyBlockNode ||
+                functionBodyBlockNode.namedWorkerDeclarator().isPresent()) {
+            super.visit(functionBodyBlockNode);
+            return;
+        }
+
+        String sourceCode = document.syntaxTree().toSourceCode();
+        String prefix = sourceCode.substring(0, functionBodyBlockNode.openBraceToken().textRange().endOffset());
+        String suffix = sourceCode.substring(functionBodyBlockNode.closeBraceToken().textRange().startOffset());
+        int closeBraceLine = functionBodyBlockNode.closeBraceToken().lineRange().startLine().line();
+        List<SyntaxTree> packageSyntaxTrees = getPackageSyntaxTrees();
+
+        Map<SnapshotKey, Snapshot> projectSnapshots = SNAPSHOTS.computeIfAbsent(project,
+                key -> Collections.synchronizedMap(new LinkedHashMap<>(MAX_CACHED_CANVASES, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<SnapshotKey, Snapshot> eldest) {
+                        return size() > MAX_CACHED_CANVASES;
+                    }
+                }));
+        SnapshotKey snapshotKey = new SnapshotKey(filePath, canvasNode.lineRange().startLine());
+        Snapshot snapshot = projectSnapshots.get(snapshotKey);
+        if (snapshot != null && !snapshot.isApplicable(prefix, suffix, packageSyntaxTrees, dataMappings)) {
+            snapshot = null;
+        }
+
+        // Create the entries for the current statements
+        List<Diagnostic> errorDiagnostics = semanticModel.diagnostics().stream()
+                .filter(diagnostic -> diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR)
+                .toList();
+        List<Node> statementsWithComments = new ArrayList<>();
+        functionBodyBlockNode.statementsWithComments().forEach(statementsWithComments::add);
+        List<StatementEntry> entries = new ArrayList<>();
+        for (Node statementOrComment : statementsWithComments) {
+            if (statementOrComment instanceof CommentNode) {
+                continue;
+            }
+            entries.add(new StatementEntry(statementOrComment.toSourceCode(), statementOrComment.lineRange(),
+                    getDiagnosticFingerprint(statementOrComment.lineRange(), errorDiagnostics),
+                    getIdentifiers(statementOrComment), List.of()));
+        }
+
+        // Find the statements that can be reused from the previous snapshot
+        Map<Integer, Reuse> reusableStatements = snapshot == null ? Map.of() :
+                findReusableStatements(snapshot, entries, closeBraceLine - snapshot.closeBraceLine());
+
+        // Analyze the statements which cannot be reused
+        List<FlowNode> flowNodes = getFlowNodes();
+        int statementIndex = 0;
+        for (Node statementOrComment : statementsWithComments) {
+            if (statementOrComment instanceof CommentNode) {
+                statementOrComment.accept(this);
+                continue;
+            }
+            int startIndex = flowNodes.size();
+            Reuse reuse = reusableStatements.get(statementIndex);
+            if (reuse == null) {
+                statementOrComment.accept(this);
+            } else {
+                for (FlowNode flowNode : reuse.entry().nodes()) {
+                    flowNodes.add(reuse.lineShift().isIdentity() ? flowNode : reuse.lineShift().apply(flowNode));
+                }
+            }
+            StatementEntry entry = entries.get(statementIndex);
+            entries.set(statementIndex++, new StatementEntry(entry.sourceCode(), entry.lineRange(),
+                    entry.diagnostics(), entry.identifiers(),
+                    List.copyOf(flowNodes.subList(startIndex, flowNodes.size()))));
+        }
+
+        projectSnapshots.put(snapshotKey, new Snapshot(prefix, suffix, closeBraceLine,
+                packageSyntaxTrees.stream().map(WeakReference::new).toList(), Map.copyOf(dataMappings),
+                List.copyOf(entries)));
+    }
+
+    /**
+     * Aligns the current statements with the statements of the snapshot. The statements before the first edited
+     * statement and after the last edited statement are reused when their source code, diagnostics, and starting
+     * column are unchanged. A statement after the edit is analyzed again if it refers to an identifier used in an
+     * edited statement, or in another statement analyzed again, as its semantic information may have changed.
+     */
+    private static Map<Integer, Reuse> findReusableStatements(Snapshot snapshot, List<StatementEntry> entries,
+                                                              int canvasLineDelta) {
+        List<StatementEntry> oldEntries = snapshot.statements();
+        int newSize = entries.size();
+        int oldSize = oldEntries.size();
+
+        int head = 0;
+        while (head < newSize && head < oldSize && entries.get(head).sourceCode()
+                .equals(oldEntries.get(head).sourceCode()) &&
+                entries.get(head).lineRange().equals(oldEntries.get(head).lineRange())) {
+            head++;
+        }
+        int tail = 0;
+        while (tail < newSize - head && tail < oldSize - head && entries.get(newSize - 1 - tail).sourceCode()
+                .equals(oldEntries.get(oldSize - 1 - tail).sourceCode())) {
+            tail++;
+        }
+
+        // Collect the identifiers of the edited statements, both before and after the edit
+        Set<String> editedIdentifiers = new HashSet<>();
+        for (int i = head; i < newSize - tail; i++) {
+            editedIdentifiers.addAll(entries.get(i).identifiers());
+        }
+        for (int i = head; i < oldSize - tail; i++) {
+            editedIdentifiers.addAll(oldEntries.get(i).identifiers());
+        }
+
+        // Extend the edited statements with the statements after the edit depending on them, until no more
+        // statements are affected
+        Set<Integer> affectedStatements = new HashSet<>();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = newSize - tail; i < newSize; i++) {
+                Set<String> identifiers = entries.get(i).identifiers();
+                if (!affectedStatements.contains(i) && !Collections.disjoint(identifiers, editedIdentifiers)) {
+                    affectedStatements.add(i);
+                    editedIdentifiers.addAll(identifiers);
+                    changed = true;
+                }
+            }
+        }
+        int oldCloseBraceLine = snapshot.closeBraceLine();
+
+        Map<Integer, Reuse> reusableStatements = new HashMap<>();
+        for (int i = 0; i < newSize; i++) {
+            StatementEntry entry = entries.get(i);
+            StatementEntry oldEntry;
+            if (i < head) {
+                oldEntry = oldEntries.get(i);
+            } else if (i >= newSize - tail && !affectedStatements.contains(i)) {
+                oldEntry = oldEntries.get(i - newSize + oldSize);
+            } else {
+                continue;
+            }
+
+            LinePosition startLine = entry.lineRange().startLine();
+            LinePosition oldStartLine = oldEntry.lineRange().startLine();
+            if (startLine.offset() != oldStartLine.offset() || !entry.diagnostics().equals(oldEntry.diagnostics())) {
+                continue;
+            }
+            reusableStatements.put(i, new Reuse(oldEntry,
+                    new LineShift(entry.lineRange().fileName(), oldEntry.lineRange(),
+                            startLine.line() - oldStartLine.line(), oldCloseBraceLine, canvasLineDelta)));
+        }
+        return reusableStatements;
+    }
+
+    private List<SyntaxTree> getPackageSyntaxTrees() {
+        List<SyntaxTree> syntaxTrees = new ArrayList<>();
+        DocumentId currentDocumentId = document.documentId();
+        for (Module module : project.currentPackage().modules()) {
+            for (DocumentId documentId : module.documentIds()) {
+                if (!documentId.equals(currentDocumentId)) {
+                    syntaxTrees.add(module.document(documentId).syntaxTree());
+                }
+            }
+        }
+        return syntaxTrees;
+    }
+
+    /**
+     * Returns the error diagnostics overlapping the given statement, relative to the starting line of the statement.
+     */
+    private static List<String> getDiagnosticFingerprint(LineRange lineRange, List<Diagnostic> diagnostics) {
+        int startLine = lineRange.startLine().line();
+        int endLine = lineRange.endLine().line();
+        List<String> fingerprint = new ArrayList<>();
+        for (Diagnostic diagnostic : diagnostics) {
+            LineRange diagnosticLineRange = diagnostic.location().lineRange();
+            if (!diagnosticLineRange.fileName().equals(lineRange.fileName()) ||
+                    diagnosticLineRange.endLine().line() < startLine ||
+                    diagnosticLineRange.startLine().line() > endLine) {
+                continue;
+            }
+            fingerprint.add((diagnosticLineRange.startLine().line() - startLine) + ":" +
+                    diagnosticLineRange.startLine().offset() + "-" +
+                    (diagnosticLineRange.endLine().line() - startLine) + ":" +
+                    diagnosticLineRange.endLine().offset() + " " + diagnostic.message());
+        }
+        return fingerprint;
+    }
+
+    private static Set<String> getIdentifiers(Node node) {
+        Set<String> identifiers = new HashSet<>();
+        collectIdentifiers(node, identifiers);
+        return identifiers;
+    }
+
+    private static void collectIdentifiers(Node node, Set<String> identifiers) {
+        if (node instanceof Token token) {
+            if (token.kind() == SyntaxKind.IDENTIFIER_TOKEN) {
+                identifiers.add(token.text());
+            }
+            return;
+        }
+        if (node instanceof NonTerminalNode nonTerminalNode) {
+            for (Node child : nonTerminalNode.children()) {
+                collectIdentifiers(child, identifiers);
+            }
+        }
+    }
+
+    /**
+     * Identifies a canvas across the requests. The end of the canvas moves with the edits of its body, and hence, only
+     * its start is considered.
+     *
+     * @param filePath    path of the file of the canvas
+     * @param canvasStart starting position of the canvas
+     */
+    private record SnapshotKey(Path filePath, LinePosition canvasStart) {
+    }
+
+    /**
+     * Represents the analysis of the canvas body generated for a previous request.
+     *
+     * @param prefix             source code of the document up to the open brace of the canvas body
+     * @param suffix             source code of the document from the close brace of the canvas body
+     * @param closeBraceLine     line of the close brace of the canvas body
+     * @param packageSyntaxTrees weak references to the syntax trees of the other documents in the package
+     * @param dataMappings       data mapping functions used for the analysis
+     * @param statements         entries for the statements of the canvas body
+     */
+    private record Snapshot(String prefix, String suffix, int closeBraceLine,
+                            List<WeakReference<SyntaxTree>> packageSyntaxTrees, Map<String, LineRange> dataMappings,
+                            List<StatementEntry> statements) {
+
+        boolean isApplicable(String prefix, String suffix, List<SyntaxTree> packageSyntaxTrees,
+                             Map<String, LineRange> dataMappings) {
+            if (!this.prefix.equals(prefix) || !this.suffix.equals(suffix) ||
+                    !this.dataMappings.equals(dataMappings) ||
+                    this.packageSyntaxTrees.size() != packageSyntaxTrees.size()) {
+                return false;
+            }
+            // Unchanged documents retain their syntax trees across the edits of the package
+            for (int i = 0; i < packageSyntaxTrees.size(); i++) {
+                if (this.packageSyntaxTrees.get(i).get() != packageSyntaxTrees.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Represents a statement of the canvas body and the flow nodes generated for it.
+     *
+     * @param sourceCode  source code of the statement including its minutiae
+     * @param lineRange   line range of the statement
+     * @param diagnostics error diagnostics of the statement relative to its starting line
+     * @param identifiers identifiers referred in the statement
+     * @param nodes       flow nodes generated for the statement
+     */
+    private record StatementEntry(String sourceCode, LineRange lineRange, List<String> diagnostics,
+                                  Set<String> identifiers, List<FlowNode> nodes) {
+    }
+
+    private record Reuse(StatementEntry entry, LineShift lineShift) {
+    }
+
+    /**
+     * Moves the line ranges of a reused flow node to their positions in the edited document. The positions within the
+     * statement are moved by the line delta of the statement, and the positions after the canvas body are moved by the
+     * line delta of the canvas. The identifiers of the nodes are derived from the moved line ranges.
+     *
+     * @param fileName          name of the edited file
+     * @param statementRange    line range of the statement before the edit
+     * @param statementDelta    number of lines the statement has moved
+     * @param oldCloseBraceLine line of the close brace of the canvas body before the edit
+     * @param canvasDelta       number of lines the end of the canvas body has moved
+     */
+    private record LineShift(String fileName, LineRange statementRange, int statementDelta, int oldCloseBraceLine,
+                             int canvasDelta) {
+
+        boolean isIdentity() {
+            return statementDelta == 0 && canvasDelta == 0;
+        }
+
+        FlowNode apply(FlowNode flowNode) {
+            Codedata codedata = apply(flowNode.codedata());
+            return new FlowNode(
+                    String.valueOf(Objects.hash(codedata != null ? codedata.lineRange() : null)),
+                    flowNode.metadata(),
+                    codedata,
+                    flowNode.returning(),
+                    flowNode.branches() == null ? null : flowNode.branches().stream().map(this::apply).toList(),
+                    apply(flowNode.properties()),
+                    flowNode.diagnostics(),
+                    flowNode.flags()
+            );
+        }
+
+        private Branch apply(Branch branch) {
+            return new Branch(branch.label(), branch.kind(), apply(branch.codedata()), branch.repeatable(),
+                    apply(branch.properties()),
+                    branch.children() == null ? null : branch.children().stream().map(this::apply).toList());
+        }
+
+        private Codedata apply(Codedata codedata) {
+            if (codedata == null || codedata.lineRange() == null) {
+                return codedata;
+            }
+            return new Codedata(codedata.node(), codedata.org(), codedata.module(), codedata.object(),
+                    codedata.symbol(), codedata.version(), apply(codedata.lineRange()), codedata.sourceCode(),
+                    codedata.parentSymbol(), codedata.resourcePath(), codedata.id(), codedata.isNew(),
+                    codedata.isGenerated());
+        }
+
+        private Map<String, Property> apply(Map<String, Property> properties) {
+            if (properties == null) {
+                return null;
+            }
+            Map<String, Property> shiftedProperties = new LinkedHashMap<>();
+            properties.forEach((key, property) -> shiftedProperties.put(key, apply(property)));
+            return shiftedProperties;
+        }
+
+        private Property apply(Property property) {
+            if (property == null) {
+                return null;
+            }
+            Object value = applyToValue(property.value());
+            if (value == property.value()) {
+                return property;
+            }
+            return new Property(property.metadata(), property.valueType(), property.valueTypeConstraint(), value,
+                    property.placeholder(), property.optional(), property.editable(), property.advanced(),
+                    property.diagnostics(), property.codedata());
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object applyToValue(Object value) {
+            if (value instanceof LineRange lineRange) {
+                return apply(lineRange);
+            }
+            if (value instanceof Property property) {
+                return apply(property);
+            }
+            if (value instanceof List<?> list) {
+                return list.stream().map(this::applyToValue).toList();
+            }
+            if (value instanceof Map<?, ?> map && map.values().stream().allMatch(Property.class::isInstance)) {
+                return apply((Map<String, Property>) map);
+            }
+            return value;
+        }
+
+        private LineRange apply(LineRange lineRange) {
+            if (!fileName.equals(lineRange.fileName())) {
+                return lineRange;
+            }
+            int startLine = lineRange.startLine().line();
+            int delta;
+            if (startLine >= statementRange.startLine().line() && startLine <= statementRange.endLine().line()) {
+                delta = statementDelta;
+            } else if (startLine >= oldCloseBraceLine) {
+                delta = canvasDelta;
+            } else {
+                return lineRange;
+            }
+            if (delta == 0) {
+                return lineRange;
+            }
+            return LineRange.from(lineRange.fileName(),
+                    LinePosition.from(lineRange.startLine().line() + delta, lineRange.startLine().offset()),
+                    LinePosition.from(lineRange.endLine().line() + delta, lineRange.endLine().offset()));
+        }
+    }
+}
@@ -34,6 +34,7 @@ import io.ballerina.flowmodelgenerator.core.model.Codedata;
 import io.ballerina.flowmodelgenerator.core.model.FlowNode;
 import io.ballerina.flowmodelgenerator.core.model.Item;
 import io.ballerina.flowmodelgenerator.core.model.Metadata;
+import io.ballerina.flowmodelgenerator.core.model.NodeKind;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -41,19 +42,29 @@ import java.io.InputStreamReader;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
- * An implementation of the Central API using a local index.
+ * An implementation of the Central API using a local index. The bundled resources are parsed once, on first use, into
+ * immutable structures which are shared by all the requests.
  *
  * @since 2.0.0
  */
 public class LocalIndexCentral {
 
     private final Gson gson;
-    private Map<String, FlowNode> templateCache;
-    private Map<String, List<Item>> connectionMap;
+    private final Lazy<Map<TemplateKey, FlowNode>> templates;
+    private final Lazy<Map<TemplateKey, List<Item>>> connectionMap;
+    private final Lazy<List<Item>> connectors;
+    private final Lazy<List<Item>> functions;
+    private final Lazy<List<JsonElement>> functionsJson;
+    private final Lazy<ConnectorIndex> connectorIndex;
     private static final String NODE_TEMPLATES_JSON = "node_templates.json";
     private static final String CONNECTORS_JSON = "connectors.json";
     private static final String CONNECTIONS_JSON = "connections.json";
@@ -73,71 +84,82 @@ public class LocalIndexCentral {
                 .registerTypeAdapter(Item.class, new ItemDeserializer())
                 .registerTypeAdapter(Category.class, new CategoryDeserializer())
                 .create();
+        this.templates = new Lazy<>(this::initializeTemplates);
+        this.connectionMap = new Lazy<>(this::initializeConnectionMap);
+        this.connectors = new Lazy<>(() -> readItems(CONNECTORS_JSON));
+        this.functions = new Lazy<>(() -> readItems(FUNCTIONS_JSON));
+        this.functionsJson = new Lazy<>(
+                () -> Collections.unmodifiableList(new Gson().toJsonTree(functions.get()).getAsJsonArray().asList()));
+        this.connectorIndex = new Lazy<>(() -> new ConnectorIndex(flatten(connectors.get())));
     }
 
     public FlowNode getNodeTemplate(Codedata codedata) {
-        if (templateCache == null) {
-            initializeTemplateCache();
-        }
-        return templateCache.get(codedata.toString());
+        return templates.get().get(TemplateKey.of(codedata));
     }
 
     public List<Item> getConnectors() {
-        Category connectors = readJsonResource(CONNECTORS_JSON, Category.class);
-        return connectors.items();
+        return connectors.get();
     }
 
     public List<Item> getFunctions() {
-        Category functions = readJsonResource(FUNCTIONS_JSON, Category.class);
-        return functions.items();
+        return functions.get();
+    }
+
+    /**
+     * Returns the JSON of the bundled functions, which is serialized once and shared by all the requests. Hence, the
+     * returned elements must not be modified.
+     *
+     * @return the JSON elements of the bundled functions
+     */
+    public List<JsonElement> getFunctionsJson() {
+        return functionsJson.get();
     }
 
     public List<Item> getConnectorActions(Codedata codedata) {
-        if (connectionMap == null) {
-            initializeConnectionMap();
-        }
-        return connectionMap.get(codedata.toString());
+        return connectionMap.get().get(TemplateKey.of(codedata));
     }
 
     public List<AvailableNode> getConnectors(Map<String, String> queryMap) {
-        List<Item> connectors = getConnectors();
         String query = queryMap.getOrDefault("q", "");
         int limit = Integer.parseInt(queryMap.getOrDefault("limit", "10"));
         int offset = Integer.parseInt(queryMap.getOrDefault("offset", "0"));
+        return connectorIndex.get().search(query, offset, limit);
+    }
 
+    private static List<AvailableNode> flatten(List<Item> items) {
         List<AvailableNode> availableNodes = new ArrayList<>();
-        for (Item item : connectors) {
-            if (item instanceof Category) {
-                availableNodes.addAll(getAvailableNodesFromCategory((Category) item));
-            } else if (item instanceof AvailableNode) {
-                availableNodes.add((AvailableNode) item);
-            }
-        }
-        return availableNodes.stream()
-                .filter(node -> node.codedata().object().contains(query) || node.codedata().module().contains(query))
-                .skip(offset)
-                .limit(limit)
-                .toList();
-    }
-    
-    private List<AvailableNode> getAvailableNodesFromCategory(Category category) {
-        List<AvailableNode> availableNodes = new ArrayList<>();
-        for (Item item : category.items()) {
-            if (item instanceof Category) {
-                availableNodes.addAll(getAvailableNodesFromCategory((Category) item));
-            } else if (item instanceof AvailableNode) {
-                availableNodes.add((AvailableNode) item);
+        for (Item item : items) {
+            if (item instanceof Category category) {
+                availableNodes.addAll(flatten(category.items()));
+            } else if (item instanceof AvailableNode availableNode) {
+                availableNodes.add(availableNode);
             }
         }
         return availableNodes;
     }
 
-    private void initializeTemplateCache() {
-        templateCache = readJsonResource(NODE_TEMPLATES_JSON, new FlowNodeTypeToken().getType());
+    private Map<TemplateKey, FlowNode> initializeTemplates() {
+        Map<String, FlowNode> templates = readJsonResource(NODE_TEMPLATES_JSON, new FlowNodeTypeToken().getType());
+        Map<TemplateKey, FlowNode> templateMap = new HashMap<>();
+        templates.forEach((key, template) -> {
+            if (templateMap.put(TemplateKey.of(template.codedata()), template) != null) {
+                throw new IllegalStateException("Duplicate codedata in the node templates: " + key);
+            }
+        });
+        return Collections.unmodifiableMap(templateMap);
+    }
+
+    private Map<TemplateKey, List<Item>> initializeConnectionMap() {
+        Map<String, List<Item>> connections = readJsonResource(CONNECTIONS_JSON, new ConnectionTypeToken().getType());
+        Map<TemplateKey, List<Item>> immutableConnections = new HashMap<>();
+        connections.forEach((key, items) ->
+                immutableConnections.put(TemplateKey.parse(key), Collections.unmodifiableList(items)));
+        return Collections.unmodifiableMap(immutableConnections);
     }
 
-    private void initializeConnectionMap() {
-        connectionMap = readJsonResource(CONNECTIONS_JSON, new ConnectionTypeToken().getType());
+    private List<Item> readItems(String resourcePath) {
+        Category category = readJsonResource(resourcePath, Category.class);
+        return Collections.unmodifiableList(category.items());
     }
 
     private <T> T readJsonResource(String resourcePath, Type type) {
@@ -152,6 +174,142 @@ public class LocalIndexCentral {
         }
     }
 
+    /**
+     * Trigram index over the object and module names of the connectors. A query of at least three characters is only
+     * matched against the connectors having all of its trigrams, while the shorter queries are matched against all the
+     * connectors.
+     */
+    private static class ConnectorIndex {
+
+        private static final int GRAM_SIZE = 3;
+
+        private final List<AvailableNode> connectors;
+        private final Map<String, int[]> postings;
+
+        ConnectorIndex(List<AvailableNode> connectors) {
+            this.connectors = List.copyOf(connectors);
+            Map<String, Set<Integer>> gramsToConnectors = new HashMap<>();
+            for (int i = 0; i < this.connectors.size(); i++) {
+                Codedata codedata = this.connectors.get(i).codedata();
+                addGrams(gramsToConnectors, codedata.object(), i);
+                addGrams(gramsToConnectors, codedata.module(), i);
+            }
+            Map<String, int[]> postingLists = new HashMap<>();
+            gramsToConnectors.forEach((gram, indices) -> postingLists.put(gram,
+                    indices.stream().mapToInt(Integer::intValue).sorted().toArray()));
+            this.postings = Collections.unmodifiableMap(postingLists);
+        }
+
+        List<AvailableNode> search(String query, int offset, int limit) {
+            if (query.isEmpty()) {
+                return connectors.stream().skip(offset).limit(limit).toList();
+            }
+            if (query.length() < GRAM_SIZE) {
+                return connectors.stream().filter(node -> matches(node, query)).skip(offset).limit(limit).toList();
+            }
+
+            // Select the shortest posting list of the query trigrams as the candidates
+            int[] candidates = null;
+            for (int i = 0; i + GRAM_SIZE <= query.length(); i++) {
+                int[] posting = postings.get(query.substring(i, i + GRAM_SIZE));
+                if (posting == null) {
+                    return List.of();
+                }
+                if (candidates == null || posting.length < candidates.length) {
+                    candidates = posting;
+                }
+            }
+
+            List<AvailableNode> result = new ArrayList<>();
+            int skipped = 0;
+            for (int i = 0; i < candidates.length && result.size() < limit; i++) {
+                AvailableNode node = connectors.get(candidates[i]);
+                if (!matches(node, query)) {
+                    continue;
+                }
+                if (skipped < offset) {
+                    skipped++;
+                    continue;
+                }
+                result.add(node);
+            }
+            return result;
+        }
+
+        private static boolean matches(AvailableNode node, String query) {
+            return node.codedata().object().contains(query) || node.codedata().module().contains(query);
+        }
+
+        private static void addGrams(Map<String, Set<Integer>> gramsToConnectors, String value, int index) {
+            if (value == null) {
+                return;
+            }
+            for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+                gramsToConnectors.computeIfAbsent(value.substring(i, i + GRAM_SIZE), gram -> new HashSet<>())
+                        .add(index);
+            }
+        }
+    }
+
+    /**
+     * Identifies a bundled node by the fields of the codedata that the clients set to request it. The other fields of
+     * the codedata, such as the line range of the node, do not take part in the lookup.
+     *
+     * @param node   the kind of the node, which is null for the kinds unknown to this version
+     * @param org    the organization of the package, if any
+     * @param module the module, if any
+     * @param object the object of the node, if any
+     * @param symbol the symbol of the node, if any
+     */
+    private record TemplateKey(NodeKind node, String org, String module, String object, String symbol) {
+
+        static TemplateKey of(Codedata codedata) {
+            return new TemplateKey(codedata.node(), codedata.org(), codedata.module(), codedata.object(),
+                    codedata.symbol());
+        }
+
+        /**
+         * Parses a key of the bundled connections, which is the string of the codedata of the connection, e.g.
+         * {@code NEW_CONNECTION:ballerina:http:Client:init}.
+         */
+        static TemplateKey parse(String key) {
+            String[] parts = key.split(":");
+            if (parts.length != 5) {
+                throw new IllegalStateException("Invalid key in the connections: " + key);
+            }
+            return new TemplateKey(NodeKind.valueOf(parts[0]), parts[1], parts[2], parts[3], parts[4]);
+        }
+    }
+
+    /**
+     * Value which is computed once, on first access, in a thread-safe manner.
+     *
+     * @param <T> type of the value
+     */
+    private static class Lazy<T> {
+
+        private final Supplier<T> supplier;
+        private volatile T value;
+
+        Lazy(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        T get() {
+            T result = value;
+            if (result == null) {
+                synchronized (this) {
+                    result = value;
+                    if (result == null) {
+                        result = supplier.get();
+                        value = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
     private static class FlowNodeTypeToken extends TypeToken<Map<String, FlowNode>> {
 
     }
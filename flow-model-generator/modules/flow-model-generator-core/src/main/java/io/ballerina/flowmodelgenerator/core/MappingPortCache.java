@@ -0,0 +1,318 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.api.symbols.ConstantSymbol;
+import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.VariableSymbol;
+import io.ballerina.projects.Package;
+import org.ballerinalang.diagramutil.connector.models.connector.Type;
+import org.ballerinalang.diagramutil.connector.models.connector.TypeInfo;
+import org.ballerinalang.diagramutil.connector.models.connector.types.ArrayType;
+import org.ballerinalang.diagramutil.connector.models.connector.types.PrimitiveType;
+import org.ballerinalang.diagramutil.connector.models.connector.types.RecordType;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the shapes of the mapping ports of the data mapper, which spares converting the types of the visible
+ * symbols with {@link Type#fromSemanticSymbol(Symbol)} on every request. A shape holds everything of a port except its
+ * id, which depends on the path of the port, and hence, the same shape is shared by every port of the same type.
+ * Equal shapes are interned, so that the records reachable from many inputs are only held once.
+ *
+ * <p>
+ * The shapes are keyed by the kind, the name and the type signature of the symbol, and are kept for as long as the
+ * package is unchanged in the workspace, as the signature of a type reference does not change with its definition.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class MappingPortCache {
+
+    private static final int MAX_CACHED_PACKAGES = 8;
+    private static final Map<Path, MappingPortCache> CACHES = Collections.synchronizedMap(
+            new LinkedHashMap<>(MAX_CACHED_PACKAGES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Path, MappingPortCache> eldest) {
+                    return size() > MAX_CACHED_PACKAGES;
+                }
+            });
+
+    private final Package workspacePackage;
+    private final Map<Key, PortShape> shapes;
+    private final Map<PortShape, PortShape> internedShapes;
+
+    private MappingPortCache(Package workspacePackage) {
+        this.workspacePackage = workspacePackage;
+        this.shapes = new ConcurrentHashMap<>();
+        this.internedShapes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the cache of the given package, discarding the cached shapes if the package has changed since they were
+     * cached.
+     *
+     * @param workspacePackage the package in the workspace
+     * @return the cache of the package
+     */
+    static MappingPortCache getInstance(Package workspacePackage) {
+        Path sourceRoot = workspacePackage.project().sourceRoot();
+        return CACHES.compute(sourceRoot, (path, cache) -> cache != null && cache.workspacePackage == workspacePackage
+                ? cache : new MappingPortCache(workspacePackage));
+    }
+
+    /**
+     * Returns the shape of the port of the given variable, parameter or constant.
+     *
+     * @param symbol the symbol of the input
+     * @return the shape of the port
+     */
+    PortShape getShape(Symbol symbol) {
+        Optional<Key> key = getKey(symbol);
+        if (key.isEmpty()) {
+            return toShape(Type.fromSemanticSymbol(symbol));
+        }
+        return shapes.computeIfAbsent(key.get(), k -> toShape(Type.fromSemanticSymbol(symbol)));
+    }
+
+    /**
+     * Returns the shape of the port of the given type.
+     *
+     * @param typeSymbol the type of the port
+     * @return the shape of the port
+     */
+    PortShape getShape(TypeSymbol typeSymbol) {
+        return shapes.computeIfAbsent(getKey(typeSymbol), k -> toShape(Type.fromSemanticSymbol(typeSymbol)));
+    }
+
+    /**
+     * Returns the shape cached for the given key, if the package is unchanged since it was cached.
+     *
+     * @param key the key of the shape
+     * @return the shape of the key, if cached
+     */
+    Optional<PortShape> getCachedShape(Key key) {
+        return Optional.ofNullable(shapes.get(key));
+    }
+
+    /**
+     * Returns the key of the shape of the given variable, parameter or constant, which identifies the shape across
+     * the requests for as long as the package is unchanged.
+     *
+     * @param symbol the symbol of the input
+     * @return the key of the shape, or empty if the shape of the symbol is not cached
+     */
+    static Optional<Key> getKey(Symbol symbol) {
+        Optional<TypeSymbol> typeSymbol = switch (symbol) {
+            case VariableSymbol variableSymbol -> Optional.of(variableSymbol.typeDescriptor());
+            case ParameterSymbol parameterSymbol -> Optional.of(parameterSymbol.typeDescriptor());
+            case ConstantSymbol constantSymbol -> Optional.of(constantSymbol.typeDescriptor());
+            default -> Optional.empty();
+        };
+        return typeSymbol.map(type -> new Key(symbol.kind(), symbol.getName().orElse(null), type.signature()));
+    }
+
+    /**
+     * Returns the key of the shape of the given type.
+     *
+     * @param typeSymbol the type of the port
+     * @return the key of the shape
+     */
+    static Key getKey(TypeSymbol typeSymbol) {
+        return new Key(SymbolKind.TYPE, null, typeSymbol.signature());
+    }
+
+    private PortShape toShape(Type type) {
+        return new ShapeBuilder().build(type);
+    }
+
+    /**
+     * Converts a type to the shape of its port, reusing the shape of a type reachable through several paths, and
+     * breaking the cycles of recursive types.
+     */
+    private class ShapeBuilder {
+
+        private final Map<Type, PortShape> builtShapes = new IdentityHashMap<>();
+        private final Set<Type> inProgress = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        PortShape build(Type type) {
+            if (type == null) {
+                return PortShape.UNSUPPORTED;
+            }
+            PortShape shape = builtShapes.get(type);
+            if (shape != null) {
+                return shape;
+            }
+            if (!inProgress.add(type)) {
+                return PortShape.UNSUPPORTED;
+            }
+            try {
+                shape = intern(convert(type));
+            } finally {
+                inProgress.remove(type);
+            }
+            builtShapes.put(type, shape);
+            return shape;
+        }
+
+        private PortShape convert(Type type) {
+            String kind = type.getTypeName();
+            if (kind.equals("record")) {
+                TypeInfo typeInfo = type.getTypeInfo();
+                List<FieldShape> fields = new ArrayList<>();
+                for (Type field : ((RecordType) type).fields) {
+                    fields.add(new FieldShape(field.getName(), build(field)));
+                }
+                return new PortShape(true, kind, typeInfo != null ? typeInfo.name : kind, type.getName(), fields,
+                        null);
+            } else if (type instanceof PrimitiveType) {
+                return new PortShape(true, kind, kind, type.getName(), List.of(), null);
+            } else if (kind.equals("array")) {
+                PortShape member = build(((ArrayType) type).memberType);
+                String typeName = member.isSupported() ? member.typeName() + "[]" : "record";
+                return new PortShape(true, kind, typeName, type.getName(), List.of(), member);
+            }
+            return new PortShape(false, kind, null, type.getName(), List.of(), null);
+        }
+
+        private PortShape intern(PortShape shape) {
+            PortShape interned = internedShapes.putIfAbsent(shape, shape);
+            return interned == null ? shape : interned;
+        }
+    }
+
+    /**
+     * Identifies the shape of a port by the kind, the name and the type signature of its symbol.
+     *
+     * @param kind      the kind of the symbol
+     * @param name      the name of the symbol, if any
+     * @param signature the signature of the type of the symbol
+     */
+    record Key(SymbolKind kind, String name, String signature) {
+
+    }
+
+    /**
+     * A field of a record port.
+     *
+     * @param name  the name of the field
+     * @param shape the shape of the port of the field
+     */
+    record FieldShape(String name, PortShape shape) {
+
+    }
+
+    /**
+     * The shape of a mapping port, i.e. the port without its id. The hash code is computed once, as the shapes are
+     * interned bottom up.
+     *
+     * @since 2.0.0
+     */
+    static final class PortShape {
+
+        static final PortShape UNSUPPORTED = new PortShape(false, null, null, null, List.of(), null);
+
+        private final boolean supported;
+        private final String kind;
+        private final String typeName;
+        private final String name;
+        private final List<FieldShape> fields;
+        private final PortShape member;
+        private final int hash;
+
+        PortShape(boolean supported, String kind, String typeName, String name, List<FieldShape> fields,
+                  PortShape member) {
+            this.supported = supported;
+            this.kind = kind;
+            this.typeName = typeName;
+            this.name = name;
+            this.fields = List.copyOf(fields);
+            this.member = member;
+            this.hash = Objects.hash(supported, kind, typeName, name, this.fields, member);
+        }
+
+        /**
+         * Returns whether the type has a port, i.e. whether it is a record, an array, or a primitive type.
+         *
+         * @return true if the type has a port
+         */
+        boolean isSupported() {
+            return supported;
+        }
+
+        /**
+         * Returns the kind of the type, e.g. {@code record}, even if the type does not have a port.
+         *
+         * @return the kind of the type
+         */
+        String kind() {
+            return kind;
+        }
+
+        String typeName() {
+            return typeName;
+        }
+
+        /**
+         * Returns the name of the converted type, which is the variable name of a port of a primitive type.
+         *
+         * @return the name of the converted type
+         */
+        String name() {
+            return name;
+        }
+
+        List<FieldShape> fields() {
+            return fields;
+        }
+
+        PortShape member() {
+            return member;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            return obj instanceof PortShape other && hash == other.hash && supported == other.supported
+                    && Objects.equals(kind, other.kind)
+                    && Objects.equals(typeName, other.typeName) && Objects.equals(name, other.name)
+                    && fields.equals(other.fields) && Objects.equals(member, other.member);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
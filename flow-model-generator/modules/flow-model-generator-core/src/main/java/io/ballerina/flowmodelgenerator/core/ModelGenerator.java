@@ -37,6 +37,7 @@ import io.ballerina.compiler.syntax.tree.NonTerminalNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.flowmodelgenerator.core.model.Diagram;
+import io.ballerina.flowmodelgenerator.core.model.DiagramTypeAdapter;
 import io.ballerina.flowmodelgenerator.core.model.FlowNode;
 import io.ballerina.flowmodelgenerator.core.model.ModuleInfo;
 import io.ballerina.flowmodelgenerator.core.model.Property;
@@ -65,16 +66,23 @@ import java.util.function.Function;
  */
 public class ModelGenerator {
 
+    /**
+     * System property enabling the reuse of the flow nodes of the statements unchanged since the previous request for
+     * the same canvas. The incremental analysis is disabled by default.
+     */
+    public static final String INCREMENTAL_ANALYSIS_PROPERTY = "ballerina.flowmodel.incrementalAnalysis";
+
     private final SemanticModel semanticModel;
     private final Path filePath;
     private final Gson gson;
     private final Project project;
+    private ConnectionIndex connectionIndex;
 
     public ModelGenerator(Project project, SemanticModel model, Path filePath) {
         this.semanticModel = model;
         this.filePath = filePath;
         this.project = project;
-        this.gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+        this.gson = new GsonBuilder().disableHtmlEscaping().create();
     }
 
     /**
@@ -83,6 +91,16 @@ public class ModelGenerator {
      * @return JSON representation of the flow model
      */
     public JsonElement getFlowModel(Document document, LineRange lineRange, Document dataMappingDoc) {
+        return gson.toJsonTree(getDiagram(document, lineRange, dataMappingDoc));
+    }
+
+    /**
+     * Generates the diagram of the given canvas node. Unlike {@link #getFlowModel(Document, LineRange, Document)},
+     * the diagram is not converted to a JSON tree, and is streamed to the response by {@link DiagramTypeAdapter}.
+     *
+     * @return the diagram of the canvas node
+     */
+    public Diagram getDiagram(Document document, LineRange lineRange, Document dataMappingDoc) {
         // Obtain the code block representing the canvas
         SyntaxTree syntaxTree = document.syntaxTree();
         ModulePartNode modulePartNode = syntaxTree.rootNode();
@@ -94,7 +112,7 @@ public class ModelGenerator {
         // Obtain the connections visible at the module-level
         List<FlowNode> moduleConnections =
                 semanticModel.visibleSymbols(document, canvasNode.lineRange().startLine()).stream()
-                        .flatMap(symbol -> buildConnection(symbol).stream())
+                        .flatMap(symbol -> getConnection(symbol).stream())
                         .sorted(Comparator.comparing(
                                 node -> Optional.ofNullable(node.properties().get(Property.VARIABLE_KEY))
                                         .map(property -> property.value().toString())
@@ -115,19 +133,22 @@ public class ModelGenerator {
             }
         }
 
-        // Analyze the code block to find the flow nodes
-        CodeAnalyzer codeAnalyzer = new CodeAnalyzer(project, semanticModel, Property.LOCAL_SCOPE, dataMappings,
-                textDocument, ModuleInfo.from(document.module().descriptor()), true);
+        // Analyze the code block to find the flow nodes, reusing the nodes of the statements unchanged since the
+        // previous request if the incremental analysis is enabled
+        CodeAnalyzer codeAnalyzer = Boolean.getBoolean(INCREMENTAL_ANALYSIS_PROPERTY)
+                ? new IncrementalCodeAnalyzer(filePath, project, semanticModel, Property.LOCAL_SCOPE, dataMappings,
+                document, canvasNode, true)
+                : new CodeAnalyzer(project, semanticModel, Property.LOCAL_SCOPE, dataMappings,
+                document.textDocument(), ModuleInfo.from(document.module().descriptor()), true);
         canvasNode.accept(codeAnalyzer);
 
         // Generate the flow model
-        Diagram diagram = new Diagram(filePath.toString(), codeAnalyzer.getFlowNodes(), moduleConnections);
-        return gson.toJsonTree(diagram);
+        return new Diagram(filePath.toString(), codeAnalyzer.getFlowNodes(), moduleConnections);
     }
 
     public JsonElement getModuleNodes() {
         List<FlowNode> connectionsList = semanticModel.moduleSymbols().stream()
-                .flatMap(symbol -> buildConnection(symbol).stream())
+                .flatMap(symbol -> getConnection(symbol).stream())
                 .sorted(Comparator.comparing(
                         node -> Optional.ofNullable(node.properties().get(Property.VARIABLE_KEY))
                                 .map(property -> property.value().toString())
@@ -137,6 +158,27 @@ public class ModelGenerator {
         return gson.toJsonTree(diagram);
     }
 
+    /**
+     * Returns the connection of the given symbol from the connection index of the module, building it only if the
+     * declarations of the module have changed since it was indexed.
+     *
+     * @return the connection if the symbol is a connection, otherwise empty
+     */
+    private Optional<FlowNode> getConnection(Symbol symbol) {
+        if (symbol.kind() != SymbolKind.VARIABLE && symbol.kind() != SymbolKind.CLASS_FIELD) {
+            return Optional.empty();
+        }
+        if (connectionIndex == null) {
+            try {
+                DocumentId documentId = project.documentId(filePath);
+                connectionIndex = ConnectionIndex.getInstance(project.currentPackage().module(documentId.moduleId()));
+            } catch (RuntimeException e) {
+                return buildConnection(symbol);
+            }
+        }
+        return connectionIndex.get(symbol, this::buildConnection);
+    }
+
     /**
      * Builds a client from the given type symbol.
      *
@@ -0,0 +1,203 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.tools.text.TextDocumentChange;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Applies speculative edits to the documents of the workspace, so that the generators can compile the outcome of an
+ * edit without modifying the workspace. The edits are applied to a warm copy of the project, which is duplicated only
+ * when the package has changed in the workspace since the copy was made. Every edit is applied on top of the unedited
+ * copy, and hence, the previous edit is rolled back by simply discarding it. As the modules of a package keep their
+ * compilations across its modifications, an edit only recompiles the edited module and the modules depending on it.
+ *
+ * <p>
+ * The compilations of a copy share the compiler context of the copy, and hence, the edits of a copy are compiled and
+ * consumed one at a time. A project is duplicated under the lock of its own copy, so that the duplication does not
+ * hold up the edits of the other projects.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class SpeculativeEdits {
+
+    private static final int MAX_WARM_PROJECTS = 8;
+
+    private final Map<Path, WarmProject> warmProjects;
+
+    private SpeculativeEdits() {
+        this(MAX_WARM_PROJECTS);
+    }
+
+    SpeculativeEdits(int maxWarmProjects) {
+        warmProjects = Collections.synchronizedMap(new LinkedHashMap<>(maxWarmProjects, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, WarmProject> eldest) {
+                return size() > maxWarmProjects;
+            }
+        });
+    }
+
+    public static SpeculativeEdits getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Applies the given change to a copy of the given document, compiles the package of the copy, and runs the given
+     * action on the edited copy. The copy is owned by the action until it returns, and hence, the action must derive
+     * everything it needs from the compilation of the copy before it returns.
+     *
+     * @param document the document in the workspace
+     * @param change   the change to apply to the document
+     * @param action   the action to run on the edited copy of the document
+     * @param <R>      the type of the result of the action
+     * @return the result of the action
+     */
+    public <R> R apply(Document document, TextDocumentChange change, Function<Document, R> action) {
+        return withContent(document, document.textDocument().apply(change).toString(), action);
+    }
+
+    /**
+     * Replaces the content of a copy of the given document, compiles the package of the copy, and runs the given action
+     * on the edited copy. The copy is owned by the action until it returns, and hence, the action must derive
+     * everything it needs from the compilation of the copy before it returns.
+     *
+     * @param document the document in the workspace
+     * @param content  the content of the edited document
+     * @param action   the action to run on the edited copy of the document
+     * @param <R>      the type of the result of the action
+     * @return the result of the action
+     */
+    public <R> R withContent(Document document, String content, Function<Document, R> action) {
+        Module module = document.module();
+        Package workspacePackage = module.packageInstance();
+        Path sourceRoot = module.project().sourceRoot();
+
+        // The map only hands out the slot of the project, which is duplicated under the lock of the slot alone
+        WarmProject warmProject = warmProjects.computeIfAbsent(sourceRoot, root -> new WarmProject());
+        synchronized (warmProject) {
+            Package copy = warmProject.refresh(workspacePackage);
+            Document baseDocument = copy.module(module.moduleId()).document(document.documentId());
+            Document editedDocument = baseDocument.modify().withContent(content).apply();
+            editedDocument.module().packageInstance().getCompilation();
+            return action.apply(editedDocument);
+        }
+    }
+
+    /**
+     * Returns the warm copy of the given project, if any.
+     *
+     * @param sourceRoot the source root of the project in the workspace
+     * @return the package of the warm copy, or null if the project has no warm copy
+     */
+    Package getWarmCopy(Path sourceRoot) {
+        WarmProject warmProject = warmProjects.get(sourceRoot);
+        if (warmProject == null) {
+            return null;
+        }
+        synchronized (warmProject) {
+            return warmProject.copy;
+        }
+    }
+
+    private static class Holder {
+
+        private static final SpeculativeEdits INSTANCE = new SpeculativeEdits();
+    }
+
+    /**
+     * Represents the warm copy of a project, which is guarded by the lock of the instance.
+     */
+    private static final class WarmProject {
+
+        private Package basePackage;
+        private PackageSnapshot snapshot;
+        private Package copy;
+
+        /**
+         * Returns the copy of the given package, duplicating its project if the package has changed in the workspace
+         * since the copy was made.
+         *
+         * @param workspacePackage the package in the workspace
+         * @return the package of the copy
+         */
+        Package refresh(Package workspacePackage) {
+            if (copy == null || (basePackage != workspacePackage &&
+                    !snapshot.equals(PackageSnapshot.of(workspacePackage)))) {
+                copy = workspacePackage.project().duplicate().currentPackage();
+                snapshot = PackageSnapshot.of(workspacePackage);
+            }
+            basePackage = workspacePackage;
+            return copy;
+        }
+    }
+
+    /**
+     * The sources of a package. Unchanged documents retain their syntax trees across the modifications of a package,
+     * and hence, the syntax trees are compared by identity.
+     *
+     * @param syntaxTrees   the syntax trees of the documents of the package
+     * @param ballerinaToml the content of the manifest of the package, if any
+     */
+    private record PackageSnapshot(Map<DocumentId, SyntaxTree> syntaxTrees, String ballerinaToml) {
+
+        static PackageSnapshot of(Package pkg) {
+            Map<DocumentId, SyntaxTree> syntaxTrees = new HashMap<>();
+            for (Module module : pkg.modules()) {
+                for (DocumentId documentId : module.documentIds()) {
+                    syntaxTrees.put(documentId, module.document(documentId).syntaxTree());
+                }
+            }
+            return new PackageSnapshot(syntaxTrees,
+                    pkg.ballerinaToml().map(toml -> toml.tomlDocument().textDocument().toString()).orElse(null));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof PackageSnapshot other) || syntaxTrees.size() != other.syntaxTrees.size()
+                    || !Objects.equals(ballerinaToml, other.ballerinaToml)) {
+                return false;
+            }
+            for (Map.Entry<DocumentId, SyntaxTree> entry : syntaxTrees.entrySet()) {
+                if (other.syntaxTrees.get(entry.getKey()) != entry.getValue()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return syntaxTrees.keySet().hashCode();
+        }
+    }
+}
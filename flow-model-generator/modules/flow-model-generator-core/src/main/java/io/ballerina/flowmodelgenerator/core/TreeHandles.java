@@ -0,0 +1,369 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.ballerinalang.diagramutil.connector.models.connector.Type;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the handles of the nodes left out of the depth-limited type trees of the data mapper and the expression
+ * editor. A node whose children are beyond the requested depth is sent with a handle instead of its children, and the
+ * client expands the handle on demand, so that the size of the responses scales with what the user expands rather
+ * than with the size of the types.
+ *
+ * <p>
+ * A handle does not refer to any state held by the server. It encodes a stable key of the root of the tree, such as
+ * the type signature of a mapping port or the name of a visible variable, along with the path from the root to the
+ * node, and the node is resolved again from the key and the path when it is expanded. A handle hence stays valid for
+ * as long as its root can be resolved, and expires only when the root is changed or removed.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+final class TreeHandles {
+
+    static final String HANDLE_KEY = "handle";
+    private static final String PATH_KEY = "path";
+    private static final String TYPE_NAME_KEY = "typeName";
+    private static final Gson HANDLE_GSON = new Gson();
+
+    private TreeHandles() {
+    }
+
+    /**
+     * Encodes the handle of a node from the key of its root and its path from the root.
+     *
+     * @param rootKey the stable key of the root of the tree
+     * @param path    the path of the node from the root
+     * @return the handle of the node
+     */
+    static String encode(JsonObject rootKey, JsonArray path) {
+        JsonObject handle = rootKey.deepCopy();
+        handle.add(PATH_KEY, path);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(HANDLE_GSON.toJson(handle).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a handle to the key of the root of its tree and the path of its node.
+     *
+     * @param handle the handle of the node
+     * @return the decoded handle
+     * @throws IllegalArgumentException if the handle is malformed
+     */
+    static Handle decode(String handle) {
+        try {
+            JsonObject decoded = JsonParser.parseString(new String(Base64.getUrlDecoder().decode(handle),
+                    StandardCharsets.UTF_8)).getAsJsonObject();
+            JsonElement path = decoded.remove(PATH_KEY);
+            if (path == null || !path.isJsonArray()) {
+                throw new IllegalArgumentException("Invalid handle: " + handle);
+            }
+            for (JsonElement segment : path.getAsJsonArray()) {
+                if (!segment.isJsonPrimitive()) {
+                    throw new IllegalArgumentException("Invalid handle: " + handle);
+                }
+            }
+            return new Handle(decoded, path.getAsJsonArray());
+        } catch (JsonParseException | IllegalStateException e) {
+            throw new IllegalArgumentException("Invalid handle: " + handle, e);
+        }
+    }
+
+    static IllegalArgumentException expired(String handle) {
+        return new IllegalArgumentException("The node of the handle '" + handle + "' no longer exists; request the " +
+                "tree again");
+    }
+
+    /**
+     * Serializes a type with its member types up to the given depth. The member types are the fields of the type
+     * which are types themselves, or collections of them. The member types beyond the depth are never serialized, and
+     * the types at the last level carry a handle instead, which is encoded from the given root key and the path of the
+     * type.
+     *
+     * @param type    the type to serialize
+     * @param depth   the number of levels of member types to serialize
+     * @param rootKey the stable key of the type, from which the type can be resolved again
+     * @return the depth-limited type
+     */
+    static JsonElement limitType(Type type, int depth, JsonObject rootKey) {
+        Gson gson = new GsonBuilder().registerTypeAdapterFactory(new DepthLimiter(depth)).create();
+        JsonElement limitedType = gson.toJsonTree(type);
+        assignHandles(limitedType, rootKey, new ArrayList<>());
+        return limitedType;
+    }
+
+    /**
+     * Copies a node of a serialized type with its member types up to the given depth, the types at the last level
+     * carrying a handle instead of their member types. Unlike {@link #limitType(Type, int, JsonObject)}, only the node
+     * and the levels below it are traversed, so that expanding a node of a type already serialized does not serialize
+     * the levels above the node again. The member types are told apart from the other members by their type name.
+     *
+     * @param node    the node of the serialized type, which is left unmodified
+     * @param depth   the number of levels of member types to copy
+     * @param rootKey the stable key of the type, from which the type can be resolved again
+     * @param path    the path of the node from the root of the type
+     * @return the depth-limited copy of the node
+     */
+    static JsonElement limitTree(JsonElement node, int depth, JsonObject rootKey, JsonArray path) {
+        List<JsonElement> nodePath = new ArrayList<>();
+        path.forEach(nodePath::add);
+        return copyLevels(node, depth, rootKey, nodePath);
+    }
+
+    /**
+     * Returns the node at the given path of a serialized type.
+     *
+     * @param type the serialized type
+     * @param path the path of the node
+     * @return the node, or null if the type has no node at the path
+     */
+    static JsonElement find(JsonElement type, JsonArray path) {
+        JsonElement node = type;
+        for (JsonElement segment : path) {
+            if (node == null) {
+                return null;
+            }
+            if (node.isJsonArray() && segment.getAsJsonPrimitive().isNumber()) {
+                int index = segment.getAsInt();
+                JsonArray array = node.getAsJsonArray();
+                node = index < array.size() ? array.get(index) : null;
+            } else if (node.isJsonObject() && segment.getAsJsonPrimitive().isString()) {
+                node = node.getAsJsonObject().get(segment.getAsString());
+            } else {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private static void assignHandles(JsonElement node, JsonObject rootKey, List<JsonElement> path) {
+        if (node.isJsonArray()) {
+            JsonArray array = node.getAsJsonArray();
+            for (int i = 0; i < array.size(); i++) {
+                path.add(new JsonPrimitive(i));
+                assignHandles(array.get(i), rootKey, path);
+                path.remove(path.size() - 1);
+            }
+            return;
+        }
+        if (!node.isJsonObject()) {
+            return;
+        }
+        JsonObject object = node.getAsJsonObject();
+        if (object.has(HANDLE_KEY)) {
+            JsonArray handlePath = new JsonArray();
+            path.forEach(handlePath::add);
+            object.addProperty(HANDLE_KEY, encode(rootKey, handlePath));
+            return;
+        }
+        for (Map.Entry<String, JsonElement> member : object.entrySet()) {
+            path.add(new JsonPrimitive(member.getKey()));
+            assignHandles(member.getValue(), rootKey, path);
+            path.remove(path.size() - 1);
+        }
+    }
+
+    private static JsonElement copyLevels(JsonElement node, int depth, JsonObject rootKey, List<JsonElement> path) {
+        if (node.isJsonArray()) {
+            JsonArray array = node.getAsJsonArray();
+            JsonArray copy = new JsonArray(array.size());
+            for (int i = 0; i < array.size(); i++) {
+                path.add(new JsonPrimitive(i));
+                copy.add(copyLevels(array.get(i), depth, rootKey, path));
+                path.remove(path.size() - 1);
+            }
+            return copy;
+        }
+        if (!isTypeNode(node)) {
+            return node.deepCopy();
+        }
+
+        JsonObject copy = new JsonObject();
+        boolean collapsed = false;
+        for (Map.Entry<String, JsonElement> member : node.getAsJsonObject().entrySet()) {
+            JsonElement value = member.getValue();
+            if (depth > 0) {
+                path.add(new JsonPrimitive(member.getKey()));
+                copy.add(member.getKey(), copyLevels(value, depth - 1, rootKey, path));
+                path.remove(path.size() - 1);
+            } else if (hasTypeNodes(value)) {
+                collapsed = true;
+            } else {
+                copy.add(member.getKey(), value.deepCopy());
+            }
+        }
+        if (collapsed) {
+            JsonArray handlePath = new JsonArray();
+            path.forEach(handlePath::add);
+            copy.addProperty(HANDLE_KEY, encode(rootKey, handlePath));
+        }
+        return copy;
+    }
+
+    private static boolean isTypeNode(JsonElement element) {
+        return element.isJsonObject() && element.getAsJsonObject().has(TYPE_NAME_KEY);
+    }
+
+    private static boolean hasTypeNodes(JsonElement element) {
+        if (!element.isJsonArray()) {
+            return isTypeNode(element);
+        }
+        for (JsonElement member : element.getAsJsonArray()) {
+            if (isTypeNode(member)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes the members left empty by the member types which were not serialized, along with the null members that
+     * Gson omits from its output.
+     */
+    private static void removeCollapsedMembers(JsonObject object) {
+        Iterator<Map.Entry<String, JsonElement>> iterator = object.entrySet().iterator();
+        while (iterator.hasNext()) {
+            JsonElement value = iterator.next().getValue();
+            if (value.isJsonNull() || isCollapsedArray(value)) {
+                iterator.remove();
+            } else if (value.isJsonObject()) {
+                removeCollapsedMembers(value.getAsJsonObject());
+            }
+        }
+    }
+
+    private static boolean isCollapsedArray(JsonElement element) {
+        if (!element.isJsonArray() || element.getAsJsonArray().isEmpty()) {
+            return false;
+        }
+        for (JsonElement member : element.getAsJsonArray()) {
+            if (!member.isJsonNull()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A decoded handle.
+     *
+     * @param rootKey the stable key of the root of the tree
+     * @param path    the path of the node from the root
+     */
+    record Handle(JsonObject rootKey, JsonArray path) {
+
+        /**
+         * Returns the string member of the root key, failing as an invalid handle if it is absent.
+         *
+         * @param key the name of the member
+         * @return the value of the member
+         */
+        String getString(String key) {
+            JsonElement value = rootKey.get(key);
+            if (value == null || !value.isJsonPrimitive()) {
+                throw new IllegalArgumentException("Invalid handle: missing '" + key + "'");
+            }
+            return value.getAsString();
+        }
+    }
+
+    /**
+     * Serializes the types up to a depth. The types beyond the depth are written as nulls without being traversed,
+     * and the types at the last level are marked with an empty handle, which is assigned once the tree is complete.
+     */
+    private static final class DepthLimiter implements TypeAdapterFactory {
+
+        private final int depth;
+        private int level;
+        private boolean collapsed;
+
+        private DepthLimiter(int depth) {
+            this.depth = depth;
+        }
+
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+            if (!Type.class.isAssignableFrom(typeToken.getRawType())) {
+                return null;
+            }
+            TypeAdapter<T> delegate = gson.getDelegateAdapter(this, typeToken);
+            TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+            return new TypeAdapter<>() {
+                @Override
+                public void write(JsonWriter out, T value) throws IOException {
+                    if (value == null) {
+                        out.nullValue();
+                        return;
+                    }
+                    int nodeLevel = level;
+                    if (nodeLevel > depth) {
+                        collapsed = true;
+                        out.nullValue();
+                        return;
+                    }
+                    level++;
+                    try {
+                        if (nodeLevel < depth) {
+                            delegate.write(out, value);
+                            return;
+                        }
+                        collapsed = false;
+                        JsonElement tree = delegate.toJsonTree(value);
+                        if (tree.isJsonObject()) {
+                            JsonObject object = tree.getAsJsonObject();
+                            removeCollapsedMembers(object);
+                            if (collapsed) {
+                                object.addProperty(HANDLE_KEY, "");
+                            }
+                        }
+                        elementAdapter.write(out, tree);
+                    } finally {
+                        level--;
+                    }
+                }
+
+                @Override
+                public T read(JsonReader in) throws IOException {
+                    return delegate.read(in);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,453 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.api.ModuleID;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ConstantDeclarationNode;
+import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleDescriptor;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.text.LineRange;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Index of the type data of the types declared in a module, along with the types they refer to. The type data is
+ * kept across compilations, and is invalidated at the granularity of a declaration: when the source of a type
+ * definition, an enum, a class or a constant changes, only its type data and the type data of the declarations that
+ * refer to it, directly or transitively, are transformed again. A declaration that is moved without being changed
+ * only invalidates the entries that carry its position. Changes to the other modules of the package or to the
+ * manifest invalidate the whole index, as the references into them are not tracked.
+ *
+ * <p>
+ * Each instance is a view of the index bound to the sources of the module it was obtained for. The entries it
+ * transforms are only added to the index while the view is the latest one, so that a request holding an earlier
+ * compilation of the module never adds its type data to the entries of a later one.
+ * </p>
+ *
+ * <p>
+ * The index is held per project instance, which is only weakly referenced, so that the index of a project is released
+ * once the project is closed or reloaded by the workspace, and a reloaded project is indexed from scratch.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class TypeDataIndex {
+
+    private static final Map<Project, Map<ModuleId, Tracker>> TRACKERS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Tracker tracker;
+    private final long generation;
+    private final ModuleDescriptor moduleDescriptor;
+    private final Map<String, Declaration> declarationsByName;
+    private final Map<String, Object> typeData;
+    private final Map<String, References> references;
+    private volatile List<Object> allTypes;
+
+    private TypeDataIndex(Tracker tracker, long generation, ModuleDescriptor moduleDescriptor,
+                          Map<String, Declaration> declarationsByName, Map<String, Object> typeData,
+                          Map<String, References> references) {
+        this.tracker = tracker;
+        this.generation = generation;
+        this.moduleDescriptor = moduleDescriptor;
+        this.declarationsByName = declarationsByName;
+        this.typeData = typeData;
+        this.references = references;
+    }
+
+    /**
+     * Returns the type data index of the given module, invalidating the entries affected by the changes to the
+     * module since the last request. A module whose sources were already replaced by a later request is not indexed.
+     *
+     * @param module the module to obtain the index
+     * @return the type data index of the module, or empty if the module is older than the indexed one
+     */
+    public static Optional<TypeDataIndex> getInstance(Module module) {
+        Map<ModuleId, Tracker> projectTrackers =
+                TRACKERS.computeIfAbsent(module.project(), project -> new ConcurrentHashMap<>());
+        return projectTrackers.computeIfAbsent(module.moduleId(), id -> new Tracker()).refresh(module);
+    }
+
+    /**
+     * Returns the type data of the given symbol, transforming it with the given function if it is not indexed. Only
+     * the symbols declared in the module are indexed.
+     *
+     * @param symbol      the symbol of the type
+     * @param transformer the function to transform the symbol to type data
+     * @return the type data of the symbol
+     */
+    public Object getTypeData(Symbol symbol, Function<Symbol, Object> transformer) {
+        String name = getDeclaredName(symbol);
+        if (name == null) {
+            return transformer.apply(symbol);
+        }
+        Object data = typeData.get(name);
+        if (data == null) {
+            data = transformer.apply(symbol);
+            if (data != null && isLatest()) {
+                typeData.putIfAbsent(name, data);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Returns the type data of the types referred by the given symbol, resolving them with the given function if
+     * they are not indexed. Only the references of the symbols declared in the module are indexed.
+     *
+     * @param symbol   the symbol of the type
+     * @param resolver the function to resolve the type data of the referred types, by their type IDs
+     * @return the type data of the referred types, by their type IDs
+     */
+    public Map<String, Object> getReferences(Symbol symbol, Function<Symbol, Map<String, Object>> resolver) {
+        String name = getDeclaredName(symbol);
+        if (name == null) {
+            return resolver.apply(symbol);
+        }
+        References symbolReferences = references.get(name);
+        if (symbolReferences == null) {
+            symbolReferences = new References(Collections.unmodifiableMap(new LinkedHashMap<>(resolver.apply(symbol))));
+            if (isLatest()) {
+                references.putIfAbsent(name, symbolReferences);
+            }
+        }
+        return symbolReferences.typeData();
+    }
+
+    /**
+     * Returns the type data of all the types of the module, building them with the given supplier if any
+     * declaration of the module has changed since they were built.
+     *
+     * @param builder the supplier of the type data of all the types
+     * @return the type data of all the types
+     */
+    public List<Object> getAllTypes(Supplier<List<Object>> builder) {
+        List<Object> currentAllTypes = this.allTypes;
+        if (currentAllTypes == null) {
+            currentAllTypes = builder.get();
+            if (isLatest()) {
+                this.allTypes = currentAllTypes;
+            }
+        }
+        return currentAllTypes;
+    }
+
+    private boolean isLatest() {
+        return tracker.generation.get() == generation;
+    }
+
+    private String getDeclaredName(Symbol symbol) {
+        if (symbol.getName().isEmpty() || symbol.getModule().isEmpty()) {
+            return null;
+        }
+        ModuleID moduleId = symbol.getModule().get().id();
+        if (!moduleId.orgName().equals(moduleDescriptor.org().value())
+                || !moduleId.packageName().equals(moduleDescriptor.packageName().value())
+                || !moduleId.moduleName().equals(moduleDescriptor.name().toString())) {
+            return null;
+        }
+        String name = symbol.getName().get();
+        return declarationsByName.containsKey(name) ? name : null;
+    }
+
+    /**
+     * Tracks the sources of a module across the requests, and hands out the view of the index for each of them.
+     */
+    private static class Tracker {
+
+        private static final int MAX_RETIRED_SYNTAX_TREES = 8;
+
+        private final AtomicLong generation;
+        private final Map<DocumentId, Deque<WeakReference<SyntaxTree>>> retiredSyntaxTrees;
+        private Map<DocumentId, DocumentDeclarations> declarations;
+        private Map<DocumentId, SyntaxTree> packageSyntaxTrees;
+        private String ballerinaToml;
+        private TypeDataIndex latest;
+
+        private Tracker() {
+            this.generation = new AtomicLong();
+            this.retiredSyntaxTrees = new HashMap<>();
+            this.declarations = Map.of();
+            this.packageSyntaxTrees = Map.of();
+        }
+
+        private synchronized Optional<TypeDataIndex> refresh(Module module) {
+            // The references into the other modules and the dependencies are not tracked, and hence any change to
+            // them invalidates the whole index
+            Map<DocumentId, SyntaxTree> newPackageSyntaxTrees = new HashMap<>();
+            for (Module packageModule : module.packageInstance().modules()) {
+                if (packageModule.moduleId().equals(module.moduleId())) {
+                    continue;
+                }
+                for (DocumentId documentId : packageModule.documentIds()) {
+                    newPackageSyntaxTrees.put(documentId, packageModule.document(documentId).syntaxTree());
+                }
+            }
+            Map<DocumentId, SyntaxTree> moduleSyntaxTrees = new HashMap<>();
+            for (DocumentId documentId : module.documentIds()) {
+                moduleSyntaxTrees.put(documentId, module.document(documentId).syntaxTree());
+            }
+
+            // A request may still hold an earlier compilation of the package, which must not roll back the index
+            if (hasRetiredSyntaxTree(newPackageSyntaxTrees) || hasRetiredSyntaxTree(moduleSyntaxTrees)) {
+                return Optional.empty();
+            }
+
+            String newBallerinaToml = module.packageInstance().ballerinaToml()
+                    .map(toml -> toml.tomlDocument().textDocument().toString()).orElse(null);
+            boolean packageChanged = !isSameSyntaxTrees(packageSyntaxTrees, newPackageSyntaxTrees)
+                    || !Objects.equals(ballerinaToml, newBallerinaToml);
+            retireSyntaxTrees(packageSyntaxTrees, newPackageSyntaxTrees);
+            packageSyntaxTrees = newPackageSyntaxTrees;
+            ballerinaToml = newBallerinaToml;
+
+            Map<DocumentId, DocumentDeclarations> newDeclarations = new HashMap<>();
+            boolean documentsChanged = false;
+            for (Map.Entry<DocumentId, SyntaxTree> entry : moduleSyntaxTrees.entrySet()) {
+                DocumentId documentId = entry.getKey();
+                SyntaxTree syntaxTree = entry.getValue();
+                DocumentDeclarations oldDocumentDeclarations = declarations.get(documentId);
+
+                // Unchanged documents retain their syntax trees, and hence the declarations need not be computed
+                // again
+                if (oldDocumentDeclarations != null && oldDocumentDeclarations.syntaxTree() == syntaxTree) {
+                    newDeclarations.put(documentId, oldDocumentDeclarations);
+                    continue;
+                }
+                if (oldDocumentDeclarations != null) {
+                    retire(documentId, oldDocumentDeclarations.syntaxTree());
+                }
+                newDeclarations.put(documentId, new DocumentDeclarations(syntaxTree, getDeclarations(syntaxTree)));
+                documentsChanged = true;
+            }
+            documentsChanged |= newDeclarations.size() != declarations.size();
+            declarations = newDeclarations;
+
+            Map<String, Declaration> newDeclarationsByName = new HashMap<>();
+            newDeclarations.values().forEach(documentDeclarations ->
+                    newDeclarationsByName.putAll(documentDeclarations.declarations()));
+            if (latest == null || packageChanged || !latest.moduleDescriptor.equals(module.descriptor())) {
+                return Optional.of(publish(module, newDeclarationsByName, Map.of(), Map.of()));
+            }
+            if (!documentsChanged) {
+                return Optional.of(latest);
+            }
+
+            // Find the declarations that were changed, added or removed, and the ones that were only moved
+            Map<String, Declaration> oldDeclarationsByName = latest.declarationsByName;
+            Set<String> changedNames = new HashSet<>();
+            Set<String> movedNames = new HashSet<>();
+            for (Map.Entry<String, Declaration> entry : newDeclarationsByName.entrySet()) {
+                Declaration oldDeclaration = oldDeclarationsByName.get(entry.getKey());
+                if (oldDeclaration == null || !oldDeclaration.source().equals(entry.getValue().source())) {
+                    changedNames.add(entry.getKey());
+                } else if (!oldDeclaration.lineRange().equals(entry.getValue().lineRange())) {
+                    movedNames.add(entry.getKey());
+                }
+            }
+            for (String name : oldDeclarationsByName.keySet()) {
+                if (!newDeclarationsByName.containsKey(name)) {
+                    changedNames.add(name);
+                }
+            }
+            if (changedNames.isEmpty() && movedNames.isEmpty()) {
+                return Optional.of(latest);
+            }
+
+            // Carry over the entries which are not affected by the changes, and the references that do not carry the
+            // positions of the moved declarations
+            Set<String> affectedNames = getReferringNames(changedNames, newDeclarationsByName, oldDeclarationsByName);
+            Map<String, Object> retainedTypeData = new HashMap<>();
+            latest.typeData.forEach((name, data) -> {
+                if (!affectedNames.contains(name) && !movedNames.contains(name)) {
+                    retainedTypeData.put(name, data);
+                }
+            });
+            Map<String, References> retainedReferences = new HashMap<>();
+            latest.references.forEach((name, symbolReferences) -> {
+                if (!affectedNames.contains(name) && !symbolReferences.refersToAny(movedNames)) {
+                    retainedReferences.put(name, symbolReferences);
+                }
+            });
+            return Optional.of(publish(module, newDeclarationsByName, retainedTypeData, retainedReferences));
+        }
+
+        private TypeDataIndex publish(Module module, Map<String, Declaration> declarationsByName,
+                                      Map<String, Object> typeData, Map<String, References> references) {
+            latest = new TypeDataIndex(this, generation.incrementAndGet(), module.descriptor(), declarationsByName,
+                    new ConcurrentHashMap<>(typeData), new ConcurrentHashMap<>(references));
+            return latest;
+        }
+
+        private void retireSyntaxTrees(Map<DocumentId, SyntaxTree> oldSyntaxTrees,
+                                       Map<DocumentId, SyntaxTree> newSyntaxTrees) {
+            oldSyntaxTrees.forEach((documentId, syntaxTree) -> {
+                if (newSyntaxTrees.get(documentId) != syntaxTree) {
+                    retire(documentId, syntaxTree);
+                }
+            });
+        }
+
+        private void retire(DocumentId documentId, SyntaxTree syntaxTree) {
+            Deque<WeakReference<SyntaxTree>> retired =
+                    retiredSyntaxTrees.computeIfAbsent(documentId, id -> new ArrayDeque<>());
+            retired.addFirst(new WeakReference<>(syntaxTree));
+            if (retired.size() > MAX_RETIRED_SYNTAX_TREES) {
+                retired.removeLast();
+            }
+        }
+
+        private boolean hasRetiredSyntaxTree(Map<DocumentId, SyntaxTree> syntaxTrees) {
+            for (Map.Entry<DocumentId, SyntaxTree> entry : syntaxTrees.entrySet()) {
+                Deque<WeakReference<SyntaxTree>> retired = retiredSyntaxTrees.get(entry.getKey());
+                if (retired == null) {
+                    continue;
+                }
+                for (WeakReference<SyntaxTree> retiredSyntaxTree : retired) {
+                    if (retiredSyntaxTree.get() == entry.getValue()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Returns the given names along with the names of the declarations that refer to them, directly or transitively,
+     * either before or after the change.
+     */
+    private static Set<String> getReferringNames(Set<String> names, Map<String, Declaration> newDeclarations,
+                                                 Map<String, Declaration> oldDeclarations) {
+        Map<String, Set<String>> referrers = new HashMap<>();
+        for (Map<String, Declaration> declarationMap : List.of(newDeclarations, oldDeclarations)) {
+            declarationMap.forEach((name, declaration) -> declaration.references().forEach(reference ->
+                    referrers.computeIfAbsent(reference, key -> new HashSet<>()).add(name)));
+        }
+        Set<String> referringNames = new HashSet<>(names);
+        Deque<String> queue = new ArrayDeque<>(names);
+        while (!queue.isEmpty()) {
+            for (String referrer : referrers.getOrDefault(queue.poll(), Set.of())) {
+                if (referringNames.add(referrer)) {
+                    queue.add(referrer);
+                }
+            }
+        }
+        return referringNames;
+    }
+
+    private static boolean isSameSyntaxTrees(Map<DocumentId, SyntaxTree> syntaxTrees,
+                                             Map<DocumentId, SyntaxTree> otherSyntaxTrees) {
+        if (syntaxTrees.size() != otherSyntaxTrees.size()) {
+            return false;
+        }
+        for (Map.Entry<DocumentId, SyntaxTree> entry : syntaxTrees.entrySet()) {
+            if (otherSyntaxTrees.get(entry.getKey()) != entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects the declarations of a document which can be transformed to type data, or be referred by them. These
+     * are the type definitions, enums, classes and constants.
+     */
+    private static Map<String, Declaration> getDeclarations(SyntaxTree syntaxTree) {
+        Map<String, Declaration> documentDeclarations = new HashMap<>();
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            String name = switch (member.kind()) {
+                case TYPE_DEFINITION -> ((TypeDefinitionNode) member).typeName().text();
+                case ENUM_DECLARATION -> ((EnumDeclarationNode) member).identifier().text();
+                case CLASS_DEFINITION -> ((ClassDefinitionNode) member).className().text();
+                case CONST_DECLARATION -> ((ConstantDeclarationNode) member).variableName().text();
+                default -> null;
+            };
+            if (name == null) {
+                continue;
+            }
+            ReferenceCollector referenceCollector = new ReferenceCollector();
+            member.accept(referenceCollector);
+            documentDeclarations.put(name, new Declaration(member.toSourceCode(), member.lineRange(),
+                    referenceCollector.references));
+        }
+        return documentDeclarations;
+    }
+
+    /**
+     * Collects the unqualified names referred in a declaration, which is a superset of the declarations of the
+     * module it depends on.
+     */
+    private static class ReferenceCollector extends NodeVisitor {
+
+        private final Set<String> references = new HashSet<>();
+
+        @Override
+        public void visit(SimpleNameReferenceNode simpleNameReferenceNode) {
+            references.add(simpleNameReferenceNode.name().text());
+        }
+    }
+
+    private record Declaration(String source, LineRange lineRange, Set<String> references) {
+    }
+
+    private record DocumentDeclarations(SyntaxTree syntaxTree, Map<String, Declaration> declarations) {
+    }
+
+    private record References(Map<String, Object> typeData) {
+
+        boolean refersToAny(Set<String> names) {
+            for (String name : names) {
+                if (typeData.containsKey(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -50,6 +50,7 @@ import io.ballerina.flowmodelgenerator.core.model.ModuleInfo;
 import io.ballerina.flowmodelgenerator.core.model.TypeData;
 import io.ballerina.flowmodelgenerator.core.utils.CommonUtils;
 import io.ballerina.flowmodelgenerator.core.utils.SourceCodeGenerator;
+import io.ballerina.flowmodelgenerator.core.utils.SyntaxTypeTransformer;
 import io.ballerina.flowmodelgenerator.core.utils.TypeTransformer;
 import io.ballerina.flowmodelgenerator.core.utils.TypeUtils;
 import io.ballerina.projects.Document;
@@ -65,6 +66,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -76,17 +78,30 @@ public class TypesManager {
     private static final Gson gson = new Gson();
     private final Module module;
     private final Document typeDocument;
+    private final TypeDataIndex typeDataIndex;
+    private TypeTransformer typeTransformer;
     private static final List<SymbolKind> supportedSymbolKinds = List.of(SymbolKind.TYPE_DEFINITION, SymbolKind.ENUM,
             SymbolKind.CLASS, SymbolKind.TYPE);
     private static final List<SymbolKind> supportedGraphqlSymbolKinds = List.of(SymbolKind.TYPE_DEFINITION,
             SymbolKind.ENUM, SymbolKind.SERVICE_DECLARATION, SymbolKind.CLASS, SymbolKind.TYPE);
 
     public TypesManager(Document typeDocument) {
+        this(typeDocument, TypeDataIndex.getInstance(typeDocument.module()).orElse(null));
+    }
+
+    private TypesManager(Document typeDocument, TypeDataIndex typeDataIndex) {
         this.typeDocument = typeDocument;
         this.module = typeDocument.module();
+        this.typeDataIndex = typeDataIndex;
     }
 
     public JsonElement getAllTypes() {
+        List<Object> allTypes =
+                typeDataIndex == null ? buildAllTypes() : typeDataIndex.getAllTypes(this::buildAllTypes);
+        return gson.toJsonTree(allTypes);
+    }
+
+    private List<Object> buildAllTypes() {
         SemanticModel semanticModel = this.module.getCompilation().getSemanticModel();
         Map<String, Symbol> symbolMap = semanticModel.moduleSymbols().stream()
                 .filter(s -> supportedSymbolKinds.contains(s.kind()))
@@ -103,9 +118,7 @@ public class TypesManager {
             addMemberTypes(typeSymbol, symbolMap);
         });
 
-        List<Object> allTypes = symbolMap.values().stream().map(this::getTypeData).toList();
-
-        return gson.toJsonTree(allTypes);
+        return symbolMap.values().stream().map(this::getTypeData).toList();
     }
 
     public JsonElement getType(Document document, LinePosition linePosition) {
@@ -116,21 +129,35 @@ public class TypesManager {
         }
 
         Object type = getTypeData(symbol.get());
+        Map<String, Object> refs = typeDataIndex == null ? getDependencyTypes(symbol.get()) :
+                typeDataIndex.getReferences(symbol.get(), this::getDependencyTypes);
+        return gson.toJsonTree(new TypeDataWithRefs(type, refs.values().stream().toList()));
+    }
 
+    private Map<String, Object> getDependencyTypes(Symbol symbol) {
         Map<String, Object> refs = new HashMap<>();
-        if (symbol.get().kind() == SymbolKind.SERVICE_DECLARATION) {
-            addDependencyTypes((ServiceDeclarationSymbol) symbol.get(), refs);
+        if (symbol.kind() == SymbolKind.SERVICE_DECLARATION) {
+            addDependencyTypes((ServiceDeclarationSymbol) symbol, refs);
         } else {
-            TypeSymbol typeDescriptor = getTypeDescriptor(symbol.get());
+            TypeSymbol typeDescriptor = getTypeDescriptor(symbol);
             if (typeDescriptor != null) {
                 addDependencyTypes(typeDescriptor, refs);
             }
         }
-
-        return gson.toJsonTree(new TypeDataWithRefs(type, refs.values().stream().toList()));
+        return refs;
     }
 
+    /**
+     * Returns the type data of the given type definition with the types it refers to. The type definition need not
+     * be of the current compilation of the module, and hence its type data is not indexed.
+     *
+     * @param typeDefSymbol the symbol of the type definition
+     * @return the type data of the type definition with its references
+     */
     public TypeDataWithRefs getTypeDataWithRefs(TypeDefinitionSymbol typeDefSymbol) {
+        if (typeDataIndex != null) {
+            return new TypesManager(this.typeDocument, null).getTypeDataWithRefs(typeDefSymbol);
+        }
         Object type = getTypeData(typeDefSymbol);
         Map<String, Object> refs = new HashMap<>();
         TypeSymbol typeDescriptor = getTypeDescriptor(typeDefSymbol);
@@ -140,6 +167,45 @@ public class TypesManager {
         return genTypeDataRefWithoutPosition(type, refs.values().stream().toList());
     }
 
+    /**
+     * Returns the type data of generated type definitions which are meant to replace the content of the type document.
+     * The type data is derived from the syntax tree of the generated source, and the source is compiled in a copy of
+     * the project only when it has type descriptors that cannot be transformed without the type symbols.
+     *
+     * @param typesSource source of the generated type definitions
+     * @param typeNames   names of the generated type definitions
+     * @return the type data of the generated type definitions with their references
+     */
+    public List<TypeDataWithRefs> getTypeDataWithRefs(String typesSource, Set<String> typeNames) {
+        Optional<List<TypeDataWithRefs>> typeDataList = new SyntaxTypeTransformer(this.module).transform(typesSource);
+        if (typeDataList.isPresent()) {
+            return typeDataList.get();
+        }
+        return getCompiledTypeDataWithRefs(typesSource, typeNames);
+    }
+
+    /**
+     * Returns the type data of generated type definitions by compiling them in place of the content of the type
+     * document, which is what the type data derived from the syntax tree is expected to match.
+     *
+     * @param typesSource source of the generated type definitions
+     * @param typeNames   names of the generated type definitions
+     * @return the type data of the generated type definitions with their references
+     */
+    public List<TypeDataWithRefs> getCompiledTypeDataWithRefs(String typesSource, Set<String> typeNames) {
+        return SpeculativeEdits.getInstance().withContent(this.typeDocument, typesSource, modifiedDoc -> {
+            SemanticModel semanticModel = modifiedDoc.module().getCompilation().getSemanticModel();
+            TypesManager compiledTypesManager = new TypesManager(this.typeDocument, null);
+            List<TypeDataWithRefs> compiledTypeDataList = new ArrayList<>();
+            for (Symbol symbol : semanticModel.moduleSymbols()) {
+                if (symbol.kind() == SymbolKind.TYPE_DEFINITION && typeNames.contains(symbol.getName().get())) {
+                    compiledTypeDataList.add(compiledTypesManager.getTypeDataWithRefs((TypeDefinitionSymbol) symbol));
+                }
+            }
+            return compiledTypeDataList;
+        });
+    }
+
     public JsonElement updateType(Path filePath, TypeData typeData) {
         List<TextEdit> textEdits = new ArrayList<>();
         Map<Path, List<TextEdit>> textEditsMap = new HashMap<>();
@@ -236,7 +302,16 @@ public class TypesManager {
     }
 
     private Object getTypeData(Symbol symbol) {
-        TypeTransformer typeTransformer = new TypeTransformer(this.module);
+        return typeDataIndex == null ? transformTypeData(symbol) :
+                typeDataIndex.getTypeData(symbol, this::transformTypeData);
+    }
+
+    private Object transformTypeData(Symbol symbol) {
+        // The transformer is shared by the types of a request, so that the record type descriptors of the module are
+        // collected only once
+        if (typeTransformer == null) {
+            typeTransformer = new TypeTransformer(this.module);
+        }
         return switch (symbol.kind()) {
             case TYPE_DEFINITION -> typeTransformer.transform((TypeDefinitionSymbol) symbol);
             case CLASS -> typeTransformer.transform((ClassSymbol) symbol);
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.projects.Package;
+import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.diagramutil.connector.models.connector.Type;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of the types of the visible variables of the expression editor. The type of a variable is converted with
+ * {@link Type#fromSemanticSymbol(Symbol)} once, when the variable is first listed or expanded, and the listings and
+ * the expansions that follow reuse the converted type, and the serialized tree of it, instead of converting the type
+ * again on every request.
+ *
+ * <p>
+ * The types are keyed by the module, the name and the location of the variable, and are kept for as long as the
+ * package is unchanged in the workspace.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class VariableTypeCache {
+
+    private static final int MAX_CACHED_PACKAGES = 8;
+    private static final int MAX_CACHED_TYPES = 256;
+    private static final Gson GSON = new Gson();
+    private static final Map<Path, VariableTypeCache> CACHES = Collections.synchronizedMap(
+            new LinkedHashMap<>(MAX_CACHED_PACKAGES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Path, VariableTypeCache> eldest) {
+                    return size() > MAX_CACHED_PACKAGES;
+                }
+            });
+
+    private final Package workspacePackage;
+    private final Map<String, ResolvedType> types;
+
+    private VariableTypeCache(Package workspacePackage) {
+        this.workspacePackage = workspacePackage;
+        this.types = Collections.synchronizedMap(new LinkedHashMap<>(MAX_CACHED_TYPES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ResolvedType> eldest) {
+                return size() > MAX_CACHED_TYPES;
+            }
+        });
+    }
+
+    /**
+     * Returns the cache of the given package, discarding the cached types if the package has changed since they were
+     * cached.
+     *
+     * @param workspacePackage the package in the workspace
+     * @return the cache of the package
+     */
+    static VariableTypeCache getInstance(Package workspacePackage) {
+        Path sourceRoot = workspacePackage.project().sourceRoot();
+        return CACHES.compute(sourceRoot, (path, cache) -> cache != null && cache.workspacePackage == workspacePackage
+                ? cache : new VariableTypeCache(workspacePackage));
+    }
+
+    /**
+     * Returns the type of the given variable or parameter, converting it only if it is not cached.
+     *
+     * @param symbol the symbol of the variable
+     * @return the type of the variable
+     */
+    ResolvedType getType(Symbol symbol) {
+        return types.computeIfAbsent(getKey(symbol), key -> new ResolvedType(Type.fromSemanticSymbol(symbol)));
+    }
+
+    private static String getKey(Symbol symbol) {
+        String name = symbol.getModule().map(module -> module.id() + ":").orElse("") + symbol.getName().orElse("");
+        return symbol.getLocation()
+                .map(location -> name + "@" + getLocationKey(location))
+                .orElse(name);
+    }
+
+    private static String getLocationKey(Location location) {
+        return location.lineRange().fileName() + ":" + location.lineRange().startLine().line() + ":" +
+                location.lineRange().startLine().offset();
+    }
+
+    /**
+     * The converted type of a variable, along with its serialized tree, which is serialized in full only once a
+     * member of the type is expanded.
+     */
+    static final class ResolvedType {
+
+        private final Type type;
+        private JsonElement tree;
+
+        private ResolvedType(Type type) {
+            this.type = type;
+        }
+
+        /**
+         * Returns the converted type.
+         *
+         * @return the type, or null if the type of the variable is not supported
+         */
+        Type type() {
+            return type;
+        }
+
+        /**
+         * Returns the serialized tree of the type, which must not be modified as it is shared by the requests.
+         *
+         * @return the serialized type, or null if the type of the variable is not supported
+         */
+        synchronized JsonElement tree() {
+            if (tree == null && type != null) {
+                tree = GSON.toJsonTree(type);
+            }
+            return tree;
+        }
+    }
+}
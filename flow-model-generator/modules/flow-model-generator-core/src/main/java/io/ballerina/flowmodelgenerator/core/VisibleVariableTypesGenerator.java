@@ -20,6 +20,8 @@ package io.ballerina.flowmodelgenerator.core;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.Qualifier;
 import io.ballerina.compiler.api.symbols.Symbol;
@@ -48,6 +50,7 @@ import java.util.Optional;
  */
 public class VisibleVariableTypesGenerator {
 
+    private static final String VARIABLE_KEY = "variable";
     private final SemanticModel semanticModel;
     private final Document document;
     private final LinePosition position;
@@ -61,6 +64,17 @@ public class VisibleVariableTypesGenerator {
     }
 
     public JsonArray getVisibleVariableTypes() {
+        return getVisibleVariableTypes(null);
+    }
+
+    /**
+     * Generates the types of the visible variables, with the types expanded to the given depth. The types whose
+     * members are beyond the depth carry a handle instead, which is expanded with {@link #expandType(String, Integer)}.
+     *
+     * @param depth the number of levels of member types to expand, or null to expand all of them
+     * @return the categories of the visible variables
+     */
+    public JsonArray getVisibleVariableTypes(Integer depth) {
         Optional<LineRange> functionLineRange = findFunctionLineRange();
         List<Category.Variable> moduleVariables = new ArrayList<>();
         List<Category.Variable> configurableVariables = new ArrayList<>();
@@ -73,12 +87,13 @@ public class VisibleVariableTypesGenerator {
                 new Category(Category.PARAMETER_CATEGORY, parameters)
         );
 
+        VariableTypeCache typeCache = VariableTypeCache.getInstance(document.module().packageInstance());
         List<Symbol> symbols = semanticModel.visibleSymbols(document, position);
         for (Symbol symbol : symbols) {
             if (symbol.kind() == SymbolKind.VARIABLE) {
                 VariableSymbol variableSymbol = (VariableSymbol) symbol;
                 String name = variableSymbol.getName().orElse("");
-                Type type = Type.fromSemanticSymbol(variableSymbol);
+                Type type = typeCache.getType(variableSymbol).type();
 
                 if (variableSymbol.qualifiers().contains(Qualifier.CONFIGURABLE)) {
                     configurableVariables.add(new Category.Variable(name, type));
@@ -90,13 +105,73 @@ public class VisibleVariableTypesGenerator {
                 }
             } else if (symbol.kind() == SymbolKind.PARAMETER) {
                 String name = symbol.getName().orElse("");
-                Type type = Type.fromSemanticSymbol(symbol);
+                Type type = typeCache.getType(symbol).type();
                 parameters.add(new Category.Variable(name, type));
             }
         }
 
         categories.forEach(category -> Collections.sort(category.types()));
-        return gson.toJsonTree(categories).getAsJsonArray();
+        if (depth == null) {
+            return gson.toJsonTree(categories).getAsJsonArray();
+        }
+
+        // Serialize the types only up to the depth, as the types of the visible variables may be arbitrarily deep
+        JsonArray categoriesJson = new JsonArray();
+        for (Category category : categories) {
+            JsonArray variablesJson = new JsonArray();
+            for (Category.Variable variable : category.types()) {
+                JsonObject variableJson = new JsonObject();
+                variableJson.addProperty("name", variable.name());
+                if (variable.type() != null) {
+                    variableJson.add("type",
+                            TreeHandles.limitType(variable.type(), depth, getRootKey(variable.name())));
+                }
+                variablesJson.add(variableJson);
+            }
+            JsonObject categoryJson = new JsonObject();
+            categoryJson.addProperty("name", category.name());
+            categoryJson.add("types", variablesJson);
+            categoriesJson.add(categoryJson);
+        }
+        return categoriesJson;
+    }
+
+    /**
+     * Expands a type collapsed by {@link #getVisibleVariableTypes(Integer)}. The type is looked up again from the
+     * variable visible at the position, and hence the handle expires once the variable is removed or its type no
+     * longer has the collapsed member. The type of the variable is converted only once for as long as the package is
+     * unchanged, and an expansion only copies the levels of the collapsed member it asks for from the cached tree.
+     *
+     * @param handle the handle of the collapsed type
+     * @param depth  the number of levels of member types to expand, or null to expand all of them
+     * @return the expanded type
+     */
+    public JsonElement expandType(String handle, Integer depth) {
+        TreeHandles.Handle decodedHandle = TreeHandles.decode(handle);
+        String variableName = decodedHandle.getString(VARIABLE_KEY);
+        Symbol variableSymbol = semanticModel.visibleSymbols(document, position).stream()
+                .filter(symbol -> symbol.kind() == SymbolKind.VARIABLE || symbol.kind() == SymbolKind.PARAMETER)
+                .filter(symbol -> symbol.getName().filter(variableName::equals).isPresent())
+                .findFirst()
+                .orElseThrow(() -> TreeHandles.expired(handle));
+        JsonElement tree = VariableTypeCache.getInstance(document.module().packageInstance())
+                .getType(variableSymbol).tree();
+        if (tree == null) {
+            throw TreeHandles.expired(handle);
+        }
+
+        JsonArray path = decodedHandle.path();
+        JsonElement node = TreeHandles.find(tree, path);
+        if (node == null) {
+            throw TreeHandles.expired(handle);
+        }
+        return depth == null ? node.deepCopy() : TreeHandles.limitTree(node, depth, getRootKey(variableName), path);
+    }
+
+    private static JsonObject getRootKey(String variableName) {
+        JsonObject rootKey = new JsonObject();
+        rootKey.addProperty(VARIABLE_KEY, variableName);
+        return rootKey;
     }
 
     private boolean isInFunctionRange(VariableSymbol variableSymbol, LineRange functionLineRange) {
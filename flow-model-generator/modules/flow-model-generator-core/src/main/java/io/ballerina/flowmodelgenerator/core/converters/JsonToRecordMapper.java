@@ -22,11 +22,6 @@ import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import io.ballerina.compiler.api.SemanticModel;
-import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.SymbolKind;
-import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.ArrayDimensionNode;
 import io.ballerina.compiler.syntax.tree.ArrayTypeDescriptorNode;
@@ -51,8 +46,7 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.flowmodelgenerator.core.TypesManager;
 import io.ballerina.flowmodelgenerator.core.converters.exception.JsonToRecordConverterException;
-import io.ballerina.projects.Document;
-import io.ballerina.projects.Project;
+import io.ballerina.flowmodelgenerator.core.converters.utils.JsonShapeReader;
 import org.apache.commons.lang3.StringUtils;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
@@ -96,17 +90,12 @@ public final class JsonToRecordMapper {
     private static final Gson gson = new Gson();
     private final String recordName;
     private final String prefix;
-    private final Project project;
-    private final Document document;
     private final Path filePath;
     private final TypesManager typesManager;
 
-    public JsonToRecordMapper(String recordName, String prefix, Project project, Document document, Path filePath,
-                              TypesManager typesManager) {
+    public JsonToRecordMapper(String recordName, String prefix, Path filePath, TypesManager typesManager) {
         this.recordName = recordName;
         this.prefix = prefix;
-        this.project = project;
-        this.document = document;
         this.filePath = filePath;
         this.typesManager = typesManager;
     }
@@ -138,7 +127,7 @@ public final class JsonToRecordMapper {
         if (existingFieldNames.contains(this.recordName)) {
             throw new JsonToRecordConverterException("Given record name already exists in the module");
         }
-        JsonElement parsedJson = JsonParser.parseString(jsonString);
+        JsonElement parsedJson = JsonShapeReader.read(jsonString);
         if (parsedJson.isJsonObject()) {
             generateRecords(parsedJson.getAsJsonObject(), null, isClosed, recordToTypeDescNodes, null,
                     jsonFieldToElements, existingFieldNames, updatedFieldNames, isNullAsOptional);
@@ -189,20 +178,7 @@ public final class JsonToRecordMapper {
                 .setForceFormattingOptions(forceFormattingOptions).build();
         String str = Formatter.format(modulePartNode.syntaxTree(), formattingOptions).toSourceCode();
 
-        Document modifiedDoc =
-                project.duplicate().currentPackage().module(document.module().moduleId())
-                        .document(document.documentId()).modify().withContent(str).apply();
-        SemanticModel semanticModel = modifiedDoc.module().getCompilation().getSemanticModel();
-
-        List<TypesManager.TypeDataWithRefs> typeDataList = new ArrayList<>();
-        for (Symbol symbol : semanticModel.moduleSymbols()) {
-            if (symbol.kind() == SymbolKind.TYPE_DEFINITION) {
-                TypeDefinitionSymbol typeDefSymbol = (TypeDefinitionSymbol) symbol;
-                if (typeNames.contains(typeDefSymbol.getName().get())) {
-                    typeDataList.add(typesManager.getTypeDataWithRefs(typeDefSymbol));
-                }
-            }
-        }
+        List<TypesManager.TypeDataWithRefs> typeDataList = typesManager.getTypeDataWithRefs(str, typeNames);
         return gson.toJsonTree(typeDataList);
     }
 
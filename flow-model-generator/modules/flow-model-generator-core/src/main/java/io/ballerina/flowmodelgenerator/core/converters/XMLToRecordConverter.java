@@ -20,10 +20,6 @@ package io.ballerina.flowmodelgenerator.core.converters;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
-import io.ballerina.compiler.api.SemanticModel;
-import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.SymbolKind;
-import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.ArrayDimensionNode;
@@ -51,7 +47,7 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.flowmodelgenerator.core.TypesManager;
-import io.ballerina.projects.Project;
+import io.ballerina.flowmodelgenerator.core.converters.utils.XMLShapeReader;
 import org.apache.commons.lang3.StringUtils;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
@@ -60,11 +56,7 @@ import org.ballerinalang.formatter.core.options.FormattingOptions;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NamedNodeMap;
-import org.xml.sax.SAXException;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -78,9 +70,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 
 import static io.ballerina.flowmodelgenerator.core.converters.utils.XMLToRecordConverterUtils.escapeIdentifier;
 import static io.ballerina.flowmodelgenerator.core.converters.utils.XMLToRecordConverterUtils.extractTypeDescriptorNodes;
@@ -96,13 +86,9 @@ import static io.ballerina.flowmodelgenerator.core.converters.utils.XMLToRecordC
 public final class XMLToRecordConverter {
 
     private static final Gson gson = new Gson();
-    private final Project project;
-    private final io.ballerina.projects.Document document;
     private final TypesManager typesManager;
 
-    public XMLToRecordConverter(Project project, io.ballerina.projects.Document document, TypesManager typesManager) {
-        this.project = project;
-        this.document = document;
+    public XMLToRecordConverter(TypesManager typesManager) {
         this.typesManager = typesManager;
     }
 
@@ -113,20 +99,14 @@ public final class XMLToRecordConverter {
     public JsonElement convert(String xmlValue, boolean isRecordTypeDesc, boolean isClosed,
                                boolean forceFormatRecordFields,
                                String textFieldName, boolean withNameSpaces, boolean withoutAttributes,
-                               boolean withoutAttributeAnnot, String prefix) throws FormatterException, IOException,
-            SAXException, ParserConfigurationException {
+                               boolean withoutAttributeAnnot, String prefix)
+            throws FormatterException, XMLStreamException {
         Map<String, NonTerminalNode> recordToTypeDescNodes = new LinkedHashMap<>();
         Map<String, AnnotationNode> recordToAnnotationNodes = new LinkedHashMap<>();
         Map<String, Element> recordToElementNodes = new LinkedHashMap<>();
 
-        // Convert the XML string to an InputStream
-        ByteArrayInputStream inputStream = new ByteArrayInputStream(xmlValue.getBytes(StandardCharsets.UTF_8));
-
-        DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-        dbFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-        dbFactory.setNamespaceAware(true);
-        DocumentBuilder docBuilder = dbFactory.newDocumentBuilder();
-        Document doc = docBuilder.parse(inputStream);
+        // Repeated siblings with a namespace prefix are kept when the prefixes are used to name the fields
+        Document doc = XMLShapeReader.read(xmlValue, !withNameSpaces);
 
         Element rootElement = doc.getDocumentElement();
         generateRecords(rootElement, isClosed, recordToTypeDescNodes, recordToAnnotationNodes,
@@ -178,27 +158,12 @@ public final class XMLToRecordConverter {
                 .setForceFormattingOptions(forceFormattingOptions).build();
         String typesSrc = Formatter.format(modulePartNode.syntaxTree(), formattingOptions).toSourceCode();
 
-        io.ballerina.projects.Document modifiedDoc =
-                project.duplicate().currentPackage().module(document.module().moduleId())
-                        .document(document.documentId()).modify().withContent(typesSrc).apply();
-        SemanticModel semanticModel = modifiedDoc.module().getCompilation().getSemanticModel();
-
-        List<TypesManager.TypeDataWithRefs> typeDataList = new ArrayList<>();
-        for (Symbol symbol : semanticModel.moduleSymbols()) {
-            if (symbol.kind() == SymbolKind.TYPE_DEFINITION) {
-                TypeDefinitionSymbol typeDefSymbol = (TypeDefinitionSymbol) symbol;
-                if (typeNames.contains(typeDefSymbol.getName().get())) {
-                    typeDataList.add(typesManager.getTypeDataWithRefs(typeDefSymbol));
-                }
-            }
-        }
-
+        List<TypesManager.TypeDataWithRefs> typeDataList = typesManager.getTypeDataWithRefs(typesSrc, typeNames);
         return gson.toJsonTree(typeDataList);
     }
 
     public JsonElement convert(String xmlValue, boolean isRecordTypeDesc, boolean isClosed,
-                               boolean forceFormatRecordFields) throws FormatterException,
-            ParserConfigurationException, IOException, SAXException {
+                               boolean forceFormatRecordFields) throws FormatterException, XMLStreamException {
         return convert(xmlValue, isRecordTypeDesc, isClosed, forceFormatRecordFields, null, true, false, false, "");
     }
 
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.converters.utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Streaming reader which reads a JSON value into its shape, i.e. the part of the value that determines the records
+ * generated for it. Primitive values are replaced by a canonical value of the same kind, and an element of an array is
+ * kept only if no earlier element of the array has the same shape. Hence, the memory used for a large sample grows
+ * with the number of distinct shapes in it rather than with its size.
+ *
+ * @since 2.0.0
+ */
+public final class JsonShapeReader {
+
+    private static final JsonPrimitive STRING_SHAPE = new JsonPrimitive("");
+    private static final JsonPrimitive INT_SHAPE = new JsonPrimitive(0);
+    private static final JsonPrimitive DECIMAL_SHAPE = new JsonPrimitive(0.0);
+    private static final JsonPrimitive BOOLEAN_SHAPE = new JsonPrimitive(true);
+    private static final String DECIMAL_POINT = ".";
+
+    private JsonShapeReader() {
+    }
+
+    /**
+     * Reads the shape of the given JSON string. Similar to {@link com.google.gson.JsonParser#parseString(String)}, the
+     * string is parsed leniently and an empty string is read as a JSON null.
+     *
+     * @param jsonString JSON string to read
+     * @return the shape of the JSON value
+     * @throws JsonSyntaxException if the string is not a valid JSON value
+     */
+    public static JsonElement read(String jsonString) {
+        try (JsonReader reader = new JsonReader(new StringReader(jsonString))) {
+            reader.setLenient(true);
+            try {
+                reader.peek();
+            } catch (EOFException e) {
+                return JsonNull.INSTANCE;
+            }
+            JsonElement shape = readShape(reader);
+            if (!shape.isJsonNull() && reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new JsonSyntaxException("Did not consume the entire document.");
+            }
+            return shape;
+        } catch (MalformedJsonException | NumberFormatException | EOFException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        } catch (StackOverflowError e) {
+            throw new JsonSyntaxException("Failed parsing JSON source to JSON shape", e);
+        }
+    }
+
+    private static JsonElement readShape(JsonReader reader) throws IOException {
+        return switch (reader.peek()) {
+            case BEGIN_OBJECT -> {
+                JsonObject object = new JsonObject();
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+                    object.add(name, readShape(reader));
+                }
+                reader.endObject();
+                yield object;
+            }
+            case BEGIN_ARRAY -> {
+                JsonArray array = new JsonArray();
+                Set<String> elementShapes = new HashSet<>();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    JsonElement element = readShape(reader);
+                    if (elementShapes.add(element.toString())) {
+                        array.add(element);
+                    }
+                }
+                reader.endArray();
+                yield array;
+            }
+            case STRING -> {
+                reader.skipValue();
+                yield STRING_SHAPE;
+            }
+            case NUMBER -> reader.nextString().contains(DECIMAL_POINT) ? DECIMAL_SHAPE : INT_SHAPE;
+            case BOOLEAN -> {
+                reader.skipValue();
+                yield BOOLEAN_SHAPE;
+            }
+            case NULL -> {
+                reader.nextNull();
+                yield JsonNull.INSTANCE;
+            }
+            default -> throw new IllegalArgumentException("Unexpected JSON token: " + reader.peek());
+        };
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.converters.utils;
+
+import org.w3c.dom.DOMImplementation;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import static io.ballerina.flowmodelgenerator.core.converters.utils.XMLToRecordConverterUtils.getPrimitiveTypeName;
+
+/**
+ * Streaming reader which reads an XML document into its shape, i.e. a DOM document with only the parts of the XML
+ * value that determine the records generated for it. The document is read with a StAX reader, and
+ * <ul>
+ *     <li>text is replaced by a canonical value of the same primitive type,</li>
+ *     <li>values of attributes other than namespace declarations are dropped, and</li>
+ *     <li>a repeated sibling element is dropped once two earlier siblings have the same shape, which is enough to
+ *     infer an array field for it.</li>
+ * </ul>
+ * Hence, the memory used for a large sample grows with the number of distinct element shapes in it rather than with
+ * its size. Apart from that, the document has the same nodes as the one built by a namespace aware DOM parser.
+ *
+ * @since 2.0.0
+ */
+public final class XMLShapeReader {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXMLInputFactory();
+    private static final DOMImplementation DOM_IMPLEMENTATION = createDOMImplementation();
+    private static final String REPORT_CDATA_EVENT = "http://java.sun.com/xml/stream/properties/report-cdata-event";
+    private static final String XMLNS_PREFIX = "xmlns";
+    private static final int MAX_SIBLINGS_OF_SAME_SHAPE = 2;
+
+    private XMLShapeReader() {
+    }
+
+    /**
+     * Reads the shape of the given XML string.
+     *
+     * @param xmlValue              XML string to read
+     * @param mergePrefixedElements whether repeated siblings with a namespace prefix can be dropped, which is not the
+     *                              case when the prefixes are used to name the generated fields
+     * @return the shape of the XML document
+     * @throws XMLStreamException if the string is not a well-formed XML document, or if it has a DOCTYPE declaration
+     */
+    public static Document read(String xmlValue, boolean mergePrefixedElements) throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(xmlValue));
+        try {
+            return new ShapeBuilder(mergePrefixedElements).build(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static XMLInputFactory createXMLInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        // Report CDATA sections separately, as the DOM parser keeps them apart from the text nodes
+        if (factory.isPropertySupported(REPORT_CDATA_EVENT)) {
+            factory.setProperty(REPORT_CDATA_EVENT, true);
+        }
+        return factory;
+    }
+
+    private static DOMImplementation createDOMImplementation() {
+        try {
+            return DocumentBuilderFactory.newInstance().newDocumentBuilder().getDOMImplementation();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("Failed to create the DOM implementation", e);
+        }
+    }
+
+    /**
+     * Builds the shape of a single XML document. A shape id is assigned to each element based on its name,
+     * attributes and the ids of its retained children, so that siblings of the same shape are identified without
+     * keeping their content.
+     */
+    private static class ShapeBuilder {
+
+        private final boolean mergePrefixedElements;
+        private final Document document;
+        private final Deque<ElementShape> elements = new ArrayDeque<>();
+        private final Map<String, Integer> shapeIds = new HashMap<>();
+        private final StringBuilder text = new StringBuilder();
+
+        ShapeBuilder(boolean mergePrefixedElements) {
+            this.mergePrefixedElements = mergePrefixedElements;
+            this.document = DOM_IMPLEMENTATION.createDocument(null, null, null);
+        }
+
+        Document build(XMLStreamReader reader) throws XMLStreamException {
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> startElement(reader);
+                    case XMLStreamConstants.END_ELEMENT -> endElement();
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.SPACE -> {
+                        if (!elements.isEmpty()) {
+                            text.append(reader.getText());
+                        }
+                    }
+                    case XMLStreamConstants.CDATA -> appendChild(document.createCDATASection(""), "C");
+                    case XMLStreamConstants.COMMENT -> appendChild(document.createComment(""), "M");
+                    case XMLStreamConstants.PROCESSING_INSTRUCTION ->
+                            appendChild(document.createProcessingInstruction(reader.getPITarget(), ""), "P");
+                    case XMLStreamConstants.DTD -> throw new XMLStreamException("DOCTYPE is not allowed",
+                            reader.getLocation());
+                    default -> {
+                    }
+                }
+            }
+            return document;
+        }
+
+        private void startElement(XMLStreamReader reader) {
+            flushText();
+            Element element = document.createElementNS(emptyToNull(reader.getNamespaceURI()),
+                    qualifiedName(reader.getPrefix(), reader.getLocalName()));
+            for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                String prefix = emptyToNull(reader.getNamespacePrefix(i));
+                element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+                        prefix == null ? XMLNS_PREFIX : XMLNS_PREFIX + ":" + prefix,
+                        reader.getNamespaceURI(i));
+            }
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                element.setAttributeNS(emptyToNull(reader.getAttributeNamespace(i)),
+                        qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)), "");
+            }
+            elements.push(new ElementShape(element));
+        }
+
+        private void endElement() {
+            flushText();
+            ElementShape shape = elements.pop();
+            Element element = shape.element;
+
+            StringBuilder key = new StringBuilder(element.getNodeName()).append('|')
+                    .append(element.getNamespaceURI()).append('|');
+            NamedNodeMap attributes = element.getAttributes();
+            for (int i = 0; i < attributes.getLength(); i++) {
+                Node attribute = attributes.item(i);
+                key.append(attribute.getNodeName()).append('=').append(attribute.getNodeValue()).append(';');
+            }
+            key.append('|').append(shape.children);
+            Integer shapeId = shapeIds.computeIfAbsent(key.toString(), k -> shapeIds.size());
+
+            ElementShape parent = elements.peek();
+            if (parent == null) {
+                document.appendChild(element);
+                return;
+            }
+            int count = parent.shapeCounts.merge(shapeId, 1, Integer::sum);
+            if (count > MAX_SIBLINGS_OF_SAME_SHAPE && (mergePrefixedElements || element.getPrefix() == null)) {
+                return;
+            }
+            parent.element.appendChild(element);
+            parent.children.append('E').append(shapeId).append(',');
+        }
+
+        private void flushText() {
+            if (text.isEmpty()) {
+                return;
+            }
+            String value = canonicalValue(text.toString());
+            text.setLength(0);
+
+            // The text around a dropped element is merged, as the parent of it is not a leaf element anyway
+            ElementShape parent = elements.peek();
+            Node lastChild = parent.element.getLastChild();
+            if (lastChild != null && lastChild.getNodeType() == Node.TEXT_NODE) {
+                return;
+            }
+            parent.element.appendChild(document.createTextNode(value));
+            parent.children.append('T').append(value).append(',');
+        }
+
+        private void appendChild(Node node, String kind) {
+            ElementShape parent = elements.peek();
+            if (parent == null) {
+                return;
+            }
+            flushText();
+            parent.element.appendChild(node);
+            parent.children.append(kind).append(',');
+        }
+
+        private static String canonicalValue(String value) {
+            return switch (getPrimitiveTypeName(value).kind()) {
+                case BOOLEAN_KEYWORD -> "true";
+                case INT_KEYWORD -> "0";
+                case DECIMAL_KEYWORD -> "0.0";
+                default -> "";
+            };
+        }
+
+        private static String qualifiedName(String prefix, String localName) {
+            return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+        }
+
+        private static String emptyToNull(String value) {
+            return value == null || value.isEmpty() ? null : value;
+        }
+    }
+
+    /**
+     * Element being read, along with the shapes of its retained children.
+     */
+    private static class ElementShape {
+
+        private final Element element;
+        private final StringBuilder children = new StringBuilder();
+        private final Map<Integer, Integer> shapeCounts = new HashMap<>();
+
+        ElementShape(Element element) {
+            this.element = element;
+        }
+    }
+}
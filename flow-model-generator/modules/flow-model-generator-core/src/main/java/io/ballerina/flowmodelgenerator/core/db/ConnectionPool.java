@@ -0,0 +1,314 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.db;
+
+import org.sqlite.SQLiteConfig;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+/**
+ * A bounded pool of read-only SQLite connections to the central index. Each pooled connection keeps its own cache of
+ * prepared statements, so that the same query is compiled by SQLite only once per connection.
+ *
+ * @since 2.0.0
+ */
+class ConnectionPool {
+
+    private static final Logger LOGGER = Logger.getLogger(ConnectionPool.class.getName());
+    private static final long MMAP_SIZE = 256L * 1024 * 1024;
+    private static final int STATEMENT_CACHE_SIZE = 32;
+    private static final long ACQUIRE_TIMEOUT_MS = 10_000;
+
+    private final String dbPath;
+    private final int maxSize;
+    private final BlockingQueue<PooledConnection> idleConnections;
+    private final AtomicInteger openConnections;
+    private final PoolMetrics metrics;
+    // Guards the pool size, and signals the waiting threads when a connection is returned or discarded
+    private final ReentrantLock lock;
+    private final Condition available;
+
+    ConnectionPool(String dbPath, int maxSize) {
+        this.dbPath = dbPath;
+        this.maxSize = maxSize;
+        this.idleConnections = new ArrayBlockingQueue<>(maxSize);
+        this.openConnections = new AtomicInteger(0);
+        this.metrics = new PoolMetrics();
+        this.lock = new ReentrantLock();
+        this.available = lock.newCondition();
+    }
+
+    /**
+     * Acquires a connection from the pool, opening a new one if the pool has not reached its maximum size. The
+     * returned connection must be closed to hand it back to the pool.
+     *
+     * @return a pooled read-only connection
+     * @throws SQLException if a connection could not be opened or the pool did not free up in time
+     */
+    PooledConnection acquire() throws SQLException {
+        long start = System.nanoTime();
+        PooledConnection connection = idleConnections.poll();
+        if (connection == null) {
+            connection = openOrWait();
+        }
+        metrics.recordWait(System.nanoTime() - start);
+        connection.acquiredAt = System.nanoTime();
+        connection.released = false;
+        return connection;
+    }
+
+    private PooledConnection openOrWait() throws SQLException {
+        lock.lock();
+        try {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(ACQUIRE_TIMEOUT_MS);
+            while (true) {
+                PooledConnection connection = idleConnections.poll();
+                if (connection != null) {
+                    return connection;
+                }
+                if (openConnections.get() < maxSize) {
+                    openConnections.incrementAndGet();
+                    break;
+                }
+                if (remainingNanos <= 0) {
+                    throw new SQLException("Timed out waiting for a connection to the central index");
+                }
+                remainingNanos = available.awaitNanos(remainingNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection to the central index", e);
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            return new PooledConnection(openConnection());
+        } catch (SQLException e) {
+            closeSlot();
+            throw e;
+        }
+    }
+
+    private Connection openConnection() throws SQLException {
+        SQLiteConfig config = new SQLiteConfig();
+        config.setReadOnly(true);
+        Connection connection = DriverManager.getConnection(dbPath, config.toProperties());
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("PRAGMA query_only = 1;");
+            stmt.execute("PRAGMA mmap_size = " + MMAP_SIZE + ";");
+        }
+        return connection;
+    }
+
+    private void release(PooledConnection connection) {
+        metrics.recordQuery(System.nanoTime() - connection.acquiredAt);
+        try {
+            if (!connection.connection.isClosed() && idleConnections.offer(connection)) {
+                signalAvailable();
+                return;
+            }
+        } catch (SQLException e) {
+            LOGGER.warning("Failed to check the state of a pooled connection: " + e.getMessage());
+        }
+        connection.discard();
+        closeSlot();
+    }
+
+    /**
+     * Frees the slot of a connection that was discarded or failed to open, so that a waiting thread can open a new
+     * connection in its place.
+     */
+    private void closeSlot() {
+        lock.lock();
+        try {
+            openConnections.decrementAndGet();
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void signalAvailable() {
+        lock.lock();
+        try {
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    PoolMetrics.Snapshot getMetrics() {
+        return metrics.snapshot(openConnections.get(), idleConnections.size());
+    }
+
+    /**
+     * A connection handed out by the pool. Closing it returns the connection to the pool instead of closing the
+     * underlying JDBC connection. Closing it more than once has no effect.
+     */
+    class PooledConnection implements AutoCloseable {
+
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statementCache;
+        private long acquiredAt;
+        private boolean released;
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+            this.statementCache = new LinkedHashMap<>(STATEMENT_CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() <= STATEMENT_CACHE_SIZE) {
+                        return false;
+                    }
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+            };
+        }
+
+        /**
+         * Returns a prepared statement for the given SQL, reusing the one cached on this connection if available.
+         * The returned statement is owned by the pool and must not be closed by the caller.
+         *
+         * @param sql the SQL query
+         * @return the prepared statement
+         * @throws SQLException if the statement could not be prepared
+         */
+        PreparedStatement prepareStatement(String sql) throws SQLException {
+            PreparedStatement stmt = statementCache.get(sql);
+            if (stmt != null && !stmt.isClosed()) {
+                metrics.statementHits.increment();
+                stmt.clearParameters();
+                return stmt;
+            }
+            metrics.statementMisses.increment();
+            stmt = connection.prepareStatement(sql);
+            statementCache.put(sql, stmt);
+            return stmt;
+        }
+
+        private void discard() {
+            statementCache.values().forEach(ConnectionPool::closeQuietly);
+            statementCache.clear();
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOGGER.warning("Failed to close a pooled connection: " + e.getMessage());
+            }
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            release(this);
+        }
+    }
+
+    private static void closeQuietly(Statement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            LOGGER.warning("Failed to close a cached statement: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Collects the time spent waiting for a connection and the time a connection was held to run a query.
+     */
+    static class PoolMetrics {
+
+        private final LongAdder waitCount = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private final LongAdder queryCount = new LongAdder();
+        private final LongAdder totalQueryNanos = new LongAdder();
+        private final AtomicLong maxQueryNanos = new AtomicLong();
+        private final LongAdder statementHits = new LongAdder();
+        private final LongAdder statementMisses = new LongAdder();
+
+        private void recordWait(long nanos) {
+            waitCount.increment();
+            totalWaitNanos.add(nanos);
+            maxWaitNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        private void recordQuery(long nanos) {
+            queryCount.increment();
+            totalQueryNanos.add(nanos);
+            maxQueryNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        private Snapshot snapshot(int openConnections, int idleConnections) {
+            return new Snapshot(openConnections, idleConnections, waitCount.sum(), totalWaitNanos.sum(),
+                    maxWaitNanos.get(), queryCount.sum(), totalQueryNanos.sum(), maxQueryNanos.get(),
+                    statementHits.sum(), statementMisses.sum());
+        }
+
+        /**
+         * A point-in-time view of the pool metrics.
+         *
+         * @param openConnections   number of connections currently opened by the pool
+         * @param idleConnections   number of connections currently waiting in the pool
+         * @param waitCount         number of connection acquisitions
+         * @param totalWaitNanos    total time spent waiting for a connection
+         * @param maxWaitNanos      longest time spent waiting for a connection
+         * @param queryCount        number of queries executed
+         * @param totalQueryNanos   total time connections were held to execute queries
+         * @param maxQueryNanos     longest time a connection was held to execute a query
+         * @param statementHits     number of prepared statements reused from the cache
+         * @param statementMisses   number of prepared statements compiled by SQLite
+         */
+        record Snapshot(int openConnections, int idleConnections, long waitCount, long totalWaitNanos,
+                        long maxWaitNanos, long queryCount, long totalQueryNanos, long maxQueryNanos,
+                        long statementHits, long statementMisses) {
+
+            @Override
+            public String toString() {
+                return String.format("connections: %d open, %d idle; pool wait: %d acquisitions, avg %.3f ms, " +
+                                "max %.3f ms; queries: %d, avg %.3f ms, max %.3f ms; statement cache: %d hits, " +
+                                "%d misses", openConnections, idleConnections, waitCount,
+                        average(totalWaitNanos, waitCount), maxWaitNanos / 1e6, queryCount,
+                        average(totalQueryNanos, queryCount), maxQueryNanos / 1e6, statementHits, statementMisses);
+            }
+
+            private static double average(long totalNanos, long count) {
+                return count == 0 ? 0 : totalNanos / 1e6 / count;
+            }
+        }
+    }
+}
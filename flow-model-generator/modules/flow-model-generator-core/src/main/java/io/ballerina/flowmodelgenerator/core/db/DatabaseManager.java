@@ -25,14 +25,12 @@ import io.ballerina.flowmodelgenerator.core.db.model.ParameterResult;
 
 import java.io.IOException;
 import java.net.URL;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -47,8 +45,24 @@ import java.util.logging.Logger;
 public class DatabaseManager {
 
     private static final String INDEX_FILE_NAME = "central-index.sqlite";
+    // The checksum of the index, generated by the build of the module bundling the index
+    private static final String CHECKSUM_EXTENSION = ".sha256";
     private static final Logger LOGGER = Logger.getLogger(DatabaseManager.class.getName());
-    private final String dbPath;
+    private static final int MAX_POOL_SIZE = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+    private static final int MIN_FULL_TEXT_QUERY_LENGTH = 3;
+    private static final String DISABLE_FULL_TEXT_SEARCH_PROPERTY = "ballerina.flowmodel.disableFullTextSearch";
+    private static final String FULL_TEXT_SEARCH_TABLE = "FunctionSearch";
+    private static final String FULL_TEXT_SEARCH_TOKENIZER = "trigram";
+    // Rank the matches by relevance, weighing the function name over the package name
+    private static final String SEARCH_RANK_ORDER = "ORDER BY bm25(FunctionSearch, 10.0, 1.0, 5.0, 2.0) ";
+    // Match the same columns as the LIKE query, so that both return the same functions
+    private static final String SEARCH_COLUMNS = "{name package_name} : ";
+    private static final int FUNCTION_CACHE_SIZE = 4096;
+    private static final int PARAMETER_CACHE_SIZE = 4096;
+    private final ConnectionPool connectionPool;
+    private final boolean fullTextSearchAvailable;
+    private final LookupCache<FunctionKey, Optional<FunctionResult>> functionCache;
+    private final LookupCache<Integer, List<ParameterResult>> parameterCache;
 
     private static class Holder {
 
@@ -59,32 +73,105 @@ public class DatabaseManager {
         return Holder.INSTANCE;
     }
 
+    /**
+     * Initializes the database manager on a background thread, so that extracting the central index does not delay
+     * the first request that requires it.
+     */
+    public static void initializeAsync() {
+        Thread thread = new Thread(() -> {
+            try {
+                getInstance();
+            } catch (Throwable e) {
+                LOGGER.severe("Failed to initialize the central index: " + e.getMessage());
+            }
+        }, "central-index-init");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
     private DatabaseManager() {
+        this(extractIndexFile(), !Boolean.getBoolean(DISABLE_FULL_TEXT_SEARCH_PROPERTY));
+    }
+
+    /**
+     * Creates a database manager for the given index file.
+     *
+     * @param indexFile             the central index
+     * @param fullTextSearchEnabled whether the searches may use the full-text index, if the index has one
+     */
+    DatabaseManager(Path indexFile, boolean fullTextSearchEnabled) {
         try {
             Class.forName("org.sqlite.JDBC");
         } catch (ClassNotFoundException e) {
             throw new RuntimeException("Failed to load SQLite JDBC driver", e);
         }
 
-        Path tempDir;
-        try {
-            tempDir = Files.createTempDirectory("central-index");
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to create a temporary directory", e);
-        }
+        connectionPool = new ConnectionPool("jdbc:sqlite:" + indexFile.toString(), MAX_POOL_SIZE);
+        fullTextSearchAvailable = fullTextSearchEnabled && hasFullTextSearchTable();
+        functionCache = new LookupCache<>(FUNCTION_CACHE_SIZE);
+        parameterCache = new LookupCache<>(PARAMETER_CACHE_SIZE);
+    }
 
-        URL dbUrl = getClass().getClassLoader().getResource(INDEX_FILE_NAME);
+    private static Path extractIndexFile() {
+        URL dbUrl = DatabaseManager.class.getClassLoader().getResource(INDEX_FILE_NAME);
         if (dbUrl == null) {
             throw new RuntimeException("Database resource not found: " + INDEX_FILE_NAME);
         }
-        Path tempFile = tempDir.resolve(INDEX_FILE_NAME);
+        URL checksumUrl = DatabaseManager.class.getClassLoader().getResource(INDEX_FILE_NAME + CHECKSUM_EXTENSION);
         try {
-            Files.copy(dbUrl.openStream(), tempFile);
+            return IndexFileCache.getIndexFile(dbUrl, checksumUrl);
         } catch (IOException e) {
-            throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
+            throw new RuntimeException("Failed to extract the database file to the cache directory", e);
         }
+    }
+
+    /**
+     * Checks whether the index has the FunctionSearch table with the trigram tokenizer, which matches the same
+     * substrings as the LIKE queries. The searches only use the table if it exists, as the indexes generated before
+     * the table was introduced, including the index bundled with older distributions, do not have it.
+     */
+    private boolean hasFullTextSearchTable() {
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt =
+                    conn.prepareStatement("SELECT sql FROM sqlite_master WHERE type = 'table' AND name = ?;");
+            stmt.setString(1, FULL_TEXT_SEARCH_TABLE);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    LOGGER.info("The central index has no full-text search table, searching with LIKE queries");
+                    return false;
+                }
+                String tableSql = rs.getString("sql");
+                if (tableSql == null || !tableSql.contains(FULL_TEXT_SEARCH_TOKENIZER)) {
+                    LOGGER.warning("The full-text search table of the central index does not use the trigram " +
+                            "tokenizer, searching with LIKE queries");
+                    return false;
+                }
+                return true;
+            }
+        } catch (SQLException e) {
+            LOGGER.warning("Failed to read the schema of the central index: " + e.getMessage());
+            return false;
+        }
+    }
 
-        dbPath = "jdbc:sqlite:" + tempFile.toString();
+    /**
+     * Returns whether the searches with a query of at least three characters are served by the full-text index.
+     *
+     * @return true if the full-text index is used
+     */
+    boolean isFullTextSearchAvailable() {
+        return fullTextSearchAvailable;
+    }
+
+    /**
+     * Returns the pool-wait, query-latency and lookup cache metrics collected for the central index.
+     *
+     * @return a summary of the central index metrics
+     */
+    public String getMetrics() {
+        return String.format("%s; function cache: %d hits, %d misses; parameter cache: %d hits, %d misses",
+                connectionPool.getMetrics(), functionCache.hits(), functionCache.misses(), parameterCache.hits(),
+                parameterCache.misses());
     }
 
     public enum FunctionKind {
@@ -113,29 +200,30 @@ public class DatabaseManager {
                 "LIMIT ? " +
                 "OFFSET ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, kind.name());
             stmt.setString(2, queryMap.get("limit"));
             stmt.setString(3, queryMap.get("offset"));
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionResult> functionResults = new ArrayList<>();
-            while (rs.next()) {
-                FunctionResult functionResult = new FunctionResult(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        Function.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"));
-                functionResults.add(functionResult);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionResult> functionResults = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionResult functionResult = new FunctionResult(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            Function.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"));
+                    functionResults.add(functionResult);
+                }
+                return functionResults;
             }
-            return functionResults;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -159,28 +247,29 @@ public class DatabaseManager {
                 "JOIN Package p ON f.package_id = p.package_id " +
                 "WHERE f.kind = ? AND p.org = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, functionKind.name());
             stmt.setString(2, orgName);
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionResult> functionResults = new ArrayList<>();
-            while (rs.next()) {
-                FunctionResult functionResult = new FunctionResult(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        Function.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"));
-                functionResults.add(functionResult);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionResult> functionResults = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionResult functionResult = new FunctionResult(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            Function.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"));
+                    functionResults.add(functionResult);
+                }
+                return functionResults;
             }
-            return functionResults;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -188,54 +277,66 @@ public class DatabaseManager {
     }
 
     public List<FunctionResult> searchFunctions(Map<String, String> queryMap, FunctionKind kind) {
-        String sql = "SELECT " +
-                "f.function_id, " +
-                "f.name AS function_name, " +
-                "f.description AS function_description, " +
-                "f.return_type, " +
-                "f.resource_path, " +
-                "f.kind, " +
-                "f.return_error, " +
-                "f.inferred_return_type, " +
-                "p.name AS package_name, " +
-                "p.org, " +
-                "p.version " +
-                "FROM Function f " +
-                "JOIN Package p ON f.package_id = p.package_id " +
-                "WHERE f.kind = ? " +
-                "AND (" +
-                "f.name LIKE ? OR " +
-                "p.name LIKE ? " +
-                ")" +
-                "LIMIT ? " +
-                "OFFSET ?;";
-        String wildcardKeyword = "%" + queryMap.get("q") + "%";
+        String query = queryMap.get("q");
+        boolean fullTextSearch = fullTextSearchAvailable && isFullTextSearchable(query);
+        StringBuilder sql = new StringBuilder("SELECT ");
+        sql.append("f.function_id, ");
+        sql.append("f.name AS function_name, ");
+        sql.append("f.description AS function_description, ");
+        sql.append("f.return_type, ");
+        sql.append("f.resource_path, ");
+        sql.append("f.kind, ");
+        sql.append("f.return_error, ");
+        sql.append("f.inferred_return_type, ");
+        sql.append("p.name AS package_name, ");
+        sql.append("p.org, ");
+        sql.append("p.version ");
+        sql.append("FROM Function f ");
+        if (fullTextSearch) {
+            sql.append("JOIN FunctionSearch fs ON fs.rowid = f.function_id ");
+        }
+        sql.append("JOIN Package p ON f.package_id = p.package_id ");
+        sql.append("WHERE f.kind = ? ");
+        if (fullTextSearch) {
+            sql.append("AND FunctionSearch MATCH ? ");
+            sql.append(SEARCH_RANK_ORDER);
+        } else {
+            sql.append("AND (f.name LIKE ? OR p.name LIKE ?) ");
+        }
+        sql.append("LIMIT ? OFFSET ?;");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, kind.name());
-            stmt.setString(2, wildcardKeyword);
-            stmt.setString(3, wildcardKeyword);
-            stmt.setString(4, queryMap.get("limit"));
-            stmt.setString(5, queryMap.get("offset"));
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionResult> functionResults = new ArrayList<>();
-            while (rs.next()) {
-                FunctionResult functionResult = new FunctionResult(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        Function.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"));
-                functionResults.add(functionResult);
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql.toString());
+            int paramIndex = 1;
+            stmt.setString(paramIndex++, kind.name());
+            if (fullTextSearch) {
+                stmt.setString(paramIndex++, toMatchExpression(query));
+            } else {
+                String wildcardKeyword = "%" + query + "%";
+                stmt.setString(paramIndex++, wildcardKeyword);
+                stmt.setString(paramIndex++, wildcardKeyword);
+            }
+            stmt.setString(paramIndex++, queryMap.get("limit"));
+            stmt.setString(paramIndex, queryMap.get("offset"));
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionResult> functionResults = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionResult functionResult = new FunctionResult(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            Function.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"));
+                    functionResults.add(functionResult);
+                }
+                return functionResults;
             }
-            return functionResults;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -243,55 +344,20 @@ public class DatabaseManager {
     }
 
     public Optional<FunctionResult> getFunction(String org, String module, String symbol, FunctionKind kind) {
-        String sql = "SELECT " +
-                "f.function_id, " +
-                "f.name AS function_name, " +
-                "f.description AS function_description, " +
-                "f.return_type, " +
-                "f.resource_path, " +
-                "f.kind, " +
-                "f.return_error, " +
-                "f.inferred_return_type, " +
-                "p.name AS package_name, " +
-                "p.org, " +
-                "p.version " +
-                "FROM Function f " +
-                "JOIN Package p ON f.package_id = p.package_id " +
-                "WHERE f.kind = ? " +
-                "AND p.org = ? " +
-                "AND p.name = ? " +
-                "AND f.name = ?;";
+        return getAction(org, module, symbol, null, kind);
+    }
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, kind.name());
-            stmt.setString(2, org);
-            stmt.setString(3, module);
-            stmt.setString(4, symbol);
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                return Optional.of(new FunctionResult(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        Function.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type")));
-            }
-            return Optional.empty();
+    public Optional<FunctionResult> getAction(String org, String module, String symbol, String resourcePath,
+                                              FunctionKind kind) {
+        try {
+            return functionCache.get(new FunctionKey(org, module, symbol, resourcePath, kind), this::queryAction);
         } catch (SQLException e) {
-            Logger.getGlobal().severe("Error executing query: " + e.getMessage());
+            LOGGER.severe("Error executing query: " + e.getMessage());
             return Optional.empty();
         }
     }
 
-    public Optional<FunctionResult> getAction(String org, String module, String symbol, String resourcePath,
-                                              FunctionKind kind) {
+    private Optional<FunctionResult> queryAction(FunctionKey key) throws SQLException {
         StringBuilder sql = new StringBuilder("SELECT ");
         sql.append("f.function_id, ");
         sql.append("f.name AS function_name, ");
@@ -309,41 +375,39 @@ public class DatabaseManager {
         sql.append("AND p.org = ? ");
         sql.append("AND p.name = ? ");
         sql.append("AND f.kind = ? ");
-        if (resourcePath != null) {
+        if (key.resourcePath() != null) {
             sql.append("AND f.name = ? ");
             sql.append("AND f.resource_path = ?;");
         } else {
             sql.append("AND f.name = ?;");
         }
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
-            stmt.setString(1, org);
-            stmt.setString(2, module);
-            stmt.setString(3, kind.name());
-            stmt.setString(4, symbol);
-            if (resourcePath != null) {
-                stmt.setString(5, resourcePath);
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql.toString());
+            stmt.setString(1, key.org());
+            stmt.setString(2, key.module());
+            stmt.setString(3, key.kind().name());
+            stmt.setString(4, key.symbol());
+            if (key.resourcePath() != null) {
+                stmt.setString(5, key.resourcePath());
             }
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                return Optional.of(new FunctionResult(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        Function.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type")));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new FunctionResult(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            Function.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type")));
+                }
+                return Optional.empty();
             }
-            return Optional.empty();
-        } catch (SQLException e) {
-            Logger.getGlobal().severe("Error executing query: " + e.getMessage());
-            return Optional.empty();
         }
     }
 
@@ -364,25 +428,26 @@ public class DatabaseManager {
                 "JOIN Package p ON f.package_id = p.package_id " +
                 "WHERE f.function_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, functionId);
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                return Optional.of(new FunctionResult(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        Function.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type")));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new FunctionResult(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            Function.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type")));
+                }
+                return Optional.empty();
             }
-            return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return Optional.empty();
@@ -390,43 +455,24 @@ public class DatabaseManager {
     }
 
     public List<ParameterResult> getFunctionParameters(int functionId) {
-        String sql = "SELECT " +
-                "p.parameter_id, " +
-                "p.name, " +
-                "p.type, " +
-                "p.kind, " +
-                "p.optional, " +
-                "p.default_value, " +
-                "p.description, " +
-                "p.import_statements " +
-                "FROM Parameter p " +
-                "WHERE p.function_id = ?;";
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, functionId);
-            ResultSet rs = stmt.executeQuery();
-            List<ParameterResult> parameterResults = new ArrayList<>();
-            while (rs.next()) {
-                ParameterResult parameterResult = new ParameterResult(
-                        rs.getInt("parameter_id"),
-                        rs.getString("name"),
-                        rs.getString("type"),
-                        Parameter.Kind.valueOf(rs.getString("kind")),
-                        rs.getString("default_value"),
-                        rs.getString("description"),
-                        rs.getBoolean("optional"),
-                        rs.getString("import_statements")
-                );
-                parameterResults.add(parameterResult);
-            }
-            return parameterResults;
+        try {
+            return parameterCache.get(functionId, this::queryFunctionParameters);
         } catch (SQLException e) {
-            Logger.getGlobal().severe("Error executing query: " + e.getMessage());
+            LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
         }
     }
 
     public LinkedHashMap<String, ParameterResult> getFunctionParametersAsMap(int functionId) {
+        // The callers consume the parameters off the map, hence a copy of the cached parameters is returned
+        LinkedHashMap<String, ParameterResult> parameterResults = new LinkedHashMap<>();
+        for (ParameterResult parameterResult : getFunctionParameters(functionId)) {
+            parameterResults.put(parameterResult.name(), parameterResult);
+        }
+        return parameterResults;
+    }
+
+    private List<ParameterResult> queryFunctionParameters(int functionId) throws SQLException {
         String sql = "SELECT " +
                 "p.parameter_id, " +
                 "p.name, " +
@@ -438,29 +484,26 @@ public class DatabaseManager {
                 "p.import_statements " +
                 "FROM Parameter p " +
                 "WHERE p.function_id = ?;";
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, functionId);
-            ResultSet rs = stmt.executeQuery();
-            LinkedHashMap<String, ParameterResult> parameterResults = new LinkedHashMap<>();
-            while (rs.next()) {
-                String paramName = rs.getString("name");
-                ParameterResult parameterResult = new ParameterResult(
-                        rs.getInt("parameter_id"),
-                        paramName,
-                        rs.getString("type"),
-                        Parameter.Kind.valueOf(rs.getString("kind")),
-                        rs.getString("default_value"),
-                        rs.getString("description"),
-                        rs.getBoolean("optional"),
-                        rs.getString("import_statements")
-                );
-                parameterResults.put(paramName, parameterResult);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<ParameterResult> parameterResults = new ArrayList<>();
+                while (rs.next()) {
+                    ParameterResult parameterResult = new ParameterResult(
+                            rs.getInt("parameter_id"),
+                            rs.getString("name"),
+                            rs.getString("type"),
+                            Parameter.Kind.valueOf(rs.getString("kind")),
+                            rs.getString("default_value"),
+                            rs.getString("description"),
+                            rs.getBoolean("optional"),
+                            rs.getString("import_statements")
+                    );
+                    parameterResults.add(parameterResult);
+                }
+                return Collections.unmodifiableList(parameterResults);
             }
-            return parameterResults;
-        } catch (SQLException e) {
-            Logger.getGlobal().severe("Error executing query: " + e.getMessage());
-            return new LinkedHashMap<>();
         }
     }
 
@@ -478,27 +521,28 @@ public class DatabaseManager {
                 "JOIN FunctionConnector fc ON f.function_id = fc.function_id " +
                 "WHERE fc.connector_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, connectorId);
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionResult> functionResults = new ArrayList<>();
-            while (rs.next()) {
-                FunctionResult functionResult = new FunctionResult(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("description"),
-                        rs.getString("return_type"),
-                        null, // packageName is not selected in this query
-                        null, // org is not selected in this query
-                        null, // version is not selected in this query
-                        rs.getString("resource_path"),
-                        Function.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"));
-                functionResults.add(functionResult);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionResult> functionResults = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionResult functionResult = new FunctionResult(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("description"),
+                            rs.getString("return_type"),
+                            null, // packageName is not selected in this query
+                            null, // org is not selected in this query
+                            null, // version is not selected in this query
+                            rs.getString("resource_path"),
+                            Function.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"));
+                    functionResults.add(functionResult);
+                }
+                return functionResults;
             }
-            return functionResults;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -511,6 +555,8 @@ public class DatabaseManager {
             return List.of();
         }
 
+        boolean hasQuery = queryMap.containsKey("q");
+        boolean fullTextSearch = fullTextSearchAvailable && hasQuery && isFullTextSearchable(queryMap.get("q"));
         StringBuilder sql = new StringBuilder("SELECT ");
         sql.append("f.function_id, ");
         sql.append("f.name AS function_name, ");
@@ -524,6 +570,9 @@ public class DatabaseManager {
         sql.append("p.org, ");
         sql.append("p.version ");
         sql.append("FROM Function f ");
+        if (fullTextSearch) {
+            sql.append("JOIN FunctionSearch fs ON fs.rowid = f.function_id ");
+        }
         sql.append("JOIN Package p ON f.package_id = p.package_id ");
         sql.append("WHERE p.name IN (");
         for (int i = 0; i < packageNames.size(); i++) {
@@ -534,15 +583,17 @@ public class DatabaseManager {
         }
         sql.append(") AND f.kind = ? ");
 
-        boolean hasQuery = queryMap.containsKey("q");
-        if (hasQuery) {
+        if (fullTextSearch) {
+            sql.append("AND FunctionSearch MATCH ? ");
+            sql.append(SEARCH_RANK_ORDER);
+        } else if (hasQuery) {
             sql.append("AND (f.name LIKE ? OR p.name LIKE ?) ");
         }
 
         sql.append("LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql.toString());
             int paramIndex = 1;
 
             // Set package name parameters
@@ -553,8 +604,10 @@ public class DatabaseManager {
             // Set function kind parameter
             stmt.setString(paramIndex++, kind.name());
 
-            // Set wildcard parameters if search query exists
-            if (hasQuery) {
+            // Set the search parameters if search query exists
+            if (fullTextSearch) {
+                stmt.setString(paramIndex++, toMatchExpression(queryMap.get("q")));
+            } else if (hasQuery) {
                 String wildcardKeyword = "%" + queryMap.get("q") + "%";
                 stmt.setString(paramIndex++, wildcardKeyword);
                 stmt.setString(paramIndex++, wildcardKeyword);
@@ -564,27 +617,49 @@ public class DatabaseManager {
             stmt.setInt(paramIndex++, queryMap.containsKey("limit") ? Integer.parseInt(queryMap.get("limit")) : 10);
             stmt.setInt(paramIndex, queryMap.containsKey("offset") ? Integer.parseInt(queryMap.get("offset")) : 0);
 
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionResult> functionResults = new ArrayList<>();
-            while (rs.next()) {
-                FunctionResult functionResult = new FunctionResult(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        Function.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"));
-                functionResults.add(functionResult);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionResult> functionResults = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionResult functionResult = new FunctionResult(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            Function.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"));
+                    functionResults.add(functionResult);
+                }
+                return functionResults;
             }
-            return functionResults;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
         }
     }
+
+    /**
+     * Checks whether the given query can be served by the trigram full-text index, which requires at least three
+     * characters. Shorter queries fall back to a pattern match over the function and package names.
+     *
+     * @param query the search query
+     * @return true if the query can be matched against the full-text index
+     */
+    private static boolean isFullTextSearchable(String query) {
+        return query != null && query.strip().length() >= MIN_FULL_TEXT_QUERY_LENGTH;
+    }
+
+    private static String toMatchExpression(String query) {
+        return SEARCH_COLUMNS + "\"" + query.strip().replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Identifies a function in the central index. The resource path is only set for resource functions.
+     */
+    private record FunctionKey(String org, String module, String symbol, String resourcePath, FunctionKind kind) {
+    }
 }
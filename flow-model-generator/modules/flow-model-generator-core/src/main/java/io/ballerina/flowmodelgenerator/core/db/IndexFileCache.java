@@ -0,0 +1,215 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.db;
+
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.logging.Logger;
+
+/**
+ * Extracts the bundled central index to a persistent cache directory. The extracted copy is named after the checksum
+ * of the bundled index, so that it is reused across language server restarts and replaced only when a new index is
+ * shipped. The checksum is computed by the build and bundled next to the index, so that the index is not read on
+ * start unless it has to be extracted.
+ *
+ * <p>
+ * The checksum and the size of an extracted copy are recorded in a sidecar file once the copy is in place. The content
+ * of a copy is verified against the checksum only while it is extracted. A reused copy is not hashed again, and hence,
+ * comparing its size with the recorded size is the only integrity check of a reused copy.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class IndexFileCache {
+
+    private static final Logger LOGGER = Logger.getLogger(IndexFileCache.class.getName());
+    private static final String CACHE_DIR_NAME = "central-index";
+    private static final String FILE_PREFIX = "central-index-";
+    private static final String FILE_EXTENSION = ".sqlite";
+    private static final String CHECKSUM_EXTENSION = ".sha256";
+    private static final String CHECKSUM_ALGORITHM = "SHA-256";
+    private static final int CHECKSUM_PREFIX_LENGTH = 16;
+
+    // A language server of another version may still open connections to its copy, which is marked as in use on
+    // every start, and hence only the copies left unused for longer than this period are deleted
+    private static final Duration STALE_COPY_GRACE_PERIOD = Duration.ofDays(7);
+
+    private IndexFileCache() {
+    }
+
+    /**
+     * Returns the path to an extracted copy of the given index resource, extracting it only if a valid copy does not
+     * exist in the cache directory.
+     *
+     * @param indexUrl    the URL of the bundled index
+     * @param checksumUrl the URL of the checksum of the bundled index generated by the build, or null if the index
+     *                    is bundled without it
+     * @return the path to the extracted index
+     * @throws IOException if the index could not be read or extracted
+     */
+    static Path getIndexFile(URL indexUrl, URL checksumUrl) throws IOException {
+        return getIndexFile(indexUrl, checksumUrl, getCacheDir());
+    }
+
+    // Extracts the index to the given cache directory, which is expected to exist
+    static Path getIndexFile(URL indexUrl, URL checksumUrl, Path cacheDir) throws IOException {
+        String checksum = getChecksum(indexUrl, checksumUrl);
+        Path indexFile = cacheDir.resolve(FILE_PREFIX + checksum.substring(0, CHECKSUM_PREFIX_LENGTH) + FILE_EXTENSION);
+        Path checksumFile = getChecksumFile(indexFile);
+        if (Files.isRegularFile(indexFile) && isValid(indexFile, checksumFile, checksum)) {
+            markInUse(indexFile);
+            return indexFile;
+        }
+
+        // Extract to a temporary file first, so that concurrent language servers never observe a partial copy. The
+        // checksum file is written only after the copy is in place, as it is what marks the copy as valid.
+        Path tempFile = Files.createTempFile(cacheDir, FILE_PREFIX, ".tmp");
+        try {
+            String extractedChecksum;
+            try (InputStream inputStream = indexUrl.openStream();
+                 OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                extractedChecksum = checksum(inputStream, outputStream);
+            }
+            if (!checksum.equals(extractedChecksum)) {
+                throw new IOException("Checksum mismatch in the extracted central index");
+            }
+            long size = Files.size(tempFile);
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.writeString(tempFile, checksum + " " + size);
+            Files.move(tempFile, checksumFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        deleteStaleCopies(cacheDir, indexFile);
+        LOGGER.info("Extracted the central index to " + indexFile);
+        return indexFile;
+    }
+
+    private static Path getCacheDir() throws IOException {
+        try {
+            Path cacheDir = RepoUtils.createAndGetHomeReposPath().resolve("caches").resolve(CACHE_DIR_NAME);
+            Files.createDirectories(cacheDir);
+            if (Files.isWritable(cacheDir)) {
+                return cacheDir;
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warning("Failed to create the central index cache directory: " + e.getMessage());
+        }
+        Path cacheDir = Path.of(System.getProperty("java.io.tmpdir")).resolve(CACHE_DIR_NAME);
+        Files.createDirectories(cacheDir);
+        return cacheDir;
+    }
+
+    /**
+     * Returns the checksum of the bundled index, which is read from the checksum generated by the build. An index
+     * bundled without the checksum, as in a build that skipped the generation, is hashed instead.
+     */
+    private static String getChecksum(URL indexUrl, URL checksumUrl) throws IOException {
+        if (checksumUrl != null) {
+            try (InputStream inputStream = checksumUrl.openStream()) {
+                String checksum = new String(inputStream.readAllBytes(), StandardCharsets.US_ASCII).strip();
+                if (checksum.length() >= CHECKSUM_PREFIX_LENGTH) {
+                    return checksum;
+                }
+            }
+            LOGGER.warning("Invalid checksum of the central index: " + checksumUrl);
+        }
+        LOGGER.fine("Computing the checksum of the bundled central index");
+        try (InputStream inputStream = indexUrl.openStream()) {
+            return checksum(inputStream, OutputStream.nullOutputStream());
+        }
+    }
+
+    private static Path getChecksumFile(Path indexFile) {
+        return indexFile.resolveSibling(indexFile.getFileName() + CHECKSUM_EXTENSION);
+    }
+
+    /**
+     * Checks the copy against its sidecar file, which records the checksum verified on extraction and the size of the
+     * copy. The content of the copy is not hashed again.
+     */
+    private static boolean isValid(Path indexFile, Path checksumFile, String checksum) {
+        try {
+            return Files.readString(checksumFile).equals(checksum + " " + Files.size(indexFile));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void markInUse(Path indexFile) {
+        try {
+            Files.setLastModifiedTime(indexFile, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            LOGGER.fine("Failed to mark the central index as in use: " + indexFile);
+        }
+    }
+
+    private static String checksum(InputStream inputStream, OutputStream outputStream) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Checksum algorithm not available: " + CHECKSUM_ALGORITHM, e);
+        }
+        try (DigestInputStream digestStream = new DigestInputStream(inputStream, digest)) {
+            digestStream.transferTo(outputStream);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void deleteStaleCopies(Path cacheDir, Path indexFile) {
+        Instant staleBefore = Instant.now().minus(STALE_COPY_GRACE_PERIOD);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir, FILE_PREFIX + "*" + FILE_EXTENSION)) {
+            for (Path path : stream) {
+                if (path.equals(indexFile)) {
+                    continue;
+                }
+                try {
+                    if (Files.getLastModifiedTime(path).toInstant().isBefore(staleBefore)) {
+                        // Delete the checksum file first, so that a partially deleted copy is never seen as valid
+                        Files.deleteIfExists(getChecksumFile(path));
+                        Files.deleteIfExists(path);
+                    }
+                } catch (IOException e) {
+                    // The copy may still be in use by another language server
+                    LOGGER.fine("Failed to delete a stale central index: " + path);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Failed to clean up stale central indexes: " + e.getMessage());
+        }
+    }
+}
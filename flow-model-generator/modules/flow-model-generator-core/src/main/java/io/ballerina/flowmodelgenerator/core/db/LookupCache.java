@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.db;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A size-bounded, least-recently-used cache for the lookups served by the central index. As the index is immutable at
+ * runtime, entries never expire and absent results are cached as well, so that repeated lookups of unindexed symbols
+ * do not reach SQLite again.
+ *
+ * @param <K> the type of the lookup key
+ * @param <V> the type of the cached value
+ * @since 2.0.0
+ */
+class LookupCache<K, V> {
+
+    private final Map<K, V> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    LookupCache(int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for the given key, loading it when absent. The loader runs outside the lock, so that a
+     * slow query does not block lookups of other keys. A failed load is not cached.
+     *
+     * @param key    the lookup key
+     * @param loader the loader to obtain the value from the index
+     * @return the cached or loaded value
+     * @throws SQLException if the value could not be loaded
+     */
+    V get(K key, Loader<K, V> loader) throws SQLException {
+        synchronized (entries) {
+            V value = entries.get(key);
+            if (value != null) {
+                hits.increment();
+                return value;
+            }
+        }
+        misses.increment();
+        V value = loader.load(key);
+        synchronized (entries) {
+            entries.putIfAbsent(key, value);
+        }
+        return value;
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Loads a value that is absent in the cache.
+     *
+     * @param <K> the type of the lookup key
+     * @param <V> the type of the loaded value
+     */
+    @FunctionalInterface
+    interface Loader<K, V> {
+
+        V load(K key) throws SQLException;
+    }
+}
@@ -15,24 +15,41 @@
  *  specific language governing permissions and limitations
  *  under the License.
  */
-
 package io.ballerina.flowmodelgenerator.core.expressioneditor;
 
 import io.ballerina.flowmodelgenerator.core.expressioneditor.services.DebouncedExpressionEditorRequest;
 
+import java.nio.file.Path;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Debouncing ensures that a task is only executed after a specified delay has passed since its last invocation,
  * cancelling any pending executions in between. This class follows the Singleton pattern, ensuring only one instance
  * exists across the application.
  *
+ * <p>
+ * Requests are debounced in lanes keyed by the file and the kind of the request, so that a request only supersedes the
+ * requests of the same kind for the same file. The scheduler thread only tracks the delays, and the due requests are
+ * executed by a small pool of workers. A superseded request is interrupted even if it has already started. Requests
+ * which write to the workspace document are executed one at a time per project, as writing a document replaces the
+ * current package of the whole project, and two requests modifying different files of a project at once would each
+ * drop the edit of the other. The requests evaluated in a shadow copy of the document, such as the diagnostics, only
+ * hold the lock of the project while capturing the document, so that they never capture the statement written by
+ * another request, and are then evaluated without blocking the other requests.
+ * </p>
+ *
  * @since 2.0.0
  */
 public class Debouncer {
@@ -40,47 +57,93 @@ public class Debouncer {
     // Time unit for the delay
     private static final TimeUnit TIME_UNIT = TimeUnit.MILLISECONDS;
 
+    // Number of threads executing the due requests
+    private static final int WORKER_POOL_SIZE =
+            Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
     // Map to hold scheduled tasks
     private final ConcurrentHashMap<String, ScheduledTaskHolder<?>> delayedMap;
 
-    // Single-thread scheduler to debounce tasks.
+    // Locks to execute the requests writing to the documents of the same project one at a time
+    private final ConcurrentHashMap<Path, ReentrantLock> projectLocks;
+
+    // Single-thread scheduler to track the delays of the tasks
     private final ScheduledExecutorService scheduler;
 
+    // Workers to execute the due tasks
+    private final ExecutorService workers;
+
+    private final Metrics metrics;
+
     private Debouncer() {
-        scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("expression-editor-debouncer"));
+        workers = Executors.newFixedThreadPool(WORKER_POOL_SIZE, new DaemonThreadFactory("expression-editor-worker"));
         delayedMap = new ConcurrentHashMap<>();
+        projectLocks = new ConcurrentHashMap<>();
+        metrics = new Metrics();
     }
 
     /**
      * Debounce the given DebouncedExpressionEditorApi request by scheduling it to execute after the provided delay.
-     * Any previously scheduled task with the same key is cancelled.
+     * Any previously scheduled or running task in the same lane is cancelled.
      */
     public <T> CompletableFuture<T> debounce(DebouncedExpressionEditorRequest<T> request) {
         long delay = request.getDelay();
-        String key = request.getKey();
+        String key = request.getLaneKey();
         CompletableFuture<T> promise = new CompletableFuture<>();
+        ScheduledTaskHolder<T> holder = new ScheduledTaskHolder<>(promise);
+        long dueNanos = System.nanoTime() + TIME_UNIT.toNanos(delay);
+
+        // Schedule the task to be handed over to the workers after the specified delay.
+        holder.setFuture(scheduler.schedule(() -> holder.setFuture(
+                workers.submit(() -> execute(request, key, holder, dueNanos))), delay, TIME_UNIT));
+        metrics.scheduled.increment();
 
-        // Schedule the task to run after the specified delay.
-        Future<?> scheduledFuture = scheduler.schedule(() -> {
+        // Replace any existing task in the lane with the new one.
+        ScheduledTaskHolder<?> prev = delayedMap.put(key, holder);
+        if (prev != null) {
+            prev.cancel();
+            metrics.cancelled.increment();
+        }
+        return promise;
+    }
+
+    private <T> void execute(DebouncedExpressionEditorRequest<T> request, String key, ScheduledTaskHolder<T> holder,
+                             long dueNanos) {
+        CompletableFuture<T> promise = holder.promise();
+        ReentrantLock lock = projectLocks.computeIfAbsent(request.getProjectRoot(), path -> new ReentrantLock());
+        try {
+            lock.lockInterruptibly();
             try {
-                T result = request.call();
+                long startNanos = System.nanoTime();
+                metrics.recordQueueDelay(Math.max(0, startNanos - dueNanos));
+                T result = request.requiresWorkspaceDocument() ? request.call() : request.call(lock::unlock);
+                metrics.recordExecution(System.nanoTime() - startNanos);
                 promise.complete(result);
-            } catch (Exception ex) {
-                promise.completeExceptionally(ex);
             } finally {
-                delayedMap.remove(key);
+                if (lock.isHeldByCurrentThread()) {
+                    lock.unlock();
+                }
             }
-        }, delay, TIME_UNIT);
-
-        // Replace any existing scheduled task with the new one.
-        @SuppressWarnings("unchecked")
-        ScheduledTaskHolder<T> prev = (ScheduledTaskHolder<T>) delayedMap.put(key,
-                new ScheduledTaskHolder<>(promise, scheduledFuture));
-        if (prev != null) {
-            prev.future().cancel(true);
-            prev.promise().completeExceptionally(new CancellationException("Debounced by a new request"));
+        } catch (InterruptedException | CancellationException ex) {
+            metrics.interrupted.increment();
+            promise.completeExceptionally(new CancellationException("Debounced by a new request"));
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            metrics.failed.increment();
+            promise.completeExceptionally(ex);
+        } finally {
+            delayedMap.remove(key, holder);
         }
-        return promise;
+    }
+
+    /**
+     * Returns a point-in-time view of the debouncer metrics.
+     *
+     * @return the snapshot of the metrics
+     */
+    public Metrics.Snapshot getMetrics() {
+        return metrics.snapshot(delayedMap.size());
     }
 
     public static Debouncer getInstance() {
@@ -93,12 +156,126 @@ public class Debouncer {
     }
 
     /**
-     * Holder for scheduled task information.
+     * Holder for scheduled task information. The future is first the scheduled delay, and then the execution of the
+     * task by a worker.
+     *
+     * @param <T> the type of result promised by the CompletableFuture.
+     */
+    private static class ScheduledTaskHolder<T> {
+
+        private final CompletableFuture<T> promise;
+        private Future<?> future;
+        private boolean cancelled;
+
+        ScheduledTaskHolder(CompletableFuture<T> promise) {
+            this.promise = promise;
+        }
+
+        CompletableFuture<T> promise() {
+            return promise;
+        }
+
+        synchronized void setFuture(Future<?> future) {
+            if (cancelled) {
+                future.cancel(true);
+                return;
+            }
+            this.future = future;
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (future != null) {
+                future.cancel(true);
+            }
+            promise.completeExceptionally(new CancellationException("Debounced by a new request"));
+        }
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        DaemonThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, namePrefix + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * Metrics of the debounced requests.
      *
-     * @param <T>     the type of result promised by the CompletableFuture.
-     * @param promise the CompletableFuture that will eventually complete with the result of the scheduled task.
-     * @param future  the Future representing the scheduled task, allowing for control over task execution.
+     * @since 2.0.0
      */
-    private record ScheduledTaskHolder<T>(CompletableFuture<T> promise, Future<?> future) {
+    public static class Metrics {
+
+        private final LongAdder scheduled = new LongAdder();
+        private final LongAdder cancelled = new LongAdder();
+        private final LongAdder interrupted = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder executed = new LongAdder();
+        private final LongAdder started = new LongAdder();
+        private final LongAdder totalQueueDelayNanos = new LongAdder();
+        private final AtomicLong maxQueueDelayNanos = new AtomicLong();
+        private final LongAdder totalExecutionNanos = new LongAdder();
+        private final AtomicLong maxExecutionNanos = new AtomicLong();
+
+        private void recordQueueDelay(long nanos) {
+            started.increment();
+            totalQueueDelayNanos.add(nanos);
+            maxQueueDelayNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        private void recordExecution(long nanos) {
+            executed.increment();
+            totalExecutionNanos.add(nanos);
+            maxExecutionNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        private Snapshot snapshot(int pendingRequests) {
+            return new Snapshot(pendingRequests, scheduled.sum(), cancelled.sum(), interrupted.sum(), failed.sum(),
+                    executed.sum(), started.sum(), totalQueueDelayNanos.sum(), maxQueueDelayNanos.get(),
+                    totalExecutionNanos.sum(), maxExecutionNanos.get());
+        }
+
+        /**
+         * A point-in-time view of the debouncer metrics.
+         *
+         * @param pendingRequests      number of requests waiting for their delay or a worker
+         * @param scheduled            number of requests scheduled
+         * @param cancelled            number of requests superseded by a newer request in the same lane
+         * @param interrupted          number of superseded requests interrupted after they were handed to a worker
+         * @param failed               number of requests completed with an error
+         * @param executed             number of requests completed with a response
+         * @param started              number of requests which started generating the response
+         * @param totalQueueDelayNanos total time the due requests waited for a worker and the document
+         * @param maxQueueDelayNanos   longest time a due request waited for a worker and the document
+         * @param totalExecutionNanos  total time spent generating the responses
+         * @param maxExecutionNanos    longest time spent generating a response
+         */
+        public record Snapshot(int pendingRequests, long scheduled, long cancelled, long interrupted, long failed,
+                               long executed, long started, long totalQueueDelayNanos, long maxQueueDelayNanos,
+                               long totalExecutionNanos, long maxExecutionNanos) {
+
+            @Override
+            public String toString() {
+                return String.format("requests: %d pending, %d scheduled, %d cancelled, %d interrupted, %d failed, " +
+                                "%d executed; queue delay: avg %.3f ms, max %.3f ms; execution: avg %.3f ms, " +
+                                "max %.3f ms", pendingRequests, scheduled, cancelled, interrupted, failed, executed,
+                        average(totalQueueDelayNanos, started), maxQueueDelayNanos / 1e6,
+                        average(totalExecutionNanos, executed), maxExecutionNanos / 1e6);
+            }
+
+            private static double average(long totalNanos, long count) {
+                return count == 0 ? 0 : totalNanos / 1e6 / count;
+            }
+        }
     }
 }
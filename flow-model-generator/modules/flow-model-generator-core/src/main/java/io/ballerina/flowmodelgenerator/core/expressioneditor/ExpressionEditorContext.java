@@ -20,10 +20,12 @@ package io.ballerina.flowmodelgenerator.core.expressioneditor;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.flowmodelgenerator.core.SpeculativeEdits;
 import io.ballerina.flowmodelgenerator.core.model.FlowNode;
 import io.ballerina.flowmodelgenerator.core.model.NodeKind;
 import io.ballerina.flowmodelgenerator.core.model.Property;
@@ -48,6 +50,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Represents the context for the expression editor.
@@ -67,6 +70,7 @@ public class ExpressionEditorContext {
     private final Document document;
     private int expressionOffset;
     private LineRange statementLineRange;
+    private SyntaxTree shadowSyntaxTree;
 
     public ExpressionEditorContext(WorkspaceManager workspaceManager, Info info, Path filePath, Document document) {
         this.workspaceManager = workspaceManager;
@@ -182,6 +186,41 @@ public class ExpressionEditorContext {
      * @return the line range of the generated statement.
      */
     public LineRange generateStatement() {
+        applyTextEdits(getStatementTextEdits());
+        return statementLineRange;
+    }
+
+    /**
+     * Generates the same statement as {@link #generateStatement()}, but splices it into a copy of the syntax tree
+     * instead of the document in the workspace. Only the region affected by the statement is parsed again.
+     *
+     * @return the line range of the generated statement.
+     */
+    public LineRange generateShadowStatement() {
+        List<TextEdit> textEdits = getStatementTextEdits();
+        shadowSyntaxTree = document.syntaxTree()
+                .modifyWith(TextDocumentChange.from(textEdits.toArray(new TextEdit[0])));
+        return statementLineRange;
+    }
+
+    /**
+     * Compiles the statement generated by {@link #generateShadowStatement()} in an isolated copy of the project, and
+     * applies the given function to the semantic model of the copy. The semantic model must not escape the function.
+     *
+     * @param function the function to apply to the semantic model of the module with the generated statement
+     * @param <R>      the type of the result of the function
+     * @return the result of the function, or empty if there is no generated statement
+     */
+    public <R> Optional<R> withShadowSemanticModel(Function<SemanticModel, R> function) {
+        if (shadowSyntaxTree == null) {
+            return Optional.empty();
+        }
+        return SpeculativeEdits.getInstance().withContent(document, shadowSyntaxTree.toSourceCode(),
+                shadowDocument -> Optional.ofNullable(shadowDocument.module().packageInstance().getCompilation()
+                        .getSemanticModel(shadowDocument.module().moduleId())).map(function));
+    }
+
+    private List<TextEdit> getStatementTextEdits() {
         String prefix = "var _ = ";
         Optional<Property> optionalProperty = getProperty();
         List<TextEdit> textEdits = new ArrayList<>();
@@ -218,14 +257,13 @@ public class ExpressionEditorContext {
         String statement = String.format("%s%s;%n", prefix, info.expression());
         this.expressionOffset = prefix.length();
         textEdits.add(TextEdit.from(TextRange.from(textPosition, 0), statement));
-        applyTextEdits(textEdits);
 
-        // Return the line range of the generated statement
+        // Capture the line range of the generated statement
         LinePosition startLine = info.startLine();
         LinePosition endLineRange = LinePosition.from(startLine.line(),
                 startLine.offset() + statement.length());
         this.statementLineRange = LineRange.from(filePath.toString(), startLine, endLineRange);
-        return statementLineRange;
+        return textEdits;
     }
 
     /**
@@ -256,12 +294,12 @@ public class ExpressionEditorContext {
      */
     public void applyContent(TextDocument textDocument) {
         document.modify()
-                .withContent(String.join(System.lineSeparator(), textDocument.textLines()))
+                .withContent(textDocument.toString())
                 .apply();
     }
 
     public Iterable<Diagnostic> syntaxDiagnostics() {
-        return document.syntaxTree().diagnostics();
+        return shadowSyntaxTree != null ? shadowSyntaxTree.diagnostics() : document.syntaxTree().diagnostics();
     }
 
     /**
@@ -38,6 +38,13 @@ import java.util.concurrent.CompletableFuture;
  * Represents a request for code completion in the expression editor. This class extends
  * DebouncedExpressionEditorRequest to handle completion requests with debouncing functionality.
  *
+ * <p>
+ * The completions are provided by the text document service of the language server, which only reads the documents
+ * of the workspace. Hence, unlike the diagnostics, this request is not evaluated in a shadow copy: it writes the
+ * statement to the document of the expression editor workspace and reverts it afterward, which parses and compiles the
+ * document twice per request.
+ * </p>
+ *
  * @since 2.0.0
  */
 public class CompletionRequest extends DebouncedExpressionEditorRequest<Either<List<CompletionItem>, CompletionList>> {
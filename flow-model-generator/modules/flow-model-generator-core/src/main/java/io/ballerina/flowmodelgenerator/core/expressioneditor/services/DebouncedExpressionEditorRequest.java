@@ -27,6 +27,7 @@ import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 
 /**
  * Abstract base class representing a debounced expression editor request. This class provides a template for handling
@@ -68,6 +69,39 @@ public abstract class DebouncedExpressionEditorRequest<T> implements Callable<T>
      */
     public abstract String getKey();
 
+    /**
+     * Returns whether the response is generated from the document in the workspace. Such requests write the statement
+     * to the workspace document and revert it afterward. Otherwise, the statement is evaluated in a shadow copy of the
+     * document. Only the diagnostics are evaluated in a shadow copy, as the completions and the signature help are
+     * provided by the language server from the documents of the workspace.
+     *
+     * @return true if the request reads the statement from the workspace, false otherwise
+     */
+    public boolean requiresWorkspaceDocument() {
+        return true;
+    }
+
+    /**
+     * Returns the key of the debouncing lane of the request. A request only supersedes the requests of the same kind
+     * for the same file.
+     *
+     * @return The key of the debouncing lane
+     */
+    public String getLaneKey() {
+        return filePath.toUri() + "#" + getKey();
+    }
+
+    /**
+     * Returns the source root of the project of the file. The requests writing to the documents of a project are
+     * executed one at a time, as each write replaces the current package of the project.
+     *
+     * @return The source root of the project, or the path of the file if it is not loaded in the workspace
+     */
+    public Path getProjectRoot() {
+        Path projectRoot = workspaceManager.projectRoot(filePath);
+        return projectRoot != null ? projectRoot : filePath;
+    }
+
     /**
      * Returns the delay in milliseconds to be used for debouncing the API request.
      *
@@ -77,21 +111,57 @@ public abstract class DebouncedExpressionEditorRequest<T> implements Callable<T>
 
     @Override
     public T call() throws Exception {
+        return call(() -> { });
+    }
+
+    /**
+     * Generates the response, notifying the caller once the state of the document is captured. A request which does
+     * not require the workspace document no longer reads from the workspace after this point.
+     *
+     * @param onDocumentCaptured the action to run once the document is captured
+     * @return The response of type T specific to the expression editor API
+     * @throws Exception if the response cannot be generated
+     */
+    public T call(Runnable onDocumentCaptured) throws Exception {
         // Capture the first state of the document
         Optional<Document> document = workspaceManager.document(filePath);
+        onDocumentCaptured.run();
         if (document.isEmpty()) {
             throw new IllegalStateException("Document not found: " + filePath);
         }
-        TextDocument oldTextDocument = document.get().textDocument();
-
-        // Write the statement and generate the response
         ExpressionEditorContext context = new ExpressionEditorContext(workspaceManager,
                 contextInfo, filePath, document.get());
-        LineRange lineRange = context.generateStatement();
-        T response = getResponse(context, lineRange);
 
-        // Revert the document to the previous state
-        context.applyContent(oldTextDocument);
-        return response;
+        // Evaluate the statement in a shadow copy of the document if the workspace is not required
+        if (!requiresWorkspaceDocument()) {
+            LineRange lineRange = context.generateShadowStatement();
+            checkCancelled();
+            return getResponse(context, lineRange);
+        }
+
+        // Write the statement and generate the response
+        TextDocument oldTextDocument = document.get().textDocument();
+        try {
+            LineRange lineRange = context.generateStatement();
+            checkCancelled();
+            return getResponse(context, lineRange);
+        } finally {
+            // Revert the document to the previous state, clearing the interrupt of a superseded request so that it
+            // cannot abort the revert, and restoring it afterward
+            boolean interrupted = Thread.interrupted();
+            try {
+                context.applyContent(oldTextDocument);
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private static void checkCancelled() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Debounced by a new request");
+        }
     }
 }
@@ -18,13 +18,11 @@
 
 package io.ballerina.flowmodelgenerator.core.expressioneditor.services;
 
-import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.ExpressionEditorContext;
 import io.ballerina.flowmodelgenerator.core.utils.CommonUtils;
 import io.ballerina.tools.text.LineRange;
 import org.ballerinalang.langserver.common.utils.PositionUtil;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
-import org.ballerinalang.langserver.commons.workspace.WorkspaceManagerProxy;
 import org.eclipse.lsp4j.Diagnostic;
 
 import java.nio.file.Path;
@@ -42,38 +40,27 @@ import java.util.stream.StreamSupport;
  */
 public class DiagnosticsRequest extends DebouncedExpressionEditorRequest<DiagnosticsRequest.Diagnostics> {
 
-    private final String fileUri;
-    private final WorkspaceManagerProxy workspaceManagerProxy;
-    private final Path filePath;
-
     public DiagnosticsRequest(WorkspaceManager workspaceManager,
                               Path filePath,
-                              ExpressionEditorContext.Info context,
-                              String fileUri,
-                              WorkspaceManagerProxy workspaceManagerProxy) {
+                              ExpressionEditorContext.Info context) {
         super(workspaceManager, filePath, context);
-        this.fileUri = fileUri;
-        this.workspaceManagerProxy = workspaceManagerProxy;
-        this.filePath = filePath;
     }
 
     @Override
-    public Diagnostics getResponse(ExpressionEditorContext context, LineRange lineRange) {
-        // Get the semantic model for the file
-        Optional<SemanticModel> semanticModelOpt = workspaceManagerProxy.get(fileUri).semanticModel(filePath);
-        if (semanticModelOpt.isEmpty()) {
-            return new Diagnostics(Set.of());
-        }
-        SemanticModel semanticModel = semanticModelOpt.get();
+    public boolean requiresWorkspaceDocument() {
+        return false;
+    }
 
-        // Get diagnostics from the semantic model and syntax tree
-        Set<Diagnostic> diagnostics = Stream.concat(
+    @Override
+    public Diagnostics getResponse(ExpressionEditorContext context, LineRange lineRange) {
+        // Get diagnostics from the semantic model of the shadow document and the syntax tree
+        Optional<Set<Diagnostic>> diagnostics = context.withShadowSemanticModel(semanticModel -> Stream.concat(
                 semanticModel.diagnostics().stream(),
                 StreamSupport.stream(context.syntaxDiagnostics().spliterator(), false))
                 .filter(diagnostic -> PositionUtil.isWithinLineRange(diagnostic.location().lineRange(), lineRange))
                 .map(CommonUtils::transformBallerinaDiagnostic)
-                .collect(Collectors.toSet());
-        return new Diagnostics(diagnostics);
+                .collect(Collectors.toSet()));
+        return new Diagnostics(diagnostics.orElse(Set.of()));
     }
 
     @Override
@@ -35,6 +35,12 @@ import java.util.concurrent.CompletableFuture;
  * Represents a request for signature help in the expression editor.
  * This class extends DebouncedExpressionEditorRequest to handle signature help requests with debouncing functionality.
  *
+ * <p>
+ * As with {@link CompletionRequest}, the signature help is provided by the text document service of the language
+ * server, and hence, the statement is written to the document of the expression editor workspace and reverted
+ * afterward instead of being evaluated in a shadow copy.
+ * </p>
+ *
  * @since 2.0.0
  */
 public class SignatureHelpRequest extends DebouncedExpressionEditorRequest<SignatureHelp> {
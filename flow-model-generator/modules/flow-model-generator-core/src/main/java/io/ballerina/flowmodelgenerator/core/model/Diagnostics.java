@@ -32,6 +32,9 @@ import java.util.List;
  */
 public record Diagnostics(boolean hasDiagnostics, List<Info> diagnostics) {
 
+    private static final Diagnostics NO_DIAGNOSTICS = new Diagnostics(false, null);
+    private static final Diagnostics EMPTY_DIAGNOSTICS = new Diagnostics(true, null);
+
     /**
      * Represents diagnostic information with severity and message.
      *
@@ -68,8 +71,10 @@ public record Diagnostics(boolean hasDiagnostics, List<Info> diagnostics) {
         }
 
         public Diagnostics build() {
-            return new Diagnostics(hasDiagnostics || !diagnostics.isEmpty(),
-                    diagnostics.isEmpty() ? null : diagnostics);
+            if (diagnostics.isEmpty()) {
+                return hasDiagnostics ? EMPTY_DIAGNOSTICS : NO_DIAGNOSTICS;
+            }
+            return new Diagnostics(true, diagnostics);
         }
     }
 }
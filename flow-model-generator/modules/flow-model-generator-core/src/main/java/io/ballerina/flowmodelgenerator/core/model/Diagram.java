@@ -18,6 +18,8 @@
 
 package io.ballerina.flowmodelgenerator.core.model;
 
+import com.google.gson.annotations.JsonAdapter;
+
 import java.util.List;
 
 /**
@@ -28,6 +30,7 @@ import java.util.List;
  * @param connections  The connections in the diagram
  * @since 2.0.0
  */
+@JsonAdapter(DiagramTypeAdapter.class)
 public record Diagram(String fileName, List<FlowNode> nodes, List<FlowNode> connections) {
 
 }
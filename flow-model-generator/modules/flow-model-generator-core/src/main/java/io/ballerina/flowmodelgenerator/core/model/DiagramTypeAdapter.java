@@ -0,0 +1,279 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.model;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.ballerina.lsextension.metrics.RequestMetrics;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams a {@link Diagram} straight to the {@link JsonWriter} of the caller, without building an intermediate
+ * {@link com.google.gson.JsonElement} tree. The flow nodes, branches and properties, which make up the bulk of a
+ * diagram, are written field by field by dedicated adapters, while the remaining values are written by an internal
+ * {@link Gson} instance, so that the naming and the type adapters of the {@link Gson} instance that drives the adapter
+ * (e.g. the one of the JSON-RPC layer) do not apply. Null values are skipped even if the {@link JsonWriter} of the
+ * caller serializes nulls, so that the output is the same as the reflective serialization of the diagram with the
+ * default configuration. The time spent writing a diagram is recorded as the serialization phase of the request being
+ * served, if any.
+ *
+ * @since 2.0.0
+ */
+public class DiagramTypeAdapter extends TypeAdapter<Diagram> {
+
+    private static final Gson GSON = new GsonBuilder()
+            .disableHtmlEscaping()
+            .registerTypeAdapterFactory(new FlowModelTypeAdapterFactory())
+            .create();
+    private static final TypeAdapter<List<FlowNode>> NODES_ADAPTER =
+            GSON.getAdapter(new TypeToken<List<FlowNode>>() { });
+
+    @Override
+    public void write(JsonWriter out, Diagram diagram) throws IOException {
+        RequestMetrics.getInstance().time(RequestMetrics.Phase.SERIALIZATION, () -> {
+            writeDiagram(out, diagram);
+            return null;
+        });
+    }
+
+    private static void writeDiagram(JsonWriter out, Diagram diagram) throws IOException {
+        if (diagram == null) {
+            out.nullValue();
+            return;
+        }
+        boolean serializeNulls = out.getSerializeNulls();
+        out.setSerializeNulls(false);
+        try {
+            out.beginObject();
+            out.name("fileName").value(diagram.fileName());
+            out.name("nodes");
+            NODES_ADAPTER.write(out, diagram.nodes());
+            out.name("connections");
+            NODES_ADAPTER.write(out, diagram.connections());
+            out.endObject();
+        } finally {
+            out.setSerializeNulls(serializeNulls);
+        }
+    }
+
+    @Override
+    public Diagram read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        String fileName = null;
+        List<FlowNode> nodes = null;
+        List<FlowNode> connections = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "fileName" -> fileName = readString(in);
+                case "nodes" -> nodes = NODES_ADAPTER.read(in);
+                case "connections" -> connections = NODES_ADAPTER.read(in);
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new Diagram(fileName, nodes, connections);
+    }
+
+    private static String readString(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+
+    /**
+     * Creates the streaming adapters of the flow nodes, branches and properties. Reading is delegated to the
+     * reflective adapters, as only the serialization of the diagram is on the hot path.
+     *
+     * @since 2.0.0
+     */
+    private static class FlowModelTypeAdapterFactory implements TypeAdapterFactory {
+
+        private static final TypeToken<Map<String, Property>> PROPERTIES_TYPE =
+                new TypeToken<Map<String, Property>>() { };
+        private static final TypeToken<List<Branch>> BRANCHES_TYPE = new TypeToken<List<Branch>>() { };
+        private static final TypeToken<List<FlowNode>> NODES_TYPE = new TypeToken<List<FlowNode>>() { };
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<? super T> rawType = type.getRawType();
+            if (rawType == FlowNode.class) {
+                return (TypeAdapter<T>) new FlowNodeAdapter(gson,
+                        gson.getDelegateAdapter(this, TypeToken.get(FlowNode.class)));
+            }
+            if (rawType == Branch.class) {
+                return (TypeAdapter<T>) new BranchAdapter(gson,
+                        gson.getDelegateAdapter(this, TypeToken.get(Branch.class)));
+            }
+            if (rawType == Property.class) {
+                return (TypeAdapter<T>) new PropertyAdapter(gson,
+                        gson.getDelegateAdapter(this, TypeToken.get(Property.class)));
+            }
+            return null;
+        }
+    }
+
+    private static class FlowNodeAdapter extends TypeAdapter<FlowNode> {
+
+        private final TypeAdapter<FlowNode> delegate;
+        private final TypeAdapter<Metadata> metadataAdapter;
+        private final TypeAdapter<Codedata> codedataAdapter;
+        private final TypeAdapter<List<Branch>> branchesAdapter;
+        private final TypeAdapter<Map<String, Property>> propertiesAdapter;
+        private final TypeAdapter<Diagnostics> diagnosticsAdapter;
+
+        FlowNodeAdapter(Gson gson, TypeAdapter<FlowNode> delegate) {
+            this.delegate = delegate;
+            this.metadataAdapter = gson.getAdapter(Metadata.class);
+            this.codedataAdapter = gson.getAdapter(Codedata.class);
+            this.branchesAdapter = gson.getAdapter(FlowModelTypeAdapterFactory.BRANCHES_TYPE);
+            this.propertiesAdapter = gson.getAdapter(FlowModelTypeAdapterFactory.PROPERTIES_TYPE);
+            this.diagnosticsAdapter = gson.getAdapter(Diagnostics.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, FlowNode node) throws IOException {
+            if (node == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("id").value(node.id());
+            out.name("metadata");
+            metadataAdapter.write(out, node.metadata());
+            out.name("codedata");
+            codedataAdapter.write(out, node.codedata());
+            out.name("returning").value(node.returning());
+            out.name("branches");
+            branchesAdapter.write(out, node.branches());
+            out.name("properties");
+            propertiesAdapter.write(out, node.properties());
+            out.name("diagnostics");
+            diagnosticsAdapter.write(out, node.diagnostics());
+            out.name("flags").value(node.flags());
+            out.endObject();
+        }
+
+        @Override
+        public FlowNode read(JsonReader in) throws IOException {
+            return delegate.read(in);
+        }
+    }
+
+    private static class BranchAdapter extends TypeAdapter<Branch> {
+
+        private final TypeAdapter<Branch> delegate;
+        private final TypeAdapter<Codedata> codedataAdapter;
+        private final TypeAdapter<Map<String, Property>> propertiesAdapter;
+        private final TypeAdapter<List<FlowNode>> childrenAdapter;
+
+        BranchAdapter(Gson gson, TypeAdapter<Branch> delegate) {
+            this.delegate = delegate;
+            this.codedataAdapter = gson.getAdapter(Codedata.class);
+            this.propertiesAdapter = gson.getAdapter(FlowModelTypeAdapterFactory.PROPERTIES_TYPE);
+            this.childrenAdapter = gson.getAdapter(FlowModelTypeAdapterFactory.NODES_TYPE);
+        }
+
+        @Override
+        public void write(JsonWriter out, Branch branch) throws IOException {
+            if (branch == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("label").value(branch.label());
+            out.name("kind").value(branch.kind() == null ? null : branch.kind().name());
+            out.name("codedata");
+            codedataAdapter.write(out, branch.codedata());
+            out.name("repeatable").value(branch.repeatable() == null ? null : branch.repeatable().name());
+            out.name("properties");
+            propertiesAdapter.write(out, branch.properties());
+            out.name("children");
+            childrenAdapter.write(out, branch.children());
+            out.endObject();
+        }
+
+        @Override
+        public Branch read(JsonReader in) throws IOException {
+            return delegate.read(in);
+        }
+    }
+
+    private static class PropertyAdapter extends TypeAdapter<Property> {
+
+        private final TypeAdapter<Property> delegate;
+        private final TypeAdapter<Metadata> metadataAdapter;
+        private final TypeAdapter<Object> valueAdapter;
+        private final TypeAdapter<Diagnostics> diagnosticsAdapter;
+        private final TypeAdapter<PropertyCodedata> codedataAdapter;
+
+        PropertyAdapter(Gson gson, TypeAdapter<Property> delegate) {
+            this.delegate = delegate;
+            this.metadataAdapter = gson.getAdapter(Metadata.class);
+            this.valueAdapter = gson.getAdapter(Object.class);
+            this.diagnosticsAdapter = gson.getAdapter(Diagnostics.class);
+            this.codedataAdapter = gson.getAdapter(PropertyCodedata.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, Property property) throws IOException {
+            if (property == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("metadata");
+            metadataAdapter.write(out, property.metadata());
+            out.name("valueType").value(property.valueType());
+            out.name("valueTypeConstraint");
+            valueAdapter.write(out, property.valueTypeConstraint());
+            out.name("value");
+            valueAdapter.write(out, property.value());
+            out.name("placeholder").value(property.placeholder());
+            out.name("optional").value(property.optional());
+            out.name("editable").value(property.editable());
+            out.name("advanced").value(property.advanced());
+            out.name("diagnostics");
+            diagnosticsAdapter.write(out, property.diagnostics());
+            out.name("codedata");
+            codedataAdapter.write(out, property.codedata());
+            out.endObject();
+        }
+
+        @Override
+        public Property read(JsonReader in) throws IOException {
+            return delegate.read(in);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.model;
+
+import io.ballerina.flowmodelgenerator.core.db.model.ParameterResult;
+import io.ballerina.flowmodelgenerator.core.utils.ParamUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents the template of the property of a function parameter, i.e. the metadata and the codedata of the
+ * property, which depend only on the parameter. A template is built once per parameter and its instances are shared
+ * by the properties of every node calling the function, which are overlaid with the values of the node.
+ *
+ * <p>
+ * The templates are looked up without a lock. The pool is cleared once it is full, after which the templates of the
+ * functions in use are built again on their next call. The templates can be disabled with the
+ * {@value #DISABLE_TEMPLATES_PROPERTY} system property to compare the two with the flow model benchmark.
+ * </p>
+ *
+ * @param metadata the metadata of the property
+ * @param codedata the codedata of the property
+ * @since 2.0.0
+ */
+public record ParameterTemplate(Metadata metadata, PropertyCodedata codedata) {
+
+    public static final String DISABLE_TEMPLATES_PROPERTY = "ballerina.flowmodel.disableParameterTemplates";
+    private static final boolean ENABLED = !Boolean.getBoolean(DISABLE_TEMPLATES_PROPERTY);
+    private static final int MAX_TEMPLATES = 4096;
+    private static final Map<ParameterResult, ParameterTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the template of the given parameter.
+     *
+     * @param parameter the parameter of the function
+     * @return the shared template of the parameter
+     */
+    public static ParameterTemplate of(ParameterResult parameter) {
+        if (!ENABLED) {
+            return from(parameter);
+        }
+        ParameterTemplate template = TEMPLATES.get(parameter);
+        if (template != null) {
+            return template;
+        }
+        if (TEMPLATES.size() >= MAX_TEMPLATES) {
+            TEMPLATES.clear();
+        }
+        return TEMPLATES.computeIfAbsent(parameter, ParameterTemplate::from);
+    }
+
+    private static ParameterTemplate from(ParameterResult parameter) {
+        Metadata metadata = new Metadata(ParamUtils.removeLeadingSingleQuote(parameter.name()),
+                parameter.description(), null, null, null, null);
+        PropertyCodedata codedata = new PropertyCodedata(parameter.kind().name(), parameter.name(),
+                parameter.importStatements(), null);
+        return new ParameterTemplate(metadata, codedata);
+    }
+}
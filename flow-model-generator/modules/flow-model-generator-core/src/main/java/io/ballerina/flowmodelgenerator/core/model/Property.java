@@ -205,6 +205,7 @@ public record Property(Metadata metadata, String valueType, Object valueTypeCons
         private boolean editable;
         private boolean advanced;
         private Object typeConstraint;
+        private ParameterTemplate parameterTemplate;
         private Metadata.Builder<Builder<T>> metadataBuilder;
         private Diagnostics.Builder<Builder<T>> diagnosticsBuilder;
         private PropertyCodedata.Builder<Builder<T>> codedataBuilder;
@@ -264,6 +265,18 @@ public record Property(Metadata metadata, String valueType, Object valueTypeCons
             return this;
         }
 
+        /**
+         * Sets the metadata and the codedata of the property of a function parameter to the shared instances of its
+         * template, which are used unless they are built with {@link #metadata()} or {@link #codedata()}.
+         *
+         * @param parameterTemplate the template of the parameter
+         * @return the property builder
+         */
+        public Builder<T> parameter(ParameterTemplate parameterTemplate) {
+            this.parameterTemplate = parameterTemplate;
+            return this;
+        }
+
         public Metadata.Builder<Builder<T>> metadata() {
             if (this.metadataBuilder == null) {
                 this.metadataBuilder = new Metadata.Builder<>(this);
@@ -287,11 +300,14 @@ public record Property(Metadata metadata, String valueType, Object valueTypeCons
         }
 
         public Property build() {
+            Metadata metadata = metadataBuilder != null ? metadataBuilder.build() :
+                    parameterTemplate == null ? null : parameterTemplate.metadata();
+            PropertyCodedata codedata = codedataBuilder != null ? codedataBuilder.build() :
+                    parameterTemplate == null ? null : parameterTemplate.codedata();
             Property property =
-                    new Property(metadataBuilder == null ? null : metadataBuilder.build(), type, typeConstraint, value,
-                            placeholder, optional, editable, advanced,
-                            diagnosticsBuilder == null ? null : diagnosticsBuilder.build(),
-                            codedataBuilder == null ? null : codedataBuilder.build());
+                    new Property(metadata, type, typeConstraint, value, placeholder, optional, editable, advanced,
+                            diagnosticsBuilder == null ? null : diagnosticsBuilder.build(), codedata);
+            this.parameterTemplate = null;
             this.metadataBuilder = null;
             this.type = null;
             this.typeConstraint = null;
@@ -18,6 +18,7 @@
 
 package io.ballerina.flowmodelgenerator.core.utils;
 
+import io.ballerina.projects.CompilationCacheFactory;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageDescriptor;
 import io.ballerina.projects.PackageName;
@@ -93,6 +94,22 @@ public class PackageUtil {
     }
 
     public static Package getModulePackage(BuildProject buildProject, String org, String name, String version) {
+        return resolveBalaPath(buildProject, org, name, version)
+                .map(balaPath -> loadBalaPackage(balaPath, TempDirCompilationCache::from))
+                .orElse(null);
+    }
+
+    /**
+     * Resolves the given package, pulling it from the central if it is not in the local repository.
+     *
+     * @param buildProject the project used to resolve the package
+     * @param org          the organization of the package
+     * @param name         the name of the package
+     * @param version      the version of the package
+     * @return the path to the extracted bala of the package, or empty if the package cannot be resolved
+     */
+    public static Optional<Path> resolveBalaPath(BuildProject buildProject, String org, String name,
+                                                 String version) {
         ResolutionRequest resolutionRequest = ResolutionRequest.from(
                 PackageDescriptor.from(PackageOrg.from(org), PackageName.from(name), PackageVersion.from(version)));
 
@@ -100,14 +117,20 @@ public class PackageUtil {
                 buildProject.projectEnvironmentContext().getService(PackageResolver.class)
                         .resolvePackages(Collections.singletonList(resolutionRequest),
                                 ResolutionOptions.builder().setOffline(false).build());
-        Optional<ResolutionResponse> resolutionResponse = resolutionResponses.stream().findFirst();
-        if (resolutionResponse.isEmpty()) {
-            return null;
-        }
+        return resolutionResponses.stream().findFirst()
+                .map(resolutionResponse -> resolutionResponse.resolvedPackage().project().sourceRoot());
+    }
 
-        Path balaPath = resolutionResponse.get().resolvedPackage().project().sourceRoot();
+    /**
+     * Loads the package of an extracted bala.
+     *
+     * @param balaPath                the path to the extracted bala
+     * @param compilationCacheFactory the factory of the cache for the compiled artifacts of the package
+     * @return the loaded package
+     */
+    public static Package loadBalaPackage(Path balaPath, CompilationCacheFactory compilationCacheFactory) {
         ProjectEnvironmentBuilder defaultBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
-        defaultBuilder.addCompilationCacheFactory(TempDirCompilationCache::from);
+        defaultBuilder.addCompilationCacheFactory(compilationCacheFactory);
         BalaProject balaProject = BalaProject.loadProject(defaultBuilder, balaPath);
         return balaProject.currentPackage();
     }
@@ -0,0 +1,429 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.utils;
+
+import io.ballerina.compiler.syntax.tree.ArrayDimensionNode;
+import io.ballerina.compiler.syntax.tree.ArrayTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.ParenthesisedTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.RecordFieldNode;
+import io.ballerina.compiler.syntax.tree.RecordFieldWithDefaultValueNode;
+import io.ballerina.compiler.syntax.tree.RecordRestDescriptorNode;
+import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.compiler.syntax.tree.UnionTypeDescriptorNode;
+import io.ballerina.flowmodelgenerator.core.TypesManager;
+import io.ballerina.flowmodelgenerator.core.model.Member;
+import io.ballerina.flowmodelgenerator.core.model.ModuleInfo;
+import io.ballerina.flowmodelgenerator.core.model.NodeKind;
+import io.ballerina.flowmodelgenerator.core.model.TypeData;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Transformer to transform type definitions generated from sample values to type data, straight from their syntax
+ * tree. The type data matches what {@link TypeTransformer} produces for the compiled type definitions, so that the
+ * generated types do not have to be compiled. Only the type descriptors generated by the record converters are
+ * supported; for anything else the caller is expected to fall back to the compiled type symbols.
+ *
+ * @since 2.0.0
+ */
+public class SyntaxTypeTransformer {
+
+    private static final Map<SyntaxKind, String> BUILT_IN_TYPES = Map.of(
+            SyntaxKind.STRING_TYPE_DESC, "string",
+            SyntaxKind.INT_TYPE_DESC, "int",
+            SyntaxKind.DECIMAL_TYPE_DESC, "decimal",
+            SyntaxKind.FLOAT_TYPE_DESC, "float",
+            SyntaxKind.BOOLEAN_TYPE_DESC, "boolean",
+            SyntaxKind.BYTE_TYPE_DESC, "byte",
+            SyntaxKind.ANYDATA_TYPE_DESC, "anydata",
+            SyntaxKind.ANY_TYPE_DESC, "any",
+            SyntaxKind.JSON_TYPE_DESC, "json"
+    );
+    private static final String ANYDATA = "anydata";
+    private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+    private static final Pattern ESCAPED_CHAR_PATTERN = Pattern.compile("\\\\(.)");
+    private static final String QUOTED_IDENTIFIER_PREFIX = "'";
+    private static final String UNICODE_ESCAPE_PREFIX = "\\u{";
+
+    private final Module module;
+    private final String typePrefix;
+    private final Map<String, TypeDefinitionNode> typeDefNodes = new LinkedHashMap<>();
+    private Map<String, RecordTypeDescriptorNode> recordTypeDescNodes;
+
+    public SyntaxTypeTransformer(Module module) {
+        this.module = module;
+        ModuleInfo moduleInfo = ModuleInfo.from(module.descriptor());
+        String modPart = moduleInfo.moduleName().substring(moduleInfo.moduleName().lastIndexOf('.') + 1);
+        this.typePrefix = modPart.equals(moduleInfo.packageName()) ? "" : modPart + ":";
+    }
+
+    /**
+     * Transforms the type definitions in the given source to type data, in the order they are defined.
+     *
+     * @param typesSource source of the generated type definitions
+     * @return the type data of each type definition with its references, or an empty value if the source contains
+     * constructs that cannot be transformed without compiling the types
+     */
+    public Optional<List<TypesManager.TypeDataWithRefs>> transform(String typesSource) {
+        SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(typesSource));
+        if (syntaxTree.hasDiagnostics()) {
+            return Optional.empty();
+        }
+
+        typeDefNodes.clear();
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (member.kind() != SyntaxKind.TYPE_DEFINITION) {
+                return Optional.empty();
+            }
+            TypeDefinitionNode typeDefNode = (TypeDefinitionNode) member;
+            String typeName = typeDefNode.typeName().text();
+            if (!IDENTIFIER_PATTERN.matcher(typeName).matches() || hasDocumentation(typeDefNode.metadata())
+                    || typeDefNodes.putIfAbsent(typeName, typeDefNode) != null) {
+                return Optional.empty();
+            }
+        }
+
+        try {
+            List<TypesManager.TypeDataWithRefs> typeDataList = new ArrayList<>();
+            for (Map.Entry<String, TypeDefinitionNode> entry : typeDefNodes.entrySet()) {
+                Object type = transform(entry.getKey(), entry.getValue());
+                Map<String, Object> refs = new HashMap<>();
+                addDependencyTypes(entry.getValue().typeDescriptor(), refs);
+                typeDataList.add(new TypesManager.TypeDataWithRefs(type, refs.values().stream().toList()));
+            }
+            return Optional.of(typeDataList);
+        } catch (UnsupportedTypeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Object transform(String typeName, TypeDefinitionNode typeDefNode) {
+        TypeData.TypeDataBuilder typeDataBuilder = new TypeData.TypeDataBuilder();
+        typeDataBuilder
+                .name(typeName)
+                .editable()
+                .metadata()
+                    .label(typeName)
+                    .stepOut()
+                .properties()
+                    .name(typeName, false, true, false);
+        return transform(typeDefNode.typeDescriptor(), typeDataBuilder);
+    }
+
+    private Object transform(Node typeDesc, TypeData.TypeDataBuilder typeDataBuilder) {
+        return switch (typeDesc.kind()) {
+            case RECORD_TYPE_DESC -> transform((RecordTypeDescriptorNode) typeDesc, typeDataBuilder);
+            case ARRAY_TYPE_DESC -> {
+                ArrayTypeDescriptorNode arrayTypeDesc = (ArrayTypeDescriptorNode) typeDesc;
+                yield transformArray(arrayTypeDesc.memberTypeDesc(), getDimensions(arrayTypeDesc), typeDataBuilder);
+            }
+            case UNION_TYPE_DESC -> transform((UnionTypeDescriptorNode) typeDesc, typeDataBuilder);
+            case PARENTHESISED_TYPE_DESC ->
+                    transform(((ParenthesisedTypeDescriptorNode) typeDesc).typedesc(), typeDataBuilder);
+            default -> getTypeSignature(typeDesc);
+        };
+    }
+
+    private Object transform(RecordTypeDescriptorNode recordTypeDesc, TypeData.TypeDataBuilder typeDataBuilder) {
+        typeDataBuilder
+                .codedata()
+                    .node(NodeKind.RECORD)
+                    .stepOut()
+                .properties()
+                    .isArray("false", true, true, true)
+                    .arraySize("", true, true, true);
+        typeDataBuilder.includes(new ArrayList<>());
+
+        Member.MemberBuilder memberBuilder = new Member.MemberBuilder();
+
+        // rest member, which is implicitly anydata for inclusive records
+        Optional<RecordRestDescriptorNode> restDescriptor = recordTypeDesc.recordRestDescriptor();
+        if (restDescriptor.isPresent()) {
+            Node restTypeDesc = restDescriptor.get().typeName();
+            Object transformedRestType = transform(restTypeDesc, new TypeData.TypeDataBuilder());
+            typeDataBuilder.restMember(memberBuilder
+                    .kind(Member.MemberKind.FIELD)
+                    .type(transformedRestType)
+                    .refs(transformedRestType instanceof String ? getTypeRefIds(restTypeDesc) : List.of())
+                    .build());
+        } else if (recordTypeDesc.bodyStartDelimiter().kind() == SyntaxKind.OPEN_BRACE_TOKEN) {
+            typeDataBuilder.restMember(memberBuilder
+                    .kind(Member.MemberKind.FIELD)
+                    .type(ANYDATA)
+                    .refs(List.of())
+                    .build());
+        }
+
+        // members
+        Map<String, Member> fieldMembers = new HashMap<>();
+        for (Node field : recordTypeDesc.fields()) {
+            Token fieldNameToken;
+            Node fieldTypeDesc;
+            if (field.kind() == SyntaxKind.RECORD_FIELD) {
+                RecordFieldNode recordField = (RecordFieldNode) field;
+                if (recordField.readonlyKeyword().isPresent() || hasDocumentation(recordField.metadata())) {
+                    throw new UnsupportedTypeException();
+                }
+                fieldNameToken = recordField.fieldName();
+                fieldTypeDesc = recordField.typeName();
+            } else if (field.kind() == SyntaxKind.RECORD_FIELD_WITH_DEFAULT_VALUE) {
+                RecordFieldWithDefaultValueNode recordField = (RecordFieldWithDefaultValueNode) field;
+                if (recordField.readonlyKeyword().isPresent() || hasDocumentation(recordField.metadata())) {
+                    throw new UnsupportedTypeException();
+                }
+                fieldNameToken = recordField.fieldName();
+                fieldTypeDesc = recordField.typeName();
+            } else {
+                throw new UnsupportedTypeException();
+            }
+
+            String fieldName = unescapeIdentifier(fieldNameToken.text());
+            Object transformedFieldType = transform(fieldTypeDesc, new TypeData.TypeDataBuilder());
+            Member member = memberBuilder
+                    .name(fieldName)
+                    .kind(Member.MemberKind.FIELD)
+                    .type(transformedFieldType)
+                    .refs(transformedFieldType instanceof String ? getTypeRefIds(fieldTypeDesc) : List.of())
+                    .defaultValue(getDefaultValueOfField(typeDataBuilder.name(), fieldName).orElse(null))
+                    .build();
+            fieldMembers.put(fieldName, member);
+        }
+        typeDataBuilder.members(fieldMembers);
+
+        return typeDataBuilder.build();
+    }
+
+    private Object transform(UnionTypeDescriptorNode unionTypeDesc, TypeData.TypeDataBuilder typeDataBuilder) {
+        typeDataBuilder
+                .codedata()
+                    .node(NodeKind.UNION)
+                    .stepOut()
+                .properties()
+                    .isArray("false", true, true, true)
+                    .arraySize("", false, false, false);
+
+        Member.MemberBuilder memberBuilder = new Member.MemberBuilder();
+        Map<String, Member> memberTypes = new HashMap<>();
+        for (Node memberTypeDesc : getUnionMembers(unionTypeDesc)) {
+            String name = getTypeSignature(memberTypeDesc);
+            memberTypes.putIfAbsent(name, transformTypeAsMember(name, memberTypeDesc, memberBuilder));
+        }
+        typeDataBuilder.members(memberTypes);
+
+        return typeDataBuilder.build();
+    }
+
+    private Object transformArray(Node memberTypeDesc, int dimensions, TypeData.TypeDataBuilder typeDataBuilder) {
+        typeDataBuilder
+                .codedata()
+                    .node(NodeKind.ARRAY)
+                    .stepOut()
+                .properties()
+                    .isArray("true", true, true, true)
+                    .arraySize("", false, false, false);
+
+        // A multidimensional array is an array of arrays with one dimension less
+        Member.MemberBuilder memberBuilder = new Member.MemberBuilder();
+        String memberTypeName = getTypeSignature(memberTypeDesc) + "[]".repeat(dimensions - 1);
+        Member memberType;
+        if (dimensions > 1) {
+            memberType = memberBuilder
+                    .name(memberTypeName)
+                    .kind(Member.MemberKind.TYPE)
+                    .type(transformArray(memberTypeDesc, dimensions - 1, new TypeData.TypeDataBuilder()))
+                    .refs(List.of())
+                    .build();
+        } else {
+            memberType = transformTypeAsMember(memberTypeName, memberTypeDesc, memberBuilder);
+        }
+        typeDataBuilder.members(Map.of(memberTypeName, memberType));
+
+        return typeDataBuilder.build();
+    }
+
+    private Member transformTypeAsMember(String typeName, Node memberTypeDesc, Member.MemberBuilder memberBuilder) {
+        Object transformedMemberType = transform(memberTypeDesc, new TypeData.TypeDataBuilder());
+        return memberBuilder
+                .name(typeName)
+                .kind(Member.MemberKind.TYPE)
+                .type(transformedMemberType)
+                .refs(transformedMemberType instanceof String ? getTypeRefIds(memberTypeDesc) : List.of())
+                .build();
+    }
+
+    private void addDependencyTypes(Node typeDesc, Map<String, Object> references) {
+        switch (typeDesc.kind()) {
+            case RECORD_TYPE_DESC -> {
+                RecordTypeDescriptorNode recordTypeDesc = (RecordTypeDescriptorNode) typeDesc;
+                for (Node field : recordTypeDesc.fields()) {
+                    addDependencyTypes(field.kind() == SyntaxKind.RECORD_FIELD
+                            ? ((RecordFieldNode) field).typeName()
+                            : ((RecordFieldWithDefaultValueNode) field).typeName(), references);
+                }
+                recordTypeDesc.recordRestDescriptor()
+                        .ifPresent(restDescriptor -> addDependencyTypes(restDescriptor.typeName(), references));
+            }
+            case ARRAY_TYPE_DESC ->
+                    addDependencyTypes(((ArrayTypeDescriptorNode) typeDesc).memberTypeDesc(), references);
+            case UNION_TYPE_DESC -> getUnionMembers((UnionTypeDescriptorNode) typeDesc)
+                    .forEach(memberTypeDesc -> addDependencyTypes(memberTypeDesc, references));
+            case PARENTHESISED_TYPE_DESC ->
+                    addDependencyTypes(((ParenthesisedTypeDescriptorNode) typeDesc).typedesc(), references);
+            case SIMPLE_NAME_REFERENCE -> {
+                String typeName = ((SimpleNameReferenceNode) typeDesc).name().text();
+                if (references.containsKey(typeName)) {
+                    return;
+                }
+                TypeDefinitionNode typeDefNode = getTypeDefinition(typeName);
+                references.put(typeName, transform(typeName, typeDefNode));
+                addDependencyTypes(typeDefNode.typeDescriptor(), references);
+            }
+            default -> {
+            }
+        }
+    }
+
+    // Utils
+    private String getTypeSignature(Node typeDesc) {
+        return switch (typeDesc.kind()) {
+            case SIMPLE_NAME_REFERENCE -> {
+                String typeName = ((SimpleNameReferenceNode) typeDesc).name().text();
+                getTypeDefinition(typeName);
+                yield typePrefix + typeName;
+            }
+            case ARRAY_TYPE_DESC -> {
+                ArrayTypeDescriptorNode arrayTypeDesc = (ArrayTypeDescriptorNode) typeDesc;
+                yield getTypeSignature(arrayTypeDesc.memberTypeDesc()) + "[]".repeat(getDimensions(arrayTypeDesc));
+            }
+            default -> {
+                String signature = BUILT_IN_TYPES.get(typeDesc.kind());
+                if (signature == null) {
+                    throw new UnsupportedTypeException();
+                }
+                yield signature;
+            }
+        };
+    }
+
+    private List<String> getTypeRefIds(Node typeDesc) {
+        return switch (typeDesc.kind()) {
+            case SIMPLE_NAME_REFERENCE -> List.of(((SimpleNameReferenceNode) typeDesc).name().text());
+            case JSON_TYPE_DESC -> List.of(BUILT_IN_TYPES.get(SyntaxKind.JSON_TYPE_DESC));
+            case ARRAY_TYPE_DESC -> getTypeRefIds(((ArrayTypeDescriptorNode) typeDesc).memberTypeDesc());
+            default -> {
+                if (!BUILT_IN_TYPES.containsKey(typeDesc.kind())) {
+                    throw new UnsupportedTypeException();
+                }
+                yield List.of();
+            }
+        };
+    }
+
+    private TypeDefinitionNode getTypeDefinition(String typeName) {
+        TypeDefinitionNode typeDefNode = typeDefNodes.get(typeName);
+        if (typeDefNode == null) {
+            throw new UnsupportedTypeException();
+        }
+        return typeDefNode;
+    }
+
+    private static List<Node> getUnionMembers(UnionTypeDescriptorNode unionTypeDesc) {
+        List<Node> memberTypeDescs = new ArrayList<>();
+        for (Node memberTypeDesc : List.of(unionTypeDesc.leftTypeDesc(), unionTypeDesc.rightTypeDesc())) {
+            if (memberTypeDesc.kind() == SyntaxKind.UNION_TYPE_DESC) {
+                memberTypeDescs.addAll(getUnionMembers((UnionTypeDescriptorNode) memberTypeDesc));
+            } else {
+                memberTypeDescs.add(memberTypeDesc);
+            }
+        }
+        return memberTypeDescs;
+    }
+
+    private static int getDimensions(ArrayTypeDescriptorNode arrayTypeDesc) {
+        for (ArrayDimensionNode dimension : arrayTypeDesc.dimensions()) {
+            if (dimension.arrayLength().isPresent()) {
+                throw new UnsupportedTypeException();
+            }
+        }
+        return arrayTypeDesc.dimensions().size();
+    }
+
+    private static boolean hasDocumentation(Optional<MetadataNode> metadata) {
+        return metadata.isPresent() && metadata.get().documentationString().isPresent();
+    }
+
+    private static String unescapeIdentifier(String identifier) {
+        if (identifier.contains(UNICODE_ESCAPE_PREFIX)) {
+            throw new UnsupportedTypeException();
+        }
+        String unquoted = identifier.startsWith(QUOTED_IDENTIFIER_PREFIX) ? identifier.substring(1) : identifier;
+        return ESCAPED_CHAR_PATTERN.matcher(unquoted).replaceAll("$1");
+    }
+
+    // Default values are looked up from the existing types of the module, as done for the compiled types
+    private Optional<String> getDefaultValueOfField(String typeName, String fieldName) {
+        if (this.recordTypeDescNodes == null) {
+            TypeDefinitionNodeVisitor typeDefNodeVisitor = new TypeDefinitionNodeVisitor();
+            this.module.documentIds().forEach(documentId -> {
+                Document document = this.module.document(documentId);
+                document.syntaxTree().rootNode().accept(typeDefNodeVisitor);
+            });
+            this.recordTypeDescNodes = typeDefNodeVisitor.getRecordTypeDescNodes();
+        }
+        RecordTypeDescriptorNode recordTypeDescriptorNode = this.recordTypeDescNodes.get(typeName);
+        if (recordTypeDescriptorNode == null) {
+            return Optional.empty();
+        }
+        return recordTypeDescriptorNode.fields().stream()
+                .filter(field ->
+                        field.kind() == SyntaxKind.RECORD_FIELD_WITH_DEFAULT_VALUE &&
+                                ((RecordFieldWithDefaultValueNode) field).fieldName().text().equals(fieldName))
+                .findFirst()
+                .map(node -> ((RecordFieldWithDefaultValueNode) node).expression().toString());
+    }
+
+    /**
+     * Thrown when a type descriptor cannot be transformed without compiling the types.
+     */
+    private static class UnsupportedTypeException extends RuntimeException {
+
+        UnsupportedTypeException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -40,10 +40,12 @@ module io.ballerina.flow.model.generator {
     requires org.apache.commons.lang3;
     requires java.xml;
     requires org.eclipse.lsp4j.jsonrpc;
+    requires io.ballerina.lsextension.metrics;
 
     exports io.ballerina.flowmodelgenerator.core;
     exports io.ballerina.flowmodelgenerator.core.utils;
     exports io.ballerina.flowmodelgenerator.core.model;
+    exports io.ballerina.flowmodelgenerator.core.db;
     exports io.ballerina.flowmodelgenerator.core.db.model;
     exports io.ballerina.flowmodelgenerator.core.converters;
     exports io.ballerina.flowmodelgenerator.core.expressioneditor;
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.VariableSymbol;
+import io.ballerina.flowmodelgenerator.core.model.FlowNode;
+import io.ballerina.projects.BallerinaToml;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the index of the connections of a module, which must keep the connections across requests, and must
+ * discard them when a declaration or the manifest of the package changes.
+ *
+ * @since 2.0.0
+ */
+public class ConnectionIndexTest {
+
+    private static final String PROJECT = "connection_index";
+    private static final String MAIN_FILE = "main.bal";
+    private static final String CONFIG_FILE = "modules/config/config.bal";
+    private static final String CONNECTION = "endpoint";
+
+    @Test(description = "A connection is built once, and served from the index on the next requests")
+    public void testIndexedConnection() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Module module = TestUtils.getDocument(project, MAIN_FILE).module();
+        ConnectionIndex connectionIndex = ConnectionIndex.getInstance(module);
+        AtomicInteger builds = new AtomicInteger();
+
+        connectionIndex.get(getConnection(module), symbol -> build(builds));
+        ConnectionIndex nextIndex = ConnectionIndex.getInstance(module);
+        Assert.assertSame(nextIndex, connectionIndex);
+        nextIndex.get(getConnection(module), symbol -> build(builds));
+        Assert.assertEquals(builds.get(), 1);
+    }
+
+    @Test(description = "An edit within a function body keeps the indexed connections")
+    public void testFunctionBodyEdit() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Document main = TestUtils.getDocument(project, MAIN_FILE);
+        AtomicInteger builds = new AtomicInteger();
+        ConnectionIndex.getInstance(main.module()).get(getConnection(main.module()), symbol -> build(builds));
+
+        main = TestUtils.edit(main, "return url;", "return url + \"/health\";");
+        assertBuilds(main.module(), builds, 1);
+
+        Document config = TestUtils.edit(TestUtils.getDocument(project, CONFIG_FILE), "\"endpoint\"", "\"service\"");
+        assertBuilds(config.module().packageInstance().getDefaultModule(), builds, 1);
+    }
+
+    @Test(description = "An edit of a connection declaration discards the indexed connections")
+    public void testDeclarationEdit() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Document main = TestUtils.getDocument(project, MAIN_FILE);
+        AtomicInteger builds = new AtomicInteger();
+        ConnectionIndex.getInstance(main.module()).get(getConnection(main.module()), symbol -> build(builds));
+
+        main = TestUtils.edit(main, "9090", "8080");
+        assertBuilds(main.module(), builds, 2);
+    }
+
+    @Test(description = "An edit of a type in another module of the package discards the indexed connections")
+    public void testTypeEditInOtherModule() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Module module = TestUtils.getDocument(project, MAIN_FILE).module();
+        AtomicInteger builds = new AtomicInteger();
+        ConnectionIndex.getInstance(module).get(getConnection(module), symbol -> build(builds));
+
+        Document config = TestUtils.edit(TestUtils.getDocument(project, CONFIG_FILE), "    string url;",
+                "    string url;\n    int timeout = 30;");
+        assertBuilds(config.module().packageInstance().getDefaultModule(), builds, 2);
+    }
+
+    @Test(description = "An edit of the manifest of the package discards the indexed connections")
+    public void testManifestEdit() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Module module = TestUtils.getDocument(project, MAIN_FILE).module();
+        AtomicInteger builds = new AtomicInteger();
+        ConnectionIndex.getInstance(module).get(getConnection(module), symbol -> build(builds));
+
+        BallerinaToml ballerinaToml = module.packageInstance().ballerinaToml().orElseThrow();
+        String manifest = ballerinaToml.tomlDocument().textDocument().toString();
+        ballerinaToml.modify().withContent(manifest.replace("0.1.0", "0.1.1")).apply();
+        assertBuilds(project.currentPackage().getDefaultModule(), builds, 2);
+    }
+
+    /**
+     * Requests the connection from the index of the edited module, and asserts the number of times it was built.
+     */
+    private static void assertBuilds(Module module, AtomicInteger builds, int expectedBuilds) {
+        ConnectionIndex.getInstance(module).get(getConnection(module), symbol -> build(builds));
+        Assert.assertEquals(builds.get(), expectedBuilds);
+    }
+
+    private static Optional<FlowNode> build(AtomicInteger builds) {
+        builds.incrementAndGet();
+        return Optional.empty();
+    }
+
+    private static Symbol getConnection(Module module) {
+        return module.getCompilation().getSemanticModel().moduleSymbols().stream()
+                .filter(symbol -> symbol instanceof VariableSymbol && symbol.nameEquals(CONNECTION))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Connection not found: " + CONNECTION));
+    }
+}
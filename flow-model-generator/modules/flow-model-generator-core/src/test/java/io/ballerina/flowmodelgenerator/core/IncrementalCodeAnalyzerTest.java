@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import com.google.gson.Gson;
+import io.ballerina.flowmodelgenerator.core.model.Diagram;
+import io.ballerina.flowmodelgenerator.core.model.FlowNode;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Project;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+
+/**
+ * Tests for the incremental analysis of the flow model, which must generate the same diagram as the analysis from
+ * scratch while reusing the flow nodes of the statements unaffected by an edit.
+ *
+ * @since 2.0.0
+ */
+public class IncrementalCodeAnalyzerTest {
+
+    private static final String PROJECT = "incremental_analysis";
+    private static final String MAIN_FILE = "main.bal";
+    private static final String UTILS_FILE = "utils.bal";
+    private static final String CANVAS = "compute";
+    private static final Gson GSON = new Gson();
+
+    @Test(description = "Statements before and unrelated to an edited statement are reused as they are")
+    public void testReuseUnchangedStatements() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Document document = TestUtils.getDocument(project, MAIN_FILE);
+        Diagram previous = generate(project, document, true);
+
+        document = TestUtils.edit(document, "int d = c + 1;", "int d = c + 2;");
+        Diagram current = assertSameAsScratch(project, document);
+
+        Assert.assertSame(getNode(current, 1), getNode(previous, 1), "Expected the node of 'b' to be reused");
+        Assert.assertSame(getNode(current, 2), getNode(previous, 2), "Expected the node of 'c' to be reused");
+        Assert.assertNotSame(getNode(current, 3), getNode(previous, 3), "Expected the edited node to be analyzed");
+        Assert.assertNotSame(getNode(current, 4), getNode(previous, 4),
+                "Expected the node referring to the edited variable to be analyzed");
+    }
+
+    @Test(description = "Statements after an inserted statement are moved to their new line ranges")
+    public void testLineShiftWithinCanvas() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Document document = TestUtils.getDocument(project, MAIN_FILE);
+        Diagram previous = generate(project, document, true);
+
+        document = TestUtils.edit(document, "    int c = twice(b);", "    int extra = 5;\n    int c = twice(b);");
+        Diagram current = assertSameAsScratch(project, document);
+
+        FlowNode shifted = getNode(current, 3);
+        Assert.assertSame(shifted.metadata(), getNode(previous, 2).metadata(),
+                "Expected the node of 'c' to be reused from the previous analysis");
+        Assert.assertEquals(shifted.codedata().lineRange().startLine().line(),
+                getNode(previous, 2).codedata().lineRange().startLine().line() + 1);
+    }
+
+    @Test(description = "An edit above the canvas moves the canvas and all of its nodes")
+    public void testEditAboveCanvas() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Document document = TestUtils.getDocument(project, MAIN_FILE);
+        generate(project, document, true);
+
+        document = TestUtils.edit(document, "function compute", "// Computes the value\n\nfunction compute");
+        assertSameAsScratch(project, document);
+
+        document = TestUtils.edit(document, "// Computes the value", "// Computes   the value");
+        assertSameAsScratch(project, document);
+    }
+
+    @Test(description = "A change of a dependency in another document invalidates the previous analysis")
+    public void testDependencyChange() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Document document = TestUtils.getDocument(project, MAIN_FILE);
+        Diagram previous = generate(project, document, true);
+
+        TestUtils.edit(TestUtils.getDocument(project, UTILS_FILE), "function twice(int value)",
+                "function twice(int value, int factor = 2)");
+        document = TestUtils.getDocument(project, MAIN_FILE);
+        Diagram current = assertSameAsScratch(project, document);
+
+        Assert.assertNotSame(getNode(current, 1), getNode(previous, 1),
+                "Expected the canvas to be analyzed from scratch");
+        Assert.assertNotEquals(GSON.toJsonTree(getNode(current, 2)), GSON.toJsonTree(getNode(previous, 2)),
+                "Expected the call of the changed function to reflect the new signature");
+    }
+
+    @Test(description = "The incremental analysis is disabled unless the system property is set")
+    public void testDisabledByDefault() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Document document = TestUtils.getDocument(project, MAIN_FILE);
+        Diagram first = generate(project, document, false);
+        Diagram second = generate(project, document, false);
+        Assert.assertNotSame(getNode(second, 1), getNode(first, 1));
+    }
+
+    private static Diagram assertSameAsScratch(Project project, Document document) {
+        Diagram scratch = generate(project, document, false);
+        Diagram incremental = generate(project, document, true);
+        Assert.assertEquals(GSON.toJsonTree(incremental), GSON.toJsonTree(scratch),
+                "Incremental analysis differs from the analysis from scratch");
+        return incremental;
+    }
+
+    private static Diagram generate(Project project, Document document, boolean incremental) {
+        if (incremental) {
+            System.setProperty(ModelGenerator.INCREMENTAL_ANALYSIS_PROPERTY, "true");
+        }
+        try {
+            Path filePath = project.sourceRoot().resolve(MAIN_FILE);
+            ModelGenerator modelGenerator = new ModelGenerator(project,
+                    document.module().getCompilation().getSemanticModel(), filePath);
+            return modelGenerator.getDiagram(document, TestUtils.getFunctionLineRange(document, CANVAS), null);
+        } finally {
+            System.clearProperty(ModelGenerator.INCREMENTAL_ANALYSIS_PROPERTY);
+        }
+    }
+
+    /**
+     * Returns the flow node at the given index of the canvas, where the first node is the start of the function.
+     */
+    private static FlowNode getNode(Diagram diagram, int index) {
+        return diagram.nodes().get(index);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.VariableSymbol;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.text.LinePosition;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Tests for the cache of the mapping port shapes, which must serve the shapes for as long as the package is unchanged,
+ * and must not mix up the shapes of the distinct types sharing a name.
+ *
+ * @since 2.0.0
+ */
+public class MappingPortCacheTest {
+
+    private static final String PROJECT = "mapping_port_cache";
+    private static final String MAIN_FILE = "main.bal";
+
+    @Test(description = "The shapes are served from the cache while the package is unchanged")
+    public void testCacheHit() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Document main = TestUtils.getDocument(project, MAIN_FILE);
+        MappingPortCache portCache = MappingPortCache.getInstance(main.module().packageInstance());
+        Assert.assertSame(MappingPortCache.getInstance(main.module().packageInstance()), portCache);
+
+        VariableSymbol person = getVariable(main, "person");
+        MappingPortCache.PortShape inputShape = portCache.getShape(person);
+        Assert.assertSame(portCache.getShape(getVariable(main, "person")), inputShape,
+                "Expected the shape of the input to be cached");
+        Assert.assertSame(portCache.getCachedShape(MappingPortCache.getKey(person).orElseThrow()).orElseThrow(),
+                inputShape);
+
+        TypeSymbol personType = person.typeDescriptor();
+        MappingPortCache.PortShape targetShape = portCache.getShape(personType);
+        Assert.assertSame(portCache.getShape(getVariable(main, "person").typeDescriptor()), targetShape,
+                "Expected the shape of the target to be cached");
+        Assert.assertSame(portCache.getCachedShape(MappingPortCache.getKey(personType)).orElseThrow(), targetShape);
+        Assert.assertEquals(getFieldNames(targetShape), List.of("name", "age"));
+    }
+
+    @Test(description = "An edit of the package discards the cached shapes")
+    public void testSourceEdit() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Document main = TestUtils.getDocument(project, MAIN_FILE);
+        MappingPortCache portCache = MappingPortCache.getInstance(main.module().packageInstance());
+        VariableSymbol person = getVariable(main, "person");
+        portCache.getShape(person);
+        portCache.getShape(person.typeDescriptor());
+
+        main = TestUtils.edit(main, "Alice", "Bob");
+        MappingPortCache editedPortCache = MappingPortCache.getInstance(main.module().packageInstance());
+        Assert.assertNotSame(editedPortCache, portCache, "Expected the edited package to have a new cache");
+        Assert.assertTrue(editedPortCache.getCachedShape(MappingPortCache.getKey(person).orElseThrow()).isEmpty());
+        Assert.assertTrue(editedPortCache.getCachedShape(MappingPortCache.getKey(person.typeDescriptor())).isEmpty());
+    }
+
+    @Test(description = "An edit of a type is reflected in the shapes of its inputs and targets")
+    public void testTypeEdit() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Document main = TestUtils.getDocument(project, MAIN_FILE);
+        MappingPortCache portCache = MappingPortCache.getInstance(main.module().packageInstance());
+        VariableSymbol person = getVariable(main, "person");
+        MappingPortCache.PortShape inputShape = portCache.getShape(person);
+        MappingPortCache.PortShape targetShape = portCache.getShape(person.typeDescriptor());
+
+        // The signature of the type reference, and hence the key of the shapes, is unchanged by the edit
+        main = TestUtils.edit(main, "    int age;", "    int age;\n    string city?;");
+        MappingPortCache editedPortCache = MappingPortCache.getInstance(main.module().packageInstance());
+        VariableSymbol editedPerson = getVariable(main, "person");
+        Assert.assertEquals(MappingPortCache.getKey(editedPerson), MappingPortCache.getKey(person));
+
+        MappingPortCache.PortShape editedInputShape = editedPortCache.getShape(editedPerson);
+        Assert.assertNotEquals(editedInputShape, inputShape);
+        Assert.assertEquals(getFieldNames(editedInputShape), List.of("name", "age", "city"));
+        MappingPortCache.PortShape editedTargetShape = editedPortCache.getShape(editedPerson.typeDescriptor());
+        Assert.assertNotEquals(editedTargetShape, targetShape);
+        Assert.assertEquals(getFieldNames(editedTargetShape), List.of("name", "age", "city"));
+    }
+
+    @Test(description = "Distinct types with the same name have distinct shapes")
+    public void testTargetsWithSameName() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Document main = TestUtils.getDocument(project, MAIN_FILE);
+        MappingPortCache portCache = MappingPortCache.getInstance(main.module().packageInstance());
+
+        TypeSymbol personType = getVariable(main, "person").typeDescriptor();
+        TypeSymbol contactType = getVariable(main, "contact").typeDescriptor();
+        Assert.assertEquals(personType.getName(), contactType.getName(), "Expected both types to be named 'Person'");
+        Assert.assertNotEquals(MappingPortCache.getKey(contactType), MappingPortCache.getKey(personType));
+
+        MappingPortCache.PortShape personShape = portCache.getShape(personType);
+        MappingPortCache.PortShape contactShape = portCache.getShape(contactType);
+        Assert.assertEquals(getFieldNames(personShape), List.of("name", "age"));
+        Assert.assertEquals(getFieldNames(contactShape), List.of("email"));
+        Assert.assertSame(portCache.getShape(personType), personShape);
+    }
+
+    private static VariableSymbol getVariable(Document document, String name) {
+        SemanticModel semanticModel = document.module().getCompilation().getSemanticModel();
+        String source = document.textDocument().toString();
+        LinePosition endOfMain = document.textDocument().linePositionFrom(source.lastIndexOf('}'));
+        for (Symbol symbol : semanticModel.visibleSymbols(document, endOfMain)) {
+            if (symbol instanceof VariableSymbol variableSymbol && symbol.nameEquals(name)) {
+                return variableSymbol;
+            }
+        }
+        throw new AssertionError("Variable not found: " + name);
+    }
+
+    private static List<String> getFieldNames(MappingPortCache.PortShape shape) {
+        return shape.fields().stream().map(MappingPortCache.FieldShape::name).toList();
+    }
+}
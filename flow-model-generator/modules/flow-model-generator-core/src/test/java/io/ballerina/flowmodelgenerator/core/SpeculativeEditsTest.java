@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+
+/**
+ * Tests for the speculative edits, which must be compiled on a warm copy of the project without modifying the
+ * workspace, and must follow the edits of the workspace.
+ *
+ * @since 2.0.0
+ */
+public class SpeculativeEditsTest {
+
+    private static final String PROJECT = "speculative_edits";
+    private static final String OTHER_PROJECT = "incremental_analysis";
+    private static final String MAIN_FILE = "main.bal";
+    private static final String UTILS_FILE = "utils.bal";
+    private static final String CALL = "compute()";
+    private static final String TWICE_CALL = "twice(compute())";
+
+    @Test(description = "A speculative edit is applied to a copy of the project, leaving the workspace unmodified")
+    public void testIsolationFromWorkspace() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Package workspacePackage = project.currentPackage();
+        Document document = TestUtils.getDocument(project, MAIN_FILE);
+        String source = document.textDocument().toString();
+        String editedSource = source.replace(CALL, "compute() + 1");
+
+        SpeculativeEdits speculativeEdits = new SpeculativeEdits(1);
+        String compiledSource = speculativeEdits.withContent(document, editedSource, editedDocument -> {
+            Assert.assertNotSame(editedDocument.module().project(), project,
+                    "Expected the edit to be applied to a copy of the project");
+            return editedDocument.textDocument().toString();
+        });
+
+        Assert.assertEquals(compiledSource, editedSource);
+        Assert.assertSame(project.currentPackage(), workspacePackage, "Expected the workspace package to be kept");
+        Assert.assertEquals(TestUtils.getDocument(project, MAIN_FILE).textDocument().toString(), source);
+    }
+
+    @Test(description = "The copy is reused while the workspace is unchanged, and refreshed after a workspace edit")
+    public void testRefreshAfterWorkspaceEdit() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Path sourceRoot = project.sourceRoot();
+        Document document = TestUtils.getDocument(project, MAIN_FILE);
+        String callingTwice = document.textDocument().toString().replace(CALL, TWICE_CALL);
+
+        SpeculativeEdits speculativeEdits = new SpeculativeEdits(1);
+        Assert.assertTrue(compileErrors(speculativeEdits, document, callingTwice) > 0,
+                "Expected 'twice' to be undefined before it is added to the workspace");
+        Package copy = speculativeEdits.getWarmCopy(sourceRoot);
+        Assert.assertNotNull(copy);
+        compileErrors(speculativeEdits, document, document.textDocument().toString());
+        Assert.assertSame(speculativeEdits.getWarmCopy(sourceRoot), copy, "Expected the warm copy to be reused");
+
+        TestUtils.edit(TestUtils.getDocument(project, UTILS_FILE), "function compute()",
+                "function twice(int value) returns int {\n    return value * 2;\n}\n\nfunction compute()");
+        document = TestUtils.getDocument(project, MAIN_FILE);
+        Assert.assertEquals(compileErrors(speculativeEdits, document, callingTwice), 0,
+                "Expected the edit to be compiled against the edited workspace");
+        Assert.assertNotSame(speculativeEdits.getWarmCopy(sourceRoot), copy,
+                "Expected the warm copy to be refreshed after the workspace edit");
+    }
+
+    @Test(description = "The least recently used warm copies are evicted")
+    public void testEviction() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Project otherProject = TestUtils.loadProject(OTHER_PROJECT);
+        Document document = TestUtils.getDocument(project, MAIN_FILE);
+        Document otherDocument = TestUtils.getDocument(otherProject, MAIN_FILE);
+
+        SpeculativeEdits speculativeEdits = new SpeculativeEdits(1);
+        compileErrors(speculativeEdits, document, document.textDocument().toString());
+        Assert.assertNotNull(speculativeEdits.getWarmCopy(project.sourceRoot()));
+
+        compileErrors(speculativeEdits, otherDocument, otherDocument.textDocument().toString());
+        Assert.assertNotNull(speculativeEdits.getWarmCopy(otherProject.sourceRoot()));
+        Assert.assertNull(speculativeEdits.getWarmCopy(project.sourceRoot()),
+                "Expected the copy of the least recently used project to be evicted");
+    }
+
+    private static int compileErrors(SpeculativeEdits speculativeEdits, Document document, String content) {
+        return speculativeEdits.withContent(document, content, editedDocument -> editedDocument.module()
+                .packageInstance().getCompilation().diagnosticResult().errorCount());
+    }
+}
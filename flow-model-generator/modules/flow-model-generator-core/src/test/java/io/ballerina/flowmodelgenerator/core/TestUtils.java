@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.tools.text.LineRange;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Utilities for the tests of the flow model generator core.
+ *
+ * @since 2.0.0
+ */
+public final class TestUtils {
+
+    public static final Path RES_DIR = Paths.get("src", "test", "resources").toAbsolutePath();
+    private static final String BALLERINA = "ballerina";
+
+    private TestUtils() {
+    }
+
+    /**
+     * Loads a fresh instance of the given test project.
+     *
+     * @param projectName the name of the project directory in the test resources
+     * @return the loaded project
+     */
+    public static Project loadProject(String projectName) {
+        BuildOptions buildOptions = BuildOptions.builder().setOffline(true).build();
+        return BuildProject.load(RES_DIR.resolve(BALLERINA).resolve(projectName), buildOptions);
+    }
+
+    /**
+     * Returns the document of the given file in the current package of the project.
+     *
+     * @param project  the project
+     * @param fileName the name of the file relative to the project root
+     * @return the document
+     */
+    public static Document getDocument(Project project, String fileName) {
+        DocumentId documentId = project.documentId(project.sourceRoot().resolve(fileName));
+        return project.currentPackage().module(documentId.moduleId()).document(documentId);
+    }
+
+    /**
+     * Replaces the first occurrence of the given text in the document, updating the current package of the project.
+     *
+     * @param document    the document to edit
+     * @param target      the text to replace
+     * @param replacement the replacement text
+     * @return the edited document
+     */
+    public static Document edit(Document document, String target, String replacement) {
+        String source = document.textDocument().toString();
+        int index = source.indexOf(target);
+        if (index < 0) {
+            throw new IllegalArgumentException("Text not found in " + document.name() + ": " + target);
+        }
+        String newSource = source.substring(0, index) + replacement + source.substring(index + target.length());
+        return document.modify().withContent(newSource).apply();
+    }
+
+    /**
+     * Returns the line range of the function with the given name in the document.
+     *
+     * @param document     the document
+     * @param functionName the name of the function
+     * @return the line range of the function definition
+     */
+    public static LineRange getFunctionLineRange(Document document, String functionName) {
+        ModulePartNode modulePartNode = document.syntaxTree().rootNode();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (member instanceof FunctionDefinitionNode functionNode &&
+                    functionNode.functionName().text().equals(functionName)) {
+                return functionNode.lineRange();
+            }
+        }
+        throw new IllegalArgumentException("Function not found in " + document.name() + ": " + functionName);
+    }
+}
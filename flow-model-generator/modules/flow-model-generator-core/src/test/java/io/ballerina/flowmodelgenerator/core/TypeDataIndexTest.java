@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the type data index, which must retain the type data of the declarations unaffected by an edit and
+ * transform the others again.
+ *
+ * @since 2.0.0
+ */
+public class TypeDataIndexTest {
+
+    private static final String PROJECT = "type_data_index";
+    private static final String TYPES_FILE = "types.bal";
+    private static final String MAIN_FILE = "main.bal";
+    private static final String COLOR_DECLARATION = "type Color \"RED\"|\"GREEN\";";
+
+    @Test(description = "Edits that leave the declarations unchanged retain all the type data")
+    public void testUnchangedDeclarations() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Document types = TestUtils.getDocument(project, TYPES_FILE);
+        Object address = getTypeData(types, "Address");
+        Object person = getTypeData(types, "Person");
+        Object color = getTypeData(types, "Color");
+        Assert.assertSame(getTypeData(types, "Person"), person, "Expected the type data to be indexed");
+
+        TestUtils.edit(TestUtils.getDocument(project, MAIN_FILE), "Colombo", "Kandy");
+        types = TestUtils.getDocument(project, TYPES_FILE);
+        Assert.assertSame(getTypeData(types, "Person"), person, "Expected an edit of another document to be ignored");
+
+        types = TestUtils.edit(types, COLOR_DECLARATION, COLOR_DECLARATION + "\n\nfunction describe() {\n}");
+        Assert.assertSame(getTypeData(types, "Address"), address);
+        Assert.assertSame(getTypeData(types, "Person"), person);
+        Assert.assertSame(getTypeData(types, "Color"), color,
+                "Expected a new function after the declarations to retain their type data");
+    }
+
+    @Test(description = "A changed declaration invalidates its type data and the type data of its referrers")
+    public void testChangedDeclaration() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Document types = TestUtils.getDocument(project, TYPES_FILE);
+        Object address = getTypeData(types, "Address");
+        Object person = getTypeData(types, "Person");
+        Object color = getTypeData(types, "Color");
+
+        types = TestUtils.edit(types, "    string city;", "    string city;\n    string country;");
+        Assert.assertNotSame(getTypeData(types, "Address"), address);
+        Assert.assertNotSame(getTypeData(types, "Person"), person, "Expected the referrer of 'Address' to change");
+        Assert.assertSame(getTypeData(types, "Color"), color);
+    }
+
+    @Test(description = "A renamed declaration is indexed under its new name, along with its referrers")
+    public void testRenamedDeclaration() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Document types = TestUtils.getDocument(project, TYPES_FILE);
+        Object address = getTypeData(types, "Address");
+        Object person = getTypeData(types, "Person");
+        Object color = getTypeData(types, "Color");
+
+        types = TestUtils.edit(types, "type Color", "type Colour");
+        Assert.assertNotSame(getTypeData(types, "Colour"), color);
+        Assert.assertSame(getTypeData(types, "Address"), address);
+        Assert.assertSame(getTypeData(types, "Person"), person);
+
+        String source = types.textDocument().toString();
+        types = types.modify().withContent(source.replace("Address", "Location")).apply();
+        Assert.assertNotSame(getTypeData(types, "Location"), address);
+        Assert.assertNotSame(getTypeData(types, "Person"), person, "Expected the referrer of 'Location' to change");
+    }
+
+    @Test(description = "A moved declaration invalidates only the type data carrying its position")
+    public void testMovedDeclaration() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Document types = TestUtils.getDocument(project, TYPES_FILE);
+        Object address = getTypeData(types, "Address");
+        Object person = getTypeData(types, "Person");
+        Object color = getTypeData(types, "Color");
+
+        types = TestUtils.edit(types, "type Person", "// A person with an address\ntype Person");
+        Assert.assertSame(getTypeData(types, "Address"), address, "Expected the declaration above to be retained");
+        Object movedPerson = getTypeData(types, "Person");
+        Assert.assertNotSame(movedPerson, person, "Expected the moved declaration to be transformed again");
+        Object movedColor = getTypeData(types, "Color");
+        Assert.assertNotSame(movedColor, color, "Expected the moved declaration to be transformed again");
+
+        // Move the last declaration to another document of the module
+        TestUtils.edit(types, "\n\n" + COLOR_DECLARATION, "");
+        Document main = TestUtils.getDocument(project, MAIN_FILE);
+        main = TestUtils.edit(main, "public function main()", COLOR_DECLARATION + "\n\npublic function main()");
+        types = TestUtils.getDocument(project, TYPES_FILE);
+        Assert.assertNotSame(getTypeData(main, "Color"), movedColor);
+        Assert.assertSame(getTypeData(types, "Address"), address);
+        Assert.assertSame(getTypeData(types, "Person"), movedPerson);
+    }
+
+    @Test(description = "A reloaded project is indexed from scratch, without affecting the index of the earlier one")
+    public void testProjectReload() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Object person = getTypeData(TestUtils.getDocument(project, TYPES_FILE), "Person");
+
+        Project reloadedProject = TestUtils.loadProject(PROJECT);
+        Object reloadedPerson = getTypeData(TestUtils.getDocument(reloadedProject, TYPES_FILE), "Person");
+        Assert.assertNotSame(reloadedPerson, person, "Expected the reloaded project to have its own index");
+        Assert.assertSame(getTypeData(TestUtils.getDocument(project, TYPES_FILE), "Person"), person);
+        Assert.assertSame(getTypeData(TestUtils.getDocument(reloadedProject, TYPES_FILE), "Person"), reloadedPerson);
+    }
+
+    @Test(description = "An earlier compilation of the module is not indexed once a later one is")
+    public void testEarlierCompilation() {
+        Project project = TestUtils.loadProject(PROJECT);
+        Document types = TestUtils.getDocument(project, TYPES_FILE);
+        getTypeData(types, "Person");
+
+        Document editedTypes = TestUtils.edit(types, "string name;", "string fullName;");
+        getTypeData(editedTypes, "Person");
+        Assert.assertTrue(TypeDataIndex.getInstance(types.module()).isEmpty(),
+                "Expected the earlier compilation not to roll back the index");
+    }
+
+    /**
+     * Returns the type data of the given type from the index of the module of the document, where the type data
+     * transformed from a symbol is a new object, and hence, an indexed type data is the same object.
+     */
+    private static Object getTypeData(Document document, String typeName) {
+        Module module = document.module();
+        TypeDataIndex typeDataIndex = TypeDataIndex.getInstance(module).orElseThrow();
+        return typeDataIndex.getTypeData(getSymbol(module, typeName), symbol -> new Object());
+    }
+
+    private static Symbol getSymbol(Module module, String typeName) {
+        return module.getCompilation().getSemanticModel().moduleSymbols().stream()
+                .filter(symbol -> symbol.kind() == SymbolKind.TYPE_DEFINITION)
+                .filter(symbol -> symbol.getName().filter(typeName::equals).isPresent())
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Type not found: " + typeName));
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.text.LinePosition;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Tests for the depth-limited types of the visible variables, whose collapsed members must expand to the same nodes
+ * as the types expanded in full.
+ *
+ * @since 2.0.0
+ */
+public class VisibleVariableTypesGeneratorTest {
+
+    private static final String PROJECT = "visible_variable_types";
+    private static final String MAIN_FILE = "main.bal";
+    private static final String CURSOR = "count += 1;";
+    private static final String PARAMETERS = "Parameters";
+    private static final String LOCAL_VARIABLES = "Local Variables";
+    private static final int MAX_EXPANSIONS = 200;
+
+    @Test(description = "The types are listed up to the depth, with handles to the collapsed members")
+    public void testShallowListing() {
+        VisibleVariableTypesGenerator generator = createGenerator(getDocument());
+        JsonArray categories = generator.getVisibleVariableTypes(0);
+
+        JsonObject person = getType(categories, PARAMETERS, "person");
+        Assert.assertTrue(person.has(TreeHandles.HANDLE_KEY), "Expected the record to be collapsed");
+        Assert.assertFalse(person.has("fields"), "Expected the fields of the record to be left out");
+        Assert.assertEquals(TreeHandles.decode(person.get(TreeHandles.HANDLE_KEY).getAsString()).path().size(), 0);
+
+        JsonObject count = getType(categories, LOCAL_VARIABLES, "count");
+        Assert.assertFalse(count.has(TreeHandles.HANDLE_KEY), "Expected a type without members to have no handle");
+    }
+
+    @Test(description = "Expanding the root of a type to a depth yields the type listed to the same depth")
+    public void testRootExpansion() {
+        VisibleVariableTypesGenerator generator = createGenerator(getDocument());
+        String handle = getType(generator.getVisibleVariableTypes(0), PARAMETERS, "person")
+                .get(TreeHandles.HANDLE_KEY).getAsString();
+        for (int depth = 0; depth < 4; depth++) {
+            Assert.assertEquals(generator.expandType(handle, depth),
+                    getType(generator.getVisibleVariableTypes(depth), PARAMETERS, "person"),
+                    "Expected the expansion to match the listing at depth " + depth);
+        }
+        Assert.assertEquals(generator.expandType(handle, null),
+                getType(generator.getVisibleVariableTypes(null), PARAMETERS, "person"));
+    }
+
+    @Test(description = "A member nested in other members is expanded through its path")
+    public void testNestedPath() {
+        VisibleVariableTypesGenerator generator = createGenerator(getDocument());
+        JsonObject person = getType(generator.getVisibleVariableTypes(1), PARAMETERS, "person");
+
+        JsonObject address = getField(person, "address");
+        Assert.assertFalse(address.has("fields"), "Expected the fields of 'address' to be left out");
+        JsonObject expandedAddress = generator.expandType(address.get(TreeHandles.HANDLE_KEY).getAsString(), 1)
+                .getAsJsonObject();
+        Assert.assertEquals(getField(expandedAddress, "city").get("typeName").getAsString(), "string");
+
+        JsonObject geo = getField(expandedAddress, "geo");
+        String geoHandle = geo.get(TreeHandles.HANDLE_KEY).getAsString();
+        JsonArray geoPath = TreeHandles.decode(geoHandle).path();
+        Assert.assertEquals(geoPath.size(), 4, "Expected the path through 'address' to 'geo'");
+
+        JsonObject expandedGeo = generator.expandType(geoHandle, null).getAsJsonObject();
+        JsonElement fullPerson = getType(generator.getVisibleVariableTypes(null), PARAMETERS, "person");
+        Assert.assertEquals(expandedGeo, TreeHandles.find(fullPerson, geoPath));
+        Assert.assertEquals(getField(expandedGeo, "lat").get("typeName").getAsString(), "decimal");
+        Assert.assertFalse(expandedGeo.has(TreeHandles.HANDLE_KEY));
+    }
+
+    @Test(description = "Every handle of the types, including the recursive ones, expands to the node of its path")
+    public void testExpansionsMatchFullTypes() {
+        VisibleVariableTypesGenerator generator = createGenerator(getDocument());
+        JsonArray fullCategories = generator.getVisibleVariableTypes(null);
+        for (String variable : new String[]{"person", "head"}) {
+            JsonElement fullType = getType(fullCategories, PARAMETERS, variable);
+            int expansions = 0;
+            Deque<String> handles = new ArrayDeque<>();
+            collectHandles(getType(generator.getVisibleVariableTypes(0), PARAMETERS, variable), handles);
+            while (!handles.isEmpty()) {
+                Assert.assertTrue(++expansions <= MAX_EXPANSIONS,
+                        "Expected the expansions of the recursive type of '" + variable + "' to terminate");
+                String handle = handles.pop();
+                JsonArray path = TreeHandles.decode(handle).path();
+                Assert.assertEquals(generator.expandType(handle, null), TreeHandles.find(fullType, path),
+                        "Expected the expansion of " + path + " to match the full type of '" + variable + "'");
+                collectHandles(generator.expandType(handle, 1), handles);
+            }
+            Assert.assertTrue(expansions > 1, "Expected the members of '" + variable + "' to be collapsed");
+        }
+    }
+
+    @Test(description = "The types are converted once for as long as the package is unchanged")
+    public void testTypeCache() {
+        Document document = getDocument();
+        VariableTypeCache.ResolvedType cached = getCachedType(document, "person");
+        Assert.assertSame(getCachedType(document, "person"), cached);
+        Assert.assertSame(cached.tree(), cached.tree(), "Expected the serialized type to be reused");
+
+        VisibleVariableTypesGenerator generator = createGenerator(document);
+        String handle = getType(generator.getVisibleVariableTypes(0), PARAMETERS, "person")
+                .get(TreeHandles.HANDLE_KEY).getAsString();
+        JsonElement expanded = generator.expandType(handle, null);
+        Assert.assertNotSame(expanded, cached.tree(), "Expected the cached tree not to be exposed");
+        Assert.assertSame(getCachedType(document, "person"), cached);
+
+        Document edited = TestUtils.edit(document, "int count = 0;", "int count = 1;");
+        Assert.assertNotSame(getCachedType(edited, "person"), cached,
+                "Expected the types to be converted again once the package is changed");
+        Assert.assertEquals(createGenerator(edited).expandType(handle, null), expanded,
+                "Expected the handle to outlive the edit");
+    }
+
+    @Test(description = "The handle of a removed variable expires")
+    public void testExpiredHandle() {
+        Document document = getDocument();
+        String handle = getType(createGenerator(document).getVisibleVariableTypes(0), PARAMETERS, "head")
+                .get(TreeHandles.HANDLE_KEY).getAsString();
+
+        Document edited = TestUtils.edit(document, "Node head", "Node tail");
+        VisibleVariableTypesGenerator generator = createGenerator(edited);
+        Assert.assertThrows(IllegalArgumentException.class, () -> generator.expandType(handle, null));
+    }
+
+    private static Document getDocument() {
+        Project project = TestUtils.loadProject(PROJECT);
+        return TestUtils.getDocument(project, MAIN_FILE);
+    }
+
+    private static LinePosition getPosition(Document document) {
+        int offset = document.textDocument().toString().indexOf(CURSOR);
+        return document.textDocument().linePositionFrom(offset);
+    }
+
+    private static VisibleVariableTypesGenerator createGenerator(Document document) {
+        SemanticModel semanticModel = document.module().getCompilation().getSemanticModel();
+        return new VisibleVariableTypesGenerator(semanticModel, document, getPosition(document));
+    }
+
+    private static VariableTypeCache.ResolvedType getCachedType(Document document, String variable) {
+        SemanticModel semanticModel = document.module().getCompilation().getSemanticModel();
+        Symbol symbol = semanticModel.visibleSymbols(document, getPosition(document)).stream()
+                .filter(visibleSymbol -> visibleSymbol.getName().filter(variable::equals).isPresent())
+                .findFirst()
+                .orElseThrow();
+        return VariableTypeCache.getInstance(document.module().packageInstance()).getType(symbol);
+    }
+
+    private static JsonObject getType(JsonArray categories, String categoryName, String variable) {
+        for (JsonElement category : categories) {
+            if (!category.getAsJsonObject().get("name").getAsString().equals(categoryName)) {
+                continue;
+            }
+            for (JsonElement variableJson : category.getAsJsonObject().getAsJsonArray("types")) {
+                if (variableJson.getAsJsonObject().get("name").getAsString().equals(variable)) {
+                    return variableJson.getAsJsonObject().getAsJsonObject("type");
+                }
+            }
+        }
+        throw new AssertionError("Variable not found in " + categoryName + ": " + variable);
+    }
+
+    private static JsonObject getField(JsonObject recordType, String fieldName) {
+        for (JsonElement field : recordType.getAsJsonArray("fields")) {
+            JsonElement name = field.getAsJsonObject().get("name");
+            if (name != null && name.getAsString().equals(fieldName)) {
+                return field.getAsJsonObject();
+            }
+        }
+        throw new AssertionError("Field not found: " + fieldName);
+    }
+
+    private static void collectHandles(JsonElement node, Deque<String> handles) {
+        if (node.isJsonArray()) {
+            node.getAsJsonArray().forEach(member -> collectHandles(member, handles));
+        } else if (node.isJsonObject()) {
+            JsonObject object = node.getAsJsonObject();
+            if (object.has(TreeHandles.HANDLE_KEY)) {
+                handles.push(object.get(TreeHandles.HANDLE_KEY).getAsString());
+                return;
+            }
+            object.entrySet().forEach(member -> collectHandles(member.getValue(), handles));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.db;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the connection pool of the central index, which must hand a connection back only once, and must wake the
+ * threads waiting for a connection when a connection is discarded.
+ *
+ * @since 2.0.0
+ */
+public class ConnectionPoolTest {
+
+    private static final String QUERY = "SELECT name FROM Package";
+    // Well within the time a waiting thread gives up on the pool
+    private static final long WAKE_UP_TIMEOUT_SECONDS = 5;
+
+    private Path tempDir;
+    private String dbPath;
+
+    @BeforeClass
+    public void setUp() throws IOException, SQLException {
+        tempDir = Files.createTempDirectory("connection-pool-test");
+        dbPath = "jdbc:sqlite:" + tempDir.resolve("central-index.sqlite");
+        try (Connection conn = DriverManager.getConnection(dbPath);
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE Package (name TEXT NOT NULL)");
+            stmt.execute("INSERT INTO Package (name) VALUES ('http')");
+        }
+    }
+
+    @AfterClass
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "Closing a connection twice hands it back to the pool only once")
+    public void testDoubleClose() throws SQLException {
+        ConnectionPool pool = new ConnectionPool(dbPath, 2);
+        ConnectionPool.PooledConnection connection = pool.acquire();
+        connection.close();
+        connection.close();
+
+        ConnectionPool.PoolMetrics.Snapshot metrics = pool.getMetrics();
+        Assert.assertEquals(metrics.idleConnections(), 1);
+        Assert.assertEquals(metrics.queryCount(), 1);
+
+        // Had the connection been queued twice, both acquisitions would be handed the same connection
+        try (ConnectionPool.PooledConnection first = pool.acquire();
+             ConnectionPool.PooledConnection second = pool.acquire()) {
+            Assert.assertNotSame(first, second);
+            Assert.assertEquals(pool.getMetrics().openConnections(), 2);
+            Assert.assertEquals(pool.getMetrics().idleConnections(), 0);
+        }
+    }
+
+    @Test(description = "A thread waiting for a connection is woken when a connection is discarded")
+    public void testWaiterWokenByDiscard() throws Exception {
+        ConnectionPool pool = new ConnectionPool(dbPath, 1);
+        ConnectionPool.PooledConnection connection = pool.acquire();
+        Connection underlyingConnection = connection.prepareStatement(QUERY).getConnection();
+
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> {
+            try (ConnectionPool.PooledConnection newConnection = pool.acquire()) {
+                result.complete(query(newConnection));
+            } catch (SQLException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        waiter.start();
+        awaitWaiting(waiter);
+        Assert.assertFalse(result.isDone(), "The pool must be exhausted");
+
+        // A connection that is closed when handed back is discarded instead of being returned to the pool
+        underlyingConnection.close();
+        connection.close();
+        Assert.assertEquals(result.get(WAKE_UP_TIMEOUT_SECONDS, TimeUnit.SECONDS), "http");
+        Assert.assertEquals(pool.getMetrics().openConnections(), 1);
+    }
+
+    private static String query(ConnectionPool.PooledConnection connection) throws SQLException {
+        PreparedStatement stmt = connection.prepareStatement(QUERY);
+        try (ResultSet rs = stmt.executeQuery()) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+
+    /**
+     * Waits until the given thread blocks waiting for a connection.
+     */
+    private static void awaitWaiting(Thread waiter) throws InterruptedException, TimeoutException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAKE_UP_TIMEOUT_SECONDS);
+        while (waiter.getState() != Thread.State.TIMED_WAITING) {
+            if (System.nanoTime() > deadline) {
+                throw new TimeoutException("The thread did not wait for a connection");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.db;
+
+import io.ballerina.flowmodelgenerator.core.db.model.FunctionResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the searches of the central index, which must match the same functions with and without the full-text
+ * index, and must rank the matches of the function names first when the full-text index is used.
+ *
+ * @since 2.0.0
+ */
+public class DatabaseManagerTest {
+
+    private static final List<String> SCHEMA = List.of(
+            "CREATE TABLE Package (package_id INTEGER PRIMARY KEY AUTOINCREMENT, name TEXT NOT NULL, " +
+                    "org TEXT NOT NULL, version TEXT, keywords TEXT);",
+            "CREATE TABLE Function (function_id INTEGER PRIMARY KEY AUTOINCREMENT, kind TEXT, name TEXT NOT NULL, " +
+                    "description TEXT, package_id INTEGER, return_type JSON, resource_path TEXT NOT NULL, " +
+                    "return_error INTEGER, inferred_return_type INTEGER);",
+            "INSERT INTO Package (name, org, version) VALUES ('jsondata', 'ballerina', '0.1.0'), " +
+                    "('lang.value', 'ballerina', '0.0.0'), ('http', 'ballerina', '2.0.0'), " +
+                    "('io', 'ballerina', '1.0.0'), ('log', 'ballerina', '2.0.0');",
+            // The function matching the query by its package name precedes the one matching it by its name
+            "INSERT INTO Function (kind, name, description, package_id, return_type, resource_path, return_error, " +
+                    "inferred_return_type) VALUES " +
+                    "('FUNCTION', 'parse', 'Parses a JSON string', 1, 'json', '', 0, 0), " +
+                    "('FUNCTION', 'toJson', 'Converts a value to JSON', 2, 'json', '', 0, 0), " +
+                    "('FUNCTION', 'get', 'Sends a GET request', 3, 'json', '', 0, 0), " +
+                    "('FUNCTION', 'println', 'Prints a line', 4, '()', '', 0, 0), " +
+                    "('FUNCTION', 'printError', 'Logs an error', 5, '()', '', 0, 0);");
+    // The same table as the one created by the index generator
+    private static final List<String> SEARCH_SCHEMA = List.of(
+            "CREATE VIRTUAL TABLE FunctionSearch USING fts5(name, description, package_name, keywords, " +
+                    "tokenize = 'trigram');",
+            "INSERT INTO FunctionSearch (rowid, name, description, package_name, keywords) " +
+                    "SELECT f.function_id, f.name, f.description, p.name, p.keywords " +
+                    "FROM Function f JOIN Package p ON f.package_id = p.package_id;");
+
+    private Path tempDir;
+    private DatabaseManager fullTextSearchManager;
+    private DatabaseManager likeSearchManager;
+    private DatabaseManager disabledFullTextSearchManager;
+
+    @BeforeClass
+    public void setUp() throws IOException, SQLException {
+        tempDir = Files.createTempDirectory("central-index-test");
+        Path fullTextIndex = createIndex(tempDir.resolve("full-text.sqlite"), true);
+        Path likeIndex = createIndex(tempDir.resolve("like.sqlite"), false);
+        fullTextSearchManager = new DatabaseManager(fullTextIndex, true);
+        likeSearchManager = new DatabaseManager(likeIndex, true);
+        disabledFullTextSearchManager = new DatabaseManager(fullTextIndex, false);
+    }
+
+    @AfterClass
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "The full-text index ranks the matches of the function names above the package names")
+    public void testFullTextSearchRanking() {
+        Assert.assertTrue(fullTextSearchManager.isFullTextSearchAvailable());
+        Assert.assertEquals(getNames(fullTextSearchManager.searchFunctions(query("json"),
+                DatabaseManager.FunctionKind.FUNCTION)), List.of("toJson", "parse"));
+        Assert.assertEquals(getNames(fullTextSearchManager.searchFunctionsInPackages(List.of("jsondata", "lang.value"),
+                query("JSON"), DatabaseManager.FunctionKind.FUNCTION)), List.of("toJson", "parse"));
+    }
+
+    @Test(description = "An index without the full-text search table is searched with LIKE queries")
+    public void testLikeSearch() {
+        Assert.assertFalse(likeSearchManager.isFullTextSearchAvailable());
+        assertSameMatches(likeSearchManager);
+    }
+
+    @Test(description = "The full-text index is not used if disabled")
+    public void testDisabledFullTextSearch() {
+        Assert.assertFalse(disabledFullTextSearchManager.isFullTextSearchAvailable());
+        assertSameMatches(disabledFullTextSearchManager);
+    }
+
+    @Test(description = "A query shorter than a trigram is searched with a LIKE query")
+    public void testShortQuery() {
+        Assert.assertEquals(getNameSet(fullTextSearchManager.searchFunctions(query("js"),
+                DatabaseManager.FunctionKind.FUNCTION)), Set.of("parse", "toJson"));
+    }
+
+    /**
+     * Asserts that the given database manager matches the same functions as the full-text index, which only matches
+     * the names of the functions and the packages.
+     */
+    private void assertSameMatches(DatabaseManager databaseManager) {
+        for (String query : List.of("json", "print", "line", "request")) {
+            Assert.assertEquals(
+                    getNameSet(databaseManager.searchFunctions(query(query), DatabaseManager.FunctionKind.FUNCTION)),
+                    getNameSet(fullTextSearchManager.searchFunctions(query(query),
+                            DatabaseManager.FunctionKind.FUNCTION)),
+                    "Expected the same matches for the query: " + query);
+        }
+        Assert.assertEquals(getNameSet(databaseManager.searchFunctionsInPackages(List.of("jsondata", "lang.value"),
+                query("json"), DatabaseManager.FunctionKind.FUNCTION)), Set.of("parse", "toJson"));
+    }
+
+    private static Path createIndex(Path indexFile, boolean fullTextSearch) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + indexFile);
+             Statement stmt = connection.createStatement()) {
+            for (String sql : SCHEMA) {
+                stmt.execute(sql);
+            }
+            if (fullTextSearch) {
+                for (String sql : SEARCH_SCHEMA) {
+                    stmt.execute(sql);
+                }
+            }
+        }
+        return indexFile;
+    }
+
+    private static Map<String, String> query(String query) {
+        return Map.of("q", query, "limit", "10", "offset", "0");
+    }
+
+    private static List<String> getNames(List<FunctionResult> functionResults) {
+        return functionResults.stream().map(FunctionResult::name).toList();
+    }
+
+    private static Set<String> getNameSet(List<FunctionResult> functionResults) {
+        return functionResults.stream().map(FunctionResult::name).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.db;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the extraction of the bundled central index to the cache directory, the reuse of an extracted copy, and
+ * the cleanup of the copies of other indexes.
+ *
+ * @since 2.0.0
+ */
+public class IndexFileCacheTest {
+
+    private static final byte[] INDEX_CONTENT = "central index".getBytes(StandardCharsets.UTF_8);
+
+    private Path tempDir;
+    private URL indexUrl;
+    private URL checksumUrl;
+    private String checksum;
+
+    @BeforeClass
+    public void setUp() throws IOException, NoSuchAlgorithmException {
+        tempDir = Files.createTempDirectory("index-file-cache-test");
+        Path index = Files.write(tempDir.resolve("central-index.sqlite"), INDEX_CONTENT);
+        checksum = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(INDEX_CONTENT));
+        // A trailing newline in the checksum resource is ignored
+        Path checksumFile = Files.writeString(tempDir.resolve("central-index.sqlite.sha256"), checksum + "\n");
+        indexUrl = index.toUri().toURL();
+        checksumUrl = checksumFile.toUri().toURL();
+    }
+
+    @AfterClass
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "The index is extracted to a copy named after its checksum")
+    public void testExtraction() throws IOException {
+        Path cacheDir = createCacheDir("extraction");
+        Path indexFile = IndexFileCache.getIndexFile(indexUrl, checksumUrl, cacheDir);
+
+        Assert.assertEquals(indexFile, cacheDir.resolve("central-index-" + checksum.substring(0, 16) + ".sqlite"));
+        Assert.assertEquals(Files.readAllBytes(indexFile), INDEX_CONTENT);
+        Assert.assertEquals(Files.readString(cacheDir.resolve(indexFile.getFileName() + ".sha256")),
+                checksum + " " + INDEX_CONTENT.length);
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            Assert.assertEquals(files.count(), 2, "Temporary files must not be left in the cache directory");
+        }
+    }
+
+    @Test(description = "An index bundled without the checksum is hashed to name the same copy")
+    public void testExtractionWithoutChecksum() throws IOException {
+        Path cacheDir = createCacheDir("without-checksum");
+        Assert.assertEquals(IndexFileCache.getIndexFile(indexUrl, null, cacheDir),
+                IndexFileCache.getIndexFile(indexUrl, checksumUrl, cacheDir));
+    }
+
+    @Test(description = "An index that does not match the bundled checksum is not extracted")
+    public void testChecksumMismatch() throws IOException {
+        Path cacheDir = createCacheDir("checksum-mismatch");
+        URL invalidChecksumUrl = Files.writeString(tempDir.resolve("invalid.sha256"), "0".repeat(64)).toUri().toURL();
+        Assert.assertThrows(IOException.class, () -> IndexFileCache.getIndexFile(indexUrl, invalidChecksumUrl,
+                cacheDir));
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            Assert.assertEquals(files.count(), 0);
+        }
+    }
+
+    @Test(description = "A valid copy is reused without extracting the index again")
+    public void testReuse() throws IOException {
+        Path cacheDir = createCacheDir("reuse");
+        Path indexFile = IndexFileCache.getIndexFile(indexUrl, checksumUrl, cacheDir);
+
+        // A copy of the same size is not hashed again, and hence, a change of its content is not detected
+        byte[] modifiedContent = "CENTRAL INDEX".getBytes(StandardCharsets.UTF_8);
+        Files.write(indexFile, modifiedContent);
+        Files.setLastModifiedTime(indexFile, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+        Assert.assertEquals(IndexFileCache.getIndexFile(indexUrl, checksumUrl, cacheDir), indexFile);
+        Assert.assertEquals(Files.readAllBytes(indexFile), modifiedContent);
+        Assert.assertTrue(Files.getLastModifiedTime(indexFile).toInstant()
+                .isAfter(Instant.now().minus(Duration.ofHours(1))), "A reused copy must be marked as in use");
+
+        // A copy of a different size is extracted again
+        Files.write(indexFile, "truncated".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(IndexFileCache.getIndexFile(indexUrl, checksumUrl, cacheDir), indexFile);
+        Assert.assertEquals(Files.readAllBytes(indexFile), INDEX_CONTENT);
+    }
+
+    @Test(description = "Only the copies of other indexes left unused for longer than the grace period are deleted")
+    public void testStaleCopyCleanup() throws IOException {
+        Path cacheDir = createCacheDir("cleanup");
+        Path staleCopy = createCopy(cacheDir, "central-index-0000000000000000.sqlite", Duration.ofDays(8));
+        Path recentCopy = createCopy(cacheDir, "central-index-1111111111111111.sqlite", Duration.ofDays(1));
+
+        Path indexFile = IndexFileCache.getIndexFile(indexUrl, checksumUrl, cacheDir);
+        Assert.assertTrue(Files.exists(indexFile));
+        Assert.assertFalse(Files.exists(staleCopy));
+        Assert.assertFalse(Files.exists(cacheDir.resolve(staleCopy.getFileName() + ".sha256")));
+        Assert.assertTrue(Files.exists(recentCopy));
+        Assert.assertTrue(Files.exists(cacheDir.resolve(recentCopy.getFileName() + ".sha256")));
+    }
+
+    private Path createCacheDir(String name) throws IOException {
+        return Files.createDirectories(tempDir.resolve("cache").resolve(name));
+    }
+
+    private static Path createCopy(Path cacheDir, String fileName, Duration age) throws IOException {
+        Path copy = Files.write(cacheDir.resolve(fileName), INDEX_CONTENT);
+        Files.writeString(cacheDir.resolve(fileName + ".sha256"), "checksum " + INDEX_CONTENT.length);
+        Files.setLastModifiedTime(copy, FileTime.from(Instant.now().minus(age)));
+        return copy;
+    }
+}
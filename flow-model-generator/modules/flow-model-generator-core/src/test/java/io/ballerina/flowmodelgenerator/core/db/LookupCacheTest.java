@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.db;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the cache of the lookups served by the central index.
+ *
+ * @since 2.0.0
+ */
+public class LookupCacheTest {
+
+    @Test(description = "A cached value is returned without loading it again")
+    public void testHit() throws SQLException {
+        LookupCache<Integer, String> cache = new LookupCache<>(4);
+        List<Integer> loadedKeys = new ArrayList<>();
+        Assert.assertEquals(cache.get(1, key -> load(loadedKeys, key)), "value-1");
+        Assert.assertEquals(cache.get(1, key -> load(loadedKeys, key)), "value-1");
+
+        Assert.assertEquals(loadedKeys, List.of(1));
+        Assert.assertEquals(cache.hits(), 1);
+        Assert.assertEquals(cache.misses(), 1);
+    }
+
+    @Test(description = "An absent result is cached, so that the index is not queried again for it")
+    public void testAbsentResult() throws SQLException {
+        LookupCache<String, Optional<String>> cache = new LookupCache<>(4);
+        List<String> loadedKeys = new ArrayList<>();
+        LookupCache.Loader<String, Optional<String>> loader = key -> {
+            loadedKeys.add(key);
+            return Optional.empty();
+        };
+        Assert.assertTrue(cache.get("unindexed", loader).isEmpty());
+        Assert.assertTrue(cache.get("unindexed", loader).isEmpty());
+
+        Assert.assertEquals(loadedKeys, List.of("unindexed"));
+        Assert.assertEquals(cache.hits(), 1);
+    }
+
+    @Test(description = "A failed load is not cached")
+    public void testFailedLoad() throws SQLException {
+        LookupCache<Integer, String> cache = new LookupCache<>(4);
+        Assert.assertThrows(SQLException.class, () -> cache.get(1, key -> {
+            throw new SQLException("Query failed");
+        }));
+
+        List<Integer> loadedKeys = new ArrayList<>();
+        Assert.assertEquals(cache.get(1, key -> load(loadedKeys, key)), "value-1");
+        Assert.assertEquals(loadedKeys, List.of(1));
+        Assert.assertEquals(cache.hits(), 0);
+    }
+
+    @Test(description = "The least recently used entry is evicted once the cache is full")
+    public void testEviction() throws SQLException {
+        LookupCache<Integer, String> cache = new LookupCache<>(2);
+        List<Integer> loadedKeys = new ArrayList<>();
+        cache.get(1, key -> load(loadedKeys, key));
+        cache.get(2, key -> load(loadedKeys, key));
+        // Accessing the first entry makes the second one the least recently used
+        cache.get(1, key -> load(loadedKeys, key));
+        cache.get(3, key -> load(loadedKeys, key));
+
+        cache.get(1, key -> load(loadedKeys, key));
+        cache.get(2, key -> load(loadedKeys, key));
+        Assert.assertEquals(loadedKeys, List.of(1, 2, 3, 2));
+    }
+
+    @Test(description = "A slow load does not block the lookups of other keys")
+    public void testLoadOutsideLock() throws Exception {
+        LookupCache<Integer, String> cache = new LookupCache<>(4);
+        cache.get(2, key -> "value-2");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> slowLookup = CompletableFuture.supplyAsync(() -> {
+            try {
+                return cache.get(1, key -> {
+                    loading.countDown();
+                    awaitQuietly(release);
+                    return "value-1";
+                });
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        try {
+            Assert.assertTrue(loading.await(5, TimeUnit.SECONDS));
+            CompletableFuture<String> otherLookup = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return cache.get(2, key -> "reloaded");
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            Assert.assertEquals(otherLookup.get(5, TimeUnit.SECONDS), "value-2");
+        } finally {
+            release.countDown();
+        }
+        Assert.assertEquals(slowLookup.get(5, TimeUnit.SECONDS), "value-1");
+    }
+
+    private static String load(List<Integer> loadedKeys, int key) {
+        loadedKeys.add(key);
+        return "value-" + key;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
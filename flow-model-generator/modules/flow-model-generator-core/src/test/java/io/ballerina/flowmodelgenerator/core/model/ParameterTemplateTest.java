@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.model;
+
+import io.ballerina.flowmodelgenerator.core.db.model.Parameter;
+import io.ballerina.flowmodelgenerator.core.db.model.ParameterResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the templates of the parameter properties, which must be shared by the properties of the same parameter
+ * without changing the built properties.
+ *
+ * @since 2.0.0
+ */
+public class ParameterTemplateTest {
+
+    @Test(description = "Equal parameters share the same template")
+    public void testSharedTemplate() {
+        ParameterTemplate template = ParameterTemplate.of(createParameter("'limit"));
+        Assert.assertSame(ParameterTemplate.of(createParameter("'limit")), template);
+        Assert.assertNotSame(ParameterTemplate.of(createParameter("offset")), template);
+
+        Assert.assertEquals(template.metadata(), new Metadata("limit", "The maximum count", null, null, null, null));
+        Assert.assertEquals(template.codedata(),
+                new PropertyCodedata(Parameter.Kind.DEFAULTABLE.name(), "'limit", "import test/types;", null));
+    }
+
+    @Test(description = "The properties of a parameter share its template and equal the properties built in full")
+    public void testPropertyFromTemplate() {
+        ParameterResult parameter = createParameter("count");
+        Property property = new Property.Builder<>(null)
+                .parameter(ParameterTemplate.of(parameter))
+                .type(Property.ValueType.EXPRESSION)
+                .value("10")
+                .build();
+        Property builtProperty = new Property.Builder<>(null)
+                .metadata()
+                    .label("count")
+                    .description("The maximum count")
+                    .stepOut()
+                .codedata()
+                    .kind(Parameter.Kind.DEFAULTABLE.name())
+                    .originalName("count")
+                    .importStatements("import test/types;")
+                    .stepOut()
+                .type(Property.ValueType.EXPRESSION)
+                .value("10")
+                .build();
+
+        Assert.assertEquals(property, builtProperty);
+        Assert.assertSame(property.metadata(), ParameterTemplate.of(parameter).metadata());
+        Assert.assertSame(property.codedata(), ParameterTemplate.of(parameter).codedata());
+    }
+
+    @Test(description = "The metadata built for a property takes precedence over the template")
+    public void testBuiltMetadataOverridesTemplate() {
+        ParameterResult parameter = createParameter("count");
+        Property.Builder<Object> builder = new Property.Builder<>(null);
+        Property property = builder
+                .parameter(ParameterTemplate.of(parameter))
+                .metadata()
+                    .label("Count")
+                    .stepOut()
+                .build();
+
+        Assert.assertEquals(property.metadata().label(), "Count");
+        Assert.assertSame(property.codedata(), ParameterTemplate.of(parameter).codedata());
+        Assert.assertNull(builder.build().metadata(), "Expected the template to be cleared once the property is built");
+    }
+
+    private static ParameterResult createParameter(String name) {
+        return new ParameterResult(1, name, "int", Parameter.Kind.DEFAULTABLE, "10", "The maximum count", true,
+                "import test/types;");
+    }
+}
@@ -0,0 +1,8 @@
+import connection_index.config;
+
+final config:Endpoint endpoint = {url: "http://localhost:9090"};
+
+function process() returns string {
+    string url = endpoint.url;
+    return url;
+}
@@ -0,0 +1,7 @@
+public type Endpoint record {|
+    string url;
+|};
+
+public function describe() returns string {
+    return "endpoint";
+}
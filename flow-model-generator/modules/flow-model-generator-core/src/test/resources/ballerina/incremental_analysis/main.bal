@@ -0,0 +1,7 @@
+function compute(int a) returns int {
+    int b = a + 1;
+    int c = twice(b);
+    int d = c + 1;
+    int e = d * 2;
+    return e;
+}
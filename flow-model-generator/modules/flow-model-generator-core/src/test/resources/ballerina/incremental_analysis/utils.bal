@@ -0,0 +1,3 @@
+function twice(int value) returns int {
+    return value * 2;
+}
@@ -0,0 +1,11 @@
+import mapping_port_cache.crm;
+
+type Person record {|
+    string name;
+    int age;
+|};
+
+public function main() {
+    Person person = {name: "Alice", age: 30};
+    crm:Person contact = {email: "alice@example.com"};
+}
@@ -0,0 +1,3 @@
+public type Person record {|
+    string email;
+|};
@@ -0,0 +1,3 @@
+function compute() returns int {
+    return 1;
+}
@@ -0,0 +1,3 @@
+public function main() {
+    Person person = {name: "Alice", address: {city: "Colombo"}};
+}
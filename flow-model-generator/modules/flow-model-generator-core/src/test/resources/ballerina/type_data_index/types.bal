@@ -0,0 +1,10 @@
+type Address record {|
+    string city;
+|};
+
+type Person record {|
+    string name;
+    Address address;
+|};
+
+type Color "RED"|"GREEN";
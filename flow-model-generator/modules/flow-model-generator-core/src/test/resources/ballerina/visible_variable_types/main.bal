@@ -0,0 +1,25 @@
+type Geo record {|
+    decimal lat;
+    decimal lon;
+|};
+
+type Address record {|
+    string city;
+    Geo geo;
+|};
+
+type Person record {|
+    string name;
+    Address address;
+    Person[] friends;
+|};
+
+type Node record {|
+    int value;
+    Node? next;
+|};
+
+function process(Person person, Node head) {
+    int count = 0;
+    count += 1;
+}
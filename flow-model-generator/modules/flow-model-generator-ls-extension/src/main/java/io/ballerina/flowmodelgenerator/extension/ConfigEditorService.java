@@ -23,6 +23,7 @@ import io.ballerina.flowmodelgenerator.extension.request.ConfigVariablesGetReque
 import io.ballerina.flowmodelgenerator.extension.request.ConfigVariablesUpdateRequest;
 import io.ballerina.flowmodelgenerator.extension.response.ConfigVariablesResponse;
 import io.ballerina.flowmodelgenerator.extension.response.ConfigVariablesUpdateResponse;
+import io.ballerina.lsextension.metrics.RequestMetrics;
 import io.ballerina.projects.Document;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
@@ -46,10 +47,11 @@ import java.util.concurrent.CompletableFuture;
 public class ConfigEditorService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private final RequestMetrics requestMetrics = RequestMetrics.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
-        this.workspaceManager = workspaceManager;
+        this.workspaceManager = requestMetrics.instrument(WorkspaceManager.class, workspaceManager);
     }
 
     @Override
@@ -59,7 +61,7 @@ public class ConfigEditorService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<ConfigVariablesResponse> getConfigVariables(ConfigVariablesGetRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("configEditor/getConfigVariables", () -> {
             ConfigVariablesResponse response = new ConfigVariablesResponse();
             try {
                 Path projectFolder = Path.of(request.projectPath());
@@ -88,7 +90,7 @@ public class ConfigEditorService implements ExtendedLanguageServerService {
     @JsonRequest
     public CompletableFuture<ConfigVariablesUpdateResponse> updateConfigVariables(
             ConfigVariablesUpdateRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("configEditor/updateConfigVariables", () -> {
             ConfigVariablesUpdateResponse response = new ConfigVariablesUpdateResponse();
             try {
                 Path configFile = Path.of(request.configFilePath());
@@ -26,13 +26,15 @@ import io.ballerina.flowmodelgenerator.extension.request.DataMapperQueryConvertR
 import io.ballerina.flowmodelgenerator.extension.request.DataMapperSourceRequest;
 import io.ballerina.flowmodelgenerator.extension.request.DataMapperTypesRequest;
 import io.ballerina.flowmodelgenerator.extension.request.DataMapperVisualizeRequest;
+import io.ballerina.flowmodelgenerator.extension.request.ExpandRequest;
 import io.ballerina.flowmodelgenerator.extension.response.DataMapperAddElementResponse;
 import io.ballerina.flowmodelgenerator.extension.response.DataMapperModelResponse;
 import io.ballerina.flowmodelgenerator.extension.response.DataMapperSourceResponse;
 import io.ballerina.flowmodelgenerator.extension.response.DataMapperTypesResponse;
 import io.ballerina.flowmodelgenerator.extension.response.DataMapperVisualizeResponse;
+import io.ballerina.flowmodelgenerator.extension.response.ExpandResponse;
+import io.ballerina.lsextension.metrics.RequestMetrics;
 import io.ballerina.projects.Document;
-import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
@@ -49,10 +51,11 @@ import java.util.concurrent.CompletableFuture;
 public class DataMapperService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private final RequestMetrics requestMetrics = RequestMetrics.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
-        this.workspaceManager = workspaceManager;
+        this.workspaceManager = requestMetrics.instrument(WorkspaceManager.class, workspaceManager);
     }
 
     @Override
@@ -62,7 +65,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperTypesResponse> types(DataMapperTypesRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("dataMapper/types", () -> {
             DataMapperTypesResponse response = new DataMapperTypesResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -85,11 +88,11 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperModelResponse> mappings(DataMapperModelRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("dataMapper/mappings", () -> {
             DataMapperModelResponse response = new DataMapperModelResponse();
             try {
                 Path filePath = Path.of(request.filePath());
-                Project project = this.workspaceManager.loadProject(filePath);
+                this.workspaceManager.loadProject(filePath);
                 Optional<Document> document = this.workspaceManager.document(filePath);
                 if (document.isEmpty()) {
                     return response;
@@ -97,7 +100,28 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
                 DataMapManager dataMapManager = new DataMapManager(this.workspaceManager, document.get());
                 response.setMappingsModel(dataMapManager.getMappings(request.flowNode(), request.position(),
-                        request.propertyKey(), Path.of(request.filePath()), request.targetField(), project));
+                        request.propertyKey(), Path.of(request.filePath()), request.targetField(),
+                        request.depth()));
+            } catch (Throwable e) {
+                response.setError(e);
+            }
+            return response;
+        });
+    }
+
+    @JsonRequest
+    public CompletableFuture<ExpandResponse> expandPort(ExpandRequest request) {
+        return requestMetrics.supplyAsync("dataMapper/expandPort", () -> {
+            ExpandResponse response = new ExpandResponse();
+            try {
+                Path filePath = Path.of(request.filePath());
+                this.workspaceManager.loadProject(filePath);
+                Optional<Document> document = this.workspaceManager.document(filePath);
+                if (document.isEmpty()) {
+                    return response;
+                }
+                DataMapManager dataMapManager = new DataMapManager(this.workspaceManager, document.get());
+                response.setNode(dataMapManager.expandPort(request.handle(), request.depth()));
             } catch (Throwable e) {
                 response.setError(e);
             }
@@ -107,7 +131,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperSourceResponse> getSource(DataMapperSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("dataMapper/getSource", () -> {
             DataMapperSourceResponse response = new DataMapperSourceResponse();
             try {
                 DataMapManager dataMapManager = new DataMapManager(null, null);
@@ -122,11 +146,11 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperSourceResponse> convertToQuery(DataMapperQueryConvertRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("dataMapper/convertToQuery", () -> {
             DataMapperSourceResponse response = new DataMapperSourceResponse();
             try {
                 Path filePath = Path.of(request.filePath());
-                Project project = this.workspaceManager.loadProject(filePath);
+                this.workspaceManager.loadProject(filePath);
                 Optional<SemanticModel> semanticModel = this.workspaceManager.semanticModel(filePath);
                 Optional<Document> document = this.workspaceManager.document(filePath);
                 if (semanticModel.isEmpty() || document.isEmpty()) {
@@ -134,7 +158,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 }
                 DataMapManager dataMapManager = new DataMapManager(null, document.get());
                 response.setSource(dataMapManager.getQuery(request.flowNode(), request.targetField(),
-                        Path.of(request.filePath()), request.position(), project));
+                        Path.of(request.filePath()), request.position()));
             } catch (Throwable e) {
                 response.setError(e);
             }
@@ -144,18 +168,18 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperVisualizeResponse> visualizable(DataMapperVisualizeRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("dataMapper/visualizable", () -> {
             DataMapperVisualizeResponse response = new DataMapperVisualizeResponse();
             try {
                 Path filePath = Path.of(request.filePath());
-                Project project = this.workspaceManager.loadProject(filePath);
+                this.workspaceManager.loadProject(filePath);
                 Optional<Document> document = this.workspaceManager.document(filePath);
                 if (document.isEmpty()) {
                     return response;
                 }
                 DataMapManager dataMapManager = new DataMapManager(workspaceManager, document.get());
                 response.setVisualizableProperties(dataMapManager.getVisualizableProperties(request.flowNode(),
-                        project, filePath, request.position()));
+                        filePath, request.position()));
             } catch (Throwable e) {
                 response.setError(e);
             }
@@ -165,11 +189,11 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperAddElementResponse> addElement(DataMapperAddElementRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("dataMapper/addElement", () -> {
             DataMapperAddElementResponse response = new DataMapperAddElementResponse();
             try {
                 Path filePath = Path.of(request.filePath());
-                Project project = this.workspaceManager.loadProject(filePath);
+                this.workspaceManager.loadProject(filePath);
                 Optional<SemanticModel> semanticModel = this.workspaceManager.semanticModel(filePath);
                 Optional<Document> document = this.workspaceManager.document(filePath);
                 if (semanticModel.isEmpty() || document.isEmpty()) {
@@ -177,7 +201,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 }
                 DataMapManager dataMapManager = new DataMapManager(workspaceManager, document.get());
                 response.setSource(dataMapManager.addElement(request.flowNode(), request.propertyKey(),
-                        Path.of(request.filePath()), request.targetField(), project, request.position()));
+                        Path.of(request.filePath()), request.targetField(), request.position()));
             } catch (Throwable e) {
                 response.setError(e);
             }
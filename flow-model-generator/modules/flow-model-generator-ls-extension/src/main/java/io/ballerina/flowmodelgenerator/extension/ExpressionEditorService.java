@@ -29,16 +29,19 @@ import io.ballerina.flowmodelgenerator.core.expressioneditor.services.Diagnostic
 import io.ballerina.flowmodelgenerator.core.expressioneditor.services.SignatureHelpRequest;
 import io.ballerina.flowmodelgenerator.core.model.Codedata;
 import io.ballerina.flowmodelgenerator.core.utils.CommonUtils;
+import io.ballerina.flowmodelgenerator.extension.request.ExpandRequest;
 import io.ballerina.flowmodelgenerator.extension.request.ExpressionEditorCompletionRequest;
 import io.ballerina.flowmodelgenerator.extension.request.ExpressionEditorDiagnosticsRequest;
 import io.ballerina.flowmodelgenerator.extension.request.ExpressionEditorSignatureRequest;
 import io.ballerina.flowmodelgenerator.extension.request.FunctionCallTemplateRequest;
 import io.ballerina.flowmodelgenerator.extension.request.ImportModuleRequest;
 import io.ballerina.flowmodelgenerator.extension.request.VisibleVariableTypeRequest;
+import io.ballerina.flowmodelgenerator.extension.response.ExpandResponse;
 import io.ballerina.flowmodelgenerator.extension.response.ExpressionEditorTypeResponse;
 import io.ballerina.flowmodelgenerator.extension.response.FunctionCallTemplateResponse;
 import io.ballerina.flowmodelgenerator.extension.response.SuccessResponse;
 import io.ballerina.flowmodelgenerator.extension.response.VisibleVariableTypesResponse;
+import io.ballerina.lsextension.metrics.RequestMetrics;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.text.TextEdit;
@@ -65,11 +68,12 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
 
     private WorkspaceManagerProxy workspaceManagerProxy;
     private LanguageServer langServer;
+    private final RequestMetrics requestMetrics = RequestMetrics.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManagerProxy workspaceManagerProxy,
                      LanguageServerContext serverContext) {
-        this.workspaceManagerProxy = workspaceManagerProxy;
+        this.workspaceManagerProxy = requestMetrics.instrument(WorkspaceManagerProxy.class, workspaceManagerProxy);
         this.langServer = langServer;
     }
 
@@ -80,7 +84,7 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<VisibleVariableTypesResponse> visibleVariableTypes(VisibleVariableTypeRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("expressionEditor/visibleVariableTypes", () -> {
             VisibleVariableTypesResponse response = new VisibleVariableTypesResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -93,7 +97,7 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
 
                 VisibleVariableTypesGenerator visibleVariableTypesGenerator = new VisibleVariableTypesGenerator(
                         semanticModel.get(), document.get(), request.position());
-                JsonArray visibleVariableTypes = visibleVariableTypesGenerator.getVisibleVariableTypes();
+                JsonArray visibleVariableTypes = visibleVariableTypesGenerator.getVisibleVariableTypes(request.depth());
                 response.setCategories(visibleVariableTypes);
             } catch (Throwable e) {
                 response.setError(e);
@@ -102,9 +106,32 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
         });
     }
 
+    @JsonRequest
+    public CompletableFuture<ExpandResponse> expandType(ExpandRequest request) {
+        return requestMetrics.supplyAsync("expressionEditor/expandType", () -> {
+            ExpandResponse response = new ExpandResponse();
+            try {
+                Path filePath = Path.of(request.filePath());
+                this.workspaceManagerProxy.get().loadProject(filePath);
+                Optional<SemanticModel> semanticModel = this.workspaceManagerProxy.get().semanticModel(filePath);
+                Optional<Document> document = this.workspaceManagerProxy.get().document(filePath);
+                if (semanticModel.isEmpty() || document.isEmpty()) {
+                    return response;
+                }
+
+                VisibleVariableTypesGenerator visibleVariableTypesGenerator = new VisibleVariableTypesGenerator(
+                        semanticModel.get(), document.get(), request.position());
+                response.setNode(visibleVariableTypesGenerator.expandType(request.handle(), request.depth()));
+            } catch (Throwable e) {
+                response.setError(e);
+            }
+            return response;
+        });
+    }
+
     @JsonRequest
     public CompletableFuture<ExpressionEditorTypeResponse> types(VisibleVariableTypeRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("expressionEditor/types", () -> {
             ExpressionEditorTypeResponse response = new ExpressionEditorTypeResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -124,43 +151,46 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
     @JsonRequest
     public CompletableFuture<SignatureHelp> signatureHelp(ExpressionEditorSignatureRequest request) {
         String fileUri = CommonUtils.getExprUri(request.filePath());
-        return Debouncer.getInstance().debounce(new SignatureHelpRequest(
+        CompletableFuture<SignatureHelp> future = Debouncer.getInstance().debounce(new SignatureHelpRequest(
                 workspaceManagerProxy.get(fileUri),
                 Path.of(request.filePath()),
                 request.context(),
                 fileUri,
                 request.signatureHelpContext(),
                 langServer.getTextDocumentService()));
+        return requestMetrics.track("expressionEditor/signatureHelp", future);
     }
 
     @JsonRequest
     public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(
             ExpressionEditorCompletionRequest request) {
         String fileUri = CommonUtils.getExprUri(request.filePath());
-        return Debouncer.getInstance().debounce(new CompletionRequest(
-                workspaceManagerProxy.get(fileUri),
-                Path.of(request.filePath()),
-                request.context(),
-                fileUri,
-                request.completionContext(),
-                langServer.getTextDocumentService()));
+        CompletableFuture<Either<List<CompletionItem>, CompletionList>> future =
+                Debouncer.getInstance().debounce(new CompletionRequest(
+                        workspaceManagerProxy.get(fileUri),
+                        Path.of(request.filePath()),
+                        request.context(),
+                        fileUri,
+                        request.completionContext(),
+                        langServer.getTextDocumentService()));
+        return requestMetrics.track("expressionEditor/completion", future);
     }
 
     @JsonRequest
     public CompletableFuture<DiagnosticsRequest.Diagnostics> diagnostics(
             ExpressionEditorDiagnosticsRequest request) {
         String fileUri = CommonUtils.getExprUri(request.filePath());
-        return Debouncer.getInstance().debounce(new DiagnosticsRequest(
-                workspaceManagerProxy.get(fileUri),
-                Path.of(request.filePath()),
-                request.context(),
-                fileUri,
-                workspaceManagerProxy));
+        CompletableFuture<DiagnosticsRequest.Diagnostics> future =
+                Debouncer.getInstance().debounce(new DiagnosticsRequest(
+                        workspaceManagerProxy.get(fileUri),
+                        Path.of(request.filePath()),
+                        request.context()));
+        return requestMetrics.track("expressionEditor/diagnostics", future);
     }
 
     @JsonRequest
     public CompletableFuture<FunctionCallTemplateResponse> functionCallTemplate(FunctionCallTemplateRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("expressionEditor/functionCallTemplate", () -> {
             FunctionCallTemplateResponse response = new FunctionCallTemplateResponse();
             try {
                 Codedata codedata = request.codedata();
@@ -203,7 +233,7 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<SuccessResponse> importModule(ImportModuleRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("expressionEditor/importModule", () -> {
             SuccessResponse response = new SuccessResponse();
             try {
                 String fileUri = CommonUtils.getExprUri(request.filePath());
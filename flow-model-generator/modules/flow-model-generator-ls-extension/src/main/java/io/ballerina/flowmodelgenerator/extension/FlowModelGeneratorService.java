@@ -18,6 +18,7 @@
 
 package io.ballerina.flowmodelgenerator.extension;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -29,6 +30,7 @@ import io.ballerina.flowmodelgenerator.core.CopilotContextGenerator;
 import io.ballerina.flowmodelgenerator.core.DeleteNodeHandler;
 import io.ballerina.flowmodelgenerator.core.EnclosedNodeFinder;
 import io.ballerina.flowmodelgenerator.core.ErrorHandlerGenerator;
+import io.ballerina.flowmodelgenerator.core.FlowModelVersions;
 import io.ballerina.flowmodelgenerator.core.FunctionGenerator;
 import io.ballerina.flowmodelgenerator.core.ModelGenerator;
 import io.ballerina.flowmodelgenerator.core.ModuleNodeAnalyzer;
@@ -37,6 +39,9 @@ import io.ballerina.flowmodelgenerator.core.OpenApiServiceGenerator;
 import io.ballerina.flowmodelgenerator.core.SourceGenerator;
 import io.ballerina.flowmodelgenerator.core.SuggestedComponentService;
 import io.ballerina.flowmodelgenerator.core.SuggestedModelGenerator;
+import io.ballerina.flowmodelgenerator.core.db.DatabaseManager;
+import io.ballerina.flowmodelgenerator.core.expressioneditor.Debouncer;
+import io.ballerina.flowmodelgenerator.core.model.Diagram;
 import io.ballerina.flowmodelgenerator.core.model.ModuleInfo;
 import io.ballerina.flowmodelgenerator.extension.request.ComponentDeleteRequest;
 import io.ballerina.flowmodelgenerator.extension.request.CopilotContextRequest;
@@ -63,7 +68,9 @@ import io.ballerina.flowmodelgenerator.extension.response.FlowModelNodeTemplateR
 import io.ballerina.flowmodelgenerator.extension.response.FlowModelSourceGeneratorResponse;
 import io.ballerina.flowmodelgenerator.extension.response.FlowNodeDeleteResponse;
 import io.ballerina.flowmodelgenerator.extension.response.FunctionDefinitionResponse;
+import io.ballerina.flowmodelgenerator.extension.response.MetricsResponse;
 import io.ballerina.flowmodelgenerator.extension.response.OpenApiServiceGenerationResponse;
+import io.ballerina.lsextension.metrics.RequestMetrics;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
@@ -97,11 +104,15 @@ import java.util.concurrent.CompletableFuture;
 @JsonSegment("flowDesignService")
 public class FlowModelGeneratorService implements ExtendedLanguageServerService {
 
+    private static final Gson GSON = new Gson();
+
     private WorkspaceManager workspaceManager;
+    private final RequestMetrics requestMetrics = RequestMetrics.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
-        this.workspaceManager = workspaceManager;
+        this.workspaceManager = requestMetrics.instrument(WorkspaceManager.class, workspaceManager);
+        DatabaseManager.initializeAsync();
     }
 
     @Override
@@ -112,7 +123,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelGeneratorResponse> getFlowModel(FlowModelGeneratorRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("flowDesignService/getFlowModel", () -> {
             FlowModelGeneratorResponse response = new FlowModelGeneratorResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -135,8 +146,24 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
                 // Generate the flow design model
                 ModelGenerator modelGenerator = new ModelGenerator(project, semanticModel.get(), filePath);
-                response.setFlowDesignModel(
-                        modelGenerator.getFlowModel(document.get(), request.lineRange(), dataMappingsDoc.orElse(null)));
+                if (request.clientId() == null) {
+                    response.setFlowDesignModel(modelGenerator.getDiagram(document.get(), request.lineRange(),
+                            dataMappingsDoc.orElse(null)));
+                    return response;
+                }
+
+                // Send only the changes since the version held by the client, if it is still known
+                Diagram diagram =
+                        modelGenerator.getDiagram(document.get(), request.lineRange(), dataMappingsDoc.orElse(null));
+                JsonObject flowModel = GSON.toJsonTree(diagram).getAsJsonObject();
+                FlowModelVersions.Delta delta = FlowModelVersions.getInstance()
+                        .update(request.clientId(), request.lineRange(), flowModel, request.version());
+                response.setVersion(delta.version());
+                if (delta.patch() != null) {
+                    response.setFlowModelPatch(delta.patch());
+                } else {
+                    response.setFlowDesignModel(delta.flowModel());
+                }
             } catch (Throwable e) {
                 response.setError(e);
             }
@@ -148,7 +175,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     public CompletableFuture<FlowModelGeneratorResponse> getSuggestedFlowModel(
             FlowModelSuggestedGenerationRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("flowDesignService/getSuggestedFlowModel", () -> {
             FlowModelGeneratorResponse response = new FlowModelGeneratorResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -233,7 +260,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<JsonObject> getSuggestedComponents(SuggestedComponentRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("flowDesignService/getSuggestedComponents", () -> {
             JsonObject response = new JsonObject();
             try {
                 String fileContent = request.content();
@@ -253,7 +280,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelSourceGeneratorResponse> getSourceCode(FlowModelSourceGeneratorRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("flowDesignService/getSourceCode", () -> {
             FlowModelSourceGeneratorResponse response = new FlowModelSourceGeneratorResponse();
             try {
                 SourceGenerator sourceGenerator = new SourceGenerator(workspaceManager, Path.of(request.filePath()));
@@ -269,7 +296,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     public CompletableFuture<FlowModelAvailableNodesResponse> getAvailableNodes(
             FlowModelAvailableNodesRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("flowDesignService/getAvailableNodes", () -> {
             FlowModelAvailableNodesResponse response = new FlowModelAvailableNodesResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -294,7 +321,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelNodeTemplateResponse> getNodeTemplate(FlowModelNodeTemplateRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("flowDesignService/getNodeTemplate", () -> {
             FlowModelNodeTemplateResponse response = new FlowModelNodeTemplateResponse();
             try {
                 NodeTemplateGenerator generator = new NodeTemplateGenerator();
@@ -312,7 +339,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelGeneratorResponse> getModuleNodes(FilePathRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("flowDesignService/getModuleNodes", () -> {
             FlowModelGeneratorResponse response = new FlowModelGeneratorResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -334,7 +361,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<FlowModelGetConnectorsResponse> getConnectors(FlowModelGetConnectorsRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("flowDesignService/getConnectors", () -> {
             FlowModelGetConnectorsResponse response = new FlowModelGetConnectorsResponse();
             try {
                 ConnectorGenerator connectorGenerator = new ConnectorGenerator();
@@ -348,7 +375,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<FlowModelAvailableNodesResponse> getFunctions(FlowModelGetFunctionsRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("flowDesignService/getFunctions", () -> {
             FlowModelAvailableNodesResponse response = new FlowModelAvailableNodesResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -369,7 +396,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<CopilotContextResponse> getCopilotContext(CopilotContextRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("flowDesignService/getCopilotContext", () -> {
             CopilotContextResponse response = new CopilotContextResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -390,19 +417,18 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     // TODO: Need to remove this API and usages must be migrated to `deleteComponent(ComponentDeleteRequest request)`
     public CompletableFuture<FlowNodeDeleteResponse> deleteFlowNode(FlowNodeDeleteRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("flowDesignService/deleteFlowNode", () -> {
             FlowNodeDeleteResponse response = new FlowNodeDeleteResponse();
             try {
                 Path filePath = Path.of(request.filePath());
                 DeleteNodeHandler deleteNodeHandler = new DeleteNodeHandler(request.flowNode(), filePath);
-                Project project = this.workspaceManager.loadProject(filePath);
+                this.workspaceManager.loadProject(filePath);
                 Optional<SemanticModel> semanticModel = this.workspaceManager.semanticModel(filePath);
                 Optional<Document> document = this.workspaceManager.document(filePath);
                 if (semanticModel.isEmpty() || document.isEmpty()) {
                     return response;
                 }
-                response.setTextEdits(
-                        deleteNodeHandler.getTextEditsToDeletedNode(document.get(), project));
+                response.setTextEdits(deleteNodeHandler.getTextEditsToDeletedNode(document.get()));
             } catch (Throwable e) {
                 //TODO: Handle errors generated by the flow model generator service.
                 response.setError(e);
@@ -413,18 +439,18 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<ComponentDeleteResponse> deleteComponent(ComponentDeleteRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("flowDesignService/deleteComponent", () -> {
             ComponentDeleteResponse response = new ComponentDeleteResponse();
             try {
                 Path filePath = Path.of(request.filePath());
-                Project project = this.workspaceManager.loadProject(filePath);
+                this.workspaceManager.loadProject(filePath);
                 Optional<SemanticModel> semanticModel = this.workspaceManager.semanticModel(filePath);
                 Optional<Document> document = this.workspaceManager.document(filePath);
                 if (semanticModel.isEmpty() || document.isEmpty()) {
                     return response;
                 }
                 response.setTextEdits(DeleteNodeHandler.getTextEditsToDeletedNode(
-                        request.component(), filePath, document.get(), project
+                        request.component(), filePath, document.get()
                 ));
             } catch (Throwable e) {
                 //TODO: Handle errors generated by the flow model generator service.
@@ -439,7 +465,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     public CompletableFuture<OpenApiServiceGenerationResponse> generateServiceFromOpenApiContract(
             OpenAPIServiceGenerationRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("flowDesignService/generateServiceFromOpenApiContract", () -> {
             OpenApiServiceGenerationResponse response = new OpenApiServiceGenerationResponse();
             try {
                 Path openApiContractPath = Path.of(request.openApiContractPath());
@@ -458,7 +484,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelSourceGeneratorResponse> addErrorHandler(FilePathRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("flowDesignService/addErrorHandler", () -> {
             FlowModelSourceGeneratorResponse response = new FlowModelSourceGeneratorResponse();
             try {
                 ErrorHandlerGenerator errorHandlerGenerator =
@@ -474,7 +500,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<EnclosedFuncDefResponse> getEnclosedFunctionDef(EnclosedFuncDefRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("flowDesignService/getEnclosedFunctionDef", () -> {
             EnclosedFuncDefResponse response = new EnclosedFuncDefResponse();
             try {
                 Path path = Path.of(request.filePath());
@@ -497,7 +523,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<FunctionDefinitionResponse> functionDefinition(FunctionDefinitionRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("flowDesignService/functionDefinition", () -> {
             FunctionDefinitionResponse response = new FunctionDefinitionResponse();
             try {
                 // Load the project
@@ -526,6 +552,27 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
         });
     }
 
+    /**
+     * Returns the latency and allocation histograms of the requests served by the LS extensions, along with the
+     * metrics of the central index and the expression editor debouncer.
+     *
+     * @return the metrics of the LS extension
+     */
+    @JsonRequest
+    public CompletableFuture<MetricsResponse> metrics() {
+        return CompletableFuture.supplyAsync(() -> {
+            MetricsResponse response = new MetricsResponse();
+            try {
+                response.setRequests(requestMetrics.snapshot());
+                response.setCentralIndex(DatabaseManager.getInstance().getMetrics());
+                response.setExpressionEditor(Debouncer.getInstance().getMetrics());
+            } catch (Throwable e) {
+                response.setError(e);
+            }
+            return response;
+        });
+    }
+
     private static String getRelativePath(Path projectPath, Path filePath) {
         if (projectPath == null || filePath == null) {
             return "";
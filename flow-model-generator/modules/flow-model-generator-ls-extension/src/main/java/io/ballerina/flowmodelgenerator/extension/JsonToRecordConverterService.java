@@ -22,8 +22,8 @@ import io.ballerina.flowmodelgenerator.core.TypesManager;
 import io.ballerina.flowmodelgenerator.core.converters.JsonToRecordMapper;
 import io.ballerina.flowmodelgenerator.extension.request.JsonToRecordRequest;
 import io.ballerina.flowmodelgenerator.extension.response.JsonToRecordResponse;
+import io.ballerina.lsextension.metrics.RequestMetrics;
 import io.ballerina.projects.Document;
-import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
@@ -44,11 +44,12 @@ import java.util.concurrent.CompletableFuture;
 @JsonSegment("jsonToRecord")
 public class JsonToRecordConverterService implements ExtendedLanguageServerService {
     private WorkspaceManager workspaceManager;
+    private final RequestMetrics requestMetrics = RequestMetrics.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
         ExtendedLanguageServerService.super.init(langServer, workspaceManager);
-        this.workspaceManager = workspaceManager;
+        this.workspaceManager = requestMetrics.instrument(WorkspaceManager.class, workspaceManager);
     }
 
     @Override
@@ -58,7 +59,7 @@ public class JsonToRecordConverterService implements ExtendedLanguageServerServi
 
     @JsonRequest
     public CompletableFuture<JsonToRecordResponse> convert(JsonToRecordRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("jsonToRecord/convert", () -> {
             JsonToRecordResponse response = new JsonToRecordResponse();
 
             String jsonString = request.getJsonString();
@@ -71,14 +72,14 @@ public class JsonToRecordConverterService implements ExtendedLanguageServerServi
 
             try {
                 Path filePath = Path.of(request.getFilePathUri());
-                Project project = this.workspaceManager.loadProject(filePath);
+                this.workspaceManager.loadProject(filePath);
                 Optional<Document> document = this.workspaceManager.document(filePath);
                 if (document.isEmpty()) {
                     return response;
                 }
                 TypesManager typesManager = new TypesManager(document.get());
-                JsonToRecordMapper jsonToRecordMapper = new JsonToRecordMapper(recordName, prefix, project,
-                        document.get(), filePath, typesManager);
+                JsonToRecordMapper jsonToRecordMapper = new JsonToRecordMapper(recordName, prefix, filePath,
+                        typesManager);
                 response.setTypes(jsonToRecordMapper.convert(jsonString, isRecordTypeDesc, isClosed,
                         forceFormatRecordFields, workspaceManager, isNullAsOptional));
             } catch (Throwable e) {
@@ -21,6 +21,7 @@ package io.ballerina.flowmodelgenerator.extension;
 import io.ballerina.flowmodelgenerator.core.OpenAPIClientGenerator;
 import io.ballerina.flowmodelgenerator.extension.request.OpenAPIClientGenerationRequest;
 import io.ballerina.flowmodelgenerator.extension.response.OpenAPIClientGenerationResponse;
+import io.ballerina.lsextension.metrics.RequestMetrics;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
@@ -35,6 +36,8 @@ import java.util.concurrent.CompletableFuture;
 @JsonSegment("openAPIService")
 public class OpenAPIService implements ExtendedLanguageServerService {
 
+    private final RequestMetrics requestMetrics = RequestMetrics.getInstance();
+
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
     }
@@ -46,7 +49,7 @@ public class OpenAPIService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<OpenAPIClientGenerationResponse> genClient(OpenAPIClientGenerationRequest req) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("openAPIService/genClient", () -> {
             OpenAPIClientGenerationResponse response = new OpenAPIClientGenerationResponse();
             try {
                 OpenAPIClientGenerator openAPIClientGenerator =
@@ -28,6 +28,7 @@ import io.ballerina.flowmodelgenerator.extension.request.TypeUpdateRequest;
 import io.ballerina.flowmodelgenerator.extension.response.TypeListResponse;
 import io.ballerina.flowmodelgenerator.extension.response.TypeResponse;
 import io.ballerina.flowmodelgenerator.extension.response.TypeUpdateResponse;
+import io.ballerina.lsextension.metrics.RequestMetrics;
 import io.ballerina.projects.Document;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
@@ -44,10 +45,11 @@ import java.util.concurrent.CompletableFuture;
 @JsonSegment("typesManager")
 public class TypesManagerService implements ExtendedLanguageServerService {
     private WorkspaceManager workspaceManager;
+    private final RequestMetrics requestMetrics = RequestMetrics.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
-        this.workspaceManager = workspaceManager;
+        this.workspaceManager = requestMetrics.instrument(WorkspaceManager.class, workspaceManager);
     }
 
     @Override
@@ -57,7 +59,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<TypeListResponse> getTypes(FilePathRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("typesManager/getTypes", () -> {
             TypeListResponse response = new TypeListResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -78,7 +80,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<TypeResponse> getType(GetTypeRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("typesManager/getType", () -> {
             TypeResponse response = new TypeResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -106,7 +108,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<TypeUpdateResponse> createGraphqlClassType(TypeUpdateRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("typesManager/createGraphqlClassType", () -> {
             TypeUpdateResponse response = new TypeUpdateResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -128,7 +130,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<TypeUpdateResponse> updateType(TypeUpdateRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("typesManager/updateType", () -> {
             TypeUpdateResponse response = new TypeUpdateResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -22,8 +22,8 @@ import io.ballerina.flowmodelgenerator.core.TypesManager;
 import io.ballerina.flowmodelgenerator.core.converters.XMLToRecordConverter;
 import io.ballerina.flowmodelgenerator.extension.request.XMLToRecordRequest;
 import io.ballerina.flowmodelgenerator.extension.response.XMLToRecordResponse;
+import io.ballerina.lsextension.metrics.RequestMetrics;
 import io.ballerina.projects.Document;
-import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
@@ -44,11 +44,12 @@ import java.util.concurrent.CompletableFuture;
 @JsonSegment("xmlToRecord")
 public class XMLToRecordConverterService implements ExtendedLanguageServerService {
     private WorkspaceManager workspaceManager;
+    private final RequestMetrics requestMetrics = RequestMetrics.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
         ExtendedLanguageServerService.super.init(langServer, workspaceManager);
-        this.workspaceManager = workspaceManager;
+        this.workspaceManager = requestMetrics.instrument(WorkspaceManager.class, workspaceManager);
     }
 
     @Override
@@ -58,7 +59,7 @@ public class XMLToRecordConverterService implements ExtendedLanguageServerServic
 
     @JsonRequest
     public CompletableFuture<XMLToRecordResponse> convert(XMLToRecordRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("xmlToRecord/convert", () -> {
             XMLToRecordResponse response = new XMLToRecordResponse();
 
             String xmlValue = request.getXmlValue();
@@ -73,14 +74,14 @@ public class XMLToRecordConverterService implements ExtendedLanguageServerServic
 
             try {
                 Path filePath = Path.of(request.getFilePath());
-                Project project = this.workspaceManager.loadProject(filePath);
+                this.workspaceManager.loadProject(filePath);
                 Optional<Document> document = this.workspaceManager.document(filePath);
                 if (document.isEmpty()) {
                     return response;
                 }
                 TypesManager typesManager = new TypesManager(document.get());
 
-                XMLToRecordConverter converter = new XMLToRecordConverter(project, document.get(), typesManager);
+                XMLToRecordConverter converter = new XMLToRecordConverter(typesManager);
                 response.setTypes(converter.convert(xmlValue, isRecordTypeDesc, isClosed, forceFormatRecordFields,
                         textFieldName, withNameSpace, withoutAttributes, withoutAttributeAnnot, prefix));
             } catch (Throwable e) {
@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension.request;
+
+import io.ballerina.tools.text.LinePosition;
+
+/**
+ * Represents a request to expand a node collapsed in a depth-limited type tree. The node is resolved again in the
+ * given file, at the given position for the types of the visible variables.
+ *
+ * @param filePath the path of the file of the tree
+ * @param position the position of the visible variables, if the tree is of their types
+ * @param handle   the handle of the collapsed node
+ * @param depth    the number of levels of children to expand, or null to expand all of them
+ * @since 2.0.0
+ */
+public record ExpandRequest(String filePath, LinePosition position, String handle, Integer depth) {
+}
@@ -27,9 +27,16 @@ import io.ballerina.tools.text.LineRange;
  * @param filePath  file path of the source file
  * @param startLine start line of the source range
  * @param endLine   end line of the source range
+ * @param clientId  id of the client, which opts in to the versioned responses if provided
+ * @param version   version of the flow model held by the client, if any
  * @since 1.4.0
  */
-public record FlowModelGeneratorRequest(String filePath, LinePosition startLine, LinePosition endLine) {
+public record FlowModelGeneratorRequest(String filePath, LinePosition startLine, LinePosition endLine,
+                                        String clientId, String version) {
+
+    public FlowModelGeneratorRequest(String filePath, LinePosition startLine, LinePosition endLine) {
+        this(filePath, startLine, endLine, null, null);
+    }
 
     public LineRange lineRange() {
         return LineRange.from(filePath, startLine, endLine);
@@ -25,7 +25,12 @@ import io.ballerina.tools.text.LinePosition;
  *
  * @param filePath the path of the file
  * @param position the line position in the file
+ * @param depth    the number of levels of member types to expand, or null to expand all of them
  * @since 1.4.0
  */
-public record VisibleVariableTypeRequest(String filePath, LinePosition position) {
+public record VisibleVariableTypeRequest(String filePath, LinePosition position, Integer depth) {
+
+    public VisibleVariableTypeRequest(String filePath, LinePosition position) {
+        this(filePath, position, null);
+    }
 }
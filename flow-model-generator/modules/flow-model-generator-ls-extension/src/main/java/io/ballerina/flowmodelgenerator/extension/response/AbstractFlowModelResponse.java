@@ -18,6 +18,8 @@
 
 package io.ballerina.flowmodelgenerator.extension.response;
 
+import io.ballerina.lsextension.metrics.ErrorResponse;
+
 import java.util.Arrays;
 
 /**
@@ -25,7 +27,7 @@ import java.util.Arrays;
  *
  * @since 2.0.0
  */
-public abstract class AbstractFlowModelResponse {
+public abstract class AbstractFlowModelResponse implements ErrorResponse {
 
     private String errorMsg;
     private String stacktrace;
@@ -35,6 +37,7 @@ public abstract class AbstractFlowModelResponse {
         this.stacktrace = Arrays.toString(e.getStackTrace());
     }
 
+    @Override
     public String errorMsg() {
         return errorMsg;
     }
@@ -18,7 +18,9 @@
 
 package io.ballerina.flowmodelgenerator.extension.response;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import io.ballerina.flowmodelgenerator.core.model.Diagram;
 
 /**
  * Represents the response for the flow model getSourceCode API.
@@ -27,13 +29,36 @@ import com.google.gson.JsonElement;
  */
 public class FlowModelGeneratorResponse extends AbstractFlowModelResponse {
 
-    private JsonElement flowModel;
+    // Either a JSON tree or a diagram, where the latter is streamed to the JSON-RPC output by its type adapter
+    private Object flowModel;
+    private JsonArray flowModelPatch;
+    private String version;
 
     public void setFlowDesignModel(JsonElement flowDesignModel) {
         this.flowModel = flowDesignModel;
     }
 
-    public JsonElement flowDesignModel() {
+    public void setFlowDesignModel(Diagram flowDesignModel) {
+        this.flowModel = flowDesignModel;
+    }
+
+    public Object flowDesignModel() {
         return flowModel;
     }
+
+    public void setFlowModelPatch(JsonArray flowModelPatch) {
+        this.flowModelPatch = flowModelPatch;
+    }
+
+    public JsonArray flowModelPatch() {
+        return flowModelPatch;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    public String version() {
+        return version;
+    }
 }
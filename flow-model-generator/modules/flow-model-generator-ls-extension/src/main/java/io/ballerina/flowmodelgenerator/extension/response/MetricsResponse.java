@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension.response;
+
+import io.ballerina.flowmodelgenerator.core.expressioneditor.Debouncer;
+import io.ballerina.lsextension.metrics.RequestMetrics;
+
+import java.util.Map;
+
+/**
+ * Represents the response of the metrics of the flow model LS extension.
+ *
+ * @since 2.0.0
+ */
+public class MetricsResponse extends AbstractFlowModelResponse {
+
+    private Map<String, RequestMetrics.MethodSnapshot> requests;
+    private String centralIndex;
+    private Debouncer.Metrics.Snapshot expressionEditor;
+
+    public void setRequests(Map<String, RequestMetrics.MethodSnapshot> requests) {
+        this.requests = requests;
+    }
+
+    public void setCentralIndex(String centralIndex) {
+        this.centralIndex = centralIndex;
+    }
+
+    public void setExpressionEditor(Debouncer.Metrics.Snapshot expressionEditor) {
+        this.expressionEditor = expressionEditor;
+    }
+
+    public Map<String, RequestMetrics.MethodSnapshot> requests() {
+        return requests;
+    }
+
+    public String centralIndex() {
+        return centralIndex;
+    }
+
+    public Debouncer.Metrics.Snapshot expressionEditor() {
+        return expressionEditor;
+    }
+}
@@ -30,4 +30,5 @@ module io.ballerina.LSExtensions.FlowService {
     requires io.ballerina.tools.api;
     requires io.ballerina.jsonmapper;
     requires io.ballerina.formatter.core;
+    requires io.ballerina.lsextension.metrics;
 }
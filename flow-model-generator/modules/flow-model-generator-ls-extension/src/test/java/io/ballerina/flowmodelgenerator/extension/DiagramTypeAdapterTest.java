@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.ballerina.flowmodelgenerator.core.ModelGenerator;
+import io.ballerina.flowmodelgenerator.core.model.Diagram;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectKind;
+import io.ballerina.projects.directory.ProjectLoader;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test cases for the streaming serialization of the diagrams, which must be the same as the reflective serialization
+ * of the diagrams of the model generator tests.
+ *
+ * @since 2.0.0
+ */
+public class DiagramTypeAdapterTest extends AbstractLSTest {
+
+    private static final String DATA_MAPPINGS_FILE = "data_mappings.bal";
+
+    // The reflective serialization, as the diagram itself is bound to the streaming adapter
+    private static final Gson REFLECTIVE_GSON = new Gson();
+
+    @Override
+    @Test(dataProvider = "data-provider")
+    public void test(Path config) throws IOException {
+        Path configJsonPath = configDir.resolve(config);
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+        Path filePath = Path.of(getSourcePath(testConfig.source()));
+        Diagram diagram = getDiagram(filePath, LineRange.from(testConfig.source(), testConfig.start(),
+                testConfig.end()));
+
+        JsonObject expected = new JsonObject();
+        expected.addProperty("fileName", diagram.fileName());
+        expected.add("nodes", REFLECTIVE_GSON.toJsonTree(diagram.nodes()));
+        expected.add("connections", REFLECTIVE_GSON.toJsonTree(diagram.connections()));
+
+        // The output must not depend on the configuration of the Gson instance driving the adapter
+        assertSerialization(new Gson().toJsonTree(diagram), expected, configJsonPath);
+        assertSerialization(new GsonBuilder().serializeNulls().create().toJsonTree(diagram), expected,
+                configJsonPath);
+    }
+
+    private void assertSerialization(JsonElement actual, JsonObject expected, Path configJsonPath) {
+        if (!actual.equals(expected)) {
+            compareJsonElements(actual, expected);
+            Assert.fail(String.format("Streamed diagram does not match the reflective serialization: %s",
+                    configJsonPath));
+        }
+    }
+
+    private static Diagram getDiagram(Path filePath, LineRange lineRange) {
+        Project project = ProjectLoader.loadProject(filePath);
+        DocumentId documentId = project.documentId(filePath);
+        Document document = project.currentPackage().module(documentId.moduleId()).document(documentId);
+        Document dataMappingsDoc = null;
+        if (project.kind() == ProjectKind.BUILD_PROJECT) {
+            Path dataMappingsPath = project.sourceRoot().resolve(DATA_MAPPINGS_FILE);
+            if (Files.exists(dataMappingsPath)) {
+                DocumentId dataMappingsId = project.documentId(dataMappingsPath);
+                dataMappingsDoc = project.currentPackage().module(dataMappingsId.moduleId()).document(dataMappingsId);
+            }
+        }
+        ModelGenerator modelGenerator = new ModelGenerator(project,
+                document.module().getCompilation().getSemanticModel(), filePath);
+        return modelGenerator.getDiagram(document, lineRange, dataMappingsDoc);
+    }
+
+    @Override
+    protected String getResourceDir() {
+        return "diagram_generator";
+    }
+
+    @Override
+    protected Class<? extends AbstractLSTest> clazz() {
+        return DiagramTypeAdapterTest.class;
+    }
+
+    @Override
+    protected String getApiName() {
+        return "getFlowModel";
+    }
+
+    /**
+     * Represents the test configuration of the model generator test, whose inputs are used to generate the diagrams.
+     *
+     * @param start       The start position of the diagram
+     * @param end         The end position of the diagram
+     * @param source      The source file
+     * @param description The description of the test
+     * @since 2.0.0
+     */
+    private record TestConfig(LinePosition start, LinePosition end, String source, String description) {
+
+    }
+}
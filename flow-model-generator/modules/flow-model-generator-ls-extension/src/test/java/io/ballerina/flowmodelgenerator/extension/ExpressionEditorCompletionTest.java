@@ -19,9 +19,11 @@
 package io.ballerina.flowmodelgenerator.extension;
 
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.ExpressionEditorContext;
 import io.ballerina.flowmodelgenerator.extension.request.ExpressionEditorCompletionRequest;
+import org.ballerinalang.langserver.util.TestUtil;
 import org.eclipse.lsp4j.CompletionContext;
 import org.eclipse.lsp4j.CompletionItem;
 import org.testng.Assert;
@@ -32,6 +34,7 @@ import java.lang.reflect.Type;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Tests for the expression editor completion service.
@@ -41,6 +44,7 @@ import java.util.List;
 public class ExpressionEditorCompletionTest extends AbstractLSTest {
 
     private static final Type COMPLETION_RESPONSE_TYPE = new TypeToken<List<CompletionItem>>() { }.getType();
+    private static final int CONCURRENT_ROUNDS = 10;
 
     @Override
     @Test(dataProvider = "data-provider")
@@ -96,6 +100,43 @@ public class ExpressionEditorCompletionTest extends AbstractLSTest {
         notifyDidClose(sourcePath);
     }
 
+    @Test
+    public void testConcurrentRequestsInProject() throws IOException {
+        // The statements of both requests are written to different files of the same project
+        TestConfig mainConfig = gson.fromJson(Files.newBufferedReader(configDir.resolve("proj2.json")),
+                TestConfig.class);
+        TestConfig fnConfig = gson.fromJson(Files.newBufferedReader(configDir.resolve("proj3.json")),
+                TestConfig.class);
+        String mainSourcePath = getSourcePath(mainConfig.filePath());
+        String fnSourcePath = getSourcePath(fnConfig.filePath());
+        notifyDidOpen(mainSourcePath);
+        notifyDidOpen(fnSourcePath);
+
+        // A lost statement or a statement left behind by the other request changes the completions of later rounds
+        String api = getServiceName() + "/" + getApiName();
+        for (int i = 0; i < CONCURRENT_ROUNDS; i++) {
+            CompletableFuture<?> mainResult = serviceEndpoint.request(api, new ExpressionEditorCompletionRequest(
+                    mainSourcePath, mainConfig.context(), mainConfig.completionContext()));
+            CompletableFuture<?> fnResult = serviceEndpoint.request(api, new ExpressionEditorCompletionRequest(
+                    fnSourcePath, fnConfig.context(), fnConfig.completionContext()));
+            assertCompletions(mainResult, mainConfig, i);
+            assertCompletions(fnResult, fnConfig, i);
+        }
+        notifyDidClose(mainSourcePath);
+        notifyDidClose(fnSourcePath);
+    }
+
+    private void assertCompletions(CompletableFuture<?> result, TestConfig testConfig, int round) {
+        JsonObject response = JsonParser.parseString(TestUtil.getResponseString(result)).getAsJsonObject()
+                .getAsJsonObject("result");
+        List<CompletionItem> actualCompletions =
+                gson.fromJson(response.get("left").getAsJsonArray(), COMPLETION_RESPONSE_TYPE);
+        if (!assertArray("completions", actualCompletions, testConfig.completions())) {
+            Assert.fail(String.format("Failed concurrent request in round %d: '%s'", round,
+                    testConfig.description()));
+        }
+    }
+
     @Override
     protected String getResourceDir() {
         return "completions";
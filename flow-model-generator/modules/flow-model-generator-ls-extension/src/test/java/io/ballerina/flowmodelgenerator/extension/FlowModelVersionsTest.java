@@ -0,0 +1,207 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import io.ballerina.flowmodelgenerator.core.FlowModelVersions;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Test cases for the versioned flow model responses, which apply the patch sent for a change to the previous flow
+ * model and assert that it yields the new flow model.
+ *
+ * @since 2.0.0
+ */
+public class FlowModelVersionsTest extends AbstractLSTest {
+
+    @Override
+    @Test(dataProvider = "data-provider")
+    public void test(Path config) throws IOException {
+        Path configJsonPath = configDir.resolve(config);
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+        LineRange canvas = LineRange.from(testConfig.source(), testConfig.start(), testConfig.end());
+        JsonObject previous = testConfig.diagram();
+
+        // Lines added above the nodes must not be seen as the removal and the addition of the nodes
+        JsonObject shifted = previous.deepCopy();
+        shiftLines(shifted);
+        JsonArray patch = assertRoundTrip(configJsonPath + ":shifted", canvas, previous, shifted);
+        for (JsonElement operation : patch) {
+            Assert.assertEquals(operation.getAsJsonObject().get("op").getAsString(), "replace",
+                    String.format("Unexpected operation for the shifted flow model: %s (%s)", operation,
+                            configJsonPath));
+        }
+
+        // Use the flow model of the next config as an arbitrary change to the flow model
+        TestConfig nextConfig = gson.fromJson(Files.newBufferedReader(getNextConfig(configJsonPath)),
+                TestConfig.class);
+        assertRoundTrip(configJsonPath + ":next", canvas, previous, nextConfig.diagram());
+    }
+
+    private JsonArray assertRoundTrip(String clientId, LineRange canvas, JsonObject previous, JsonObject current) {
+        FlowModelVersions versions = FlowModelVersions.getInstance();
+        FlowModelVersions.Delta initial = versions.update(clientId, canvas, previous, null);
+        Assert.assertNotNull(initial.flowModel(), "Expected the entire flow model without a known version");
+
+        FlowModelVersions.Delta delta = versions.update(clientId, canvas, current, initial.version());
+        Assert.assertNotNull(delta.patch(), "Expected a patch for the version held by the client");
+        JsonObject patched = previous.deepCopy();
+        applyPatch(patched, delta.patch());
+        if (!patched.equals(current)) {
+            compareJsonElements(patched, current);
+            Assert.fail(String.format("Patched flow model does not match the new flow model: %s", clientId));
+        }
+        return delta.patch();
+    }
+
+    private static void applyPatch(JsonObject flowModel, JsonArray patch) {
+        for (JsonElement element : patch) {
+            JsonObject operation = element.getAsJsonObject();
+            String op = operation.get("op").getAsString();
+            List<String> segments = getSegments(operation.get("path").getAsString());
+
+            JsonElement parent = flowModel;
+            for (int i = 0; i < segments.size() - 1; i++) {
+                parent = parent.isJsonObject() ? parent.getAsJsonObject().get(segments.get(i)) :
+                        parent.getAsJsonArray().get(indexOf(parent.getAsJsonArray(), segments.get(i - 1),
+                                segments.get(i)));
+            }
+
+            String segment = segments.getLast();
+            if (parent.isJsonObject()) {
+                if (op.equals("remove")) {
+                    parent.getAsJsonObject().remove(segment);
+                } else {
+                    parent.getAsJsonObject().add(segment, operation.get("value"));
+                }
+                continue;
+            }
+            List<JsonElement> list = parent.getAsJsonArray().asList();
+            String listName = segments.get(segments.size() - 2);
+            switch (op) {
+                case "add" -> list.add(operation.get("index").getAsInt(), operation.get("value"));
+                case "remove" -> list.remove(indexOf(parent.getAsJsonArray(), listName, segment));
+                default -> list.set(indexOf(parent.getAsJsonArray(), listName, segment), operation.get("value"));
+            }
+        }
+    }
+
+    private static int indexOf(JsonArray list, String listName, String key) {
+        Map<String, Integer> ordinals = new HashMap<>();
+        for (int i = 0; i < list.size(); i++) {
+            JsonObject item = list.get(i).getAsJsonObject();
+            String itemKey;
+            if (listName.equals("branches")) {
+                itemKey = item.get("label").getAsString();
+            } else {
+                String kind = item.getAsJsonObject("codedata").get("node").getAsString();
+                itemKey = kind + ":" + (ordinals.merge(kind, 1, Integer::sum) - 1);
+            }
+            if (itemKey.equals(key)) {
+                return i;
+            }
+        }
+        throw new AssertionError(String.format("Cannot resolve '%s' in '%s'", key, listName));
+    }
+
+    private static List<String> getSegments(String path) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.substring(1).split("/", -1)) {
+            segments.add(segment.replace("~1", "/").replace("~0", "~"));
+        }
+        return segments;
+    }
+
+    private static void shiftLines(JsonElement element) {
+        if (element.isJsonArray()) {
+            element.getAsJsonArray().forEach(FlowModelVersionsTest::shiftLines);
+            return;
+        }
+        if (!element.isJsonObject()) {
+            return;
+        }
+        JsonObject object = element.getAsJsonObject();
+        for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+            JsonElement value = entry.getValue();
+            if ((entry.getKey().equals("startLine") || entry.getKey().equals("endLine")) && value.isJsonObject()
+                    && value.getAsJsonObject().has("line")) {
+                JsonObject position = value.getAsJsonObject();
+                position.addProperty("line", position.get("line").getAsInt() + 1);
+            } else if (entry.getKey().equals("id") && value.isJsonPrimitive()
+                    && value.getAsJsonPrimitive().isString()) {
+                entry.setValue(new JsonPrimitive(value.getAsString() + "1"));
+            } else {
+                shiftLines(value);
+            }
+        }
+    }
+
+    private static Path getNextConfig(Path config) throws IOException {
+        List<Path> configs;
+        try (Stream<Path> stream = Files.list(config.getParent())) {
+            configs = stream.filter(path -> path.getFileName().toString().endsWith(".json")).sorted().toList();
+        }
+        return configs.get((configs.indexOf(config) + 1) % configs.size());
+    }
+
+    @Override
+    protected String getResourceDir() {
+        return "diagram_generator";
+    }
+
+    @Override
+    protected Class<? extends AbstractLSTest> clazz() {
+        return FlowModelVersionsTest.class;
+    }
+
+    @Override
+    protected String getApiName() {
+        return "getFlowModel";
+    }
+
+    /**
+     * Represents the test configuration of the model generator test, whose diagrams are used as the flow models.
+     *
+     * @param start       The start position of the diagram
+     * @param end         The end position of the diagram
+     * @param source      The source file
+     * @param description The description of the test
+     * @param diagram     The expected diagram for the given inputs
+     * @since 2.0.0
+     */
+    private record TestConfig(LinePosition start, LinePosition end, String source, String description,
+                              JsonObject diagram) {
+
+    }
+}
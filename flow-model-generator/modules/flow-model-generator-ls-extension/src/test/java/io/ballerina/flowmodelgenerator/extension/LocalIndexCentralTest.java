@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.ballerina.flowmodelgenerator.core.LocalIndexCentral;
+import io.ballerina.flowmodelgenerator.core.model.Codedata;
+import io.ballerina.flowmodelgenerator.core.model.FlowNode;
+import io.ballerina.flowmodelgenerator.core.model.NodeKind;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Test cases for the lookups of the bundled node templates and connections, which are keyed by the identifying fields
+ * of the codedata, and must not depend on the other fields of the codedata of a request.
+ *
+ * @since 2.0.0
+ */
+public class LocalIndexCentralTest {
+
+    private static final String NODE_TEMPLATES_JSON = "node_templates.json";
+    private static final Set<String> NODE_KINDS =
+            Arrays.stream(NodeKind.values()).map(Enum::name).collect(Collectors.toSet());
+    private static final LineRange LINE_RANGE =
+            LineRange.from("main.bal", LinePosition.from(4, 4), LinePosition.from(4, 32));
+
+    private final LocalIndexCentral localIndexCentral = LocalIndexCentral.getInstance();
+
+    @Test(description = "Every bundled template is found by the codedata of a node of the diagram")
+    public void testNodeTemplates() throws IOException {
+        JsonObject templates = readResource(NODE_TEMPLATES_JSON);
+        int found = 0;
+        for (Map.Entry<String, JsonElement> entry : templates.entrySet()) {
+            JsonObject codedata = entry.getValue().getAsJsonObject().getAsJsonObject("codedata");
+            String node = codedata.get("node").getAsString();
+            if (!NODE_KINDS.contains(node)) {
+                continue;
+            }
+
+            // The codedata of a node of the diagram also carries its position and source
+            Codedata requestCodedata = new Codedata.Builder<>(null)
+                    .node(NodeKind.valueOf(node))
+                    .org(getString(codedata, "org"))
+                    .module(getString(codedata, "module"))
+                    .object(getString(codedata, "object"))
+                    .symbol(getString(codedata, "symbol"))
+                    .version("1.0.0")
+                    .lineRange(LINE_RANGE)
+                    .sourceCode("var x = 1;")
+                    .id(1)
+                    .build();
+            FlowNode template = localIndexCentral.getNodeTemplate(requestCodedata);
+            Assert.assertNotNull(template, "Template not found: " + entry.getKey());
+            Assert.assertEquals(template.codedata().toString(), entry.getKey());
+            found++;
+        }
+        Assert.assertTrue(found > 0, "Expected the bundled templates to be looked up");
+    }
+
+    @Test(description = "A codedata without a bundled template is not found")
+    public void testUnknownNodeTemplate() {
+        Codedata codedata = new Codedata.Builder<>(null)
+                .node(NodeKind.NEW_CONNECTION)
+                .org("ballerina")
+                .module("http")
+                .object("Client")
+                .symbol("unknown")
+                .build();
+        Assert.assertNull(localIndexCentral.getNodeTemplate(codedata));
+        Assert.assertNull(localIndexCentral.getConnectorActions(codedata));
+    }
+
+    @Test(description = "The actions of a connection are found by the codedata of its node")
+    public void testConnectorActions() {
+        Codedata.Builder<Object> builder = new Codedata.Builder<>(null)
+                .node(NodeKind.NEW_CONNECTION)
+                .org("ballerina")
+                .module("http")
+                .object("Client")
+                .symbol("init");
+        List<?> actions = localIndexCentral.getConnectorActions(builder.build());
+        Assert.assertNotNull(actions);
+        Assert.assertFalse(actions.isEmpty());
+        Assert.assertSame(localIndexCentral.getConnectorActions(builder.lineRange(LINE_RANGE).id(2).build()),
+                actions);
+    }
+
+    @Test(description = "The shared JSON of the bundled functions is the serialization of the functions")
+    public void testFunctionsJson() {
+        List<JsonElement> expected = new Gson().toJsonTree(localIndexCentral.getFunctions()).getAsJsonArray().asList();
+        Assert.assertEquals(localIndexCentral.getFunctionsJson(), expected);
+        Assert.assertSame(localIndexCentral.getFunctionsJson(), localIndexCentral.getFunctionsJson());
+    }
+
+    private static String getString(JsonObject jsonObject, String key) {
+        JsonElement element = jsonObject.get(key);
+        return element == null || element.isJsonNull() ? null : element.getAsString();
+    }
+
+    private static JsonObject readResource(String resource) throws IOException {
+        InputStream stream = LocalIndexCentralTest.class.getClassLoader().getResourceAsStream(resource);
+        Assert.assertNotNull(stream, "Resource not found: " + resource);
+        try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension.typesmanager;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.ballerina.flowmodelgenerator.core.TypesManager;
+import io.ballerina.flowmodelgenerator.core.converters.JsonToRecordMapper;
+import io.ballerina.flowmodelgenerator.core.converters.XMLToRecordConverter;
+import io.ballerina.flowmodelgenerator.core.utils.SyntaxTypeTransformer;
+import io.ballerina.flowmodelgenerator.extension.AbstractLSTest;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Test cases for the type data derived from the syntax tree of generated type definitions, which must be the same as
+ * the type data of the compiled type definitions.
+ *
+ * @since 2.0.0
+ */
+public class SyntaxTypeTransformerTest extends AbstractLSTest {
+
+    private static final String TYPES_FILE = "proj/types.bal";
+    private static final List<String> CONVERTER_RESOURCE_DIRS = List.of("json_converter", "xml_converter");
+
+    @Override
+    @Test(dataProvider = "data-provider")
+    public void test(Path config) throws IOException {
+        Path configJsonPath = configDir.resolve(config);
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+
+        Document typeDocument = getDocument(sourceDir.resolve(TYPES_FILE));
+        Optional<List<TypesManager.TypeDataWithRefs>> typeDataList = assertSameTypeData(typeDocument.module(),
+                new TypesManager(typeDocument), testConfig.typesSource(), new HashSet<>(testConfig.typeNames()),
+                String.format("'%s' (%s)", testConfig.description(), configJsonPath));
+        Assert.assertEquals(typeDataList.isPresent(), testConfig.transformable(),
+                String.format("Unexpected fallback to the compiled types: '%s' (%s)", testConfig.description(),
+                        configJsonPath));
+    }
+
+    @Test(dataProvider = "converter-configs")
+    public void testConverters(Path configJsonPath) throws Exception {
+        JsonObject testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), JsonObject.class);
+        Path sourcePath = configJsonPath.getParent().resolveSibling("source")
+                .resolve(testConfig.get("filePath").getAsString());
+        String description = String.format("'%s'", configJsonPath);
+        ComparingTypesManager typesManager = new ComparingTypesManager(getDocument(sourcePath), description);
+
+        boolean isRecordTypeDesc = testConfig.get("isRecordTypeDesc").getAsBoolean();
+        boolean isClosed = testConfig.get("isClosed").getAsBoolean();
+        String prefix = testConfig.get("prefix").getAsString();
+        if (testConfig.has("xmlString")) {
+            new XMLToRecordConverter(typesManager).convert(testConfig.get("xmlString").getAsString(),
+                    isRecordTypeDesc, isClosed, true, "text", false, false, false, prefix);
+        } else {
+            new JsonToRecordMapper(testConfig.get("recordName").getAsString(), prefix, sourcePath, typesManager)
+                    .convert(testConfig.get("jsonString").getAsString(), isRecordTypeDesc, isClosed, true, null,
+                            false);
+        }
+        Assert.assertTrue(typesManager.compared, "Expected the converter to request the type data: " + description);
+    }
+
+    @DataProvider(name = "converter-configs")
+    public Object[] getConverterConfigsList() throws IOException {
+        List<Path> configs = new ArrayList<>();
+        for (String resourceDir : CONVERTER_RESOURCE_DIRS) {
+            try (Stream<Path> stream = Files.list(resDir.resolveSibling(resourceDir).resolve("config"))) {
+                stream.filter(path -> path.getFileName().toString().endsWith(".json")).sorted().forEach(configs::add);
+            }
+        }
+        return configs.toArray(Path[]::new);
+    }
+
+    /**
+     * Asserts that the type data derived from the syntax tree, if the types can be transformed without compiling
+     * them, is the same as the type data of the compiled types.
+     */
+    private Optional<List<TypesManager.TypeDataWithRefs>> assertSameTypeData(Module module,
+                                                                            TypesManager typesManager,
+                                                                            String typesSource,
+                                                                            Set<String> typeNames,
+                                                                            String description) {
+        Optional<List<TypesManager.TypeDataWithRefs>> typeDataList =
+                new SyntaxTypeTransformer(module).transform(typesSource);
+        if (typeDataList.isEmpty()) {
+            return typeDataList;
+        }
+        JsonObject actual = normalize(typeDataList.get());
+        JsonObject expected = normalize(typesManager.getCompiledTypeDataWithRefs(typesSource, typeNames));
+        if (!actual.equals(expected)) {
+            compareJsonElements(actual, expected);
+            Assert.fail("Type data derived from the syntax tree differs from the compiled types: " + description);
+        }
+        return typeDataList;
+    }
+
+    /**
+     * Keys the type data by the type names, and sorts the references, as the compiled types are in the order of the
+     * module symbols.
+     */
+    private JsonObject normalize(List<TypesManager.TypeDataWithRefs> typeDataList) {
+        JsonObject normalized = new JsonObject();
+        for (TypesManager.TypeDataWithRefs typeData : typeDataList) {
+            JsonObject typeDataJson = gson.toJsonTree(typeData).getAsJsonObject();
+            List<JsonElement> refs = new ArrayList<>(typeDataJson.getAsJsonArray("refs").asList());
+            refs.sort(Comparator.comparing(SyntaxTypeTransformerTest::getName));
+            JsonArray sortedRefs = new JsonArray();
+            refs.forEach(sortedRefs::add);
+            typeDataJson.add("refs", sortedRefs);
+            normalized.add(getName(typeDataJson.get("type")), typeDataJson);
+        }
+        return normalized;
+    }
+
+    private static String getName(JsonElement type) {
+        return type.isJsonObject() ? type.getAsJsonObject().get("name").getAsString() : type.getAsString();
+    }
+
+    private static Document getDocument(Path filePath) {
+        Project project = BuildProject.load(filePath.getParent());
+        return project.currentPackage().getDefaultModule().document(project.documentId(filePath));
+    }
+
+    @Override
+    protected String getResourceDir() {
+        return "syntax_type_transformer";
+    }
+
+    @Override
+    protected Class<? extends AbstractLSTest> clazz() {
+        return SyntaxTypeTransformerTest.class;
+    }
+
+    @Override
+    protected String getApiName() {
+        return "getTypeDataWithRefs";
+    }
+
+    /**
+     * Represents a types manager which compares the type data derived from the syntax tree with the compiled types
+     * for the types generated by the record converters.
+     */
+    private final class ComparingTypesManager extends TypesManager {
+
+        private final Module module;
+        private final String description;
+        private boolean compared;
+
+        ComparingTypesManager(Document typeDocument, String description) {
+            super(typeDocument);
+            this.module = typeDocument.module();
+            this.description = description;
+        }
+
+        @Override
+        public List<TypeDataWithRefs> getTypeDataWithRefs(String typesSource, Set<String> typeNames) {
+            assertSameTypeData(module, this, typesSource, typeNames, description);
+            compared = true;
+            return super.getTypeDataWithRefs(typesSource, typeNames);
+        }
+    }
+
+    /**
+     * Represents the test configuration of the generated type definitions.
+     *
+     * @param description   The description of the test
+     * @param typesSource   The source of the generated type definitions
+     * @param typeNames     The names of the generated type definitions
+     * @param transformable Whether the types can be transformed without compiling them
+     * @since 2.0.0
+     */
+    private record TestConfig(String description, String typesSource, List<String> typeNames,
+                              boolean transformable) {
+
+    }
+}
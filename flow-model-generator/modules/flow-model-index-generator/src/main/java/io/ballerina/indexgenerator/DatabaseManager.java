@@ -27,7 +27,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 class DatabaseManager {
@@ -35,40 +39,96 @@ class DatabaseManager {
     private static final Logger LOGGER = Logger.getLogger(DatabaseManager.class.getName());
     private static final String INDEX_FILE_NAME = "central-index.sqlite";
     private static final String CENTRAL_INDEX_SQL = "central-index.sql";
-    private static final String dbPath = getDatabasePath();
+    private static final String CENTRAL_INDEX_SEARCH_SQL = "central-index-search.sql";
+    // Must match the user_version set by central-index.sql. Bump both when the schema or the indexed content changes
+    private static final int INDEX_FORMAT_VERSION = 1;
+    private static final Path databaseFile =
+            Path.of("flow-model-generator/modules/flow-model-generator-ls-extension/src/main/resources")
+                    .resolve(INDEX_FILE_NAME);
+    private static final String dbPath = "jdbc:sqlite:" + databaseFile;
 
-    private static String getDatabasePath() {
-        String destinationPath =
-                Path.of("flow-model-generator/modules/flow-model-generator-ls-extension/src/main/resources")
-                        .resolve(INDEX_FILE_NAME)
-                        .toString();
-        return "jdbc:sqlite:" + destinationPath;
+    static Connection getConnection() throws SQLException {
+        return DriverManager.getConnection(dbPath);
     }
 
-    private static int insertEntry(String sql, Object[] params) {
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            for (int i = 0; i < params.length; i++) {
-                stmt.setObject(i + 1, params[i]);
+    public static void createDatabase() {
+        executeScript(CENTRAL_INDEX_SQL);
+        LOGGER.info("Database created successfully");
+    }
+
+    public static void createIndexes() {
+        executeScript(CENTRAL_INDEX_SEARCH_SQL);
+        LOGGER.info("Indexes created successfully");
+    }
+
+    /**
+     * Reads the manifest of the packages in an existing index. The manifest is only returned if the index was generated
+     * with the current format, as the rows of an older format cannot be updated incrementally.
+     *
+     * @return the manifest entries by package, or empty if the index cannot be updated incrementally
+     */
+    public static Optional<Map<PackageKey, ManifestEntry>> readManifest() {
+        if (!Files.exists(databaseFile)) {
+            return Optional.empty();
+        }
+        try (Connection conn = getConnection();
+             Statement stmt = conn.createStatement()) {
+            try (ResultSet rs = stmt.executeQuery("PRAGMA user_version")) {
+                if (!rs.next() || rs.getInt(1) != INDEX_FORMAT_VERSION) {
+                    LOGGER.info("Existing index has a different format version");
+                    return Optional.empty();
+                }
             }
-            stmt.executeUpdate();
-            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    return generatedKeys.getInt(1);
-                } else {
-                    throw new SQLException("Creating package failed, no ID obtained.");
+            Map<PackageKey, ManifestEntry> manifest = new HashMap<>();
+            try (ResultSet rs = stmt.executeQuery("SELECT org, name, version, content_hash FROM PackageManifest")) {
+                while (rs.next()) {
+                    manifest.put(new PackageKey(rs.getString("org"), rs.getString("name")),
+                            new ManifestEntry(rs.getString("version"), rs.getString("content_hash")));
                 }
             }
+            return Optional.of(manifest);
         } catch (SQLException e) {
-            LOGGER.severe("Error executing query: " + e.getMessage());
-            return -1;
+            LOGGER.severe("Error reading the package manifest: " + e.getMessage());
+            return Optional.empty();
         }
     }
 
-    public static void createDatabase() {
+    /**
+     * Removes packages along with their functions and parameters from the index.
+     *
+     * @param conn     the connection to the index
+     * @param packages the packages to remove
+     * @throws SQLException if the packages could not be removed, in which case none of them are removed
+     */
+    static void deletePackages(Connection conn, Collection<PackageKey> packages) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA foreign_keys=ON");
+        }
+        conn.setAutoCommit(false);
+        try (PreparedStatement packageStmt = conn.prepareStatement(
+                "DELETE FROM Package WHERE org = ? AND name = ?");
+             PreparedStatement manifestStmt = conn.prepareStatement(
+                     "DELETE FROM PackageManifest WHERE org = ? AND name = ?")) {
+            for (PackageKey key : packages) {
+                for (PreparedStatement stmt : List.of(packageStmt, manifestStmt)) {
+                    stmt.setString(1, key.org());
+                    stmt.setString(2, key.name());
+                    stmt.addBatch();
+                }
+            }
+            packageStmt.executeBatch();
+            manifestStmt.executeBatch();
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        }
+    }
+
+    private static void executeScript(String fileName) {
         Path destinationPath =
                 Path.of("flow-model-generator/modules/flow-model-index-generator/src/main/resources")
-                        .resolve(CENTRAL_INDEX_SQL);
+                        .resolve(fileName);
         try {
             String sql = Files.readString(destinationPath);
             executeQuery(sql);
@@ -78,44 +138,38 @@ class DatabaseManager {
     }
 
     private static void executeQuery(String sql) {
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (Connection conn = getConnection();
              Statement stmt = conn.createStatement()) { // Use Statement instead
             stmt.executeUpdate(sql);
-            LOGGER.info("Database created successfully");
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
         }
     }
 
-    public static int insertPackage(String org, String name, String version, List<String> keywords) {
-        String sql = "INSERT INTO Package (org, name, version, keywords) VALUES (?, ?, ?, ?)";
-        return insertEntry(sql, new Object[]{org, name, version, keywords == null ? "" : String.join(",", keywords)});
+    /**
+     * Identifies a package in the index. Only one version of a package is indexed at a time.
+     *
+     * @param org  the organization of the package
+     * @param name the name of the package
+     */
+    public record PackageKey(String org, String name) {
     }
 
-    public static int insertFunction(int packageId, String name, String description, String returnType, String kind,
-                                     String resourcePath, int returnError, boolean inferredReturnType) {
-        String sql = "INSERT INTO Function (package_id, name, description, " +
-                "return_type, kind, resource_path, return_error, inferred_return_type) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-        return insertEntry(sql, new Object[]{packageId, name, description,
-                returnType, kind, resourcePath, returnError, inferredReturnType ? 1 : 0});
+    /**
+     * The indexed version of a package and the hash of its indexed content.
+     *
+     * @param version     the indexed version
+     * @param contentHash the hash of the indexed content
+     */
+    public record ManifestEntry(String version, String contentHash) {
     }
 
-    public static void insertFunctionParameter(int functionId, String paramName, String paramDescription,
-                                               String paramType, String defaultValue,
-                                               IndexGenerator.FunctionParameterKind parameterKind,
-                                               int optional, String importStatements) {
-
-        String sql =
-                "INSERT INTO Parameter (function_id, name, description, type, default_value, kind, optional, " +
-                        "import_statements) " +
-                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-        insertEntry(sql,
-                new Object[]{functionId, paramName, paramDescription, paramType, defaultValue,
-                        parameterKind.name(), optional, importStatements});
-    }
+    /**
+     * Opens a connection to the index.
+     */
+    @FunctionalInterface
+    interface ConnectionSupplier {
 
-    public static void mapConnectorAction(int actionId, int connectorId) {
-        String sql = "INSERT INTO FunctionConnector (function_id, connector_id) VALUES (?, ?)";
-        insertEntry(sql, new Object[]{actionId, connectorId});
+        Connection get() throws SQLException;
     }
 }
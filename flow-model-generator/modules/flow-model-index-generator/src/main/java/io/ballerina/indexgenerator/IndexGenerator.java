@@ -61,7 +61,6 @@ import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageDescriptor;
 import io.ballerina.projects.Project;
-import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.tools.diagnostics.Location;
 import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
@@ -71,6 +70,8 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -78,7 +79,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 /**
@@ -91,43 +94,140 @@ class IndexGenerator {
     private static final java.lang.reflect.Type typeToken =
             new TypeToken<Map<String, List<PackageListGenerator.PackageMetadataInfo>>>() { }.getType();
     private static final Logger LOGGER = Logger.getLogger(IndexGenerator.class.getName());
-
+    private static final String INCREMENTAL_FLAG = "--incremental";
+    private static final String PRUNE_FLAG = "--prune";
+
+    /**
+     * Generates the central index. With the {@code --incremental} flag, only the packages whose listed version
+     * differs from the indexed version are resolved. The packages that are no longer listed are only removed with the
+     * {@code --prune} flag, as a partial package list would otherwise wipe them from the index. The index is generated
+     * from scratch if it does not exist or has an older format.
+     *
+     * @param args the command line arguments
+     * @throws IllegalStateException if the packages could not be written to or removed from the index
+     */
     public static void main(String[] args) {
-        DatabaseManager.createDatabase();
-        BuildProject buildProject = PackageUtil.getSampleProject();
+        Map<DatabaseManager.PackageKey, DatabaseManager.ManifestEntry> manifest = Map.of();
+        if (List.of(args).contains(INCREMENTAL_FLAG)) {
+            Optional<Map<DatabaseManager.PackageKey, DatabaseManager.ManifestEntry>> existingManifest =
+                    DatabaseManager.readManifest();
+            if (existingManifest.isPresent()) {
+                manifest = existingManifest.get();
+            } else {
+                LOGGER.info("Existing index cannot be updated incrementally, regenerating the index");
+                DatabaseManager.createDatabase();
+            }
+        } else {
+            DatabaseManager.createDatabase();
+        }
+        PackageCompilationCache packageCache = new PackageCompilationCache(PackageUtil.getSampleProject());
 
         Gson gson = new Gson();
         URL resource = IndexGenerator.class.getClassLoader().getResource(PackageListGenerator.PACKAGE_JSON_FILE);
         try (FileReader reader = new FileReader(Objects.requireNonNull(resource).getFile(), StandardCharsets.UTF_8)) {
             Map<String, List<PackageListGenerator.PackageMetadataInfo>> packagesMap = gson.fromJson(reader,
                     typeToken);
+            Map<String, List<PackageListGenerator.PackageMetadataInfo>> changedPackagesMap =
+                    applyManifest(packagesMap, manifest, List.of(args).contains(PRUNE_FLAG));
             ForkJoinPool forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
-            forkJoinPool.submit(() -> packagesMap.forEach((key, value) -> value.parallelStream().forEach(
-                    packageMetadataInfo -> resolvePackage(buildProject, key, packageMetadataInfo)))).join();
+            AtomicInteger resolved = new AtomicInteger();
+            AtomicInteger failed = new AtomicInteger();
+            long resolveStart = System.nanoTime();
+            try (IndexWriter writer = new IndexWriter(manifest)) {
+                forkJoinPool.submit(() -> changedPackagesMap.forEach((key, value) -> value.parallelStream().forEach(
+                        packageMetadataInfo -> resolvePackage(packageCache, key, packageMetadataInfo)
+                                .ifPresentOrElse(entry -> {
+                                    resolved.incrementAndGet();
+                                    writer.submit(entry);
+                                }, failed::incrementAndGet)))).join();
+                double resolveSeconds = (System.nanoTime() - resolveStart) / 1e9;
+                LOGGER.info(String.format("Resolve stage: %d packages (%d failed) in %.2f s (%.2f packages/s)",
+                        resolved.get(), failed.get(), resolveSeconds, resolved.get() / resolveSeconds));
+            }
+            packageCache.save();
+
+            long indexStart = System.nanoTime();
+            DatabaseManager.createIndexes();
+            LOGGER.info(String.format("Index stage: %.2f s", (System.nanoTime() - indexStart) / 1e9));
         } catch (IOException e) {
             LOGGER.severe("Error reading packages JSON file: " + e.getMessage());
         }
     }
 
-    private static void resolvePackage(BuildProject buildProject, String org,
-                                       PackageListGenerator.PackageMetadataInfo packageMetadataInfo) {
+    /**
+     * Filters the package list down to the packages that are new or have a different version from the indexed one,
+     * and removes the packages that are no longer listed from the index if pruning is enabled.
+     *
+     * @param packagesMap the listed packages by organization
+     * @param manifest    the manifest of the packages in the index
+     * @param prune       whether to remove the indexed packages that are no longer listed
+     * @return the packages to be resolved and indexed, by organization
+     * @throws IllegalStateException if the unlisted packages could not be removed
+     */
+    private static Map<String, List<PackageListGenerator.PackageMetadataInfo>> applyManifest(
+            Map<String, List<PackageListGenerator.PackageMetadataInfo>> packagesMap,
+            Map<DatabaseManager.PackageKey, DatabaseManager.ManifestEntry> manifest, boolean prune) {
+        return applyManifest(packagesMap, manifest, prune, DatabaseManager::getConnection);
+    }
+
+    static Map<String, List<PackageListGenerator.PackageMetadataInfo>> applyManifest(
+            Map<String, List<PackageListGenerator.PackageMetadataInfo>> packagesMap,
+            Map<DatabaseManager.PackageKey, DatabaseManager.ManifestEntry> manifest, boolean prune,
+            DatabaseManager.ConnectionSupplier connectionSupplier) {
+        if (manifest.isEmpty()) {
+            return packagesMap;
+        }
+
+        Set<DatabaseManager.PackageKey> removedPackages = new HashSet<>(manifest.keySet());
+        Map<String, List<PackageListGenerator.PackageMetadataInfo>> changedPackagesMap = new HashMap<>();
+        int unchanged = 0;
+        for (Map.Entry<String, List<PackageListGenerator.PackageMetadataInfo>> entry : packagesMap.entrySet()) {
+            List<PackageListGenerator.PackageMetadataInfo> changedPackages = new ArrayList<>();
+            for (PackageListGenerator.PackageMetadataInfo packageMetadataInfo : entry.getValue()) {
+                DatabaseManager.PackageKey key =
+                        new DatabaseManager.PackageKey(entry.getKey(), packageMetadataInfo.name());
+                removedPackages.remove(key);
+                DatabaseManager.ManifestEntry manifestEntry = manifest.get(key);
+                if (manifestEntry != null && manifestEntry.version().equals(packageMetadataInfo.version())) {
+                    unchanged++;
+                } else {
+                    changedPackages.add(packageMetadataInfo);
+                }
+            }
+            changedPackagesMap.put(entry.getKey(), changedPackages);
+        }
+
+        if (prune && !removedPackages.isEmpty()) {
+            try (Connection conn = connectionSupplier.get()) {
+                DatabaseManager.deletePackages(conn, removedPackages);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Error removing the unlisted packages from the index", e);
+            }
+        } else if (!removedPackages.isEmpty()) {
+            LOGGER.warning(String.format("Keeping %d indexed packages that are no longer listed, pass %s to remove " +
+                    "them", removedPackages.size(), PRUNE_FLAG));
+        }
+        LOGGER.info(String.format("Incremental update: %d unchanged, %d new or changed, %d %s packages",
+                unchanged, changedPackagesMap.values().stream().mapToInt(List::size).sum(), removedPackages.size(),
+                prune ? "removed" : "unlisted"));
+        return changedPackagesMap;
+    }
+
+    private static Optional<IndexWriter.PackageEntry> resolvePackage(PackageCompilationCache packageCache,
+                                                                     String org,
+                                                                     PackageListGenerator.PackageMetadataInfo
+                                                                             packageMetadataInfo) {
         Package resolvedPackage;
         try {
-            resolvedPackage = Objects.requireNonNull(PackageUtil.getModulePackage(buildProject, org,
-                    packageMetadataInfo.name(), packageMetadataInfo.version()));
+            resolvedPackage = Objects.requireNonNull(packageCache.get(org, packageMetadataInfo.name(),
+                    packageMetadataInfo.version()));
         } catch (Throwable e) {
             LOGGER.severe("Error resolving package: " + packageMetadataInfo.name() + e.getMessage());
-            return;
+            return Optional.empty();
         }
         PackageDescriptor descriptor = resolvedPackage.descriptor();
 
         LOGGER.info("Processing package: " + descriptor.name().value());
-        int packageId = DatabaseManager.insertPackage(descriptor.org().value(), descriptor.name().value(),
-                descriptor.version().value().toString(), resolvedPackage.manifest().keywords());
-        if (packageId == -1) {
-            LOGGER.severe("Error inserting package to database: " + descriptor.name().value());
-            return;
-        }
 
         SemanticModel semanticModel;
         try {
@@ -135,10 +235,11 @@ class IndexGenerator {
                     .getSemanticModel(resolvedPackage.getDefaultModule().moduleId());
         } catch (Exception e) {
             LOGGER.severe("Error reading semantic model: " + e.getMessage());
-            return;
+            return Optional.empty();
         }
 
         TypeSymbol errorTypeSymbol = semanticModel.types().ERROR;
+        List<IndexWriter.FunctionEntry> functions = new ArrayList<>();
 
         for (Symbol symbol : semanticModel.moduleSymbols()) {
             if (symbol.kind() == SymbolKind.FUNCTION) {
@@ -147,8 +248,8 @@ class IndexGenerator {
                     continue;
                 }
 
-                processFunctionSymbol(semanticModel, functionSymbol, functionSymbol, packageId, FunctionType.FUNCTION,
-                        descriptor.name().value(), errorTypeSymbol, resolvedPackage);
+                processFunctionSymbol(semanticModel, functionSymbol, functionSymbol, FunctionType.FUNCTION,
+                        descriptor.name().value(), errorTypeSymbol, resolvedPackage).ifPresent(functions::add);
                 continue;
             }
             if (symbol.kind() == SymbolKind.CLASS) {
@@ -164,14 +265,15 @@ class IndexGenerator {
                 if (!classSymbol.nameEquals("Client")) {
                     continue;
                 }
-                int connectorId = processFunctionSymbol(semanticModel, initMethodSymbol.get(), classSymbol, packageId,
-                        FunctionType.CONNECTOR,
+                Optional<IndexWriter.FunctionEntry> connector = processFunctionSymbol(semanticModel,
+                        initMethodSymbol.get(), classSymbol, FunctionType.CONNECTOR,
                         descriptor.name().value(), errorTypeSymbol, resolvedPackage);
-                if (connectorId == -1) {
+                if (connector.isEmpty()) {
                     continue;
                 }
 
                 // Process the actions of the client
+                List<IndexWriter.FunctionEntry> actions = new ArrayList<>();
                 Map<String, MethodSymbol> methods = classSymbol.methods();
                 for (Map.Entry<String, MethodSymbol> entry : methods.entrySet()) {
                     MethodSymbol methodSymbol = entry.getValue();
@@ -187,29 +289,34 @@ class IndexGenerator {
                     } else {
                         continue;
                     }
-                    int functionId = processFunctionSymbol(semanticModel, methodSymbol, methodSymbol, packageId,
-                            functionType, descriptor.name().value(), errorTypeSymbol, resolvedPackage);
-                    if (functionId == -1) {
-                        continue;
-                    }
-                    DatabaseManager.mapConnectorAction(functionId, connectorId);
+                    processFunctionSymbol(semanticModel, methodSymbol, methodSymbol, functionType,
+                            descriptor.name().value(), errorTypeSymbol, resolvedPackage).ifPresent(actions::add);
                 }
+                functions.add(connector.get().withActions(actions));
             }
         }
+
+        List<String> keywords = resolvedPackage.manifest().keywords();
+        return Optional.of(new IndexWriter.PackageEntry(descriptor.org().value(), descriptor.name().value(),
+                descriptor.version().value().toString(), keywords == null ? "" : String.join(",", keywords),
+                functions));
     }
 
     private static boolean hasAllQualifiers(List<Qualifier> actualQualifiers, List<Qualifier> expectedQualifiers) {
         return !new HashSet<>(actualQualifiers).containsAll(expectedQualifiers);
     }
 
-    private static int processFunctionSymbol(SemanticModel semanticModel, FunctionSymbol functionSymbol,
-                                             Documentable documentable, int packageId,
-                                             FunctionType functionType, String packageName,
-                                             TypeSymbol errorTypeSymbol, Package resolvedPackage) {
+    private static Optional<IndexWriter.FunctionEntry> processFunctionSymbol(SemanticModel semanticModel,
+                                                                             FunctionSymbol functionSymbol,
+                                                                             Documentable documentable,
+                                                                             FunctionType functionType,
+                                                                             String packageName,
+                                                                             TypeSymbol errorTypeSymbol,
+                                                                             Package resolvedPackage) {
         // Capture the name of the function
         Optional<String> name = functionSymbol.getName();
         if (name.isEmpty()) {
-            return packageId;
+            return Optional.empty();
         }
 
         // Obtain the description of the function
@@ -254,17 +361,16 @@ class IndexGenerator {
         }
 
         String resourcePath = resourcePathTemplate == null ? "" : resourcePathTemplate.resourcePathTemplate();
-        int functionId = DatabaseManager.insertFunction(packageId, name.get(), description, returnType,
-                functionType.name(), resourcePath, returnError, paramForTypeInfer != null);
+        List<IndexWriter.ParameterEntry> parameters = new ArrayList<>();
 
         // Store the resource path params
         if (resourcePathTemplate != null) {
             List<ParameterResult> parameterResults = resourcePathTemplate.pathParams();
             for (ParameterResult parameterResult : parameterResults) {
-                DatabaseManager.insertFunctionParameter(functionId, parameterResult.name(),
+                parameters.add(new IndexWriter.ParameterEntry(parameterResult.name(),
                         parameterResult.description(), parameterResult.type(), parameterResult.defaultValue(),
                         FunctionParameterKind.fromString(parameterResult.kind().name()),
-                        parameterResult.optional() ? 1 : 0, null);
+                        parameterResult.optional() ? 1 : 0, null));
             }
         }
 
@@ -273,13 +379,14 @@ class IndexGenerator {
         ModuleInfo defaultModuleInfo = ModuleInfo.from(resolvedPackage.getDefaultModule().descriptor());
         functionTypeSymbol.params()
                 .ifPresent(paramList -> paramList.forEach(paramSymbol -> processParameterSymbol(paramSymbol,
-                        documentationMap, functionId, resolvedPackage,
+                        documentationMap, parameters, resolvedPackage,
                         finalParamForTypeInfer, defaultModuleInfo)));
         functionTypeSymbol.restParam()
-                .ifPresent(paramSymbol -> processParameterSymbol(paramSymbol, documentationMap, functionId,
+                .ifPresent(paramSymbol -> processParameterSymbol(paramSymbol, documentationMap, parameters,
                         resolvedPackage, null,
                         defaultModuleInfo));
-        return functionId;
+        return Optional.of(new IndexWriter.FunctionEntry(name.get(), description, returnType, functionType.name(),
+                resourcePath, returnError, paramForTypeInfer != null, parameters, List.of()));
     }
 
     private static Map<String, TypeSymbol> allMembers(TypeSymbol typeSymbol) {
@@ -301,8 +408,8 @@ class IndexGenerator {
     }
 
     private static void processParameterSymbol(ParameterSymbol paramSymbol, Map<String, String> documentationMap,
-                                               int functionId, Package resolvedPackage,
-                                               ParamForTypeInfer paramForTypeInfer,
+                                               List<IndexWriter.ParameterEntry> parameters,
+                                               Package resolvedPackage, ParamForTypeInfer paramForTypeInfer,
                                                ModuleInfo defaultModuleInfo) {
         String paramName = paramSymbol.getName().orElse("");
         String paramDescription = documentationMap.get(paramName);
@@ -319,8 +426,8 @@ class IndexGenerator {
                     null, false);
         } else if (parameterKind == FunctionParameterKind.INCLUDED_RECORD) {
             paramType = getTypeSignature(typeSymbol, null, false);
-            addIncludedRecordParamsToDb((RecordTypeSymbol) CommonUtils.getRawType(typeSymbol),
-                    functionId, resolvedPackage, defaultModuleInfo);
+            addIncludedRecordParams((RecordTypeSymbol) CommonUtils.getRawType(typeSymbol),
+                    parameters, resolvedPackage, defaultModuleInfo);
             defaultValue = DefaultValueGeneratorUtil.getDefaultValueForType(typeSymbol);
         } else if (parameterKind == FunctionParameterKind.REQUIRED) {
             paramType = getTypeSignature(typeSymbol, null, false);
@@ -331,9 +438,9 @@ class IndexGenerator {
                 if (paramForTypeInfer.paramName().equals(paramName)) {
                     defaultValue = paramForTypeInfer.type();
                     paramType = paramForTypeInfer.type();
-                    DatabaseManager.insertFunctionParameter(functionId, paramName, paramDescription,
+                    parameters.add(new IndexWriter.ParameterEntry(paramName, paramDescription,
                             paramType, defaultValue, FunctionParameterKind.PARAM_FOR_TYPE_INFER, optional,
-                            importStatements);
+                            importStatements));
                     return;
                 }
             }
@@ -346,15 +453,16 @@ class IndexGenerator {
             }
             paramType = getTypeSignature(typeSymbol, null, false);
         }
-        DatabaseManager.insertFunctionParameter(functionId, paramName, paramDescription, paramType, defaultValue,
-                parameterKind, optional, importStatements);
+        parameters.add(new IndexWriter.ParameterEntry(paramName, paramDescription, paramType, defaultValue,
+                parameterKind, optional, importStatements));
     }
 
-    protected static void addIncludedRecordParamsToDb(RecordTypeSymbol recordTypeSymbol, int functionId,
-                                                      Package resolvedPackage,
-                                                      ModuleInfo defaultModuleInfo) {
+    protected static void addIncludedRecordParams(RecordTypeSymbol recordTypeSymbol,
+                                                  List<IndexWriter.ParameterEntry> parameters,
+                                                  Package resolvedPackage,
+                                                  ModuleInfo defaultModuleInfo) {
         recordTypeSymbol.typeInclusions().forEach(includedType -> {
-            addIncludedRecordParamsToDb(((RecordTypeSymbol) CommonUtils.getRawType(includedType)), functionId,
+            addIncludedRecordParams(((RecordTypeSymbol) CommonUtils.getRawType(includedType)), parameters,
                     resolvedPackage, defaultModuleInfo);
         });
         for (Map.Entry<String, RecordFieldSymbol> entry : recordTypeSymbol.fieldDescriptors().entrySet()) {
@@ -384,17 +492,17 @@ class IndexGenerator {
             if (recordFieldSymbol.isOptional() || recordFieldSymbol.hasDefaultValue()) {
                 optional = 1;
             }
-            DatabaseManager.insertFunctionParameter(functionId, paramName, paramDescription, paramType, defaultValue,
+            parameters.add(new IndexWriter.ParameterEntry(paramName, paramDescription, paramType, defaultValue,
                     FunctionParameterKind.INCLUDED_FIELD, optional,
-                    CommonUtils.getImportStatements(typeSymbol, defaultModuleInfo).orElse(null));
+                    CommonUtils.getImportStatements(typeSymbol, defaultModuleInfo).orElse(null)));
         }
         recordTypeSymbol.restTypeDescriptor().ifPresent(typeSymbol -> {
             String paramType = getTypeSignature(typeSymbol, null, false);
             String defaultValue = DefaultValueGeneratorUtil.getDefaultValueForType(typeSymbol);
-            DatabaseManager.insertFunctionParameter(functionId, "Additional Values",
+            parameters.add(new IndexWriter.ParameterEntry("Additional Values",
                     "Capture key value pairs", paramType, defaultValue,
                     FunctionParameterKind.INCLUDED_RECORD_REST, 1,
-                    CommonUtils.getImportStatements(typeSymbol, defaultModuleInfo).orElse(null));
+                    CommonUtils.getImportStatements(typeSymbol, defaultModuleInfo).orElse(null)));
         });
     }
 
@@ -0,0 +1,494 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Single writer of the central index. Resolver threads submit fully processed packages to a bounded queue, and a
+ * dedicated thread drains them into the database over one connection, in JDBC batches committed as explicit
+ * transactions. The row ids are assigned by the writer so that a package, its functions and their parameters can be
+ * batched together without reading back the generated keys.
+ *
+ * <p>
+ * Each written package is recorded in the package manifest along with a hash of its indexed content. A package that
+ * is already in the manifest is replaced, unless its content is unchanged, in which case only its version is updated.
+ * The in-memory manifest is updated as each transaction commits, so that a package written more than once in a run is
+ * compared against its latest write.
+ * </p>
+ *
+ * <p>
+ * A transaction that fails is rolled back and written once more. If it fails again, or if the writer is interrupted,
+ * the writer stops, and closing it fails the run, so that an incomplete index is never published.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class IndexWriter implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(IndexWriter.class.getName());
+    private static final int QUEUE_CAPACITY = 64;
+    private static final int ROWS_PER_TRANSACTION = 10_000;
+    private static final PackageEntry END_OF_INPUT = new PackageEntry("", "", "", "", List.of());
+
+    private static final String DELETE_PACKAGE_SQL = "DELETE FROM Package WHERE org = ? AND name = ?";
+    private static final String UPDATE_PACKAGE_VERSION_SQL =
+            "UPDATE Package SET version = ?, keywords = ? WHERE org = ? AND name = ?";
+    private static final String INSERT_PACKAGE_SQL =
+            "INSERT INTO Package (package_id, org, name, version, keywords) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_FUNCTION_SQL = "INSERT INTO Function (function_id, package_id, name, " +
+            "description, return_type, kind, resource_path, return_error, inferred_return_type) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PARAMETER_SQL = "INSERT INTO Parameter (function_id, name, description, " +
+            "type, default_value, kind, optional, import_statements) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_CONNECTOR_ACTION_SQL =
+            "INSERT INTO FunctionConnector (function_id, connector_id) VALUES (?, ?)";
+    private static final String UPSERT_MANIFEST_SQL =
+            "INSERT OR REPLACE INTO PackageManifest (org, name, version, content_hash) VALUES (?, ?, ?, ?)";
+
+    private final BlockingQueue<PackageEntry> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Map<DatabaseManager.PackageKey, DatabaseManager.ManifestEntry> manifest;
+    private final DatabaseManager.ConnectionSupplier connectionSupplier;
+    private final Thread thread;
+    private final LongAdder producerWaitNanos = new LongAdder();
+
+    // Only accessed by the writer thread, and read by the submitting thread once the writer is joined
+    private Exception failure;
+    private boolean endOfInput;
+    private int nextPackageId;
+    private int nextFunctionId;
+    private long packages;
+    private long replacedPackages;
+    private long versionOnlyPackages;
+    private long functions;
+    private long parameters;
+    private long writeNanos;
+    private long failedBatches;
+
+    /**
+     * Starts a writer over the database.
+     *
+     * @param manifest the manifest of the packages already in the database
+     */
+    IndexWriter(Map<DatabaseManager.PackageKey, DatabaseManager.ManifestEntry> manifest) {
+        this(manifest, DatabaseManager::getConnection);
+    }
+
+    IndexWriter(Map<DatabaseManager.PackageKey, DatabaseManager.ManifestEntry> manifest,
+                DatabaseManager.ConnectionSupplier connectionSupplier) {
+        this.manifest = new HashMap<>(manifest);
+        this.connectionSupplier = connectionSupplier;
+        this.thread = new Thread(this::run, "index-writer");
+        this.thread.start();
+    }
+
+    /**
+     * Queues a processed package to be written. Blocks while the writer is behind by more than the queue capacity.
+     *
+     * @param entry the package to write
+     */
+    void submit(PackageEntry entry) {
+        long start = System.nanoTime();
+        try {
+            queue.put(entry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.severe("Interrupted while queueing package: " + entry.name());
+        } finally {
+            producerWaitNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Writes the remaining packages, waits for the writer to finish and reports the write stage throughput.
+     *
+     * @throws IllegalStateException if the packages could not be written, or if interrupted before the writer finished
+     */
+    @Override
+    public void close() {
+        try {
+            queue.put(END_OF_INPUT);
+            thread.join();
+        } catch (InterruptedException e) {
+            // Stop the writer, as it may never receive the end of the input
+            thread.interrupt();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the index writer", e);
+        }
+        double writeSeconds = writeNanos / 1e9;
+        long rows = packages + functions + parameters;
+        LOGGER.info(String.format("Write stage: %d packages (%d replaced, %d with unchanged content), " +
+                        "%d functions, %d parameters in %.2f s (%.0f rows/s), %d retried batches, " +
+                        "producers blocked for %.2f s",
+                packages, replacedPackages, versionOnlyPackages, functions, parameters, writeSeconds,
+                writeSeconds == 0 ? 0 : rows / writeSeconds, failedBatches, producerWaitNanos.sum() / 1e9));
+        if (failure != null) {
+            throw new IllegalStateException("Error writing the index", failure);
+        }
+    }
+
+    private void run() {
+        try (Connection conn = connectionSupplier.get()) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("PRAGMA journal_mode=WAL");
+                stmt.execute("PRAGMA synchronous=OFF");
+                // Replaced packages rely on the cascading deletes to remove their functions and parameters
+                stmt.execute("PRAGMA foreign_keys=ON");
+                nextPackageId = nextId(stmt, "SELECT MAX(package_id) FROM Package");
+                nextFunctionId = nextId(stmt, "SELECT MAX(function_id) FROM Function");
+            }
+            conn.setAutoCommit(false);
+            try (Batch batch = new Batch(conn)) {
+                PackageEntry entry;
+                while ((entry = queue.take()) != END_OF_INPUT) {
+                    long start = System.nanoTime();
+                    addPackage(batch, entry);
+                    if (batch.rows >= ROWS_PER_TRANSACTION) {
+                        flush(batch);
+                    }
+                    writeNanos += System.nanoTime() - start;
+                }
+                endOfInput = true;
+                long start = System.nanoTime();
+                flush(batch);
+                writeNanos += System.nanoTime() - start;
+            }
+
+            // Fold the WAL back into the database file, as the index is shipped as a single file
+            conn.setAutoCommit(true);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("PRAGMA journal_mode=DELETE");
+            }
+        } catch (SQLException e) {
+            LOGGER.severe("Error writing the index: " + e.getMessage());
+            failure = e;
+            if (!endOfInput) {
+                drain();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.severe("Index writer interrupted");
+            failure = e;
+        }
+    }
+
+    private static int nextId(Statement stmt, String sql) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() ? rs.getInt(1) + 1 : 1;
+        }
+    }
+
+    private void addPackage(Batch batch, PackageEntry entry) throws SQLException {
+        DatabaseManager.PackageKey key = new DatabaseManager.PackageKey(entry.org(), entry.name());
+
+        // The statements of a batch are executed by kind, so a package written twice would be deleted before it is
+        // inserted for the first time. The earlier write is committed first so that it is replaced instead.
+        if (batch.manifestEntries.containsKey(key)) {
+            flush(batch);
+        }
+        String contentHash = contentHash(entry);
+        DatabaseManager.ManifestEntry previous = manifest.get(key);
+        if (previous != null && previous.contentHash().equals(contentHash)) {
+            batch.add(batch.updateVersionStmt, entry.version(), entry.keywords(), entry.org(), entry.name());
+            batch.versionOnlyPackages++;
+        } else {
+            if (previous != null) {
+                batch.add(batch.deleteStmt, entry.org(), entry.name());
+                batch.replacedPackages++;
+            }
+            int packageId = nextPackageId++;
+            batch.add(batch.packageStmt, packageId, entry.org(), entry.name(), entry.version(), entry.keywords());
+            for (FunctionEntry function : entry.functions()) {
+                int connectorId = addFunction(batch, packageId, function);
+                for (FunctionEntry action : function.actions()) {
+                    int actionId = addFunction(batch, packageId, action);
+                    batch.add(batch.connectorActionStmt, actionId, connectorId);
+                }
+            }
+        }
+        batch.add(batch.manifestStmt, entry.org(), entry.name(), entry.version(), contentHash);
+        batch.manifestEntries.put(key, new DatabaseManager.ManifestEntry(entry.version(), contentHash));
+        batch.entries.add(entry);
+        batch.packages++;
+    }
+
+    private int addFunction(Batch batch, int packageId, FunctionEntry function) throws SQLException {
+        int functionId = nextFunctionId++;
+        batch.add(batch.functionStmt, functionId, packageId, function.name(), function.description(),
+                function.returnType(), function.kind(), function.resourcePath(), function.returnError(),
+                function.inferredReturnType() ? 1 : 0);
+        for (ParameterEntry parameter : function.parameters()) {
+            batch.add(batch.parameterStmt, functionId, parameter.name(), parameter.description(),
+                    parameter.type(), parameter.defaultValue(), parameter.kind().name(), parameter.optional(),
+                    parameter.importStatements());
+        }
+        batch.functions++;
+        batch.parameters += function.parameters().size();
+        return functionId;
+    }
+
+    private void flush(Batch batch) throws SQLException {
+        if (batch.rows == 0) {
+            return;
+        }
+        try {
+            commit(batch);
+        } catch (SQLException e) {
+            failedBatches++;
+            LOGGER.warning("Error writing a batch of " + batch.packages + " packages, retrying: " + e.getMessage());
+            List<PackageEntry> entries = List.copyOf(batch.entries);
+            rollback(batch);
+            for (PackageEntry entry : entries) {
+                addPackage(batch, entry);
+            }
+            try {
+                commit(batch);
+            } catch (SQLException retryException) {
+                rollback(batch);
+                throw retryException;
+            }
+        }
+    }
+
+    private void commit(Batch batch) throws SQLException {
+        batch.execute();
+        batch.conn.commit();
+        manifest.putAll(batch.manifestEntries);
+        packages += batch.packages;
+        replacedPackages += batch.replacedPackages;
+        versionOnlyPackages += batch.versionOnlyPackages;
+        functions += batch.functions;
+        parameters += batch.parameters;
+        batch.reset();
+    }
+
+    private static void rollback(Batch batch) throws SQLException {
+        batch.conn.rollback();
+        batch.clear();
+        batch.reset();
+    }
+
+    /**
+     * Keeps consuming the queue after a fatal error so that the resolver threads are not blocked indefinitely.
+     */
+    private void drain() {
+        try {
+            while (queue.poll(1, TimeUnit.MINUTES) != END_OF_INPUT) {
+                // Discard the package
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Computes a hash over the indexed content of a package, excluding its version, so that a new version that does
+     * not change the indexed API can be detected.
+     *
+     * @param entry the package entry
+     * @return the hex encoded SHA-256 hash of the content
+     */
+    static String contentHash(PackageEntry entry) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        StringBuilder content = new StringBuilder();
+        append(content, entry.org(), entry.name(), entry.keywords());
+        for (FunctionEntry function : entry.functions()) {
+            appendFunction(content, function);
+            for (FunctionEntry action : function.actions()) {
+                appendFunction(content, action);
+            }
+            content.append('\n');
+        }
+        return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void appendFunction(StringBuilder content, FunctionEntry function) {
+        append(content, function.name(), function.description(), function.returnType(), function.kind(),
+                function.resourcePath(), function.returnError(), function.inferredReturnType());
+        for (ParameterEntry parameter : function.parameters()) {
+            append(content, parameter.name(), parameter.description(), parameter.type(), parameter.defaultValue(),
+                    parameter.kind(), parameter.optional(), parameter.importStatements());
+        }
+    }
+
+    private static void append(StringBuilder content, Object... values) {
+        for (Object value : values) {
+            content.append(value).append('\u0000');
+        }
+        content.append('\u0001');
+    }
+
+    /**
+     * The prepared statements of the writer and the entries added to the open transaction.
+     */
+    private static final class Batch implements AutoCloseable {
+
+        private final Connection conn;
+        private final PreparedStatement deleteStmt;
+        private final PreparedStatement updateVersionStmt;
+        private final PreparedStatement packageStmt;
+        private final PreparedStatement functionStmt;
+        private final PreparedStatement parameterStmt;
+        private final PreparedStatement connectorActionStmt;
+        private final PreparedStatement manifestStmt;
+        // Superseded rows are removed first, and parents are written before their children
+        private final List<PreparedStatement> executionOrder;
+        private final List<PackageEntry> entries = new ArrayList<>();
+        private final Map<DatabaseManager.PackageKey, DatabaseManager.ManifestEntry> manifestEntries =
+                new HashMap<>();
+        private int rows;
+        private long packages;
+        private long replacedPackages;
+        private long versionOnlyPackages;
+        private long functions;
+        private long parameters;
+
+        private Batch(Connection conn) throws SQLException {
+            this.conn = conn;
+            this.deleteStmt = conn.prepareStatement(DELETE_PACKAGE_SQL);
+            this.updateVersionStmt = conn.prepareStatement(UPDATE_PACKAGE_VERSION_SQL);
+            this.packageStmt = conn.prepareStatement(INSERT_PACKAGE_SQL);
+            this.functionStmt = conn.prepareStatement(INSERT_FUNCTION_SQL);
+            this.parameterStmt = conn.prepareStatement(INSERT_PARAMETER_SQL);
+            this.connectorActionStmt = conn.prepareStatement(INSERT_CONNECTOR_ACTION_SQL);
+            this.manifestStmt = conn.prepareStatement(UPSERT_MANIFEST_SQL);
+            this.executionOrder = List.of(deleteStmt, updateVersionStmt, packageStmt, functionStmt, parameterStmt,
+                    connectorActionStmt, manifestStmt);
+        }
+
+        private void add(PreparedStatement stmt, Object... params) throws SQLException {
+            for (int i = 0; i < params.length; i++) {
+                stmt.setObject(i + 1, params[i]);
+            }
+            stmt.addBatch();
+            rows++;
+        }
+
+        private void execute() throws SQLException {
+            for (PreparedStatement stmt : executionOrder) {
+                stmt.executeBatch();
+            }
+        }
+
+        private void clear() throws SQLException {
+            for (PreparedStatement stmt : executionOrder) {
+                stmt.clearBatch();
+            }
+        }
+
+        private void reset() {
+            entries.clear();
+            manifestEntries.clear();
+            rows = 0;
+            packages = 0;
+            replacedPackages = 0;
+            versionOnlyPackages = 0;
+            functions = 0;
+            parameters = 0;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            for (PreparedStatement stmt : executionOrder) {
+                stmt.close();
+            }
+        }
+    }
+
+    /**
+     * A resolved package with all of its functions, ready to be written.
+     *
+     * @param org       the organization of the package
+     * @param name      the name of the package
+     * @param version   the version of the package
+     * @param keywords  the comma separated keywords of the package
+     * @param functions the public functions and connectors of the package
+     */
+    record PackageEntry(String org, String name, String version, String keywords, List<FunctionEntry> functions) {
+
+        PackageEntry {
+            functions = List.copyOf(functions);
+        }
+    }
+
+    /**
+     * A function, connector or action of a package.
+     *
+     * @param name               the name of the function
+     * @param description        the description of the function
+     * @param returnType         the signature of the return type
+     * @param kind               the kind of the function
+     * @param resourcePath       the resource path template, or an empty string for non-resource functions
+     * @param returnError        1 if the function can return an error, 0 otherwise
+     * @param inferredReturnType whether the return type is inferred from a parameter
+     * @param parameters         the parameters of the function
+     * @param actions            the actions of a connector, empty for other kinds
+     */
+    record FunctionEntry(String name, String description, String returnType, String kind, String resourcePath,
+                         int returnError, boolean inferredReturnType, List<ParameterEntry> parameters,
+                         List<FunctionEntry> actions) {
+
+        FunctionEntry {
+            parameters = List.copyOf(parameters);
+            actions = List.copyOf(actions);
+        }
+
+        FunctionEntry withActions(List<FunctionEntry> actions) {
+            return new FunctionEntry(name, description, returnType, kind, resourcePath, returnError,
+                    inferredReturnType, parameters, actions);
+        }
+    }
+
+    /**
+     * A parameter of a function.
+     *
+     * @param name             the name of the parameter
+     * @param description      the description of the parameter
+     * @param type             the signature of the parameter type
+     * @param defaultValue     the default value of the parameter
+     * @param kind             the kind of the parameter
+     * @param optional         1 if the parameter is optional, 0 otherwise
+     * @param importStatements the import statements required by the parameter type
+     */
+    record ParameterEntry(String name, String description, String type, String defaultValue,
+                          IndexGenerator.FunctionParameterKind kind, int optional, String importStatements) {
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import io.ballerina.flowmodelgenerator.core.utils.PackageUtil;
+import io.ballerina.projects.CompilationCacheFactory;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.repos.FileSystemCache;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.function.BiFunction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Cache of the packages resolved and compiled by the index generator across runs, shared by all the resolver threads.
+ *
+ * <p>
+ * The cache remembers the bala path each indexed package resolved to, so that a package in the local repository is
+ * not resolved against the central again, and keeps the compiled artifacts of each indexed package in a file system
+ * compilation cache laid out by package descriptor. Nothing is cached in process. Each package is requested once per
+ * run, and each bala is loaded in a project environment of its own, and hence, a dependency shared by several indexed
+ * packages, such as ballerina/http, is still compiled for each of them.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class PackageCompilationCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PackageCompilationCache.class.getName());
+    private static final String CACHE_DIR_NAME = "index-generator";
+    private static final String COMPILATION_CACHE_DIR_NAME = "compilation";
+    private static final String BALA_PATHS_FILE_NAME = "bala-paths.properties";
+
+    private final BalaResolver balaResolver;
+    private final BiFunction<Path, CompilationCacheFactory, Package> packageLoader;
+    private final Path balaPathsFile;
+    private final CompilationCacheFactory compilationCacheFactory;
+    private final Properties balaPaths = new Properties();
+    private final LongAdder localBalas = new LongAdder();
+    private final LongAdder resolutions = new LongAdder();
+
+    PackageCompilationCache(BuildProject buildProject) {
+        this(RepoUtils.createAndGetHomeReposPath().resolve("caches").resolve(CACHE_DIR_NAME),
+                (org, name, version) -> PackageUtil.resolveBalaPath(buildProject, org, name, version),
+                PackageUtil::loadBalaPackage);
+    }
+
+    PackageCompilationCache(Path cacheDir, BalaResolver balaResolver,
+                            BiFunction<Path, CompilationCacheFactory, Package> packageLoader) {
+        this.balaResolver = balaResolver;
+        this.packageLoader = packageLoader;
+        this.balaPathsFile = cacheDir.resolve(BALA_PATHS_FILE_NAME);
+        this.compilationCacheFactory =
+                new FileSystemCache.FileSystemCacheFactory(cacheDir.resolve(COMPILATION_CACHE_DIR_NAME));
+        if (Files.exists(balaPathsFile)) {
+            try (Reader reader = Files.newBufferedReader(balaPathsFile, StandardCharsets.UTF_8)) {
+                balaPaths.load(reader);
+            } catch (IOException e) {
+                LOGGER.warning("Error reading the cached bala paths: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the given package, loading it from the cached bala path and compilation if available.
+     *
+     * @param org     the organization of the package
+     * @param name    the name of the package
+     * @param version the version of the package
+     * @return the package, or null if it cannot be resolved
+     */
+    Package get(String org, String name, String version) {
+        String key = org + "/" + name + ":" + version;
+        String cachedBalaPath = balaPaths.getProperty(key);
+        Optional<Path> balaPath;
+        if (cachedBalaPath != null && Files.isDirectory(Path.of(cachedBalaPath))) {
+            localBalas.increment();
+            balaPath = Optional.of(Path.of(cachedBalaPath));
+        } else {
+            resolutions.increment();
+            balaPath = balaResolver.resolve(org, name, version);
+            balaPath.ifPresent(path -> balaPaths.setProperty(key, path.toAbsolutePath().toString()));
+        }
+        return balaPath.map(path -> packageLoader.apply(path, compilationCacheFactory)).orElse(null);
+    }
+
+    /**
+     * Persists the bala paths resolved in this run and reports the cache statistics.
+     */
+    void save() {
+        try {
+            Files.createDirectories(balaPathsFile.getParent());
+            Path tempFile = Files.createTempFile(balaPathsFile.getParent(), BALA_PATHS_FILE_NAME, ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                balaPaths.store(writer, "Bala paths of the packages resolved by the index generator");
+            }
+            Files.move(tempFile, balaPathsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warning("Error saving the cached bala paths: " + e.getMessage());
+        }
+        LOGGER.info(String.format("Package cache: %d packages loaded from cached balas, %d packages resolved",
+                localBalas.sum(), resolutions.sum()));
+    }
+
+    /**
+     * Resolves the bala path of a package, pulling the package from the central if needed.
+     */
+    @FunctionalInterface
+    interface BalaResolver {
+
+        Optional<Path> resolve(String org, String name, String version);
+    }
+}
@@ -0,0 +1,29 @@
+-- Create indexes for the lookups performed while generating the flow model. These are built once all the packages are
+-- indexed, as maintaining them on every insert slows down the bulk load. An incremental run keeps the existing indexes.
+CREATE INDEX IF NOT EXISTS idx_package_org_name ON Package(org, name);
+CREATE INDEX IF NOT EXISTS idx_function_package_kind_name ON Function(package_id, kind, name);
+CREATE INDEX IF NOT EXISTS idx_function_connector_connector ON FunctionConnector(connector_id);
+CREATE INDEX IF NOT EXISTS idx_parameter_function ON Parameter(function_id);
+
+-- Create FunctionSearch table for ranked full-text search over functions. The rowid of each entry is the function_id.
+-- The table is rebuilt on every run, including incremental runs.
+DROP TABLE IF EXISTS FunctionSearch;
+CREATE VIRTUAL TABLE FunctionSearch USING fts5(
+    name,
+    description,
+    package_name,
+    keywords,
+    tokenize = 'trigram'
+);
+
+-- Populate the FunctionSearch table from the indexed functions and their packages
+INSERT INTO FunctionSearch (rowid, name, description, package_name, keywords)
+SELECT f.function_id, f.name, f.description, p.name, p.keywords
+FROM Function f
+JOIN Package p ON f.package_id = p.package_id;
+
+-- Merge the FTS b-trees, as the index is read-only once generated
+INSERT INTO FunctionSearch (FunctionSearch) VALUES ('optimize');
+
+-- Collect statistics for the query planner
+ANALYZE;
@@ -1,4 +1,6 @@
 -- Drop tables if they already exist to prevent conflicts
+DROP TABLE IF EXISTS FunctionSearch;
+DROP TABLE IF EXISTS PackageManifest;
 DROP TABLE IF EXISTS FunctionConnector;
 DROP TABLE IF EXISTS Parameter;
 DROP TABLE IF EXISTS Function;
@@ -51,3 +53,16 @@ CREATE TABLE Parameter (
     function_id INTEGER,
     FOREIGN KEY (function_id) REFERENCES Function(function_id) ON DELETE CASCADE
 );
+
+-- Create PackageManifest table to record the indexed version of each package and a hash of its indexed content, which
+-- lets the index be regenerated incrementally
+CREATE TABLE PackageManifest (
+    org TEXT NOT NULL,
+    name TEXT NOT NULL,
+    version TEXT NOT NULL,
+    content_hash TEXT NOT NULL,
+    PRIMARY KEY (org, name)
+);
+
+-- Record the format of the index. Must match DatabaseManager.INDEX_FORMAT_VERSION
+PRAGMA user_version = 1;
@@ -0,0 +1,182 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Tests for applying the manifest of an existing index to the package list in an incremental run, which must only
+ * resolve the new and changed packages, and only remove the unlisted packages from the index when pruning.
+ *
+ * @since 2.0.0
+ */
+public class IndexGeneratorTest {
+
+    private Path tempDir;
+    private String dbPath;
+    private Map<DatabaseManager.PackageKey, DatabaseManager.ManifestEntry> manifest;
+
+    @BeforeMethod
+    public void setUp() throws IOException, SQLException {
+        tempDir = Files.createTempDirectory("index-generator-test");
+        dbPath = "jdbc:sqlite:" + tempDir.resolve("central-index.sqlite");
+        try (InputStream inputStream = Objects.requireNonNull(
+                IndexGeneratorTest.class.getClassLoader().getResourceAsStream("central-index.sql"));
+             Connection conn = connect();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        try (IndexWriter writer = new IndexWriter(Map.of(), this::connect)) {
+            writer.submit(createPackage("http", "2.0.0"));
+            writer.submit(createPackage("io", "1.0.0"));
+            writer.submit(createPackage("log", "1.0.0"));
+        }
+        manifest = readManifest();
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "Only the new packages and the packages with a different version are resolved")
+    public void testChangedPackages() {
+        Map<String, List<PackageListGenerator.PackageMetadataInfo>> changedPackages =
+                IndexGenerator.applyManifest(listPackages(), manifest, false, this::connect);
+
+        Assert.assertEquals(changedPackages, Map.of(
+                "ballerina", List.of(new PackageListGenerator.PackageMetadataInfo("io", "1.1.0")),
+                "ballerinax", List.of(new PackageListGenerator.PackageMetadataInfo("redis", "1.0.0"))));
+    }
+
+    @Test(description = "Pruning removes the unlisted packages along with their functions and manifest entries")
+    public void testPrune() throws SQLException {
+        IndexGenerator.applyManifest(listPackages(), manifest, true, this::connect);
+
+        Assert.assertEquals(query("SELECT name FROM Package ORDER BY name"), List.of("http", "io"));
+        Assert.assertEquals(query("SELECT COUNT(*) FROM Function"), List.of("2"));
+        Assert.assertEquals(query("SELECT COUNT(*) FROM Parameter"), List.of("2"));
+        Assert.assertEquals(readManifest().keySet(), Set.of(new DatabaseManager.PackageKey("ballerina", "http"),
+                new DatabaseManager.PackageKey("ballerina", "io")));
+    }
+
+    @Test(description = "Without pruning, the unlisted packages are kept in the index")
+    public void testWithoutPrune() throws SQLException {
+        IndexGenerator.applyManifest(listPackages(), manifest, false, this::connect);
+
+        Assert.assertEquals(query("SELECT name FROM Package ORDER BY name"), List.of("http", "io", "log"));
+        Assert.assertEquals(readManifest(), manifest);
+    }
+
+    @Test(description = "Pruning does not touch the index if all the indexed packages are listed")
+    public void testPruneWithoutUnlistedPackages() throws SQLException {
+        Map<String, List<PackageListGenerator.PackageMetadataInfo>> packages = new HashMap<>(listPackages());
+        packages.put("ballerina", List.of(new PackageListGenerator.PackageMetadataInfo("http", "2.0.0"),
+                new PackageListGenerator.PackageMetadataInfo("io", "1.0.0"),
+                new PackageListGenerator.PackageMetadataInfo("log", "1.0.0")));
+        IndexGenerator.applyManifest(packages, manifest, true, () -> {
+            throw new SQLException("No database");
+        });
+
+        Assert.assertEquals(query("SELECT name FROM Package ORDER BY name"), List.of("http", "io", "log"));
+    }
+
+    @Test(description = "A failed prune fails the run and keeps the unlisted packages")
+    public void testFailedPrune() throws SQLException {
+        IllegalStateException e = Assert.expectThrows(IllegalStateException.class,
+                () -> IndexGenerator.applyManifest(listPackages(), manifest, true, () -> {
+                    throw new SQLException("No database");
+                }));
+        Assert.assertEquals(e.getCause().getMessage(), "No database");
+        Assert.assertEquals(query("SELECT name FROM Package ORDER BY name"), List.of("http", "io", "log"));
+    }
+
+    /**
+     * Lists http with the indexed version, io with a new version and a new package, leaving log unlisted.
+     */
+    private static Map<String, List<PackageListGenerator.PackageMetadataInfo>> listPackages() {
+        return Map.of(
+                "ballerina", List.of(new PackageListGenerator.PackageMetadataInfo("http", "2.0.0"),
+                        new PackageListGenerator.PackageMetadataInfo("io", "1.1.0")),
+                "ballerinax", List.of(new PackageListGenerator.PackageMetadataInfo("redis", "1.0.0")));
+    }
+
+    private static IndexWriter.PackageEntry createPackage(String name, String version) {
+        IndexWriter.ParameterEntry parameter = new IndexWriter.ParameterEntry("request", "The request", "string",
+                "", IndexGenerator.FunctionParameterKind.REQUIRED, 0, null);
+        IndexWriter.FunctionEntry function = new IndexWriter.FunctionEntry("send", "Sends a request", "json",
+                "FUNCTION", "", 0, false, List.of(parameter), List.of());
+        return new IndexWriter.PackageEntry("ballerina", name, version, "", List.of(function));
+    }
+
+    private Map<DatabaseManager.PackageKey, DatabaseManager.ManifestEntry> readManifest() throws SQLException {
+        Map<DatabaseManager.PackageKey, DatabaseManager.ManifestEntry> entries = new HashMap<>();
+        try (Connection conn = connect();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT org, name, version, content_hash FROM PackageManifest")) {
+            while (rs.next()) {
+                entries.put(new DatabaseManager.PackageKey(rs.getString("org"), rs.getString("name")),
+                        new DatabaseManager.ManifestEntry(rs.getString("version"), rs.getString("content_hash")));
+            }
+        }
+        return entries;
+    }
+
+    private List<String> query(String sql) throws SQLException {
+        List<String> rows = new ArrayList<>();
+        try (Connection conn = connect();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                rows.add(rs.getString(1));
+            }
+        }
+        return rows;
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(dbPath);
+    }
+}
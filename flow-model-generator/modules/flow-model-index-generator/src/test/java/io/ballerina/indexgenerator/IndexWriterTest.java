@@ -0,0 +1,238 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the index writer, which must track the package manifest per committed batch, retry a failed batch once,
+ * and fail the run if the packages could not be written.
+ *
+ * @since 2.0.0
+ */
+public class IndexWriterTest {
+
+    private Path tempDir;
+    private String dbPath;
+
+    @BeforeMethod
+    public void setUp() throws IOException, SQLException {
+        tempDir = Files.createTempDirectory("index-writer-test");
+        dbPath = "jdbc:sqlite:" + tempDir.resolve("central-index.sqlite");
+        try (InputStream inputStream = Objects.requireNonNull(
+                IndexWriterTest.class.getClassLoader().getResourceAsStream("central-index.sql"));
+             Connection conn = connect();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "The written packages are recorded in the manifest along with their content hash")
+    public void testWritePackages() throws SQLException {
+        IndexWriter.PackageEntry http = createPackage("http", "2.0.0", "Sends a request");
+        IndexWriter.PackageEntry io = createPackage("io", "1.0.0", "Prints a line");
+        write(Map.of(), http, io);
+
+        Assert.assertEquals(query("SELECT name || ':' || version FROM Package ORDER BY name"),
+                List.of("http:2.0.0", "io:1.0.0"));
+        Assert.assertEquals(query("SELECT COUNT(*) FROM Function"), List.of("2"));
+        Assert.assertEquals(query("SELECT COUNT(*) FROM Parameter"), List.of("2"));
+        Assert.assertEquals(readManifest(), Map.of(
+                new DatabaseManager.PackageKey("ballerina", "http"),
+                new DatabaseManager.ManifestEntry("2.0.0", IndexWriter.contentHash(http)),
+                new DatabaseManager.PackageKey("ballerina", "io"),
+                new DatabaseManager.ManifestEntry("1.0.0", IndexWriter.contentHash(io))));
+    }
+
+    @Test(description = "A new version with unchanged content only updates the version of the indexed package")
+    public void testUnchangedContent() throws SQLException {
+        write(Map.of(), createPackage("http", "2.0.0", "Sends a request"));
+        List<String> rows = query("SELECT p.package_id || ':' || f.function_id FROM Package p " +
+                "JOIN Function f ON f.package_id = p.package_id");
+
+        write(readManifest(), createPackage("http", "2.0.1", "Sends a request"));
+        Assert.assertEquals(query("SELECT p.package_id || ':' || f.function_id FROM Package p " +
+                "JOIN Function f ON f.package_id = p.package_id"), rows);
+        Assert.assertEquals(query("SELECT version FROM Package"), List.of("2.0.1"));
+        Assert.assertEquals(query("SELECT version FROM PackageManifest"), List.of("2.0.1"));
+    }
+
+    @Test(description = "A new version with changed content replaces the indexed package and its functions")
+    public void testChangedContent() throws SQLException {
+        write(Map.of(), createPackage("http", "2.0.0", "Sends a request"));
+        IndexWriter.PackageEntry http = createPackage("http", "2.1.0", "Sends an HTTP request");
+
+        write(readManifest(), http);
+        Assert.assertEquals(query("SELECT version FROM Package"), List.of("2.1.0"));
+        Assert.assertEquals(query("SELECT description FROM Function"), List.of("Sends an HTTP request"));
+        Assert.assertEquals(query("SELECT COUNT(*) FROM Parameter"), List.of("1"));
+        Assert.assertEquals(query("SELECT content_hash FROM PackageManifest"), List.of(IndexWriter.contentHash(http)));
+    }
+
+    @Test(description = "A package written twice in a run is compared against and replaces its earlier write")
+    public void testPackageWrittenTwice() throws SQLException {
+        IndexWriter.PackageEntry http = createPackage("http", "2.1.0", "Sends an HTTP request");
+        write(Map.of(), createPackage("http", "2.0.0", "Sends a request"), http);
+
+        Assert.assertEquals(query("SELECT version FROM Package"), List.of("2.1.0"));
+        Assert.assertEquals(query("SELECT description FROM Function"), List.of("Sends an HTTP request"));
+        Assert.assertEquals(query("SELECT content_hash FROM PackageManifest"), List.of(IndexWriter.contentHash(http)));
+    }
+
+    @Test(description = "A batch that fails to commit is rolled back and written once more")
+    public void testRetriedBatch() throws SQLException {
+        AtomicInteger commits = new AtomicInteger();
+        try (IndexWriter writer = new IndexWriter(Map.of(), failingCommits(1, commits))) {
+            writer.submit(createPackage("http", "2.0.0", "Sends a request"));
+            writer.submit(createPackage("io", "1.0.0", "Prints a line"));
+        }
+        Assert.assertEquals(commits.get(), 2);
+        Assert.assertEquals(query("SELECT name FROM Package ORDER BY name"), List.of("http", "io"));
+        Assert.assertEquals(query("SELECT COUNT(*) FROM Function"), List.of("2"));
+        Assert.assertEquals(query("SELECT name FROM PackageManifest ORDER BY name"), List.of("http", "io"));
+    }
+
+    @Test(description = "A batch that fails to commit twice fails the run without writing the packages")
+    public void testFailedBatch() throws SQLException {
+        AtomicInteger commits = new AtomicInteger();
+        IndexWriter writer = new IndexWriter(Map.of(), failingCommits(Integer.MAX_VALUE, commits));
+        writer.submit(createPackage("http", "2.0.0", "Sends a request"));
+        Assert.assertThrows(IllegalStateException.class, writer::close);
+        Assert.assertEquals(commits.get(), 2);
+        Assert.assertEquals(query("SELECT COUNT(*) FROM Package"), List.of("0"));
+        Assert.assertTrue(readManifest().isEmpty());
+    }
+
+    @Test(description = "Closing the writer when interrupted fails the run and keeps the interrupt")
+    public void testInterruptedClose() {
+        // The writer does not open the database, so that it does not outlive the test while it is still writing
+        IndexWriter writer = new IndexWriter(Map.of(), () -> {
+            throw new SQLException("No database");
+        });
+        Thread.currentThread().interrupt();
+        try {
+            Assert.assertThrows(IllegalStateException.class, writer::close);
+        } finally {
+            Assert.assertTrue(Thread.interrupted(), "The interrupt must be restored");
+        }
+    }
+
+    private void write(Map<DatabaseManager.PackageKey, DatabaseManager.ManifestEntry> manifest,
+                       IndexWriter.PackageEntry... entries) {
+        try (IndexWriter writer = new IndexWriter(manifest, this::connect)) {
+            for (IndexWriter.PackageEntry entry : entries) {
+                writer.submit(entry);
+            }
+        }
+    }
+
+    private static IndexWriter.PackageEntry createPackage(String name, String version, String description) {
+        IndexWriter.ParameterEntry parameter = new IndexWriter.ParameterEntry("request", "The request", "string",
+                "", IndexGenerator.FunctionParameterKind.REQUIRED, 0, null);
+        IndexWriter.FunctionEntry function = new IndexWriter.FunctionEntry("send", description, "json", "FUNCTION",
+                "", 0, false, List.of(parameter), List.of());
+        return new IndexWriter.PackageEntry("ballerina", name, version, "", List.of(function));
+    }
+
+    /**
+     * Returns a connection supplier whose connections fail the given number of commits, counting all the commits.
+     */
+    private DatabaseManager.ConnectionSupplier failingCommits(int failures, AtomicInteger commits) {
+        AtomicInteger remainingFailures = new AtomicInteger(failures);
+        return () -> {
+            Connection conn = connect();
+            return (Connection) Proxy.newProxyInstance(IndexWriterTest.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("commit")) {
+                            commits.incrementAndGet();
+                            if (remainingFailures.getAndDecrement() > 0) {
+                                throw new SQLException("Commit failed");
+                            }
+                        }
+                        try {
+                            return method.invoke(conn, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        };
+    }
+
+    private Map<DatabaseManager.PackageKey, DatabaseManager.ManifestEntry> readManifest() throws SQLException {
+        Map<DatabaseManager.PackageKey, DatabaseManager.ManifestEntry> manifest = new HashMap<>();
+        try (Connection conn = connect();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT org, name, version, content_hash FROM PackageManifest")) {
+            while (rs.next()) {
+                manifest.put(new DatabaseManager.PackageKey(rs.getString("org"), rs.getString("name")),
+                        new DatabaseManager.ManifestEntry(rs.getString("version"), rs.getString("content_hash")));
+            }
+        }
+        return manifest;
+    }
+
+    private List<String> query(String sql) throws SQLException {
+        List<String> rows = new ArrayList<>();
+        try (Connection conn = connect();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                rows.add(rs.getString(1));
+            }
+        }
+        return rows;
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(dbPath);
+    }
+}
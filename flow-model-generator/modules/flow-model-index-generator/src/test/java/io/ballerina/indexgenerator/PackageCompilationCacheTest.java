@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the bala paths cached by the index generator across runs.
+ *
+ * @since 2.0.0
+ */
+public class PackageCompilationCacheTest {
+
+    private Path tempDir;
+    private Path cacheDir;
+    private Path balaPath;
+    private List<String> resolvedPackages;
+    private List<Path> loadedBalas;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("package-compilation-cache-test");
+        cacheDir = tempDir.resolve("cache");
+        balaPath = Files.createDirectories(tempDir.resolve("bala").resolve("http"));
+        resolvedPackages = new ArrayList<>();
+        loadedBalas = new ArrayList<>();
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "A package resolved in a run is loaded from its cached bala path in the next run")
+    public void testCachedBalaPath() {
+        PackageCompilationCache firstRun = createCache(Optional.of(balaPath));
+        firstRun.get("ballerina", "http", "2.0.0");
+        firstRun.save();
+        Assert.assertEquals(resolvedPackages, List.of("ballerina/http:2.0.0"));
+
+        PackageCompilationCache secondRun = createCache(Optional.of(balaPath));
+        secondRun.get("ballerina", "http", "2.0.0");
+        Assert.assertEquals(resolvedPackages, List.of("ballerina/http:2.0.0"),
+                "The package must not be resolved again");
+        Assert.assertEquals(loadedBalas, List.of(balaPath, balaPath));
+    }
+
+    @Test(description = "A package whose cached bala no longer exists is resolved again")
+    public void testMissingCachedBala() throws IOException {
+        PackageCompilationCache firstRun = createCache(Optional.of(balaPath));
+        firstRun.get("ballerina", "http", "2.0.0");
+        firstRun.save();
+
+        Files.delete(balaPath);
+        Path newBalaPath = Files.createDirectories(tempDir.resolve("bala").resolve("http-new"));
+        PackageCompilationCache secondRun = createCache(Optional.of(newBalaPath));
+        secondRun.get("ballerina", "http", "2.0.0");
+        Assert.assertEquals(resolvedPackages, List.of("ballerina/http:2.0.0", "ballerina/http:2.0.0"));
+        Assert.assertEquals(loadedBalas.get(1), newBalaPath);
+    }
+
+    @Test(description = "A package that cannot be resolved is neither loaded nor cached")
+    public void testUnresolvedPackage() {
+        PackageCompilationCache firstRun = createCache(Optional.empty());
+        Assert.assertNull(firstRun.get("ballerina", "missing", "1.0.0"));
+        firstRun.save();
+        Assert.assertTrue(loadedBalas.isEmpty());
+
+        PackageCompilationCache secondRun = createCache(Optional.empty());
+        secondRun.get("ballerina", "missing", "1.0.0");
+        Assert.assertEquals(resolvedPackages, List.of("ballerina/missing:1.0.0", "ballerina/missing:1.0.0"));
+    }
+
+    @Test(description = "The bala paths resolved in a run are not cached unless saved")
+    public void testUnsavedBalaPaths() {
+        createCache(Optional.of(balaPath)).get("ballerina", "http", "2.0.0");
+        createCache(Optional.of(balaPath)).get("ballerina", "http", "2.0.0");
+        Assert.assertEquals(resolvedPackages, List.of("ballerina/http:2.0.0", "ballerina/http:2.0.0"));
+    }
+
+    private PackageCompilationCache createCache(Optional<Path> resolvedBalaPath) {
+        return new PackageCompilationCache(cacheDir,
+                (org, name, version) -> {
+                    resolvedPackages.add(org + "/" + name + ":" + version);
+                    return resolvedBalaPath;
+                },
+                (path, compilationCacheFactory) -> {
+                    Assert.assertNotNull(compilationCacheFactory);
+                    loadedBalas.add(path);
+                    return null;
+                });
+    }
+}
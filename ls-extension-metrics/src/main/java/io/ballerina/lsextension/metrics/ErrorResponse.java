@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lsextension.metrics;
+
+/**
+ * A response which reports the failure of its request with an error message instead of completing exceptionally.
+ * {@link RequestMetrics} records such a request as failed when the error message is set.
+ *
+ * @since 2.0.0
+ */
+public interface ErrorResponse {
+
+    /**
+     * Returns the error message of the response.
+     *
+     * @return the error message, or {@code null} if the request succeeded
+     */
+    String errorMsg();
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lsextension.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JFR event recorded for each request served by an LS extension, with the same breakdown as the histograms of
+ * {@link RequestMetrics}. The event is disabled unless a recording enables it, e.g. with
+ * {@code -XX:StartFlightRecording} and the default settings.
+ *
+ * @since 2.0.0
+ */
+@Name("io.ballerina.lsextension.Request")
+@Label("LS Extension Request")
+@Category({"Ballerina", "Language Server"})
+@Description("A JSON-RPC request served by an LS extension")
+@StackTrace(false)
+final class RequestEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Queue Wait")
+    @Timespan
+    long queueWait;
+
+    @Label("Project Load")
+    @Timespan
+    long projectLoad;
+
+    @Label("Semantic Model")
+    @Timespan
+    long semanticModel;
+
+    @Label("Generation")
+    @Timespan
+    long generation;
+
+    @Label("Serialization")
+    @Timespan
+    long serialization;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocated;
+
+    @Label("Failed")
+    boolean failed;
+}
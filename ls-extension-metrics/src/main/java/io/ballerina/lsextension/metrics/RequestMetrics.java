@@ -0,0 +1,419 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lsextension.metrics;
+
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Records the latency and the allocations of the requests served by the LS extensions, so that the slow endpoints
+ * can be found in production.
+ *
+ * <p>
+ * The services submit their requests through {@link #supplyAsync(String, Supplier)}, which records the time each
+ * request waited for a worker, the time spent loading the project and fetching the semantic model through a
+ * workspace manager instrumented by {@link #instrument(Class, Object)}, the time spent in the tasks timed as
+ * {@link Phase#SERIALIZATION}, and the remainder as the time spent generating the response. The response is
+ * completed on the worker thread while the request is still being recorded, so that the serialization of the
+ * response by the JSON-RPC layer, which runs on the completing thread once it awaits the response, is attributed to
+ * the request as well. The bytes allocated by the worker thread are recorded alongside. A request is recorded as
+ * failed if it completes exceptionally or its response is an {@link ErrorResponse} with an error message. Each
+ * request is kept in per-method histograms, which are served by the {@code metrics} endpoint of the flow model LS
+ * extension, and is emitted as a {@link RequestEvent} to the flight recorder.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public final class RequestMetrics {
+
+    private final Map<String, MethodMetrics> methods;
+    private final ThreadLocal<RequestContext> currentRequest;
+    private final com.sun.management.ThreadMXBean threadBean;
+
+    private RequestMetrics() {
+        methods = new ConcurrentHashMap<>();
+        currentRequest = new ThreadLocal<>();
+        threadBean = allocationCounter();
+    }
+
+    public static RequestMetrics getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * The phases of a request.
+     */
+    public enum Phase {
+        QUEUE_WAIT,
+        PROJECT_LOAD,
+        SEMANTIC_MODEL,
+        GENERATION,
+        SERIALIZATION
+    }
+
+    /**
+     * A task timed as a phase of the current request.
+     *
+     * @param <T> the type of the result of the task
+     * @param <E> the type of the exception thrown by the task
+     */
+    @FunctionalInterface
+    public interface Task<T, E extends Exception> {
+
+        T call() throws E;
+    }
+
+    /**
+     * Executes the given request asynchronously, recording its phases under the given JSON-RPC method.
+     *
+     * @param method   the JSON-RPC method of the request, e.g. {@code flowDesignService/getFlowModel}
+     * @param supplier the handler of the request
+     * @param <T>      the type of the response
+     * @return the future of the response
+     */
+    public <T> CompletableFuture<T> supplyAsync(String method, Supplier<T> supplier) {
+        long submittedNanos = System.nanoTime();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        CompletableFuture.runAsync(() -> execute(method, submittedNanos, supplier, future));
+        return future;
+    }
+
+    /**
+     * Records the end-to-end latency of a request executed elsewhere, e.g. by the debouncer of the expression editor,
+     * which keeps the breakdown of its own requests.
+     *
+     * @param method the JSON-RPC method of the request
+     * @param future the future of the response
+     * @param <T>    the type of the response
+     * @return the given future
+     */
+    public <T> CompletableFuture<T> track(String method, CompletableFuture<T> future) {
+        long submittedNanos = System.nanoTime();
+        future.whenComplete((result, error) ->
+                metricsOf(method).recordLatency(System.nanoTime() - submittedNanos, isFailed(result, error)));
+        return future;
+    }
+
+    /**
+     * Executes the given task, attributing its time to the given phase of the request executed by the current
+     * thread, if any. A task executed within another timed task is attributed to the phase of the outer task.
+     *
+     * @param phase the phase of the task
+     * @param task  the task to execute
+     * @param <T>   the type of the result of the task
+     * @param <E>   the type of the exception thrown by the task
+     * @return the result of the task
+     * @throws E if the task fails
+     */
+    public <T, E extends Exception> T time(Phase phase, Task<T, E> task) throws E {
+        RequestContext context = currentRequest.get();
+        if (context == null || context.timing) {
+            return task.call();
+        }
+        context.timing = true;
+        long startNanos = System.nanoTime();
+        try {
+            return task.call();
+        } finally {
+            context.phaseNanos[phase.ordinal()] += System.nanoTime() - startNanos;
+            context.timing = false;
+        }
+    }
+
+    /**
+     * Wraps the given workspace manager, or a proxy of it, so that loading the projects and fetching the semantic
+     * models are attributed to the corresponding phases of the current request. The workspace managers returned by
+     * the wrapped object are wrapped as well.
+     *
+     * @param type   the interface of the object
+     * @param target the object to wrap
+     * @param <T>    the type of the object
+     * @return the instrumented object
+     */
+    public <T> T instrument(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                new WorkspaceTimingHandler(target)));
+    }
+
+    /**
+     * Returns a point-in-time view of the metrics of each method that has served a request.
+     *
+     * @return the snapshots of the methods, keyed by the JSON-RPC method
+     */
+    public Map<String, MethodSnapshot> snapshot() {
+        Map<String, MethodSnapshot> snapshots = new TreeMap<>();
+        methods.forEach((method, metrics) -> snapshots.put(method, metrics.snapshot()));
+        return snapshots;
+    }
+
+    private <T> void execute(String method, long submittedNanos, Supplier<T> supplier, CompletableFuture<T> future) {
+        RequestEvent event = new RequestEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+        long startBytes = allocatedBytes();
+        RequestContext context = new RequestContext();
+        long[] phaseNanos = context.phaseNanos;
+        phaseNanos[Phase.QUEUE_WAIT.ordinal()] = startNanos - submittedNanos;
+        currentRequest.set(context);
+        T result = null;
+        Throwable error = null;
+        try {
+            result = supplier.get();
+        } catch (Throwable e) {
+            error = e;
+        }
+        phaseNanos[Phase.GENERATION.ordinal()] = Math.max(0, System.nanoTime() - startNanos
+                - phaseNanos[Phase.PROJECT_LOAD.ordinal()] - phaseNanos[Phase.SEMANTIC_MODEL.ordinal()]
+                - phaseNanos[Phase.SERIALIZATION.ordinal()]);
+        try {
+            if (error == null) {
+                future.complete(result);
+            } else {
+                future.completeExceptionally(error instanceof CompletionException ? error :
+                        new CompletionException(error));
+            }
+        } finally {
+            currentRequest.remove();
+            long latencyNanos = System.nanoTime() - submittedNanos;
+            long bytes = startBytes < 0 ? -1 : allocatedBytes() - startBytes;
+            boolean failed = isFailed(result, error);
+            metricsOf(method).record(phaseNanos, latencyNanos, bytes, failed);
+            commit(event, method, phaseNanos, bytes, failed);
+        }
+    }
+
+    private static boolean isFailed(Object result, Throwable error) {
+        return error != null || result instanceof ErrorResponse response && response.errorMsg() != null;
+    }
+
+    private static void commit(RequestEvent event, String method, long[] phaseNanos, long bytes, boolean failed) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.method = method;
+        event.queueWait = phaseNanos[Phase.QUEUE_WAIT.ordinal()];
+        event.projectLoad = phaseNanos[Phase.PROJECT_LOAD.ordinal()];
+        event.semanticModel = phaseNanos[Phase.SEMANTIC_MODEL.ordinal()];
+        event.generation = phaseNanos[Phase.GENERATION.ordinal()];
+        event.serialization = phaseNanos[Phase.SERIALIZATION.ordinal()];
+        event.allocated = bytes;
+        event.failed = failed;
+        event.commit();
+    }
+
+    private MethodMetrics metricsOf(String method) {
+        return methods.computeIfAbsent(method, key -> new MethodMetrics());
+    }
+
+    private long allocatedBytes() {
+        return threadBean == null ? -1 : threadBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadBean
+                && threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled()) {
+            return threadBean;
+        }
+        return null;
+    }
+
+    private static class Holder {
+
+        private static final RequestMetrics INSTANCE = new RequestMetrics();
+    }
+
+    /**
+     * The phases recorded so far for the request executed by a thread.
+     */
+    private static class RequestContext {
+
+        private final long[] phaseNanos = new long[Phase.values().length];
+        private boolean timing;
+    }
+
+    /**
+     * Attributes the project loads and the semantic model fetches of a workspace manager to the current request.
+     */
+    private class WorkspaceTimingHandler implements InvocationHandler {
+
+        private final Object target;
+
+        WorkspaceTimingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Phase phase = switch (method.getName()) {
+                case "loadProject" -> Phase.PROJECT_LOAD;
+                case "semanticModel" -> Phase.SEMANTIC_MODEL;
+                default -> null;
+            };
+            Object result;
+            try {
+                result = phase == null ? method.invoke(target, args) : time(phase, () -> method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (method.getReturnType() == WorkspaceManager.class && result != null) {
+                return instrument(WorkspaceManager.class, (WorkspaceManager) result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The histograms of the requests of a JSON-RPC method.
+     */
+    private static class MethodMetrics {
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final Histogram latency = new Histogram();
+        private final Histogram[] phases = new Histogram[Phase.values().length];
+        private final Histogram allocatedBytes = new Histogram();
+
+        MethodMetrics() {
+            for (int i = 0; i < phases.length; i++) {
+                phases[i] = new Histogram();
+            }
+        }
+
+        void record(long[] phaseNanos, long latencyNanos, long bytes, boolean hasFailed) {
+            recordLatency(latencyNanos, hasFailed);
+            for (int i = 0; i < phases.length; i++) {
+                phases[i].record(phaseNanos[i]);
+            }
+            if (bytes >= 0) {
+                allocatedBytes.record(bytes);
+            }
+        }
+
+        void recordLatency(long latencyNanos, boolean hasFailed) {
+            requests.increment();
+            if (hasFailed) {
+                failed.increment();
+            }
+            latency.record(latencyNanos);
+        }
+
+        MethodSnapshot snapshot() {
+            return new MethodSnapshot(requests.sum(), failed.sum(), latency.snapshot(),
+                    phases[Phase.QUEUE_WAIT.ordinal()].snapshot(), phases[Phase.PROJECT_LOAD.ordinal()].snapshot(),
+                    phases[Phase.SEMANTIC_MODEL.ordinal()].snapshot(), phases[Phase.GENERATION.ordinal()].snapshot(),
+                    phases[Phase.SERIALIZATION.ordinal()].snapshot(), allocatedBytes.snapshot());
+        }
+    }
+
+    /**
+     * A histogram with a bucket for each power of two, which bounds the error of the percentiles to a factor of two
+     * while recording a value with a single atomic increment.
+     */
+    private static class Histogram {
+
+        private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE + 1);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        void record(long value) {
+            long clamped = Math.max(0, value);
+            buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(clamped));
+            count.increment();
+            sum.add(clamped);
+            max.accumulateAndGet(clamped, Math::max);
+        }
+
+        HistogramSnapshot snapshot() {
+            long[] counts = new long[buckets.length()];
+            long total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            long maxValue = max.get();
+            return new HistogramSnapshot(total, sum.sum(), maxValue, percentile(counts, total, 0.5, maxValue),
+                    percentile(counts, total, 0.9, maxValue), percentile(counts, total, 0.99, maxValue));
+        }
+
+        private static long percentile(long[] counts, long total, double quantile, long maxValue) {
+            long rank = (long) Math.ceil(quantile * total);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank && seen > 0) {
+                    // The upper bound of the bucket, i.e. 2^i - 1
+                    long upperBound = i == Long.SIZE ? Long.MAX_VALUE : (1L << i) - 1;
+                    return Math.min(upperBound, maxValue);
+                }
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * A point-in-time view of a histogram. The percentiles are the upper bounds of the buckets they fall in.
+     *
+     * @param count the number of recorded values
+     * @param sum   the sum of the recorded values
+     * @param max   the largest recorded value
+     * @param p50   the median
+     * @param p90   the 90th percentile
+     * @param p99   the 99th percentile
+     */
+    public record HistogramSnapshot(long count, long sum, long max, long p50, long p90, long p99) {
+
+    }
+
+    /**
+     * A point-in-time view of the metrics of a JSON-RPC method. The requests tracked with
+     * {@link #track(String, CompletableFuture)} only contribute to the request counts and the latency.
+     *
+     * @param requests           number of requests served
+     * @param failed             number of requests completed with an exception or an error response
+     * @param latencyNanos       time from the submission of a request to its response
+     * @param queueWaitNanos     time a request waited for a worker
+     * @param projectLoadNanos   time spent loading the project
+     * @param semanticModelNanos time spent fetching the semantic model
+     * @param generationNanos    time spent generating the response
+     * @param serializationNanos time spent converting the response to JSON
+     * @param allocatedBytes     bytes allocated by the worker while serving a request
+     */
+    public record MethodSnapshot(long requests, long failed, HistogramSnapshot latencyNanos,
+                                 HistogramSnapshot queueWaitNanos, HistogramSnapshot projectLoadNanos,
+                                 HistogramSnapshot semanticModelNanos, HistogramSnapshot generationNanos,
+                                 HistogramSnapshot serializationNanos, HistogramSnapshot allocatedBytes) {
+
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lsextension.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for the failures and the phases recorded by {@link RequestMetrics}.
+ *
+ * @since 2.0.0
+ */
+public class RequestMetricsTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final long TASK_MILLIS = 20;
+
+    private final RequestMetrics requestMetrics = RequestMetrics.getInstance();
+
+    @Test(description = "Records the requests completed with an exception or an error response as failed")
+    public void testFailedRequests() throws InterruptedException {
+        String method = "test/failures";
+        requestMetrics.supplyAsync(method, () -> new TestResponse(null)).join();
+        requestMetrics.supplyAsync(method, () -> new TestResponse("error")).join();
+        CompletableFuture<TestResponse> exceptional = requestMetrics.supplyAsync(method, () -> {
+            throw new IllegalStateException("error");
+        });
+        Assert.assertThrows(CompletionException.class, exceptional::join);
+        requestMetrics.track(method, CompletableFuture.completedFuture(new TestResponse("error")));
+
+        RequestMetrics.MethodSnapshot snapshot = awaitRequests(method, 4);
+        Assert.assertEquals(snapshot.failed(), 3);
+    }
+
+    @Test(description = "Attributes the serialization of the response by the awaiting caller to the request")
+    public void testSerialization() throws InterruptedException {
+        String method = "test/serialization";
+        CountDownLatch awaiting = new CountDownLatch(1);
+        CompletableFuture<TestResponse> response = requestMetrics.supplyAsync(method, () -> {
+            try {
+                awaiting.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new TestResponse(null);
+        });
+        // Stands in for the JSON-RPC layer, which serializes the response once it completes
+        CompletableFuture<TestResponse> serialized = response.thenApply(
+                result -> requestMetrics.time(RequestMetrics.Phase.SERIALIZATION, () -> respondAfter(TASK_MILLIS)));
+        awaiting.countDown();
+        serialized.join();
+
+        RequestMetrics.MethodSnapshot snapshot = awaitRequests(method, 1);
+        Assert.assertEquals(snapshot.failed(), 0);
+        Assert.assertTrue(snapshot.serializationNanos().sum() >= TimeUnit.MILLISECONDS.toNanos(TASK_MILLIS),
+                "Expected the serialization to be recorded: " + snapshot.serializationNanos());
+    }
+
+    @Test(description = "Attributes a task timed within another timed task to the phase of the outer task")
+    public void testNestedPhases() throws InterruptedException {
+        String method = "test/nested";
+        requestMetrics.supplyAsync(method, () -> requestMetrics.time(RequestMetrics.Phase.PROJECT_LOAD,
+                () -> requestMetrics.time(RequestMetrics.Phase.SEMANTIC_MODEL, () -> respondAfter(TASK_MILLIS))))
+                .join();
+
+        RequestMetrics.MethodSnapshot snapshot = awaitRequests(method, 1);
+        Assert.assertTrue(snapshot.projectLoadNanos().sum() >= TimeUnit.MILLISECONDS.toNanos(TASK_MILLIS));
+        Assert.assertEquals(snapshot.semanticModelNanos().sum(), 0);
+    }
+
+    private static TestResponse respondAfter(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new TestResponse(null);
+    }
+
+    /**
+     * Waits until the given number of requests of the method are recorded, as a request is recorded after its
+     * response completes.
+     */
+    private RequestMetrics.MethodSnapshot awaitRequests(String method, long requests) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (System.nanoTime() < deadline) {
+            RequestMetrics.MethodSnapshot snapshot = requestMetrics.snapshot().get(method);
+            if (snapshot != null && snapshot.requests() >= requests) {
+                return snapshot;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError(String.format("Expected %d requests of '%s'", requests, method));
+    }
+
+    /**
+     * Represents a response which carries the error of its request.
+     *
+     * @param errorMsg the error message, if the request failed
+     */
+    private record TestResponse(String errorMsg) implements ErrorResponse {
+
+    }
+}
@@ -22,6 +22,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.lsextension.metrics.RequestMetrics;
 import io.ballerina.projects.Project;
 import io.ballerina.sequencemodelgenerator.core.ModelGenerator;
 import io.ballerina.sequencemodelgenerator.core.model.Diagram;
@@ -48,10 +49,11 @@ import java.util.concurrent.CompletableFuture;
 public class SequenceModelGeneratorService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private final RequestMetrics requestMetrics = RequestMetrics.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
-        this.workspaceManager = workspaceManager;
+        this.workspaceManager = requestMetrics.instrument(WorkspaceManager.class, workspaceManager);
     }
 
     @Override
@@ -62,7 +64,7 @@ public class SequenceModelGeneratorService implements ExtendedLanguageServerServ
     @JsonRequest
     public CompletableFuture<SequenceDiagramServiceResponse> getSequenceDiagramModel(
             SequenceDiagramServiceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("sequenceModelGeneratorService/getSequenceDiagramModel", () -> {
             SequenceDiagramServiceResponse response = new SequenceDiagramServiceResponse();
             Path filePath = Path.of(request.getFilePath());
             try {
@@ -71,7 +73,8 @@ public class SequenceModelGeneratorService implements ExtendedLanguageServerServ
                 Diagram sequenceModel =
                         ModelGenerator.getSequenceDiagramModel(project, request.getLineRange(), semanticModel);
                 Gson gson = new GsonBuilder().create();
-                JsonElement sequenceModelJson = gson.toJsonTree(sequenceModel);
+                JsonElement sequenceModelJson = requestMetrics.time(RequestMetrics.Phase.SERIALIZATION,
+                        () -> gson.toJsonTree(sequenceModel));
                 response.setSequenceDiagram(sequenceModelJson);
 
             } catch (WorkspaceDocumentException | EventSyncException e) {
@@ -18,6 +18,7 @@
 
 module io.ballerina.sequence.model.generator.ls.extension {
     requires io.ballerina.language.server.commons;
+    requires io.ballerina.lsextension.metrics;
     requires io.ballerina.lang;
     requires org.eclipse.lsp4j.jsonrpc;
     requires org.eclipse.lsp4j;
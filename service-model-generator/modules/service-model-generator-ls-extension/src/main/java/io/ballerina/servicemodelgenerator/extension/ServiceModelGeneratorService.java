@@ -46,6 +46,7 @@ import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+import io.ballerina.lsextension.metrics.RequestMetrics;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.ModuleId;
@@ -140,6 +141,7 @@ import static io.ballerina.servicemodelgenerator.extension.util.Utils.updateServ
 public class ServiceModelGeneratorService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private final RequestMetrics requestMetrics = RequestMetrics.getInstance();
     private final Map<String, TriggerProperty> triggerProperties;
     private static final Type propertyMapType = new TypeToken<Map<String, TriggerProperty>>() { }.getType();
 
@@ -160,7 +162,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
-        this.workspaceManager = workspaceManager;
+        this.workspaceManager = requestMetrics.instrument(WorkspaceManager.class, workspaceManager);
     }
 
     @Override
@@ -176,7 +178,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<ListenerDiscoveryResponse> getListeners(ListenerDiscoveryRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/getListeners", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 Project project = this.workspaceManager.loadProject(filePath);
@@ -201,7 +203,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<ListenerModelResponse> getListenerModel(ListenerModelRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/getListenerModel", () -> {
             try {
                 return getListenerByName(request.moduleName())
                         .map(ListenerModelResponse::new)
@@ -220,7 +222,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> addListener(ListenerSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/addListener", () -> {
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Path filePath = Path.of(request.filePath());
@@ -255,7 +257,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<ServiceModelResponse> getServiceModel(ServiceModelRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/getServiceModel", () -> {
             try {
                 Optional<Service> service = getServiceByName(request.moduleName());
                 if (service.isEmpty()) {
@@ -332,7 +334,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> addService(ServiceSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/addService", () -> {
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Path filePath = Path.of(request.filePath());
@@ -396,7 +398,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<TriggerListResponse> getTriggerModels(TriggerListRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/getTriggerModels", () -> {
             List<TriggerBasicInfo> triggerBasicInfoList = triggerProperties.values().stream()
                     .filter(triggerProperty -> filterTriggers(triggerProperty, request))
                     .map(trigger -> getTriggerBasicInfoByName(trigger.name()))
@@ -413,7 +415,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<FunctionModelResponse> getFunctionModel(FunctionModelRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/getFunctionModel", () -> {
             try {
                 return Utils.getFunctionModel(request.type(), request.functionName())
                         .map(FunctionModelResponse::new)
@@ -432,7 +434,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> addResource(FunctionSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/addResource", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 this.workspaceManager.loadProject(filePath);
@@ -482,7 +484,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<ServiceFromSourceResponse> getServiceFromSource(CommonModelFromSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/getServiceFromSource", () -> {
             Path filePath = Path.of(request.filePath());
             Project project;
             try {
@@ -572,7 +574,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<ListenerFromSourceResponse> getListenerFromSource(CommonModelFromSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/getListenerFromSource", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 Project project = this.workspaceManager.loadProject(filePath);
@@ -620,7 +622,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<TriggerResponse> getTriggerModel(TriggerRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/getTriggerModel", () -> {
             if (expectsTriggerByName(request)) {
                 return new TriggerResponse(getTriggerBasicInfoByName(request.packageName()).orElse(null));
             }
@@ -641,7 +643,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> addFunction(FunctionSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/addFunction", () -> {
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Path filePath = Path.of(request.filePath());
@@ -695,7 +697,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> updateFunction(FunctionModifierRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/updateFunction", () -> {
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Path filePath = Path.of(request.filePath());
@@ -779,7 +781,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> updateService(ServiceModifierRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/updateService", () -> {
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Service service = request.service();
@@ -857,7 +859,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> updateListener(ListenerModifierRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/updateListener", () -> {
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Listener listener = request.listener();
@@ -896,7 +898,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
     @JsonRequest
     public CompletableFuture<ServiceClassModelResponse> getServiceClassModelFromSource(
             CommonModelFromSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/getServiceClassModelFromSource", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 try {
@@ -935,7 +937,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> updateServiceClass(ServiceClassSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/updateServiceClass", () -> {
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 ServiceClass serviceClass = request.serviceClass();
@@ -978,7 +980,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> addField(AddFieldRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/addField", () -> {
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Path filePath = Path.of(request.filePath());
@@ -1024,7 +1026,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> updateClassField(ClassFieldModifierRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("serviceDesign/updateClassField", () -> {
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Path filePath = Path.of(request.filePath());
@@ -18,6 +18,7 @@
 
 package io.ballerina.servicemodelgenerator.extension.response;
 
+import io.ballerina.lsextension.metrics.ErrorResponse;
 import io.ballerina.servicemodelgenerator.extension.model.Function;
 
 import java.util.Arrays;
@@ -31,7 +32,7 @@ import java.util.Arrays;
  *
  * @since 2.0.0
  */
-public record FunctionModelResponse(Function function, String errorMsg, String stacktrace) {
+public record FunctionModelResponse(Function function, String errorMsg, String stacktrace) implements ErrorResponse {
 
     public FunctionModelResponse() {
         this(null, null, null);
@@ -18,12 +18,14 @@
 
 package io.ballerina.servicemodelgenerator.extension.response;
 
+import io.ballerina.lsextension.metrics.ErrorResponse;
+
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
 public record ListenerDiscoveryResponse(boolean hasListeners, Set<String> listeners, String errorMsg,
-                                        String stacktrace) {
+                                        String stacktrace) implements ErrorResponse {
 
     public ListenerDiscoveryResponse() {
         this(false, new HashSet<>(), null, null);
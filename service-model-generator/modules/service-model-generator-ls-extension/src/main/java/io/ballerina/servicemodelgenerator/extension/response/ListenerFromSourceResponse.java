@@ -18,11 +18,13 @@
 
 package io.ballerina.servicemodelgenerator.extension.response;
 
+import io.ballerina.lsextension.metrics.ErrorResponse;
 import io.ballerina.servicemodelgenerator.extension.model.Listener;
 
 import java.util.Arrays;
 
-public record ListenerFromSourceResponse(Listener listener, String errorMsg, String stacktrace) {
+public record ListenerFromSourceResponse(Listener listener, String errorMsg, String stacktrace)
+        implements ErrorResponse {
 
     public ListenerFromSourceResponse() {
         this(null, null, null);
@@ -18,11 +18,12 @@
 
 package io.ballerina.servicemodelgenerator.extension.response;
 
+import io.ballerina.lsextension.metrics.ErrorResponse;
 import io.ballerina.servicemodelgenerator.extension.model.Listener;
 
 import java.util.Arrays;
 
-public record ListenerModelResponse(Listener listener, String errorMsg, String stacktrace) {
+public record ListenerModelResponse(Listener listener, String errorMsg, String stacktrace) implements ErrorResponse {
 
     public ListenerModelResponse() {
         this(null, null, null);
@@ -18,6 +18,7 @@
 
 package io.ballerina.servicemodelgenerator.extension.response;
 
+import io.ballerina.lsextension.metrics.ErrorResponse;
 import io.ballerina.servicemodelgenerator.extension.model.ServiceClass;
 
 import java.util.Arrays;
@@ -29,7 +30,8 @@ import java.util.Arrays;
  * @param errorMsg error message
  * @param stacktrace stack trace of the error
  */
-public record ServiceClassModelResponse(ServiceClass model, String errorMsg, String stacktrace) {
+public record ServiceClassModelResponse(ServiceClass model, String errorMsg, String stacktrace)
+        implements ErrorResponse {
 
     public ServiceClassModelResponse() {
         this(null, null, null);
@@ -18,11 +18,12 @@
 
 package io.ballerina.servicemodelgenerator.extension.response;
 
+import io.ballerina.lsextension.metrics.ErrorResponse;
 import io.ballerina.servicemodelgenerator.extension.model.Service;
 
 import java.util.Arrays;
 
-public record ServiceFromSourceResponse(Service service, String errorMsg, String stacktrace) {
+public record ServiceFromSourceResponse(Service service, String errorMsg, String stacktrace) implements ErrorResponse {
 
     public ServiceFromSourceResponse() {
         this(null, null, null);
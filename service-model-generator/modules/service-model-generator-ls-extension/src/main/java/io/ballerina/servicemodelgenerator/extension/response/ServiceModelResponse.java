@@ -18,11 +18,12 @@
 
 package io.ballerina.servicemodelgenerator.extension.response;
 
+import io.ballerina.lsextension.metrics.ErrorResponse;
 import io.ballerina.servicemodelgenerator.extension.model.Service;
 
 import java.util.Arrays;
 
-public record ServiceModelResponse(Service service, String errorMsg, String stacktrace) {
+public record ServiceModelResponse(Service service, String errorMsg, String stacktrace) implements ErrorResponse {
 
     public ServiceModelResponse() {
         this(null, null, null);
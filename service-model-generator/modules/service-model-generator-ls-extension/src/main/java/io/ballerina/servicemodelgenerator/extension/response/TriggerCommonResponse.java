@@ -18,13 +18,15 @@
 
 package io.ballerina.servicemodelgenerator.extension.response;
 
+import io.ballerina.lsextension.metrics.ErrorResponse;
 import org.eclipse.lsp4j.TextEdit;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
-public record TriggerCommonResponse(Map<String, List<TextEdit>> textEdits, String errorMsg, String stacktrace) {
+public record TriggerCommonResponse(Map<String, List<TextEdit>> textEdits, String errorMsg, String stacktrace)
+        implements ErrorResponse {
 
     public TriggerCommonResponse() {
         this(Map.of(), null, null);
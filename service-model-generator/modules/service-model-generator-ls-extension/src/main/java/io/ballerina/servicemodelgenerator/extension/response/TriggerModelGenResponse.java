@@ -18,11 +18,12 @@
 
 package io.ballerina.servicemodelgenerator.extension.response;
 
+import io.ballerina.lsextension.metrics.ErrorResponse;
 import io.ballerina.servicemodelgenerator.extension.model.Trigger;
 
 import java.util.Arrays;
 
-public record TriggerModelGenResponse(Trigger trigger, String errorMsg, String stacktrace) {
+public record TriggerModelGenResponse(Trigger trigger, String errorMsg, String stacktrace) implements ErrorResponse {
     public TriggerModelGenResponse() {
         this(null, null, null);
     }
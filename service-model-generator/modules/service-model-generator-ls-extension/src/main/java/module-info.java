@@ -18,6 +18,7 @@
 
 module io.ballerina.LSExtensions.TriggerService {
     requires io.ballerina.language.server.commons;
+    requires io.ballerina.lsextension.metrics;
     requires org.eclipse.lsp4j.jsonrpc;
     requires org.eclipse.lsp4j;
     requires io.ballerina.diagram.util;
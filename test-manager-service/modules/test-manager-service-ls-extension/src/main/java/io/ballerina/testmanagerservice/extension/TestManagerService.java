@@ -22,6 +22,7 @@ import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.lsextension.metrics.RequestMetrics;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
@@ -61,10 +62,11 @@ import java.util.concurrent.CompletableFuture;
 public class TestManagerService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private final RequestMetrics requestMetrics = RequestMetrics.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
-        this.workspaceManager = workspaceManager;
+        this.workspaceManager = requestMetrics.instrument(WorkspaceManager.class, workspaceManager);
     }
 
     @Override
@@ -81,7 +83,7 @@ public class TestManagerService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<TestsDiscoveryResponse> discoverInFile(TestsDiscoveryRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("testManagerService/discoverInFile", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 this.workspaceManager.loadProject(filePath);
@@ -108,7 +110,7 @@ public class TestManagerService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<TestsDiscoveryResponse> discoverInProject(TestsDiscoveryRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("testManagerService/discoverInProject", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 Project project = this.workspaceManager.loadProject(filePath);
@@ -135,7 +137,7 @@ public class TestManagerService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<GetTestFunctionResponse> getTestFunction(GetTestFunctionRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("testManagerService/getTestFunction", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 Project project = this.workspaceManager.loadProject(filePath);
@@ -173,7 +175,7 @@ public class TestManagerService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> addTestFunction(AddTestFunctionRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("testManagerService/addTestFunction", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 this.workspaceManager.loadProject(filePath);
@@ -204,7 +206,7 @@ public class TestManagerService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> updateTestFunction(UpdateTestFunctionRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestMetrics.supplyAsync("testManagerService/updateTestFunction", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 this.workspaceManager.loadProject(filePath);
@@ -18,6 +18,7 @@
 
 package io.ballerina.testmanagerservice.extension.response;
 
+import io.ballerina.lsextension.metrics.ErrorResponse;
 import org.eclipse.lsp4j.TextEdit;
 
 import java.util.Arrays;
@@ -33,7 +34,8 @@ import java.util.Map;
  *
  * @since 2.0.0
  */
-public record CommonSourceResponse(Map<String, List<TextEdit>> textEdits, String errorMsg, String stacktrace) {
+public record CommonSourceResponse(Map<String, List<TextEdit>> textEdits, String errorMsg, String stacktrace)
+        implements ErrorResponse {
 
     public CommonSourceResponse() {
         this(Map.of(), null, null);
@@ -18,6 +18,7 @@
 
 package io.ballerina.testmanagerservice.extension.response;
 
+import io.ballerina.lsextension.metrics.ErrorResponse;
 import io.ballerina.testmanagerservice.extension.model.TestFunction;
 
 import java.util.Arrays;
@@ -31,7 +32,8 @@ import java.util.Arrays;
  *
  * @since 2.0.0
  */
-public record GetTestFunctionResponse(TestFunction function, String errorMsg, String stacktrace) {
+public record GetTestFunctionResponse(TestFunction function, String errorMsg, String stacktrace)
+        implements ErrorResponse {
 
     public static GetTestFunctionResponse get() {
         return new GetTestFunctionResponse(null, null, null);
@@ -18,6 +18,7 @@
 
 package io.ballerina.testmanagerservice.extension.response;
 
+import io.ballerina.lsextension.metrics.ErrorResponse;
 import io.ballerina.testmanagerservice.extension.model.FunctionTreeNode;
 
 import java.util.Arrays;
@@ -33,7 +34,8 @@ import java.util.Map;
  *
  * @since 2.0.0
  */
-public record TestsDiscoveryResponse(Map<String, List<FunctionTreeNode>> result, String errorMsg, String stacktrace) {
+public record TestsDiscoveryResponse(Map<String, List<FunctionTreeNode>> result, String errorMsg, String stacktrace)
+        implements ErrorResponse {
 
     public static TestsDiscoveryResponse from(Map<String, List<FunctionTreeNode>> result) {
         return new TestsDiscoveryResponse(result, null, null);